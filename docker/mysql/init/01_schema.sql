@@ -28,6 +28,69 @@ CREATE TABLE IF NOT EXISTS user_summary (
     updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
 );
 
+-- NOTE: InnoDBのインデックスは末尾に主キーを含むため、idx_nameは(name, user_id)としてuser_idの順に読める
+-- NOTE: 部署は日付で絞り込んでもuser_idの順に読めるように、日付をuser_idの後ろに置く
 CREATE INDEX idx_name ON user_summary (name);
 CREATE INDEX idx_last_updated_at ON user_summary (last_updated_at);
-CREATE INDEX idx_dept_id ON user_summary (dept_id);
+CREATE INDEX idx_dept_id_user_id_last_updated_at ON user_summary (dept_id, user_id, last_updated_at);
+
+-- NOTE: 更新日が古いユーザ概要の移動先。検索の大半は最近更新したユーザが対象のため、ユーザ概要のテーブルとインデックスを小さく保つ
+-- NOTE: 読む頻度が低いため圧縮し、更新日だけのインデックスは持たない
+CREATE TABLE IF NOT EXISTS user_summary_archive (
+    name VARCHAR(50) NOT NULL,
+    dept_id CHAR(2) NOT NULL,
+    dept_name VARCHAR(50) NOT NULL,
+    last_updated_at DATE NOT NULL,
+    user_id CHAR(20) NOT NULL PRIMARY KEY,
+    user_version INT NOT NULL,
+    created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
+) ROW_FORMAT = COMPRESSED;
+
+CREATE INDEX idx_name ON user_summary_archive (name);
+CREATE INDEX idx_dept_id_user_id_last_updated_at ON user_summary_archive (dept_id, user_id, last_updated_at);
+
+-- NOTE: ユーザ概要（アーカイブを含む）の部署と更新日ごとの件数。件数の集計はユーザ概要を全件数えずにこのテーブルだけを読む
+-- NOTE: ユーザ概要を書き込むトランザクションで、書き込む前の行の件数を引き、書き込んだ後の行の件数を足す
+-- NOTE: アーカイブへの移動と戻しは件数が変わらないため更新しない
+CREATE TABLE IF NOT EXISTS user_summary_facet (
+    dept_id CHAR(2) NOT NULL,
+    last_updated_at DATE NOT NULL,
+    user_count INT NOT NULL,
+    updated_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (dept_id, last_updated_at)
+);
+
+CREATE TABLE IF NOT EXISTS user_summary_outbox (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    user_id CHAR(20) NOT NULL,
+    user_version INT NOT NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3)
+);
+
+CREATE TABLE IF NOT EXISTS user_bulk_job (
+    id BIGINT NOT NULL AUTO_INCREMENT PRIMARY KEY,
+    job_type VARCHAR(10) NOT NULL,
+    status VARCHAR(10) NOT NULL,
+    operator VARCHAR(50) NOT NULL,
+    total_count INT NOT NULL,
+    processed_count INT NOT NULL,
+    error_id CHAR(3) NULL,
+    error_message TEXT NULL,
+    heartbeat_at DATETIME(3) NULL,
+    created_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+    updated_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3) ON UPDATE CURRENT_TIMESTAMP(3)
+);
+
+CREATE INDEX idx_status_heartbeat_at ON user_bulk_job (status, heartbeat_at);
+
+CREATE TABLE IF NOT EXISTS user_bulk_job_item (
+    job_id BIGINT NOT NULL,
+    item_no INT NOT NULL,
+    user_id CHAR(20) NOT NULL,
+    family_name VARCHAR(50) NOT NULL,
+    first_name VARCHAR(50) NOT NULL,
+    dept_id CHAR(2) NOT NULL,
+    version INT NOT NULL,
+    PRIMARY KEY (job_id, item_no)
+);
@@ -47,4 +47,28 @@ BEGIN
     COMMIT;
 END$$
 
+-- NOTE: ユーザ概要を直接登録した後（generate_user_summary_dataなど）に、部署と更新日ごとの件数を作り直す
+CREATE PROCEDURE IF NOT EXISTS refresh_user_summary_facet()
+BEGIN
+    START TRANSACTION;
+
+    DELETE FROM user_summary_facet;
+
+    INSERT INTO user_summary_facet (dept_id, last_updated_at, user_count)
+    SELECT
+        dept_id,
+        last_updated_at,
+        COUNT(*)
+    FROM (
+        SELECT dept_id, last_updated_at FROM user_summary
+        UNION ALL
+        SELECT dept_id, last_updated_at FROM user_summary_archive
+    ) AS t
+    GROUP BY
+        dept_id,
+        last_updated_at;
+
+    COMMIT;
+END$$
+
 DELIMITER ;
@@ -0,0 +1,4 @@
+-- レプリカの代わりに使う参照専用のユーザ
+-- readOnlyのトランザクション以外がレプリカに接続された場合は、書き込みが権限エラーになる
+CREATE USER IF NOT EXISTS 'reader'@'%' IDENTIFIED BY 'reader';
+GRANT SELECT ON mydb.* TO 'reader'@'%';
@@ -0,0 +1,17 @@
+-- NOTE: ユーザ概要テーブルを更新日の月ごとに分割する。initと違い自動では実行しないため、必要な場合に手動で実行する
+-- NOTE: 分割に使う列はすべての一意キーに含める必要があるため、主キーを(user_id, last_updated_at)にする
+-- NOTE: テーブルを作り直すため、実行中は書き込みを止める（読み込みはできる）。件数が多い場合はメンテナンス時間に実行する
+-- NOTE: 開始と終了時にはテーブル全体の排他的なメタデータロックを取るため、その間は読み込みも止まる
+-- NOTE: 最初のパーティションには、それより前の更新日の行もすべて格納する
+-- NOTE: 以降の月のパーティションはアプリケーションのUserSummaryPartitionJobが作成する
+
+ALTER TABLE user_summary
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (user_id, last_updated_at),
+    ALGORITHM = COPY,
+    LOCK = SHARED
+    PARTITION BY RANGE COLUMNS (last_updated_at) (
+        PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+        PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
@@ -0,0 +1,39 @@
+package com.example.demo.common.datasource;
+
+import java.io.IOException;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// NOTE: commonのクラスは開発者は触らないイメージ
+// NOTE: スレッドはリクエストごとに使い回されるため、終了時に必ず削除する
+
+/**
+ * リクエストヘッダの操作者をOperatorContextHolderに設定する。
+ */
+@Component
+public final class OperatorContextFilter extends OncePerRequestFilter {
+
+    /** 操作者のヘッダ名。 */
+    private static final String OPERATOR_HEADER = "X-Operator";
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws IOException, ServletException {
+        OperatorContextHolder.setOperator(request.getHeader(OPERATOR_HEADER));
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            OperatorContextHolder.clear();
+        }
+    }
+
+}
@@ -0,0 +1,45 @@
+package com.example.demo.common.datasource;
+
+// NOTE: commonのクラスは開発者は触らないイメージ
+// NOTE: DataSourceの接続先の判定ではServiceの引数を参照できないため、リクエストの操作者をスレッドに持たせる
+
+/**
+ * 処理中のリクエストの操作者を保持する。
+ */
+public final class OperatorContextHolder {
+
+    /** 操作者。 */
+    private static final ThreadLocal<String> OPERATOR = new ThreadLocal<>();
+
+    /**
+     * 非インスタンス化コンストラクタ。
+     */
+    private OperatorContextHolder() {
+    }
+
+    /**
+     * 操作者を設定する。
+     * 
+     * @param operator 操作者
+     */
+    public static void setOperator(String operator) {
+        OPERATOR.set(operator);
+    }
+
+    /**
+     * 操作者を取得する。
+     * 
+     * @return 操作者 / リクエスト以外の処理の場合: null
+     */
+    public static String getOperator() {
+        return OPERATOR.get();
+    }
+
+    /**
+     * 操作者を削除する。
+     */
+    public static void clear() {
+        OPERATOR.remove();
+    }
+
+}
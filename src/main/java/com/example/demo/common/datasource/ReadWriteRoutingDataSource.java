@@ -0,0 +1,139 @@
+package com.example.demo.common.datasource;
+
+import java.time.Clock;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.constant.DataSourceTypeConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: commonのクラスは開発者は触らないイメージ
+// NOTE: readOnlyのトランザクションはレプリカ、それ以外はプライマリに接続する
+// NOTE: トランザクションの開始時にはまだreadOnlyかどうか分からないため、LazyConnectionDataSourceProxyで包み、最初のSQLの実行時に接続先を決める
+// NOTE: 書き込んだ操作者は、コミットしてから一定時間はreadOnlyのトランザクションもプライマリに接続し、レプリカの遅延で書き込んだ内容が見えないことを防ぐ
+// NOTE: 書き込んだ日時はアプリケーションごとに持つため、複数のアプリケーションで動かす場合は同じ操作者を同じアプリケーションに振り分ける必要がある
+
+/**
+ * 読み込みと書き込みで接続先を振り分けるDataSource。
+ */
+public class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    /** 書き込んだ日時を保持する操作者の最大数。超えた場合は期限切れのものを削除する。 */
+    private static final int MAX_OPERATORS = 10_000;
+
+    /** 時計。 */
+    private final Clock clock;
+
+    /** メトリクスのレジストリ。 */
+    private final MeterRegistry meterRegistry;
+
+    /** 書き込んだ操作者をプライマリに接続するミリ秒数。0の場合は振り分けない。 */
+    private final long readYourWritesMillis;
+
+    /** 操作者と、プライマリに接続する期限（ミリ秒）。 */
+    private final Map<String, Long> primaryUntilMap = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param meterRegistry メトリクスのレジストリ
+     * @param readYourWritesMillis 書き込んだ操作者をプライマリに接続するミリ秒数
+     */
+    public ReadWriteRoutingDataSource(MeterRegistry meterRegistry, long readYourWritesMillis) {
+        this(Clock.systemDefaultZone(), meterRegistry, readYourWritesMillis);
+    }
+
+    // NOTE: テストで時間を進めるため、時計を指定できるコンストラクタを用意する
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param clock 時計
+     * @param meterRegistry メトリクスのレジストリ
+     * @param readYourWritesMillis 書き込んだ操作者をプライマリに接続するミリ秒数
+     */
+    ReadWriteRoutingDataSource(Clock clock, MeterRegistry meterRegistry, long readYourWritesMillis) {
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.readYourWritesMillis = readYourWritesMillis;
+    }
+
+    /**
+     * 接続先を決める。
+     * 
+     * @return 接続先のDBの種類
+     */
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String type = route(OperatorContextHolder.getOperator());
+        meterRegistry.counter("datasource.routing", "target", type).increment();
+        return type;
+    }
+
+    // NOTE: レプリカが設定されていない場合は、レプリカを指定してもプライマリに接続される（AbstractRoutingDataSourceの既定の動作）
+
+    /**
+     * 操作者とトランザクションの状態から接続先を決める。
+     * 
+     * @param operator 操作者
+     * @return 接続先のDBの種類
+     */
+    String route(String operator) {
+        if (!TransactionSynchronizationManager.isActualTransactionActive()) {
+            return DataSourceTypeConstants.PRIMARY;
+        }
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            registerWrite(operator);
+            return DataSourceTypeConstants.PRIMARY;
+        }
+
+        if (isWithinReadYourWrites(operator)) {
+            return DataSourceTypeConstants.PRIMARY;
+        }
+        return DataSourceTypeConstants.REPLICA;
+    }
+
+    // NOTE: 検索結果をメモリに持つ処理は、期間内の操作者にはレプリカから読んだ古い検索結果を返さないように使う
+
+    /**
+     * 操作者が書き込んでから、readOnlyのトランザクションもプライマリに接続する期間内かどうか。
+     * 
+     * @param operator 操作者
+     * @return 期間内の場合: true / 期間外、または操作者がない場合: false
+     */
+    public boolean isWithinReadYourWrites(String operator) {
+        return operator != null && clock.millis() < primaryUntilMap.getOrDefault(operator, 0L);
+    }
+
+    // NOTE: ロールバックした場合は書き込んでいないため、コミットした場合だけ記録する
+
+    /**
+     * コミット後に、操作者をプライマリに接続する期限を記録する。
+     * 
+     * @param operator 操作者
+     */
+    private void registerWrite(String operator) {
+        if (operator == null || readYourWritesMillis <= 0
+                || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                long now = clock.millis();
+                if (primaryUntilMap.size() >= MAX_OPERATORS) {
+                    primaryUntilMap.values().removeIf(until -> until <= now);
+                }
+                primaryUntilMap.put(operator, now + readYourWritesMillis);
+            }
+        });
+    }
+
+}
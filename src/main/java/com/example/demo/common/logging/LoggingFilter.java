@@ -2,6 +2,7 @@ package com.example.demo.common.logging;
 
 import java.io.IOException;
 import java.io.UnsupportedEncodingException;
+import java.util.List;
 
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
@@ -26,6 +27,21 @@ public final class LoggingFilter extends OncePerRequestFilter {
     /** 出力フォーマット。 */
     private static final String FORMAT = "FINISHED PROCESSING : METHOD={}; REQUESTURI={}; QUERY STRING={}; REQUEST PAYLOAD={}; RESPONSE CODE={}; RESPONSE={}; TIM TAKEN={}";
 
+    // NOTE: リクエスト、レスポンスをストリーミングで処理するURLはメモリに溜めないようにキャッシュしない
+    // NOTE: 一括処理ジョブのリクエストも件数が多いため、ログに出力せずにキャッシュしない
+
+    /** リクエストをストリーミングで読み込むURL（コンテキストパス以降）。 */
+    private static final List<String> STREAMING_REQUEST_URLS = List.of(
+            "/users/import",
+            "/users/bulk/jobs/create",
+            "/users/bulk/jobs/update");
+
+    /** レスポンスをストリーミングで返却するURL（コンテキストパス以降）。 */
+    private static final List<String> STREAMING_RESPONSE_URLS = List.of("/users/export");
+
+    /** ストリーミングで処理したリクエスト、レスポンスのログ出力内容。 */
+    private static final String STREAMING = "(streaming)";
+
     /** ロガー。 */
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
@@ -35,15 +51,25 @@ public final class LoggingFilter extends OncePerRequestFilter {
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws IOException, ServletException {
-        ContentCachingRequestWrapper requestWrapper = new ContentCachingRequestWrapper(request);
-        ContentCachingResponseWrapper responseWrapper = new ContentCachingResponseWrapper(response);
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        boolean streamingRequest = STREAMING_REQUEST_URLS.contains(path);
+        boolean streamingResponse = STREAMING_RESPONSE_URLS.contains(path);
+
+        ContentCachingRequestWrapper requestWrapper = streamingRequest ? null
+                : new ContentCachingRequestWrapper(request);
+        ContentCachingResponseWrapper responseWrapper = streamingResponse ? null
+                : new ContentCachingResponseWrapper(response);
 
         long startTime = System.currentTimeMillis();
-        filterChain.doFilter(requestWrapper, responseWrapper);
+        filterChain.doFilter(
+                requestWrapper == null ? request : requestWrapper,
+                responseWrapper == null ? response : responseWrapper);
         long timeTaken = System.currentTimeMillis() - startTime;
 
-        String requestBody = getStringValue(requestWrapper.getContentAsByteArray(), "UTF8");
-        String responseBody = getStringValue(responseWrapper.getContentAsByteArray(), "UTF8");
+        String requestBody = requestWrapper == null ? STREAMING
+                : getStringValue(requestWrapper.getContentAsByteArray(), "UTF8");
+        String responseBody = responseWrapper == null ? STREAMING
+                : getStringValue(responseWrapper.getContentAsByteArray(), "UTF8");
 
         logger.info(FORMAT,
                 request.getMethod(),
@@ -54,7 +80,9 @@ public final class LoggingFilter extends OncePerRequestFilter {
                 responseBody,
                 timeTaken);
 
-        responseWrapper.copyBodyToResponse();
+        if (responseWrapper != null) {
+            responseWrapper.copyBodyToResponse();
+        }
     }
 
     private String getStringValue(byte[] contentAsByteArray, String characterEncoding)
@@ -62,4 +90,4 @@ public final class LoggingFilter extends OncePerRequestFilter {
         return new String(contentAsByteArray, 0, contentAsByteArray.length, characterEncoding);
     }
 
-}
\ No newline at end of file
+}
@@ -0,0 +1,124 @@
+package com.example.demo.config;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.example.demo.common.datasource.ReadWriteRoutingDataSource;
+import com.example.demo.constant.DataSourceTypeConstants;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: プライマリとレプリカはそれぞれ別のコネクションプールを持ち、プールの大きさやヘルスチェック、メトリクスも別々になる
+// NOTE: MyBatisやトランザクションマネージャーは@Primaryの振り分け用のDataSourceを使う
+// NOTE: レプリカを使わない設定の場合は、すべてプライマリに接続する
+
+/**
+ * DataSourceのBean設定。
+ */
+@Configuration
+public class DataSourceConfig {
+
+    /**
+     * プライマリの接続設定を作成する。
+     * 
+     * @return プライマリの接続設定
+     */
+    @Bean
+    @Primary
+    @ConfigurationProperties("spring.datasource")
+    DataSourceProperties primaryDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * プライマリのコネクションプールを作成する。
+     * 
+     * @param properties プライマリの接続設定
+     * @return プライマリのコネクションプール
+     */
+    @Bean
+    @ConfigurationProperties("spring.datasource.hikari")
+    HikariDataSource primaryDataSource(@Qualifier("primaryDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    /**
+     * レプリカの接続設定を作成する。
+     * 
+     * @return レプリカの接続設定
+     */
+    @Bean
+    @ConfigurationProperties("datasource.replica")
+    DataSourceProperties replicaDataSourceProperties() {
+        return new DataSourceProperties();
+    }
+
+    /**
+     * レプリカのコネクションプールを作成する。
+     * 
+     * @param properties レプリカの接続設定
+     * @return レプリカのコネクションプール
+     */
+    @Bean
+    @ConditionalOnProperty(name = "datasource.replica.enabled", havingValue = "true")
+    @ConfigurationProperties("datasource.replica.hikari")
+    HikariDataSource replicaDataSource(@Qualifier("replicaDataSourceProperties") DataSourceProperties properties) {
+        return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+    }
+
+    // NOTE: 書き込んだ操作者の判定を検索キャッシュなどからも参照するため、振り分け用のDataSourceもBeanにする
+
+    /**
+     * 読み込みと書き込みで接続先を振り分けるDataSourceを作成する。
+     * 
+     * @param primaryDataSource プライマリのコネクションプール
+     * @param replicaDataSource レプリカのコネクションプール
+     * @param meterRegistry メトリクスのレジストリ
+     * @param readYourWritesMillis 書き込んだ操作者をプライマリに接続するミリ秒数
+     * @return 振り分けるDataSource
+     */
+    @Bean
+    ReadWriteRoutingDataSource readWriteRoutingDataSource(
+            @Qualifier("primaryDataSource") DataSource primaryDataSource,
+            @Qualifier("replicaDataSource") ObjectProvider<DataSource> replicaDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${datasource.replica.readYourWritesMillis}") long readYourWritesMillis) {
+        Map<Object, Object> targetDataSourceMap = new HashMap<>();
+        targetDataSourceMap.put(DataSourceTypeConstants.PRIMARY, primaryDataSource);
+        replicaDataSource.ifAvailable(dataSource -> targetDataSourceMap.put(DataSourceTypeConstants.REPLICA, dataSource));
+
+        // NOTE: afterPropertiesSetはBeanの初期化時に呼ばれる
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(meterRegistry,
+                readYourWritesMillis);
+        routingDataSource.setTargetDataSources(targetDataSourceMap);
+        routingDataSource.setDefaultTargetDataSource(primaryDataSource);
+        return routingDataSource;
+    }
+
+    /**
+     * 最初のSQLの実行時に接続先を決める振り分け用のDataSourceを作成する。
+     * 
+     * @param readWriteRoutingDataSource 読み込みと書き込みで接続先を振り分けるDataSource
+     * @return 振り分け用のDataSource
+     */
+    @Bean
+    @Primary
+    DataSource dataSource(ReadWriteRoutingDataSource readWriteRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(readWriteRoutingDataSource);
+    }
+
+}
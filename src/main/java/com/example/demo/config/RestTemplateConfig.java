@@ -8,10 +8,16 @@ import org.springframework.boot.web.client.RestTemplateBuilder;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.client.ClientHttpRequestInterceptor;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.DefaultUriBuilderFactory;
 
+import com.example.demo.external.Bulkhead;
+import com.example.demo.external.CircuitBreaker;
+import com.example.demo.external.ExternalHttpClientFactory;
+
+// NOTE: インターセプターは追加した順に外側から実行される
+// NOTE: サーキットブレーカーを最も外側にし、開いている場合はバルクヘッドの空きを待たずに失敗させる
+
 /**
  * RestTemplateのBean設定。
  */
@@ -21,22 +27,31 @@ public class RestTemplateConfig {
     /**
      * RestTemplateのBeanを作成する。
      * 
+     * @param httpClientFactory 外部API呼び出し用のHTTPクライアントの作成処理
+     * @param circuitBreaker 外部API呼び出しのサーキットブレーカー
+     * @param bulkhead 外部API呼び出しのバルクヘッド
      * @param baseUrl ベースURL
      * @param apiKey APIキー
      * @return RestTemplateのBean
      */
     @Bean
     RestTemplate restTemplate(
+            ExternalHttpClientFactory httpClientFactory,
+            CircuitBreaker circuitBreaker,
+            Bulkhead bulkhead,
             @Value("${external.baseUrl}") String baseUrl,
             @Value("${external.apiKey}") String apiKey) {
         List<ClientHttpRequestInterceptor> interceptors = new ArrayList<>();
+        interceptors.add(circuitBreaker);
+        interceptors.add(bulkhead);
+        interceptors.add(httpClientFactory.createInFlightInterceptor());
         interceptors.add((request, body, execution) -> {
             request.getHeaders().add("X-Api-Key", apiKey);
             return execution.execute(request, body);
         });
 
         RestTemplate restTemplate = new RestTemplateBuilder()
-                .requestFactory(SimpleClientHttpRequestFactory.class)
+                .requestFactory(httpClientFactory::createRequestFactory)
                 .uriTemplateHandler(new DefaultUriBuilderFactory(baseUrl))
                 .additionalInterceptors(interceptors)
                 .build();
@@ -0,0 +1,13 @@
+package com.example.demo.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * スケジュール実行の設定。
+ */
+@EnableScheduling
+@Configuration
+public class SchedulingConfig {
+
+}
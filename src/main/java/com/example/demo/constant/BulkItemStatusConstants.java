@@ -0,0 +1,28 @@
+package com.example.demo.constant;
+
+// NOTE: 定数クラスはインスタンス化できないようにprivateコンストラクタを定義する
+
+/**
+ * 一括処理の明細ごとの結果定数。
+ */
+public class BulkItemStatusConstants {
+
+    /** 結果：成功。 */
+    public static final String OK = "ok";
+
+    /** 結果：バージョン不一致、または更新対象なし。 */
+    public static final String CONFLICT = "conflict";
+
+    /** 結果：部署が存在しない。 */
+    public static final String MISSING_DEPT = "missing_dept";
+
+    /** 結果：ユーザIDが登録済み。 */
+    public static final String DUPLICATE = "duplicate";
+
+    /**
+     * 非インスタンス化コンストラクタ。
+     */
+    private BulkItemStatusConstants() {
+    }
+
+}
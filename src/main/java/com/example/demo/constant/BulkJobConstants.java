@@ -0,0 +1,34 @@
+package com.example.demo.constant;
+
+// NOTE: 定数クラスはインスタンス化できないようにprivateコンストラクタを定義する
+
+/**
+ * 一括処理ジョブ定数。
+ */
+public class BulkJobConstants {
+
+    /** ジョブ種別：登録。 */
+    public static final String TYPE_CREATE = "create";
+
+    /** ジョブ種別：更新。 */
+    public static final String TYPE_UPDATE = "update";
+
+    /** ステータス：実行待ち。 */
+    public static final String STATUS_QUEUED = "queued";
+
+    /** ステータス：実行中。 */
+    public static final String STATUS_RUNNING = "running";
+
+    /** ステータス：正常終了。 */
+    public static final String STATUS_COMPLETED = "completed";
+
+    /** ステータス：異常終了。 */
+    public static final String STATUS_FAILED = "failed";
+
+    /**
+     * 非インスタンス化コンストラクタ。
+     */
+    private BulkJobConstants() {
+    }
+
+}
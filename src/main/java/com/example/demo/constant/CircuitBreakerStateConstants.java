@@ -0,0 +1,25 @@
+package com.example.demo.constant;
+
+// NOTE: 定数クラスはインスタンス化できないようにprivateコンストラクタを定義する
+
+/**
+ * サーキットブレーカーの状態定数。
+ */
+public class CircuitBreakerStateConstants {
+
+    /** 状態：閉（外部APIを呼び出す）。 */
+    public static final String CLOSED = "closed";
+
+    /** 状態：開（外部APIを呼び出さずに失敗させる）。 */
+    public static final String OPEN = "open";
+
+    /** 状態：半開（決められた件数だけ試しに外部APIを呼び出す）。 */
+    public static final String HALF_OPEN = "half_open";
+
+    /**
+     * 非インスタンス化コンストラクタ。
+     */
+    private CircuitBreakerStateConstants() {
+    }
+
+}
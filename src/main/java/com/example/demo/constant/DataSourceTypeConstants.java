@@ -0,0 +1,22 @@
+package com.example.demo.constant;
+
+// NOTE: 定数クラスはインスタンス化できないようにprivateコンストラクタを定義する
+
+/**
+ * 接続先のDBの種類の定数。
+ */
+public class DataSourceTypeConstants {
+
+    /** 種類：書き込みも行うプライマリ。 */
+    public static final String PRIMARY = "primary";
+
+    /** 種類：読み込みだけを行うレプリカ。 */
+    public static final String REPLICA = "replica";
+
+    /**
+     * 非インスタンス化コンストラクタ。
+     */
+    private DataSourceTypeConstants() {
+    }
+
+}
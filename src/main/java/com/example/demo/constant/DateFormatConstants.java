@@ -10,6 +10,9 @@ public class DateFormatConstants {
     /** IDの日時。 */
     public static final String ID_PATTERN = "yyyyMMddHHmmssSSS";
 
+    /** IDの日時（10ミリ秒単位）。末尾の1桁にはノード番号を付ける。 */
+    public static final String ID_TICK_PATTERN = "yyyyMMddHHmmssSS";
+
     /** リクエストの日時。 */
     public static final String REQUEST_PATTERN = "yyyy-MM-dd'T'HH:mm:ss";
 
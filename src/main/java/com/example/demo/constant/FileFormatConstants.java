@@ -0,0 +1,28 @@
+package com.example.demo.constant;
+
+// NOTE: 定数クラスはインスタンス化できないようにprivateコンストラクタを定義する
+
+/**
+ * ファイル形式定数。エクスポート、インポートで使用する。
+ */
+public class FileFormatConstants {
+
+    /** NDJSON。 */
+    public static final String NDJSON = "ndjson";
+
+    /** CSV。 */
+    public static final String CSV = "csv";
+
+    /** NDJSONのContent-Type。 */
+    public static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    /** CSVのContent-Type。 */
+    public static final String CSV_CONTENT_TYPE = "text/csv";
+
+    /**
+     * 非インスタンス化コンストラクタ。
+     */
+    private FileFormatConstants() {
+    }
+
+}
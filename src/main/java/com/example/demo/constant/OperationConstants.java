@@ -16,6 +16,15 @@ public class OperationConstants {
     /** ユーザ検索。 */
     public static final String USER_SEARCH = "ユーザ検索";
 
+    /** ユーザ件数集計。 */
+    public static final String USER_FACET = "ユーザ件数集計";
+
+    /** ユーザエクスポート。 */
+    public static final String USER_EXPORT = "ユーザエクスポート";
+
+    /** ユーザインポート。 */
+    public static final String USER_IMPORT = "ユーザインポート";
+
     /** ユーザ登録（複数）。 */
     public static final String USER_BULK_CREATE = "ユーザ登録（複数）";
 
@@ -0,0 +1,25 @@
+package com.example.demo.constant;
+
+// NOTE: 定数クラスはインスタンス化できないようにprivateコンストラクタを定義する
+
+/**
+ * 待ち行列があふれた場合の扱いの定数。
+ */
+public class OverflowPolicyConstants {
+
+    /** 扱い：新しく追加しようとしたものを破棄する。 */
+    public static final String DROP_NEWEST = "drop_newest";
+
+    /** 扱い：最も古いものを破棄して追加する。 */
+    public static final String DROP_OLDEST = "drop_oldest";
+
+    /** 扱い：空くまで一定時間待ち、待ちきれない場合は新しく追加しようとしたものを破棄する。 */
+    public static final String BLOCK = "block";
+
+    /**
+     * 非インスタンス化コンストラクタ。
+     */
+    private OverflowPolicyConstants() {
+    }
+
+}
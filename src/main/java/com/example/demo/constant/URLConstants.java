@@ -10,6 +10,9 @@ public class URLConstants {
     /** ロギングのURL。 */
     public static final String LOGGING_URL = "/logging";
 
+    /** ロギング（一括）のURL。operationLog.bulk.enabled=trueの場合だけ使う。 */
+    public static final String LOGGING_BULK_URL = "/logging/bulk";
+
     /**
      * 非インスタンス化コンストラクタ。
      */
@@ -0,0 +1,23 @@
+package com.example.demo.controller;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * JSONに変換済みの部署レスポンス。
+ */
+@Value
+public class DepartmentResponseBody {
+
+    /** 変換元の部署の版数。 */
+    private long version;
+
+    /** JSONのバイト列。 */
+    private byte[] body;
+
+    /** ETag。 */
+    private String etag;
+
+}
@@ -0,0 +1,93 @@
+package com.example.demo.controller;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.service.DepartmentResult;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 部署はほとんど変わらないため、JSONに変換したバイト列とETagを部署の版数ごとに持ち、版数が変わった場合だけ変換し直す
+// NOTE: 版数で判定するため、版数が同じ間は部署結果を取得して比較することもない
+// NOTE: ETagはJSONのSHA-256とし、内容が同じであれば再起動後や別のアプリケーションでも同じ値になる
+
+/**
+ * 部署レスポンスのキャッシュ。
+ */
+@RequiredArgsConstructor
+@Component
+public class DepartmentResponseCache {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** 部署コントローラコンバーター。 */
+    private final DepartmentRestControllerConverter converter;
+
+    // NOTE: レスポンスと同じスネークケースで出力するためSpringのObjectMapperを使う
+
+    /** オブジェクトマッパー。 */
+    private final ObjectMapper objectMapper;
+
+    /** JSONに変換済みの部署レスポンス。未変換の場合はnull。 */
+    private volatile DepartmentResponseBody responseBody;
+
+    /**
+     * 部署の版数のJSONに変換済みの部署レスポンスを取得する。
+     * 
+     * @param version 部署の版数
+     * @return JSONに変換済みの部署レスポンス / 未変換か版数が変わった場合: null
+     */
+    public DepartmentResponseBody get(long version) {
+        DepartmentResponseBody current = responseBody;
+        if (current != null && current.getVersion() == version) {
+            return current;
+        }
+        return null;
+    }
+
+    // NOTE: 同時に変換し直しても結果は同じになるため、ロックは取らない
+    // NOTE: 部署結果は版数を取得した後に取得するため、版数より新しい内容の場合がある
+    // NOTE: その場合は次の版数で変換し直すだけで、古い内容を新しい版数で返すことはない
+
+    /**
+     * 部署結果をJSONに変換し、部署の版数の部署レスポンスとして持つ。
+     * 
+     * @param version 部署の版数
+     * @param result 部署結果
+     * @return JSONに変換済みの部署レスポンス
+     * @throws JsonProcessingException JSON変換エラー
+     */
+    public DepartmentResponseBody put(long version, DepartmentResult result) throws JsonProcessingException {
+        DepartmentResponse response = converter.convertToResponse(result);
+        byte[] body = objectMapper.writeValueAsBytes(new SuccessResponse(response));
+        DepartmentResponseBody created = new DepartmentResponseBody(version, body, etag(body));
+
+        responseBody = created;
+        return created;
+    }
+
+    /**
+     * JSONのバイト列から強いETagを作成する。
+     * 
+     * @param body JSONのバイト列
+     * @return ETag
+     */
+    private String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest) + "\"";
+        } catch (NoSuchAlgorithmException ex) {
+            // NOTE: SHA-256はすべてのJava実行環境で使えるため発生しない
+            throw new IllegalStateException(ex);
+        }
+    }
+
+}
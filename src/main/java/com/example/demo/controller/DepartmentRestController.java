@@ -1,13 +1,14 @@
 package com.example.demo.controller;
 
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
-import com.example.demo.common.response.SuccessResponse;
-import com.example.demo.service.DepartmentResult;
 import com.example.demo.service.DepartmentService;
+import com.fasterxml.jackson.core.JsonProcessingException;
 
 import lombok.RequiredArgsConstructor;
 
@@ -27,8 +28,8 @@ public class DepartmentRestController {
     // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
     // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
 
-    /** 部署コントローラコンバーター。 */
-    private final DepartmentRestControllerConverter converter;
+    /** 部署レスポンスのキャッシュ。 */
+    private final DepartmentResponseCache responseCache;
 
     // NOTE: コントローラの単体テストはJSONが想定通りか確認するテストになる想定。そのためモックにする。
 
@@ -37,20 +38,31 @@ public class DepartmentRestController {
 
     // NOTE: メソッド名はログ出力に表示させることが多いのでControllerとServiceのメソッド名は別々にする。また、どのAPIが呼び出されたかもログ出力で分かりやすいようにするため、APIごとの名前も別々にする
 
+    // NOTE: 変換済みのJSONをそのまま返し、部署の版数が変わらない間は部署結果の取得もJacksonでの変換もしない
+    // NOTE: ETagを設定したResponseEntityを返すと、If-None-Matchが一致する場合はSpringがボディを返さずに304にする
+    // NOTE: 304の場合も部署を取得した操作として操作ログを保存するため、版数の取得は毎回呼び出す
+
     /**
      * すべての部署レスポンスを取得する。
      * 
      * @param operator 操作者
-     * @return 正常終了時のレスポンス（部署レスポンス）
+     * @return 正常終了時のレスポンス（部署レスポンスのJSON）
+     * @throws JsonProcessingException JSON変換エラー
      */
     @GetMapping
-    public SuccessResponse fetchAllApi(
-            @RequestHeader(name = "X-Operator", required = true) String operator) {
-        DepartmentResult result = service.fetchAll(operator);
+    public ResponseEntity<byte[]> fetchAllApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator) throws JsonProcessingException {
+        long version = service.fetchVersion(operator);
 
-        DepartmentResponse response = converter.convertToResponse(result);
+        DepartmentResponseBody responseBody = responseCache.get(version);
+        if (responseBody == null) {
+            responseBody = responseCache.put(version, service.fetchAll());
+        }
 
-        return new SuccessResponse(response);
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(responseBody.getEtag())
+                .body(responseBody.getBody());
     }
 
 }
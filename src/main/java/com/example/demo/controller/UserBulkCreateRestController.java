@@ -11,6 +11,7 @@ import com.example.demo.common.exception.ApplicationException;
 import com.example.demo.common.response.SuccessResponse;
 import com.example.demo.service.UserBulkCreateParam;
 import com.example.demo.service.UserBulkCreateService;
+import com.example.demo.service.UserBulkResult;
 
 import lombok.RequiredArgsConstructor;
 
@@ -59,4 +60,28 @@ public class UserBulkCreateRestController {
         return new SuccessResponse();
     }
 
+    // NOTE: partial=trueを指定した場合だけ明細ごとの結果を返却するAPIにマッピングする
+    // NOTE: 指定しない場合はこれまで通り1件でもエラーがあればすべてロールバックする
+
+    /**
+     * 複数のユーザを作成する。作成できなかった明細があっても、作成できた明細はコミットする。
+     * 
+     * @param operator 操作者
+     * @param bulkRequest 複数のユーザ作成リクエスト
+     * @return 正常終了時のレスポンス（複数のユーザ作成・更新レスポンス）
+     * @throws ApplicationException 業務エラー
+     */
+    @PostMapping(value = "/bulk/create", params = "partial=true")
+    public SuccessResponse bulkCreatePartialApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator,
+            @Validated @RequestBody(required = true) UserBulkCreateRequest bulkRequest) throws ApplicationException {
+        UserBulkCreateParam bulkParam = converter.convertToParam(bulkRequest);
+
+        UserBulkResult result = service.bulkCreatePartial(operator, bulkParam);
+
+        UserBulkResponse response = converter.convertToResponse(result);
+
+        return new SuccessResponse(response);
+    }
+
 }
@@ -0,0 +1,43 @@
+package com.example.demo.controller;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザ一括処理ジョブレスポンス。
+ */
+@Value
+public class UserBulkJobResponse {
+
+    /** ジョブID。 */
+    private Long id;
+
+    /** ジョブ種別。 */
+    private String jobType;
+
+    /** ステータス。 */
+    private String status;
+
+    /** 全件数。 */
+    private Integer totalCount;
+
+    /** 処理済み件数。 */
+    private Integer processedCount;
+
+    /** エラーID。 */
+    private String errorId;
+
+    /** エラーメッセージ。 */
+    private String errorMessage;
+
+    /** 登録日時。 */
+    private LocalDateTime createdAt;
+
+    /** 更新日時。 */
+    private LocalDateTime updatedAt;
+
+}
@@ -0,0 +1,112 @@
+package com.example.demo.controller;
+
+import org.springframework.http.HttpStatus;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PathVariable;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.ResponseStatus;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.service.UserBulkCreateParam;
+import com.example.demo.service.UserBulkJobResult;
+import com.example.demo.service.UserBulkJobService;
+import com.example.demo.service.UserBulkUpdateParam;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controllerはリクエスト、レスポンスの処理を書く
+// NOTE: SpringBootではフレームワークでリクエスト、レスポンスの処理を行ってくれるので書くことがない
+// NOTE: Serviceの呼び出しとServiceへ渡す値の変換処理だけ書く
+// NOTE: ロジックは書かない
+
+/**
+ * ユーザ一括処理ジョブコントローラ。
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users/bulk/jobs")
+public class UserBulkJobRestController {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ一括処理ジョブコントローラコンバーター。 */
+    private final UserBulkJobRestControllerConverter converter;
+
+    // NOTE: コントローラの単体テストはJSONが想定通りか確認するテストになる想定。そのためモックにする。
+
+    /** ユーザ一括処理ジョブサービス。 */
+    private final UserBulkJobService service;
+
+    // NOTE: メソッド名はログ出力に表示させることが多いのでControllerとServiceのメソッド名は別々にする。また、どのAPIが呼び出されたかもログ出力で分かりやすいようにするため、APIごとの名前も別々にする
+    // NOTE: ジョブは受け付けただけで処理は終わっていないため、202を返却する
+
+    /**
+     * 複数のユーザを作成するジョブを登録する。
+     * 
+     * @param operator 操作者
+     * @param jobRequest ユーザ作成ジョブリクエスト
+     * @return 正常終了時のレスポンス（ユーザ一括処理ジョブレスポンス）
+     * @throws ApplicationException 業務エラー
+     */
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/create")
+    public SuccessResponse submitCreateJobApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator,
+            @Validated @RequestBody(required = true) UserBulkJobCreateRequest jobRequest)
+            throws ApplicationException {
+        UserBulkCreateParam bulkParam = converter.convertToParam(jobRequest);
+
+        UserBulkJobResult result = service.submitCreate(operator, bulkParam);
+
+        UserBulkJobResponse response = converter.convertToResponse(result);
+
+        return new SuccessResponse(response);
+    }
+
+    /**
+     * 複数のユーザを更新するジョブを登録する。
+     * 
+     * @param operator 操作者
+     * @param jobRequest ユーザ更新ジョブリクエスト
+     * @return 正常終了時のレスポンス（ユーザ一括処理ジョブレスポンス）
+     * @throws ApplicationException 業務エラー
+     */
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @PostMapping("/update")
+    public SuccessResponse submitUpdateJobApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator,
+            @Validated @RequestBody(required = true) UserBulkJobUpdateRequest jobRequest)
+            throws ApplicationException {
+        UserBulkUpdateParam bulkParam = converter.convertToParam(jobRequest);
+
+        UserBulkJobResult result = service.submitUpdate(operator, bulkParam);
+
+        UserBulkJobResponse response = converter.convertToResponse(result);
+
+        return new SuccessResponse(response);
+    }
+
+    /**
+     * ジョブの状態を取得する。
+     * 
+     * @param id ジョブID
+     * @return 正常終了時のレスポンス（ユーザ一括処理ジョブレスポンス）
+     * @throws ApplicationException 業務エラー
+     */
+    @GetMapping("/{id}")
+    public SuccessResponse findJobApi(@PathVariable("id") long id) throws ApplicationException {
+        UserBulkJobResult result = service.find(id);
+
+        UserBulkJobResponse response = converter.convertToResponse(result);
+
+        return new SuccessResponse(response);
+    }
+
+}
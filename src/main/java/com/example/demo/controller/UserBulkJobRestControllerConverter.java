@@ -0,0 +1,90 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.UserBulkCreateParam;
+import com.example.demo.service.UserBulkJobResult;
+import com.example.demo.service.UserBulkUpdateParam;
+import com.example.demo.service.UserCreateParam;
+import com.example.demo.service.UserUpdateParam;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザ一括処理ジョブコントローラコンバーター。
+ */
+@Component
+public class UserBulkJobRestControllerConverter {
+
+    /**
+     * ユーザ作成ジョブリクエストを複数のユーザ作成パラメータに変換する。
+     * 
+     * @param jobRequest ユーザ作成ジョブリクエスト
+     * @return 複数のユーザ作成パラメータ
+     */
+    UserBulkCreateParam convertToParam(UserBulkJobCreateRequest jobRequest) {
+        List<UserCreateParam> list = jobRequest.getList()
+                .stream()
+                .map(request -> {
+                    UserCreateParam param = new UserCreateParam(
+                            request.getFamilyName(),
+                            request.getFirstName(),
+                            request.getDeptId());
+                    return param;
+                })
+                .toList();
+
+        UserBulkCreateParam bulkParam = new UserBulkCreateParam(list);
+        return bulkParam;
+    }
+
+    /**
+     * ユーザ更新ジョブリクエストを複数のユーザ更新パラメータに変換する。
+     * 
+     * @param jobRequest ユーザ更新ジョブリクエスト
+     * @return 複数のユーザ更新パラメータ
+     */
+    UserBulkUpdateParam convertToParam(UserBulkJobUpdateRequest jobRequest) {
+        List<UserUpdateParam> list = jobRequest.getList()
+                .stream()
+                .map(request -> {
+                    UserUpdateParam param = new UserUpdateParam(
+                            request.getId(),
+                            request.getFamilyName(),
+                            request.getFirstName(),
+                            request.getDeptId(),
+                            request.getVersion());
+                    return param;
+                })
+                .toList();
+
+        UserBulkUpdateParam bulkParam = new UserBulkUpdateParam(list);
+        return bulkParam;
+    }
+
+    /**
+     * ユーザ一括処理ジョブ結果をユーザ一括処理ジョブレスポンスに変換する。
+     * 
+     * @param result ユーザ一括処理ジョブ結果
+     * @return ユーザ一括処理ジョブレスポンス
+     */
+    UserBulkJobResponse convertToResponse(UserBulkJobResult result) {
+        UserBulkJobResponse response = new UserBulkJobResponse(
+                result.getId(),
+                result.getJobType(),
+                result.getStatus(),
+                result.getTotalCount(),
+                result.getProcessedCount(),
+                result.getErrorId(),
+                result.getErrorMessage(),
+                result.getCreatedAt(),
+                result.getUpdatedAt());
+        return response;
+    }
+
+}
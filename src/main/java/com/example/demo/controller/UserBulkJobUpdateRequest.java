@@ -0,0 +1,30 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+import lombok.Value;
+
+// NOTE: リクエストのバリデーションチェックを書く。詳細設計書のバリデーションチェックと照らし合わせて書く。
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザ更新ジョブリクエスト。
+ */
+@Value
+public class UserBulkJobUpdateRequest {
+
+    // NOTE: ネストしている項目には@Validが必須
+    // NOTE: ワーカーでチャンクごとに処理するため、同期の一括処理より多くの件数を受け付ける
+
+    /** ユーザ更新リクエストリスト。 */
+    @Valid
+    @NotNull
+    @Size(min = 1, max = 100000)
+    private List<UserUpdateRequest> list;
+
+}
@@ -0,0 +1,28 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * 複数のユーザ作成・更新レスポンス。
+ */
+@Value
+public class UserBulkResponse {
+
+    /** 明細件数。 */
+    private Integer totalCount;
+
+    /** 成功件数。 */
+    private Integer succeededCount;
+
+    /** 失敗件数。 */
+    private Integer failedCount;
+
+    /** 明細ごとの結果リスト。 */
+    private List<UserBulkResponseItemData> itemList;
+
+}
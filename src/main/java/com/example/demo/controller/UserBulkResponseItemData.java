@@ -0,0 +1,23 @@
+package com.example.demo.controller;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * 複数のユーザ作成・更新レスポンスの明細ごとの結果のデータ。
+ */
+@Value
+public class UserBulkResponseItemData {
+
+    /** 明細番号。 */
+    private Integer itemNo;
+
+    /** ユーザID。 */
+    private String id;
+
+    /** 結果。 */
+    private String status;
+
+}
@@ -11,6 +11,7 @@ import com.example.demo.common.exception.ApplicationException;
 import com.example.demo.common.response.SuccessResponse;
 import com.example.demo.service.UserBulkUpdateParam;
 import com.example.demo.service.UserBulkUpdateService;
+import com.example.demo.service.UserBulkResult;
 
 import lombok.RequiredArgsConstructor;
 
@@ -59,4 +60,28 @@ public class UserBulkUpdateRestController {
         return new SuccessResponse();
     }
 
+    // NOTE: partial=trueを指定した場合だけ明細ごとの結果を返却するAPIにマッピングする
+    // NOTE: 指定しない場合はこれまで通り1件でもエラーがあればすべてロールバックする
+
+    /**
+     * 複数のユーザを更新する。更新できなかった明細があっても、更新できた明細はコミットする。
+     * 
+     * @param operator 操作者
+     * @param bulkRequest 複数のユーザ更新リクエスト
+     * @return 正常終了時のレスポンス（複数のユーザ作成・更新レスポンス）
+     * @throws ApplicationException 業務エラー
+     */
+    @PostMapping(value = "/bulk/update", params = "partial=true")
+    public SuccessResponse bulkUpdatePartialApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator,
+            @Validated @RequestBody(required = true) UserBulkUpdateRequest bulkRequest) throws ApplicationException {
+        UserBulkUpdateParam param = converter.convertToParam(bulkRequest);
+
+        UserBulkResult result = service.bulkUpdatePartial(operator, param);
+
+        UserBulkResponse response = converter.convertToResponse(result);
+
+        return new SuccessResponse(response);
+    }
+
 }
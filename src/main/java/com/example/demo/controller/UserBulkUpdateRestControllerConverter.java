@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.springframework.stereotype.Component;
 
+import com.example.demo.service.UserBulkResult;
 import com.example.demo.service.UserBulkUpdateParam;
 import com.example.demo.service.UserUpdateParam;
 
@@ -43,4 +44,30 @@ public class UserBulkUpdateRestControllerConverter {
         return bulkParam;
     }
 
+    /**
+     * 複数のユーザ作成・更新結果を複数のユーザ作成・更新レスポンスに変換する。
+     * 
+     * @param result 複数のユーザ作成・更新結果
+     * @return 複数のユーザ作成・更新レスポンス
+     */
+    public UserBulkResponse convertToResponse(UserBulkResult result) {
+        List<UserBulkResponseItemData> itemList = result.getItemList()
+                .stream()
+                .map(item -> {
+                    UserBulkResponseItemData data = new UserBulkResponseItemData(
+                            item.getItemNo(),
+                            item.getId(),
+                            item.getStatus());
+                    return data;
+                })
+                .toList();
+
+        UserBulkResponse response = new UserBulkResponse(
+                result.getTotalCount(),
+                result.getSucceededCount(),
+                result.getFailedCount(),
+                itemList);
+        return response;
+    }
+
 }
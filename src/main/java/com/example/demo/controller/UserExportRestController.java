@@ -0,0 +1,68 @@
+package com.example.demo.controller;
+
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.example.demo.service.UserExportParam;
+import com.example.demo.service.UserExportService;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controllerはリクエスト、レスポンスの処理を書く
+// NOTE: SpringBootではフレームワークでリクエスト、レスポンスの処理を行ってくれるので書くことがない
+// NOTE: Serviceの呼び出しとServiceへ渡す値の変換処理だけ書く
+// NOTE: ロジックは書かない
+
+/**
+ * ユーザエクスポートコントローラ。
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users")
+public class UserExportRestController {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザエクスポートコントローラコンバーター。 */
+    private final UserExportRestControllerConverter converter;
+
+    // NOTE: コントローラの単体テストはJSONが想定通りか確認するテストになる想定。そのためモックにする。
+
+    /** ユーザエクスポートサービス。 */
+    private final UserExportService service;
+
+    // NOTE: メソッド名はログ出力に表示させることが多いのでControllerとServiceのメソッド名は別々にする。また、どのAPIが呼び出されたかもログ出力で分かりやすいようにするため、APIごとの名前も別々にする
+    // NOTE: 件数が多くてもメモリを使い切らないように、取得したデータを1件ずつレスポンスへ書き込む
+    // NOTE: StreamingResponseBodyは別スレッドで実行されるため、トランザクションはService側で開始する
+
+    /**
+     * 検索条件に一致するすべてのユーザをエクスポートする。
+     * 
+     * @param operator 操作者
+     * @param request ユーザエクスポートリクエスト
+     * @return 検索条件に一致するすべてのユーザを書き込むレスポンス
+     */
+    @PostMapping("/export")
+    public ResponseEntity<StreamingResponseBody> exportApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator,
+            @Validated @RequestBody(required = true) UserExportRequest request) {
+        UserExportParam param = converter.convertToParam(request);
+
+        MediaType mediaType = converter.convertToMediaType(param.getFormat());
+
+        StreamingResponseBody body = outputStream -> service.export(operator, param, outputStream);
+
+        return ResponseEntity.ok()
+                .contentType(mediaType)
+                .body(body);
+    }
+
+}
@@ -0,0 +1,53 @@
+package com.example.demo.controller;
+
+import java.nio.charset.StandardCharsets;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.constant.FileFormatConstants;
+import com.example.demo.service.UserExportParam;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザエクスポートコントローラコンバーター。
+ */
+@Component
+public class UserExportRestControllerConverter {
+
+    /**
+     * ユーザエクスポートリクエストをユーザエクスポートパラメータに変換する。
+     * 
+     * @param request ユーザエクスポートリクエスト
+     * @return ユーザエクスポートパラメータ
+     */
+    UserExportParam convertToParam(UserExportRequest request) {
+        UserExportParam param = new UserExportParam(
+                request.getName(),
+                request.getDeptId(),
+                request.getBeginUpdatedAt(),
+                request.getEndUpdatedAt(),
+                request.getFormat());
+        return param;
+    }
+
+    /**
+     * 出力形式をレスポンスのContent-Typeに変換する。
+     * 
+     * @param format 出力形式
+     * @return Content-Type
+     */
+    MediaType convertToMediaType(String format) {
+        String contentType = FileFormatConstants.CSV.equals(format)
+                ? FileFormatConstants.CSV_CONTENT_TYPE
+                : FileFormatConstants.NDJSON_CONTENT_TYPE;
+
+        MediaType mediaType = new MediaType(MediaType.parseMediaType(contentType), StandardCharsets.UTF_8);
+        return mediaType;
+    }
+
+}
@@ -0,0 +1,25 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザ件数集計レスポンス。
+ */
+@Value
+public class UserFacetResponse {
+
+    /** 合計件数。 */
+    private Integer totalCount;
+
+    /** 部署ごとの件数リスト。 */
+    private List<UserFacetResponseDeptData> deptList;
+
+    /** 更新日ごとの件数リスト。 */
+    private List<UserFacetResponseDayData> dayList;
+
+}
@@ -0,0 +1,20 @@
+package com.example.demo.controller;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザ件数集計レスポンス部署データ。
+ */
+@Value
+public class UserFacetResponseDeptData {
+
+    /** 部署ID。 */
+    private String deptId;
+
+    /** 件数。 */
+    private Integer count;
+
+}
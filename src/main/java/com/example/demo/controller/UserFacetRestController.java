@@ -0,0 +1,63 @@
+package com.example.demo.controller;
+
+import org.springframework.validation.annotation.Validated;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.service.UserFacetParam;
+import com.example.demo.service.UserFacetResult;
+import com.example.demo.service.UserFacetService;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controllerはリクエスト、レスポンスの処理を書く
+// NOTE: SpringBootではフレームワークでリクエスト、レスポンスの処理を行ってくれるので書くことがない
+// NOTE: Serviceの呼び出しとServiceへ渡す値の変換処理だけ書く
+// NOTE: ロジックは書かない
+
+/**
+ * ユーザ件数集計コントローラ。
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users")
+public class UserFacetRestController {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ件数集計コントローラコンバーター。 */
+    private final UserFacetRestControllerConverter converter;
+
+    // NOTE: コントローラの単体テストはJSONが想定通りか確認するテストになる想定。そのためモックにする。
+
+    /** ユーザ件数集計サービス。 */
+    private final UserFacetService service;
+
+    // NOTE: メソッド名はログ出力に表示させることが多いのでControllerとServiceのメソッド名は別々にする。また、どのAPIが呼び出されたかもログ出力で分かりやすいようにするため、APIごとの名前も別々にする
+
+    /**
+     * ユーザの件数を部署ごとと更新日ごとに集計する。
+     * 
+     * @param operator 操作者
+     * @param request ユーザ件数集計リクエスト
+     * @return 正常終了時のレスポンス（ユーザ件数集計レスポンス）
+     */
+    @PostMapping("/facets")
+    public SuccessResponse facetApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator,
+            @Validated @RequestBody(required = true) UserFacetRequest request) {
+        UserFacetParam param = converter.convertToParam(request);
+
+        UserFacetResult result = service.facet(operator, param);
+
+        UserFacetResponse response = converter.convertToResponse(result);
+
+        return new SuccessResponse(response);
+    }
+
+}
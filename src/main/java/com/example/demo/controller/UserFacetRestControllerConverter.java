@@ -0,0 +1,65 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.UserFacetParam;
+import com.example.demo.service.UserFacetResult;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザ件数集計コントローラコンバーター。
+ */
+@Component
+public class UserFacetRestControllerConverter {
+
+    /**
+     * ユーザ件数集計リクエストをユーザ件数集計パラメータに変換する。
+     * 
+     * @param request ユーザ件数集計リクエスト
+     * @return ユーザ件数集計パラメータ
+     */
+    UserFacetParam convertToParam(UserFacetRequest request) {
+        UserFacetParam param = new UserFacetParam(
+                request.getName(),
+                request.getDeptId(),
+                request.getBeginUpdatedAt(),
+                request.getEndUpdatedAt());
+        return param;
+    }
+
+    /**
+     * ユーザ件数集計結果をユーザ件数集計レスポンスに変換する。
+     * 
+     * @param result ユーザ件数集計結果
+     * @return ユーザ件数集計レスポンス
+     */
+    UserFacetResponse convertToResponse(UserFacetResult result) {
+        List<UserFacetResponseDeptData> deptList = result.getDeptList()
+                .stream()
+                .map(data -> new UserFacetResponseDeptData(
+                        data.getDeptId(),
+                        data.getCount()))
+                .toList();
+
+        List<UserFacetResponseDayData> dayList = result.getDayList()
+                .stream()
+                .map(data -> new UserFacetResponseDayData(
+                        data.getLastUpdatedAt(),
+                        data.getCount()))
+                .toList();
+
+        UserFacetResponse response = new UserFacetResponse(
+                result.getTotalCount(),
+                deptList,
+                dayList);
+
+        return response;
+    }
+
+}
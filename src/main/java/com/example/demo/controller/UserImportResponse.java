@@ -0,0 +1,31 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザインポートレスポンス。
+ */
+@Value
+public class UserImportResponse {
+
+    /** 読み込み件数。 */
+    private Integer totalCount;
+
+    /** 登録件数。 */
+    private Integer importedCount;
+
+    /** エラー件数。 */
+    private Integer rejectedCount;
+
+    /** チャンクごとの結果リスト。 */
+    private List<UserImportResponseChunkData> chunkList;
+
+    /** エラーになったレコードのリスト。 */
+    private List<UserImportResponseRejectData> rejectList;
+
+}
@@ -0,0 +1,22 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザインポートレスポンスのエラーになったレコードのデータ。
+ */
+@Value
+public class UserImportResponseRejectData {
+
+    /** 行番号。 */
+    private Integer lineNo;
+
+    /** エラーメッセージリスト。 */
+    private List<String> messageList;
+
+}
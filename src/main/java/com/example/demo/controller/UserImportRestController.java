@@ -0,0 +1,74 @@
+package com.example.demo.controller;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.constant.FileFormatConstants;
+import com.example.demo.service.UserImportParam;
+import com.example.demo.service.UserImportResult;
+import com.example.demo.service.UserImportService;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controllerはリクエスト、レスポンスの処理を書く
+// NOTE: SpringBootではフレームワークでリクエスト、レスポンスの処理を行ってくれるので書くことがない
+// NOTE: Serviceの呼び出しとServiceへ渡す値の変換処理だけ書く
+// NOTE: ロジックは書かない
+
+/**
+ * ユーザインポートコントローラ。
+ */
+@RequiredArgsConstructor
+@RestController
+@RequestMapping("/users")
+public class UserImportRestController {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザインポートコントローラコンバーター。 */
+    private final UserImportRestControllerConverter converter;
+
+    // NOTE: コントローラの単体テストはJSONが想定通りか確認するテストになる想定。そのためモックにする。
+
+    /** ユーザインポートサービス。 */
+    private final UserImportService service;
+
+    // NOTE: メソッド名はログ出力に表示させることが多いのでControllerとServiceのメソッド名は別々にする。また、どのAPIが呼び出されたかもログ出力で分かりやすいようにするため、APIごとの名前も別々にする
+    // NOTE: 件数が多くてもメモリを使い切らないように、リクエストのボディはオブジェクトに変換せずにInputStreamのままServiceへ渡す
+
+    /**
+     * NDJSONまたはCSVのユーザをインポートする。
+     * 
+     * @param operator 操作者
+     * @param contentType リクエストのContent-Type
+     * @param inputStream リクエストのボディ
+     * @return 正常終了時のレスポンス（ユーザインポートレスポンス）
+     * @throws ApplicationException 業務エラー
+     * @throws IOException 読み込みエラー
+     */
+    @PostMapping(value = "/import", consumes = { FileFormatConstants.NDJSON_CONTENT_TYPE,
+            FileFormatConstants.CSV_CONTENT_TYPE })
+    public SuccessResponse importApi(
+            @RequestHeader(name = "X-Operator", required = true) String operator,
+            @RequestHeader(name = HttpHeaders.CONTENT_TYPE, required = true) MediaType contentType,
+            InputStream inputStream) throws ApplicationException, IOException {
+        UserImportParam param = converter.convertToParam(contentType);
+
+        UserImportResult result = service.importUsers(operator, param, inputStream);
+
+        UserImportResponse response = converter.convertToResponse(result);
+
+        return new SuccessResponse(response);
+    }
+
+}
@@ -0,0 +1,72 @@
+package com.example.demo.controller;
+
+import java.util.List;
+
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.constant.FileFormatConstants;
+import com.example.demo.service.UserImportParam;
+import com.example.demo.service.UserImportResult;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザインポートコントローラコンバーター。
+ */
+@Component
+public class UserImportRestControllerConverter {
+
+    /** CSVのContent-Type。 */
+    private static final MediaType CSV_MEDIA_TYPE = MediaType.parseMediaType(FileFormatConstants.CSV_CONTENT_TYPE);
+
+    /**
+     * リクエストのContent-Typeをユーザインポートパラメータに変換する。
+     * 
+     * @param contentType リクエストのContent-Type
+     * @return ユーザインポートパラメータ
+     */
+    UserImportParam convertToParam(MediaType contentType) {
+        String format = CSV_MEDIA_TYPE.isCompatibleWith(contentType)
+                ? FileFormatConstants.CSV
+                : FileFormatConstants.NDJSON;
+
+        UserImportParam param = new UserImportParam(format);
+        return param;
+    }
+
+    /**
+     * ユーザインポート結果をユーザインポートレスポンスに変換する。
+     * 
+     * @param result ユーザインポート結果
+     * @return ユーザインポートレスポンス
+     */
+    UserImportResponse convertToResponse(UserImportResult result) {
+        List<UserImportResponseChunkData> chunkList = result.getChunkList()
+                .stream()
+                .map(data -> new UserImportResponseChunkData(
+                        data.getChunkNo(),
+                        data.getImportedCount(),
+                        data.getRejectedCount()))
+                .toList();
+
+        List<UserImportResponseRejectData> rejectList = result.getRejectList()
+                .stream()
+                .map(data -> new UserImportResponseRejectData(
+                        data.getLineNo(),
+                        data.getMessageList()))
+                .toList();
+
+        UserImportResponse response = new UserImportResponse(
+                result.getTotalCount(),
+                result.getImportedCount(),
+                result.getRejectedCount(),
+                chunkList,
+                rejectList);
+        return response;
+    }
+
+}
@@ -48,4 +48,10 @@ public class UserSearchRequest {
     @Max(100)
     private Integer pageSize;
 
+    // NOTE: カーソルを指定した場合はOFFSETを使わずにカーソルの位置から検索する（キーセットページネーション）
+
+    /** カーソル。前回の検索結果の次のページのカーソル。 */
+    @Pattern(regexp = "^[0-9A-Za-z_-]{27}$", message = "{my.Cursor.message}")
+    private String cursor;
+
 }
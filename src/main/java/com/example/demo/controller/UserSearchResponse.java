@@ -25,4 +25,7 @@ public class UserSearchResponse {
     /** 1ページで表示する件数。最大100件。 */
     private Integer pageSize;
 
+    /** 次のページのカーソル。次のページがなければNULL。 */
+    private String nextCursor;
+
 }
@@ -31,7 +31,8 @@ public class UserSearchRestControllerConverter {
                 request.getBeginUpdatedAt(),
                 request.getEndUpdatedAt(),
                 request.getPageNo(),
-                request.getPageSize());
+                request.getPageSize(),
+                request.getCursor());
         return param;
     }
 
@@ -60,7 +61,8 @@ public class UserSearchRestControllerConverter {
                 responseList,
                 result.getPrevPageNo(),
                 result.getNextPageNo(),
-                result.getPageSize());
+                result.getPageSize(),
+                result.getNextCursor());
 
         return response;
     }
@@ -0,0 +1,106 @@
+package com.example.demo.external;
+
+import java.io.IOException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 外部APIを同時に呼び出す件数を制限し、外部APIが遅い場合に呼び出し元のスレッドがすべて待たされないようにする
+
+/**
+ * 外部API呼び出しのバルクヘッド。
+ */
+@Component
+public class Bulkhead implements ClientHttpRequestInterceptor {
+
+    /** 同時に呼び出せる件数。 */
+    private final Semaphore semaphore;
+
+    /** 空くまで待つ最大ミリ秒数。 */
+    private final long maxWaitMillis;
+
+    /** 拒否件数。 */
+    private final Counter rejectedCounter;
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param meterRegistry メトリクスのレジストリ
+     * @param maxConcurrentCalls 同時に呼び出す最大件数
+     * @param maxWaitMillis 空くまで待つ最大ミリ秒数
+     */
+    public Bulkhead(
+            MeterRegistry meterRegistry,
+            @Value("${external.bulkhead.maxConcurrentCalls}") int maxConcurrentCalls,
+            @Value("${external.bulkhead.maxWaitMillis}") long maxWaitMillis) {
+        this.semaphore = new Semaphore(maxConcurrentCalls);
+        this.maxWaitMillis = maxWaitMillis;
+        Gauge.builder("external.bulkhead.available", semaphore, Semaphore::availablePermits)
+                .description("外部APIを同時に呼び出せる残りの件数")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("external.bulkhead.rejected")
+                .description("同時に呼び出す件数を超えたため拒否した件数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 同時に呼び出す件数を超えない場合だけ外部APIを呼び出す。
+     * 
+     * @param request リクエスト
+     * @param body リクエストのボディ
+     * @param execution 実行処理
+     * @return レスポンス
+     * @throws IOException 通信エラー、または同時に呼び出す件数を超えた場合
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!tryAcquire()) {
+            rejectedCounter.increment();
+            throw new ExternalApiRejectedException("外部APIを同時に呼び出す件数を超えたため、呼び出しませんでした。");
+        }
+
+        try {
+            return execution.execute(request, body);
+        } finally {
+            semaphore.release();
+        }
+    }
+
+    /**
+     * 空いている場合は呼び出す権利を取得する。
+     * 
+     * @return 取得できた場合: true / 取得できなかった場合: false
+     */
+    private boolean tryAcquire() {
+        try {
+            return semaphore.tryAcquire(maxWaitMillis, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    /**
+     * 同時に呼び出せる残りの件数を取得する。
+     * 
+     * @return 同時に呼び出せる残りの件数
+     */
+    public int availablePermits() {
+        return semaphore.availablePermits();
+    }
+
+}
@@ -0,0 +1,332 @@
+package com.example.demo.external;
+
+import java.io.IOException;
+import java.time.Clock;
+import java.time.LocalDateTime;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.constant.CircuitBreakerStateConstants;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 直近の呼び出し結果の失敗率が閾値を超えたら開き、外部APIを呼び出さずにすぐ失敗させる
+// NOTE: 開いてから一定時間が過ぎたら半開にし、決められた件数だけ試しに呼び出す。すべて成功したら閉じ、1件でも失敗したら再び開く
+// NOTE: 5xxと通信エラーを失敗とする。4xxは外部APIが動いているため成功とする
+// NOTE: 状態の判定はロックの中で数値を比較するだけのため、開いている場合はマイクロ秒未満で失敗する
+
+/**
+ * 外部API呼び出しのサーキットブレーカー。
+ */
+@Component
+public class CircuitBreaker implements ClientHttpRequestInterceptor {
+
+    /** 保持する状態遷移の件数。 */
+    private static final int MAX_TRANSITIONS = 20;
+
+    /** 状態と、メトリクスに出力する値。 */
+    private static final Map<String, Integer> STATE_VALUE_MAP = Map.of(
+            CircuitBreakerStateConstants.CLOSED, 0,
+            CircuitBreakerStateConstants.OPEN, 1,
+            CircuitBreakerStateConstants.HALF_OPEN, 2);
+
+    /** 時計。 */
+    private final Clock clock;
+
+    /** メトリクスのレジストリ。 */
+    private final MeterRegistry meterRegistry;
+
+    /** 失敗率を計算する直近の呼び出し件数。 */
+    private final int windowSize;
+
+    /** 失敗率を計算する最小の呼び出し件数。 */
+    private final int minimumCalls;
+
+    /** 開く失敗率（%）。 */
+    private final int failureRateThreshold;
+
+    /** 開いてから半開にするまでのミリ秒数。 */
+    private final long openMillis;
+
+    /** 半開で試しに呼び出す件数。 */
+    private final int halfOpenCalls;
+
+    /** 直近の呼び出し結果（失敗: true）。 */
+    private final boolean[] window;
+
+    /** 状態遷移の履歴。 */
+    private final Deque<CircuitBreakerTransitionData> transitionDeque = new ArrayDeque<>();
+
+    /** 拒否件数。 */
+    private final Counter rejectedCounter;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** 状態。 */
+    private String state = CircuitBreakerStateConstants.CLOSED;
+
+    /** 次に結果を書き込む位置。 */
+    private int windowIndex;
+
+    /** 保持している結果の件数。 */
+    private int windowCount;
+
+    /** 保持している結果のうち失敗の件数。 */
+    private int failureCount;
+
+    /** 開いた日時（ミリ秒）。 */
+    private long openedAt;
+
+    /** 半開で呼び出し中の件数。 */
+    private int halfOpenInFlight;
+
+    /** 半開で成功した件数。 */
+    private int halfOpenSucceeded;
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param meterRegistry メトリクスのレジストリ
+     * @param windowSize 失敗率を計算する直近の呼び出し件数
+     * @param minimumCalls 失敗率を計算する最小の呼び出し件数
+     * @param failureRateThreshold 開く失敗率（%）
+     * @param openMillis 開いてから半開にするまでのミリ秒数
+     * @param halfOpenCalls 半開で試しに呼び出す件数
+     */
+    @Autowired
+    public CircuitBreaker(
+            MeterRegistry meterRegistry,
+            @Value("${external.circuitBreaker.windowSize}") int windowSize,
+            @Value("${external.circuitBreaker.minimumCalls}") int minimumCalls,
+            @Value("${external.circuitBreaker.failureRateThreshold}") int failureRateThreshold,
+            @Value("${external.circuitBreaker.openMillis}") long openMillis,
+            @Value("${external.circuitBreaker.halfOpenCalls}") int halfOpenCalls) {
+        this(Clock.systemDefaultZone(), meterRegistry, windowSize, minimumCalls, failureRateThreshold, openMillis,
+                halfOpenCalls);
+    }
+
+    // NOTE: テストで時間を進めるため、時計を指定できるコンストラクタを用意する
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param clock 時計
+     * @param meterRegistry メトリクスのレジストリ
+     * @param windowSize 失敗率を計算する直近の呼び出し件数
+     * @param minimumCalls 失敗率を計算する最小の呼び出し件数
+     * @param failureRateThreshold 開く失敗率（%）
+     * @param openMillis 開いてから半開にするまでのミリ秒数
+     * @param halfOpenCalls 半開で試しに呼び出す件数
+     */
+    CircuitBreaker(
+            Clock clock,
+            MeterRegistry meterRegistry,
+            int windowSize,
+            int minimumCalls,
+            int failureRateThreshold,
+            long openMillis,
+            int halfOpenCalls) {
+        if (windowSize <= 0 || minimumCalls <= 0 || minimumCalls > windowSize || halfOpenCalls <= 0) {
+            throw new IllegalArgumentException("external.circuitBreaker: windowSize=" + windowSize
+                    + ", minimumCalls=" + minimumCalls + ", halfOpenCalls=" + halfOpenCalls);
+        }
+
+        this.clock = clock;
+        this.meterRegistry = meterRegistry;
+        this.windowSize = windowSize;
+        this.minimumCalls = minimumCalls;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openMillis = openMillis;
+        this.halfOpenCalls = halfOpenCalls;
+        this.window = new boolean[windowSize];
+        Gauge.builder("external.circuit_breaker.state", this, c -> STATE_VALUE_MAP.get(c.getState()))
+                .description("サーキットブレーカーの状態（0：閉、1：開、2：半開）")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("external.circuit_breaker.rejected")
+                .description("サーキットブレーカーが開いているため拒否した件数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * サーキットブレーカーが閉じている場合、または半開で試しに呼び出す場合だけ外部APIを呼び出す。
+     * 
+     * @param request リクエスト
+     * @param body リクエストのボディ
+     * @param execution 実行処理
+     * @return レスポンス
+     * @throws IOException 通信エラー、またはサーキットブレーカーが開いている場合
+     */
+    @Override
+    public ClientHttpResponse intercept(HttpRequest request, byte[] body, ClientHttpRequestExecution execution)
+            throws IOException {
+        if (!tryAcquire()) {
+            rejectedCounter.increment();
+            throw new ExternalApiRejectedException("サーキットブレーカーが開いているため、外部APIを呼び出しませんでした。");
+        }
+
+        ClientHttpResponse response;
+        try {
+            response = execution.execute(request, body);
+        } catch (ExternalApiRejectedException ex) {
+            // NOTE: バルクヘッドで拒否された場合は外部APIを呼び出していないため、結果に含めない
+            release();
+            throw ex;
+        } catch (IOException | RuntimeException ex) {
+            onResult(true);
+            throw ex;
+        }
+
+        onResult(response.getStatusCode().is5xxServerError());
+        return response;
+    }
+
+    /**
+     * 呼び出してよいか判定する。開いてから一定時間が過ぎた場合は半開にする。
+     * 
+     * @return 呼び出してよい場合: true / 呼び出さずに失敗させる場合: false
+     */
+    synchronized boolean tryAcquire() {
+        if (CircuitBreakerStateConstants.OPEN.equals(state)) {
+            if (clock.millis() - openedAt < openMillis) {
+                return false;
+            }
+            transitionTo(CircuitBreakerStateConstants.HALF_OPEN);
+        }
+
+        if (CircuitBreakerStateConstants.HALF_OPEN.equals(state)) {
+            if (halfOpenInFlight + halfOpenSucceeded >= halfOpenCalls) {
+                return false;
+            }
+            halfOpenInFlight++;
+        }
+        return true;
+    }
+
+    /**
+     * 結果を記録せずに、呼び出す権利を返す。
+     */
+    synchronized void release() {
+        if (CircuitBreakerStateConstants.HALF_OPEN.equals(state)) {
+            halfOpenInFlight = Math.max(halfOpenInFlight - 1, 0);
+        }
+    }
+
+    /**
+     * 呼び出し結果を記録し、必要に応じて状態を遷移する。
+     * 
+     * @param failed 失敗した場合: true / 成功した場合: false
+     */
+    synchronized void onResult(boolean failed) {
+        // NOTE: 閉じていた間に呼び出した結果が半開の間に戻ってきた場合も、試しの呼び出しの結果として扱う
+        if (CircuitBreakerStateConstants.HALF_OPEN.equals(state)) {
+            halfOpenInFlight = Math.max(halfOpenInFlight - 1, 0);
+            if (failed) {
+                transitionTo(CircuitBreakerStateConstants.OPEN);
+            } else if (++halfOpenSucceeded >= halfOpenCalls) {
+                transitionTo(CircuitBreakerStateConstants.CLOSED);
+            }
+            return;
+        }
+
+        // NOTE: 開いている間に戻ってきた呼び出しの結果は記録しない
+        if (!CircuitBreakerStateConstants.CLOSED.equals(state)) {
+            return;
+        }
+
+        if (windowCount == windowSize && window[windowIndex]) {
+            failureCount--;
+        }
+        window[windowIndex] = failed;
+        if (failed) {
+            failureCount++;
+        }
+        windowIndex = (windowIndex + 1) % windowSize;
+        windowCount = Math.min(windowCount + 1, windowSize);
+
+        if (windowCount >= minimumCalls && failureCount * 100 >= failureRateThreshold * windowCount) {
+            transitionTo(CircuitBreakerStateConstants.OPEN);
+        }
+    }
+
+    /**
+     * 状態を遷移し、遷移ごとの状態を初期化する。
+     * 
+     * @param to 遷移後の状態
+     */
+    private void transitionTo(String to) {
+        String from = state;
+        state = to;
+        if (CircuitBreakerStateConstants.OPEN.equals(to)) {
+            openedAt = clock.millis();
+        }
+        if (CircuitBreakerStateConstants.HALF_OPEN.equals(to)) {
+            halfOpenInFlight = 0;
+            halfOpenSucceeded = 0;
+        }
+        if (CircuitBreakerStateConstants.CLOSED.equals(to)) {
+            windowIndex = 0;
+            windowCount = 0;
+            failureCount = 0;
+        }
+
+        transitionDeque.addLast(new CircuitBreakerTransitionData(from, to, LocalDateTime.now(clock)));
+        if (transitionDeque.size() > MAX_TRANSITIONS) {
+            transitionDeque.removeFirst();
+        }
+        meterRegistry.counter("external.circuit_breaker.transitions", "from", from, "to", to).increment();
+        logger.warn("外部API呼び出しのサーキットブレーカーが{}から{}になりました。", from, to);
+    }
+
+    /**
+     * 状態を取得する。
+     * 
+     * @return 状態
+     */
+    public synchronized String getState() {
+        return state;
+    }
+
+    /**
+     * 直近の呼び出しの失敗率（%）を取得する。
+     * 
+     * @return 失敗率（%） / 呼び出しがない場合: 0
+     */
+    public synchronized int getFailureRate() {
+        return windowCount == 0 ? 0 : failureCount * 100 / windowCount;
+    }
+
+    /**
+     * 失敗率の計算に使っている呼び出し件数を取得する。
+     * 
+     * @return 呼び出し件数
+     */
+    public synchronized int getBufferedCalls() {
+        return windowCount;
+    }
+
+    /**
+     * 状態遷移の履歴を古い順に取得する。
+     * 
+     * @return 状態遷移の履歴
+     */
+    public synchronized List<CircuitBreakerTransitionData> getTransitionList() {
+        return List.copyOf(transitionDeque);
+    }
+
+}
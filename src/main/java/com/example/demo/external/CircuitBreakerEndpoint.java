@@ -0,0 +1,48 @@
+package com.example.demo.external;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: /actuator/circuitbreaker で状態と直近の状態遷移を確認できるようにする
+
+/**
+ * 外部API呼び出しのサーキットブレーカーとバルクヘッドの状態を出力するエンドポイント。
+ */
+@Endpoint(id = "circuitbreaker")
+@RequiredArgsConstructor
+@Component
+public class CircuitBreakerEndpoint {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** 外部API呼び出しのサーキットブレーカー。 */
+    private final CircuitBreaker circuitBreaker;
+
+    /** 外部API呼び出しのバルクヘッド。 */
+    private final Bulkhead bulkhead;
+
+    /**
+     * サーキットブレーカーとバルクヘッドの状態を取得する。
+     * 
+     * @return 状態
+     */
+    @ReadOperation
+    public Map<String, Object> circuitBreaker() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("state", circuitBreaker.getState());
+        result.put("failureRate", circuitBreaker.getFailureRate());
+        result.put("bufferedCalls", circuitBreaker.getBufferedCalls());
+        result.put("bulkheadAvailable", bulkhead.availablePermits());
+        result.put("transitions", circuitBreaker.getTransitionList());
+        return result;
+    }
+
+}
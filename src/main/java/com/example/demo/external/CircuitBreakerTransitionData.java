@@ -0,0 +1,25 @@
+package com.example.demo.external;
+
+import java.time.LocalDateTime;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * サーキットブレーカーの状態遷移のデータ。
+ */
+@Value
+public class CircuitBreakerTransitionData {
+
+    /** 遷移前の状態。 */
+    private String from;
+
+    /** 遷移後の状態。 */
+    private String to;
+
+    /** 遷移日時。 */
+    private LocalDateTime transitionedAt;
+
+}
@@ -0,0 +1,21 @@
+package com.example.demo.external;
+
+import java.io.IOException;
+
+// NOTE: RestTemplateがResourceAccessExceptionに変換するため、呼び出し元では通信エラーとして扱われる
+
+/**
+ * 外部APIを呼び出さずに失敗させた場合の例外。
+ */
+public class ExternalApiRejectedException extends IOException {
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param message メッセージ
+     */
+    public ExternalApiRejectedException(String message) {
+        super(message);
+    }
+
+}
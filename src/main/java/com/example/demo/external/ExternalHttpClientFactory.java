@@ -0,0 +1,124 @@
+package com.example.demo.external;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import jakarta.annotation.PreDestroy;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.ClientHttpRequestInterceptor;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: JDKのHttpClientは接続を使い回し（Keep-Alive）、HTTP/2に対応したサーバーとは1つの接続で多重化する
+// NOTE: 接続と読み込みにタイムアウトを設定し、外部APIが遅い場合にスレッドが待ち続けないようにする
+// NOTE: ExecutorをBeanとして登録するとSpring Bootの既定のExecutorが作成されなくなるため、ここで作成する
+
+/**
+ * 外部API呼び出し用のHTTPクライアントの作成処理。
+ */
+@Component
+public class ExternalHttpClientFactory {
+
+    /** HttpClientが応答の処理に使うスレッドプール。 */
+    private final ThreadPoolExecutor executor;
+
+    /** HttpClient。 */
+    private final HttpClient httpClient;
+
+    /** 読み込みのタイムアウト。 */
+    private final Duration readTimeout;
+
+    /** 通信中の件数。 */
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param meterRegistry メトリクスのレジストリ
+     * @param version HTTPのバージョン（HTTP_1_1、HTTP_2）
+     * @param connectTimeoutMillis 接続のタイムアウト（ミリ秒）
+     * @param readTimeoutMillis 読み込みのタイムアウト（ミリ秒）
+     * @param poolSize 応答の処理に使うスレッド数
+     */
+    public ExternalHttpClientFactory(
+            MeterRegistry meterRegistry,
+            @Value("${external.http.version}") HttpClient.Version version,
+            @Value("${external.http.connectTimeout}") long connectTimeoutMillis,
+            @Value("${external.http.readTimeout}") long readTimeoutMillis,
+            @Value("${external.http.poolSize}") int poolSize) {
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new LinkedBlockingQueue<>(),
+                new CustomizableThreadFactory("external-http-"));
+        this.httpClient = HttpClient.newBuilder()
+                .version(version)
+                .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+                .executor(executor)
+                .build();
+        this.readTimeout = Duration.ofMillis(readTimeoutMillis);
+        Gauge.builder("external.http.in_flight", inFlight, AtomicInteger::get)
+                .description("外部APIと通信中の件数")
+                .register(meterRegistry);
+        Gauge.builder("external.http.executor.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("外部APIの応答を処理中のスレッド数")
+                .register(meterRegistry);
+        Gauge.builder("external.http.executor.queued", executor, e -> e.getQueue().size())
+                .description("外部APIの応答の処理待ちの件数")
+                .register(meterRegistry);
+    }
+
+    // NOTE: 読み込みのタイムアウトはリクエストごとに設定される
+
+    /**
+     * RestTemplateに設定するリクエストファクトリーを作成する。
+     * 
+     * @return リクエストファクトリー
+     */
+    public ClientHttpRequestFactory createRequestFactory() {
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(readTimeout);
+        return requestFactory;
+    }
+
+    /**
+     * 通信中の件数を数えるインターセプターを作成する。
+     * 
+     * @return インターセプター
+     */
+    public ClientHttpRequestInterceptor createInFlightInterceptor() {
+        return (request, body, execution) -> {
+            inFlight.incrementAndGet();
+            try {
+                return execution.execute(request, body);
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        };
+    }
+
+    /**
+     * HttpClientとスレッドプールを停止する。
+     */
+    @PreDestroy
+    public void shutdown() {
+        httpClient.close();
+        executor.shutdown();
+    }
+
+}
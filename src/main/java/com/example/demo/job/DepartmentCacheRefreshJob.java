@@ -0,0 +1,45 @@
+package com.example.demo.job;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.logic.DepartmentCacheLogic;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 起動直後にも実行されるため、起動時の部署キャッシュの読み込みもここで行われる
+
+/**
+ * 部署キャッシュの再読み込みジョブ。
+ */
+@RequiredArgsConstructor
+@Component
+public class DepartmentCacheRefreshJob {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: 例外はDBの一時的なエラーを想定し、それまでのキャッシュを使い続けて次回の実行で再度読み込む
+
+    /**
+     * 部署キャッシュをDBから読み込み直す。
+     */
+    @Scheduled(fixedDelayString = "${department.cache.refreshInterval}")
+    public void refresh() {
+        try {
+            departmentCacheLogic.refresh();
+        } catch (RuntimeException ex) {
+            logger.warn("部署キャッシュの読み込みに失敗しました。次回の実行で再度読み込みます。", ex);
+        }
+    }
+
+}
@@ -0,0 +1,83 @@
+package com.example.demo.job;
+
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 外部APIの復旧を待つため、送信に失敗した場合は次回の実行まで待つ
+
+/**
+ * 操作ログ再送ジョブ。退避ファイルに残っている操作ログを古い順に外部APIへ送信する。
+ */
+@Component
+public class OperationLogReplayJob {
+
+    /** 操作ログの退避ファイル。 */
+    private final OperationLogSpool spool;
+
+    /** 操作ログ送信処理。 */
+    private final OperationLogShipper shipper;
+
+    /** 1回で送信する最大件数。 */
+    private final int batchSize;
+
+    /** 再送件数。 */
+    private final Counter replayedCounter;
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param spool 操作ログの退避ファイル
+     * @param shipper 操作ログ送信処理
+     * @param meterRegistry メトリクスのレジストリ
+     * @param batchSize 1回で送信する最大件数
+     */
+    public OperationLogReplayJob(
+            OperationLogSpool spool,
+            OperationLogShipper shipper,
+            MeterRegistry meterRegistry,
+            @Value("${operationLog.batchSize}") int batchSize) {
+        this.spool = spool;
+        this.shipper = shipper;
+        this.batchSize = batchSize;
+        this.replayedCounter = Counter.builder("operation_log.spool.replayed")
+                .description("退避ファイルから再送した操作ログの件数")
+                .register(meterRegistry);
+    }
+
+    // NOTE: 送信に成功した分だけ退避ファイルから削除するため、途中で落ちても未送信のログは残る
+    // NOTE: 途中まで送信できた場合も、送信できた分だけ削除して残りは次回に送信する
+    // NOTE: 外部APIに拒否された（4xx）ログは処理済みとして削除し、後続のログの再送を止めない
+
+    /**
+     * 退避ファイルに残っている操作ログを送信する。
+     */
+    @Scheduled(fixedDelayString = "${operationLog.replay.interval}")
+    public void replay() {
+        while (spool.hasPending()) {
+            List<Map<String, Object>> bodyList = spool.peek(batchSize);
+            if (bodyList.isEmpty()) {
+                return;
+            }
+
+            int sentCount = shipper.send(bodyList);
+            if (sentCount > 0) {
+                spool.commit(sentCount);
+                replayedCounter.increment(sentCount);
+            }
+            if (sentCount < bodyList.size()) {
+                return;
+            }
+        }
+    }
+
+}
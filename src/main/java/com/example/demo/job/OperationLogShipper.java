@@ -0,0 +1,361 @@
+package com.example.demo.job;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.example.demo.constant.OverflowPolicyConstants;
+import com.example.demo.constant.URLConstants;
+import com.example.demo.external.ExternalApi;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 操作ログは待ち行列に入れて1つのスレッドでまとめて送信し、リクエストの応答時間が外部APIの応答時間に左右されないようにする
+// NOTE: 件数が最大件数に達するか、最初のログを取り出してから待ち時間が過ぎたら送信する
+// NOTE: 送信できなかったログは退避ファイルへ追記し、OperationLogReplayJobが外部APIの復旧後に送信する
+
+/**
+ * 操作ログ送信処理。
+ */
+@Component
+public class OperationLogShipper {
+
+    /** 停止時に送信中のログを待つ最大秒数。 */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
+    /** 待ち行列があふれた場合の扱いの一覧。 */
+    private static final Set<String> OVERFLOW_POLICY_SET = Set.of(
+            OverflowPolicyConstants.DROP_NEWEST,
+            OverflowPolicyConstants.DROP_OLDEST,
+            OverflowPolicyConstants.BLOCK);
+
+    /** 外部API呼び出し処理。 */
+    private final ExternalApi externalApi;
+
+    /** メッセージソース。 */
+    private final MessageSource messageSource;
+
+    /** 操作ログの退避ファイル。 */
+    private final OperationLogSpool spool;
+
+    /** 送信待ちの操作ログの待ち行列。 */
+    private final ArrayBlockingQueue<Map<String, Object>> queue;
+
+    /** 1回で送信する最大件数。 */
+    private final int batchSize;
+
+    /** 最初のログを取り出してから送信するまでの最大ミリ秒数。 */
+    private final long lingerMillis;
+
+    /** 待ち行列があふれた場合の扱い。 */
+    private final String overflowPolicy;
+
+    /** 待ち行列が空くまで待つ最大ミリ秒数。 */
+    private final long offerTimeoutMillis;
+
+    /** 複数件を一括のURLへまとめて送信するかどうか。 */
+    private final boolean bulkEnabled;
+
+    /** 送信するスレッド。 */
+    private final ExecutorService executor = Executors.newSingleThreadExecutor(
+            new CustomizableThreadFactory("operation-log-"));
+
+    /** 破棄件数。 */
+    private final Counter droppedCounter;
+
+    /** 送信失敗件数。 */
+    private final Counter failedCounter;
+
+    /** 送信時間。 */
+    private final Timer sendTimer;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param externalApi 外部API呼び出し処理
+     * @param messageSource メッセージソース
+     * @param spool 操作ログの退避ファイル
+     * @param meterRegistry メトリクスのレジストリ
+     * @param queueCapacity 送信待ちの最大件数
+     * @param batchSize 1回で送信する最大件数
+     * @param lingerMillis 最初のログを取り出してから送信するまでの最大ミリ秒数
+     * @param overflowPolicy 待ち行列があふれた場合の扱い
+     * @param offerTimeoutMillis 待ち行列が空くまで待つ最大ミリ秒数
+     * @param bulkEnabled 複数件を一括のURLへまとめて送信するかどうか
+     */
+    public OperationLogShipper(
+            ExternalApi externalApi,
+            MessageSource messageSource,
+            OperationLogSpool spool,
+            MeterRegistry meterRegistry,
+            @Value("${operationLog.queueCapacity}") int queueCapacity,
+            @Value("${operationLog.batchSize}") int batchSize,
+            @Value("${operationLog.lingerMillis}") long lingerMillis,
+            @Value("${operationLog.overflowPolicy}") String overflowPolicy,
+            @Value("${operationLog.offerTimeoutMillis}") long offerTimeoutMillis,
+            @Value("${operationLog.bulk.enabled}") boolean bulkEnabled) {
+        if (!OVERFLOW_POLICY_SET.contains(overflowPolicy)) {
+            throw new IllegalArgumentException("operationLog.overflowPolicy: " + overflowPolicy);
+        }
+
+        this.externalApi = externalApi;
+        this.messageSource = messageSource;
+        this.spool = spool;
+        this.queue = new ArrayBlockingQueue<>(queueCapacity);
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+        this.overflowPolicy = overflowPolicy;
+        this.offerTimeoutMillis = offerTimeoutMillis;
+        this.bulkEnabled = bulkEnabled;
+        Gauge.builder("operation_log.queue.size", queue, ArrayBlockingQueue::size)
+                .description("送信待ちの操作ログの件数")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("operation_log.dropped")
+                .description("待ち行列があふれたため破棄した操作ログの件数")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("operation_log.failed")
+                .description("送信に失敗した操作ログの件数")
+                .register(meterRegistry);
+        this.sendTimer = Timer.builder("operation_log.send")
+                .description("操作ログの送信時間")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 送信するスレッドを開始する。
+     */
+    @PostConstruct
+    public void start() {
+        executor.execute(this::run);
+    }
+
+    /**
+     * 操作ログを送信待ちにする。例外はthrowsされないようにしている。
+     * 
+     * @param body 操作ログ
+     * @return 送信待ちにした場合: true / 待ち行列があふれて破棄した場合: false
+     */
+    public boolean enqueue(Map<String, Object> body) {
+        if (offer(body)) {
+            return true;
+        }
+
+        droppedCounter.increment();
+        String message = messageSource.getMessage("W04", null, Locale.JAPAN);
+        logger.warn(message);
+        return false;
+    }
+
+    /**
+     * 待ち行列があふれた場合の扱いに従って、操作ログを待ち行列に追加する。
+     * 
+     * @param body 操作ログ
+     * @return 追加した場合: true / 追加しなかった場合: false
+     */
+    private boolean offer(Map<String, Object> body) {
+        if (queue.offer(body)) {
+            return true;
+        }
+
+        if (OverflowPolicyConstants.DROP_OLDEST.equals(overflowPolicy)) {
+            // NOTE: 破棄した古いログは破棄件数に数え、新しいログは必ず追加する
+            while (!queue.offer(body)) {
+                if (queue.poll() != null) {
+                    droppedCounter.increment();
+                }
+            }
+            return true;
+        }
+
+        if (OverflowPolicyConstants.BLOCK.equals(overflowPolicy)) {
+            try {
+                return queue.offer(body, offerTimeoutMillis, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException ex) {
+                Thread.currentThread().interrupt();
+                return false;
+            }
+        }
+
+        return false;
+    }
+
+    // NOTE: 停止時に割り込まれたら、まとめていたログを送信して終了する。残りのログはshutdownで送信する
+
+    /**
+     * 待ち行列から操作ログを取り出して送信し続ける。
+     */
+    private void run() {
+        List<Map<String, Object>> bodyList = new ArrayList<>(batchSize);
+        try {
+            while (!Thread.currentThread().isInterrupted()) {
+                bodyList.add(queue.take());
+
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+                while (bodyList.size() < batchSize) {
+                    queue.drainTo(bodyList, batchSize - bodyList.size());
+                    long remaining = deadline - System.nanoTime();
+                    if (bodyList.size() >= batchSize || remaining <= 0) {
+                        break;
+                    }
+
+                    Map<String, Object> body = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (body == null) {
+                        break;
+                    }
+                    bodyList.add(body);
+                }
+
+                deliver(bodyList);
+                bodyList.clear();
+            }
+        } catch (InterruptedException ex) {
+            if (!bodyList.isEmpty()) {
+                deliver(bodyList);
+            }
+        }
+    }
+
+    // NOTE: 退避済みのログがある場合は、送信の順番を守るため送信せずに退避ファイルへ追記する
+    // NOTE: 途中まで処理できた場合は、二重に送信しないように残りだけを追記する
+
+    /**
+     * 操作ログを送信し、送信できなかった場合は退避ファイルへ追記する。
+     * 
+     * @param bodyList 操作ログのリスト
+     */
+    private void deliver(List<Map<String, Object>> bodyList) {
+        int sentCount = spool.hasPending() ? 0 : send(bodyList);
+        if (sentCount < bodyList.size()) {
+            spool.append(bodyList.subList(sentCount, bodyList.size()));
+        }
+    }
+
+    // NOTE: 一括のURLは外部APIが対応している場合だけ使うため、既定では従来のURLへ1件ずつ送信する
+    // NOTE: 1件ずつ送信する場合も、待ち行列からまとめて取り出すため送信のスレッドは1つで済む
+    // NOTE: 一括の場合も1件の場合は従来のURLへ送信する
+    // NOTE: 4xxは送信し直しても同じ結果になるため、そのログは破棄して処理済みとし、後続のログを止めない
+    // NOTE: 5xx、通信エラー、サーキットブレーカーによる拒否だけを失敗とし、退避ファイルから送信し直す
+
+    /**
+     * 操作ログを古い順に送信する。例外はthrowsされないようにしている。
+     * 
+     * @param bodyList 操作ログのリスト
+     * @return 処理済みの件数（送信した件数と外部APIに拒否されて破棄した件数の合計）。失敗した場合は、それより後のログは送信しない
+     */
+    int send(List<Map<String, Object>> bodyList) {
+        long start = System.nanoTime();
+        int consumedCount = 0;
+        try {
+            if (bulkEnabled && bodyList.size() > 1 && postBulk(bodyList)) {
+                consumedCount = bodyList.size();
+            } else {
+                for (Map<String, Object> body : bodyList) {
+                    post(body);
+                    consumedCount++;
+                }
+            }
+
+            String message = messageSource.getMessage("I01", null, Locale.JAPAN);
+            logger.info(message);
+            return consumedCount;
+        } catch (HttpServerErrorException ex) {
+            String message = messageSource.getMessage("W02", null, Locale.JAPAN);
+            logger.warn(message, ex);
+        } catch (ResourceAccessException ex) {
+            String message = messageSource.getMessage("W03", null, Locale.JAPAN);
+            logger.warn(message, ex);
+        } catch (RuntimeException ex) {
+            String message = messageSource.getMessage("W99", null, Locale.JAPAN);
+            logger.warn(message, ex);
+        } finally {
+            sendTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+
+        failedCounter.increment(bodyList.size() - consumedCount);
+        return consumedCount;
+    }
+
+    // NOTE: 一括で拒否された場合は、どのログが拒否されたか分からないため、1件ずつ送信し直して拒否されたログだけを破棄する
+
+    /**
+     * 操作ログを一括のURLへまとめて送信する。
+     * 
+     * @param bodyList 操作ログのリスト
+     * @return 送信した場合: true / 4xxで拒否された場合: false
+     */
+    private boolean postBulk(List<Map<String, Object>> bodyList) {
+        try {
+            externalApi.post(URLConstants.LOGGING_BULK_URL, Map.of("list", List.copyOf(bodyList)));
+            return true;
+        } catch (HttpClientErrorException ex) {
+            String message = messageSource.getMessage("W01", null, Locale.JAPAN);
+            logger.warn(message, ex);
+            return false;
+        }
+    }
+
+    /**
+     * 操作ログを1件送信する。4xxで拒否された場合は破棄する。
+     * 
+     * @param body 操作ログ
+     */
+    private void post(Map<String, Object> body) {
+        try {
+            externalApi.post(URLConstants.LOGGING_URL, body);
+        } catch (HttpClientErrorException ex) {
+            failedCounter.increment();
+            String message = messageSource.getMessage("W01", null, Locale.JAPAN);
+            logger.warn(message, ex);
+        }
+    }
+
+    // NOTE: 送信するスレッドを止めた後、待ち行列に残ったログをこのスレッドで送信する
+
+    /**
+     * 送信するスレッドを停止し、残りの操作ログを送信する。
+     * 
+     * @throws InterruptedException 停止を待つ間に割り込まれた場合
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("操作ログの送信の停止を待ちきれませんでした。");
+        }
+
+        List<Map<String, Object>> bodyList = new ArrayList<>(batchSize);
+        while (queue.drainTo(bodyList, batchSize) > 0) {
+            deliver(bodyList);
+            bodyList.clear();
+        }
+    }
+
+}
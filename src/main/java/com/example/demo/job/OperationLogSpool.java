@@ -0,0 +1,426 @@
+package com.example.demo.job;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 送信できなかった操作ログをメモリマップしたファイルへ追記し、外部APIの復旧後にOperationLogReplayJobが順番に送信する
+// NOTE: ファイルは固定サイズのリングバッファとし、ディスク使用量が設定値を超えないようにする
+// NOTE: 追記ごとにディスクへの書き出し（force）は行わない。プロセスが落ちてもOSのページキャッシュから書き出される
+
+/**
+ * 操作ログの退避ファイル。
+ * 
+ * <pre>
+ * ヘッダー：読み込み位置を2つの枠へ交互に書き込み、書き込み途中で落ちても片方が残るようにする
+ *   [読み込み位置(long)][次に読み込む連番(long)][CRC(int)] × 2
+ * レコード：連番が続いている間を未送信とみなし、前の周回のレコードと区別する
+ *   [長さ(int)][連番(long)][CRC(int)][JSON]
+ * 折り返し：末尾に収まらない場合は先頭へ戻る
+ *   [-1(int)][次のレコードの連番(long)]
+ * </pre>
+ */
+@Component
+public class OperationLogSpool {
+
+    /** ファイル名。 */
+    private static final String FILE_NAME = "operation-log.spool";
+
+    /** ヘッダーの枠の大きさ。 */
+    private static final int SLOT_SIZE = 32;
+
+    /** レコードの開始位置。 */
+    private static final int DATA_START = SLOT_SIZE * 2;
+
+    /** レコードの長さ、連番、CRCの大きさ。 */
+    private static final int RECORD_HEADER_SIZE = Integer.BYTES + Long.BYTES + Integer.BYTES;
+
+    /** 折り返しの長さ。 */
+    private static final int WRAP = -1;
+
+    /** 操作ログの型。 */
+    private static final TypeReference<Map<String, Object>> BODY_TYPE = new TypeReference<>() {
+    };
+
+    /** ObjectMapper。 */
+    private final ObjectMapper objectMapper;
+
+    /** ファイルチャネル。 */
+    private final FileChannel channel;
+
+    /** メモリマップしたファイル。 */
+    private final MappedByteBuffer buffer;
+
+    /** ファイルの大きさ。 */
+    private final int capacity;
+
+    /** 読み込み位置。 */
+    private int readOffset;
+
+    /** 次に読み込む連番。 */
+    private long readSeq;
+
+    /** 書き込み位置。 */
+    private int writeOffset;
+
+    /** 次に書き込む連番。 */
+    private long writeSeq;
+
+    /** 次にヘッダーを書き込む枠。 */
+    private int nextSlot;
+
+    /** 未送信件数。 */
+    private long pending;
+
+    /** 破棄件数。 */
+    private final Counter droppedCounter;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+    // NOTE: 既存のファイルがある場合は、その大きさのまま使う
+
+    /**
+     * コンストラクタ。ファイルを開き、未送信のレコードを読み込む。
+     * 
+     * @param objectMapper ObjectMapper
+     * @param meterRegistry メトリクスのレジストリ
+     * @param dir 退避ファイルを置くディレクトリ
+     * @param capacity 退避ファイルの大きさ（バイト）
+     */
+    public OperationLogSpool(
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${operationLog.spool.dir}") String dir,
+            @Value("${operationLog.spool.capacity}") int capacity) {
+        if (capacity <= DATA_START + RECORD_HEADER_SIZE) {
+            throw new IllegalArgumentException("operationLog.spool.capacity: " + capacity);
+        }
+
+        this.objectMapper = objectMapper;
+        try {
+            Path file = Files.createDirectories(Path.of(dir)).resolve(FILE_NAME);
+            this.channel = FileChannel.open(file,
+                    StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            this.capacity = channel.size() > DATA_START ? (int) channel.size() : capacity;
+            this.buffer = channel.map(FileChannel.MapMode.READ_WRITE, 0, this.capacity);
+        } catch (IOException ex) {
+            throw new UncheckedIOException(ex);
+        }
+
+        recover();
+
+        Gauge.builder("operation_log.spool.pending", this, OperationLogSpool::pending)
+                .description("退避ファイルに残っている未送信の操作ログの件数")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("operation_log.spool.dropped")
+                .description("退避ファイルがあふれたため破棄した操作ログの件数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * ヘッダーから読み込み位置を取得し、連番が続いているレコードを数えて書き込み位置を求める。
+     */
+    private void recover() {
+        readOffset = DATA_START;
+        readSeq = 0;
+        nextSlot = 0;
+        for (int slot = 0; slot < 2; slot++) {
+            int position = slot * SLOT_SIZE;
+            long offset = buffer.getLong(position);
+            long seq = buffer.getLong(position + Long.BYTES);
+            int crc = buffer.getInt(position + Long.BYTES * 2);
+            if (crc == slotCrc(offset, seq) && offset >= DATA_START && offset < capacity && seq >= readSeq) {
+                readOffset = (int) offset;
+                readSeq = seq;
+                nextSlot = 1 - slot;
+            }
+        }
+
+        writeOffset = readOffset;
+        writeSeq = readSeq;
+        pending = 0;
+        int offset;
+        while ((offset = next(writeOffset, writeSeq)) >= 0) {
+            writeOffset = offset;
+            writeSeq++;
+            pending++;
+        }
+
+        if (pending > 0) {
+            logger.info("未送信の操作ログが{}件退避されています。", pending);
+        }
+    }
+
+    /**
+     * 操作ログを追記する。例外はthrowsされないようにしている。
+     * 
+     * @param bodyList 操作ログのリスト
+     * @return 追記した件数
+     */
+    public synchronized int append(List<Map<String, Object>> bodyList) {
+        int appendedCount = 0;
+        for (Map<String, Object> body : bodyList) {
+            if (append(body)) {
+                appendedCount++;
+            } else {
+                droppedCounter.increment();
+            }
+        }
+
+        if (appendedCount < bodyList.size()) {
+            logger.warn("退避ファイルがあふれたため、操作ログを{}件破棄しました。", bodyList.size() - appendedCount);
+        }
+        return appendedCount;
+    }
+
+    /**
+     * 操作ログを1件追記する。
+     * 
+     * @param body 操作ログ
+     * @return 追記した場合: true / 退避ファイルがあふれた場合: false
+     */
+    private boolean append(Map<String, Object> body) {
+        byte[] json;
+        try {
+            json = objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException ex) {
+            logger.warn("操作ログを退避できませんでした。", ex);
+            return false;
+        }
+
+        // NOTE: 読み込み位置に追いつく場合はあふれとする。書き込み位置と読み込み位置が同じになるのは空の場合だけにする
+        int size = RECORD_HEADER_SIZE + json.length;
+        int offset = writeOffset;
+        boolean wrap = false;
+        if (pending > 0 && writeOffset < readOffset) {
+            if (offset + size >= readOffset) {
+                return false;
+            }
+        } else {
+            if (offset + size > capacity) {
+                wrap = true;
+                offset = DATA_START;
+            }
+            if (offset + size > capacity || (wrap && pending > 0 && offset + size >= readOffset)) {
+                return false;
+            }
+        }
+
+        // NOTE: 書き込みの途中で落ちた場合に読み込まれないように、長さを最後に書き込み、折り返しはレコードの後に書き込む
+        buffer.putInt(offset + Integer.BYTES + Long.BYTES, crc(writeSeq, json));
+        buffer.put(offset + RECORD_HEADER_SIZE, json);
+        buffer.putLong(offset + Integer.BYTES, writeSeq);
+        buffer.putInt(offset, json.length);
+        if (wrap && writeOffset + Integer.BYTES + Long.BYTES <= capacity) {
+            buffer.putLong(writeOffset + Integer.BYTES, writeSeq);
+            buffer.putInt(writeOffset, WRAP);
+        }
+
+        writeOffset = offset + size;
+        writeSeq++;
+        pending++;
+        return true;
+    }
+
+    /**
+     * 未送信の操作ログを古い順に取得する。取得したログは、commitするまで退避ファイルに残る。
+     * 
+     * @param maxCount 最大件数
+     * @return 操作ログのリスト
+     */
+    public synchronized List<Map<String, Object>> peek(int maxCount) {
+        List<Map<String, Object>> bodyList = new ArrayList<>();
+        int offset = readOffset;
+        long seq = readSeq;
+        while (bodyList.size() < maxCount && seq < writeSeq) {
+            offset = start(offset, seq);
+            int length = buffer.getInt(offset);
+            byte[] json = new byte[length];
+            buffer.get(offset + RECORD_HEADER_SIZE, json);
+            try {
+                bodyList.add(objectMapper.readValue(json, BODY_TYPE));
+            } catch (IOException ex) {
+                // NOTE: CRCを確認済みのため通常は起きないが、読み込めないレコードは先頭になった時点で読み飛ばす
+                logger.warn("退避した操作ログを読み込めませんでした。", ex);
+                if (!bodyList.isEmpty()) {
+                    break;
+                }
+                commit(1);
+                offset = readOffset;
+                seq = readSeq;
+                continue;
+            }
+            offset += RECORD_HEADER_SIZE + length;
+            seq++;
+        }
+        return bodyList;
+    }
+
+    /**
+     * 送信済みの操作ログを退避ファイルから削除し、読み込み位置をディスクへ書き出す。
+     * 
+     * @param count 送信済みの件数
+     */
+    public synchronized void commit(int count) {
+        int offset = readOffset;
+        long seq = readSeq;
+        for (int i = 0; i < count && seq < writeSeq; i++) {
+            offset = start(offset, seq);
+            offset += RECORD_HEADER_SIZE + buffer.getInt(offset);
+            seq++;
+        }
+
+        int position = nextSlot * SLOT_SIZE;
+        buffer.putLong(position, offset);
+        buffer.putLong(position + Long.BYTES, seq);
+        buffer.putInt(position + Long.BYTES * 2, slotCrc(offset, seq));
+        buffer.force(position, SLOT_SIZE);
+
+        nextSlot = 1 - nextSlot;
+        pending -= seq - readSeq;
+        readOffset = offset;
+        readSeq = seq;
+    }
+
+    /**
+     * 未送信の操作ログがあるか判定する。
+     * 
+     * @return ある場合: true / ない場合: false
+     */
+    public synchronized boolean hasPending() {
+        return pending > 0;
+    }
+
+    /**
+     * 未送信件数を取得する。
+     * 
+     * @return 未送信件数
+     */
+    public synchronized long pending() {
+        return pending;
+    }
+
+    /**
+     * 指定の位置のレコードを確認し、次のレコードの位置を取得する。
+     * 
+     * @param offset 位置
+     * @param seq 連番
+     * @return 次のレコードの位置 / 指定の連番のレコードがない場合: -1
+     */
+    private int next(int offset, long seq) {
+        int start = start(offset, seq);
+        if (start < 0 || start + RECORD_HEADER_SIZE > capacity) {
+            return -1;
+        }
+
+        int length = buffer.getInt(start);
+        if (length <= 0 || start + RECORD_HEADER_SIZE + length > capacity
+                || buffer.getLong(start + Integer.BYTES) != seq) {
+            return -1;
+        }
+
+        byte[] json = new byte[length];
+        buffer.get(start + RECORD_HEADER_SIZE, json);
+        if (buffer.getInt(start + Integer.BYTES + Long.BYTES) != crc(seq, json)) {
+            return -1;
+        }
+        return start + RECORD_HEADER_SIZE + length;
+    }
+
+    /**
+     * 折り返しを考慮して、指定の連番のレコードの開始位置を取得する。
+     * 
+     * @param offset 位置
+     * @param seq 連番
+     * @return レコードの開始位置 / 折り返しが不正な場合: -1
+     */
+    private int start(int offset, long seq) {
+        if (offset + Integer.BYTES + Long.BYTES > capacity) {
+            return DATA_START;
+        }
+        if (buffer.getInt(offset) != WRAP) {
+            return offset;
+        }
+        return buffer.getLong(offset + Integer.BYTES) == seq ? DATA_START : -1;
+    }
+
+    /**
+     * レコードのCRCを計算する。
+     * 
+     * @param seq 連番
+     * @param json JSON
+     * @return CRC
+     */
+    private int crc(long seq, byte[] json) {
+        CRC32C crc = new CRC32C();
+        crc.update(longToBytes(seq));
+        crc.update(json);
+        return (int) crc.getValue();
+    }
+
+    /**
+     * ヘッダーのCRCを計算する。
+     * 
+     * @param offset 読み込み位置
+     * @param seq 次に読み込む連番
+     * @return CRC
+     */
+    private int slotCrc(long offset, long seq) {
+        CRC32C crc = new CRC32C();
+        crc.update(longToBytes(offset));
+        crc.update(longToBytes(seq));
+        return (int) crc.getValue();
+    }
+
+    /**
+     * longをバイト配列に変換する。
+     * 
+     * @param value 値
+     * @return バイト配列
+     */
+    private byte[] longToBytes(long value) {
+        byte[] bytes = new byte[Long.BYTES];
+        for (int i = 0; i < Long.BYTES; i++) {
+            bytes[i] = (byte) (value >>> (Long.BYTES - 1 - i) * 8);
+        }
+        return bytes;
+    }
+
+    /**
+     * ディスクへ書き出してファイルを閉じる。
+     * 
+     * @throws IOException ファイルを閉じられなかった場合
+     */
+    @PreDestroy
+    public synchronized void close() throws IOException {
+        buffer.force();
+        channel.close();
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.example.demo.job;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.UserBulkJobMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 起動直後にも実行されるため、前回の停止で中断したジョブもここで再開される
+
+/**
+ * ユーザ一括処理ジョブの再開ジョブ。実行待ちのジョブと、実行が途絶えたジョブを定期的にワーカーへ渡す。
+ */
+@RequiredArgsConstructor
+@Component
+public class UserBulkJobResumeJob {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ一括処理ジョブエンティティマッパー。 */
+    private final UserBulkJobMapper userBulkJobMapper;
+
+    /** ユーザ一括処理ジョブのワーカー。 */
+    private final UserBulkJobWorker userBulkJobWorker;
+
+    /** 実行中のジョブを途絶えたとみなす経過秒数。 */
+    @Value("${user.bulkJob.staleSeconds}")
+    private final int staleSeconds;
+
+    /** 1回で再開する最大件数。 */
+    @Value("${user.bulkJob.queueCapacity}")
+    private final int limit;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: 例外はDBの一時的なエラーを想定し、次回の実行で再度再開する
+
+    /**
+     * 実行待ちのジョブと、実行が途絶えたジョブをワーカーへ渡す。
+     */
+    @Scheduled(fixedDelayString = "${user.bulkJob.resumeInterval}")
+    public void resume() {
+        try {
+            List<Long> idList = userBulkJobMapper.findResumableIdList(staleSeconds, limit);
+            for (Long id : idList) {
+                if (!userBulkJobWorker.submit(id)) {
+                    break;
+                }
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("ユーザ一括処理ジョブの再開に失敗しました。次回の実行で再度再開します。", ex);
+        }
+    }
+
+}
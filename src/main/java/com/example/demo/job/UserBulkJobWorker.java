@@ -0,0 +1,149 @@
+package com.example.demo.job;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+import jakarta.annotation.PreDestroy;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.service.UserBulkJobRunService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: ExecutorをBeanとして登録するとSpring Bootの既定のExecutorが作成されなくなるため、ここで作成する
+// NOTE: スレッド数と待ち行列の長さを固定し、ジョブが多くてもリクエストのスレッドやDB接続を使い切らないようにする
+
+/**
+ * ユーザ一括処理ジョブのワーカー。
+ */
+@Component
+public class UserBulkJobWorker {
+
+    /** 停止時にジョブの中断を待つ最大秒数。 */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 30;
+
+    /** ユーザ一括処理ジョブ実行サービス。 */
+    private final UserBulkJobRunService service;
+
+    /** ジョブを実行するスレッドプール。 */
+    private final ThreadPoolExecutor executor;
+
+    /** このインスタンスで実行待ち、実行中のジョブIDのセット。 */
+    private final Set<Long> inFlightIdSet = ConcurrentHashMap.newKeySet();
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param service ユーザ一括処理ジョブ実行サービス
+     * @param meterRegistry メトリクスのレジストリ
+     * @param poolSize スレッド数
+     * @param queueCapacity 実行待ちの最大件数
+     */
+    public UserBulkJobWorker(
+            UserBulkJobRunService service,
+            MeterRegistry meterRegistry,
+            @Value("${user.bulkJob.poolSize}") int poolSize,
+            @Value("${user.bulkJob.queueCapacity}") int queueCapacity) {
+        this.service = service;
+        this.executor = new ThreadPoolExecutor(
+                poolSize,
+                poolSize,
+                0L,
+                TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                new CustomizableThreadFactory("user-bulk-job-"),
+                new ThreadPoolExecutor.AbortPolicy());
+        Gauge.builder("user_bulk_job.worker.active", executor, ThreadPoolExecutor::getActiveCount)
+                .description("実行中のユーザ一括処理ジョブの件数")
+                .register(meterRegistry);
+        Gauge.builder("user_bulk_job.worker.queued", executor, e -> e.getQueue().size())
+                .description("実行待ちのユーザ一括処理ジョブの件数")
+                .register(meterRegistry);
+    }
+
+    // NOTE: 待ち行列があふれた場合はジョブを実行待ちのままにし、UserBulkJobResumeJobで後から実行する
+
+    /**
+     * ジョブをスレッドプールで実行する。
+     * 
+     * @param id ジョブID
+     * @return 受け付けた場合、または既に受け付けている場合: true / 待ち行列があふれた場合: false
+     */
+    public boolean submit(long id) {
+        if (!inFlightIdSet.add(id)) {
+            return true;
+        }
+
+        try {
+            executor.execute(() -> {
+                try {
+                    service.run(id);
+                } catch (RuntimeException ex) {
+                    logger.warn("ジョブ{}の実行に失敗しました。", id, ex);
+                } finally {
+                    inFlightIdSet.remove(id);
+                }
+            });
+            return true;
+        } catch (RejectedExecutionException ex) {
+            inFlightIdSet.remove(id);
+            logger.info("ジョブ{}は待ち行列があふれたため、後から実行します。", id);
+            return false;
+        }
+    }
+
+    // NOTE: ジョブの登録がコミットされる前にワーカーが読み込むと見つからないため、コミット後に実行する
+
+    /**
+     * トランザクションのコミット後にジョブをスレッドプールで実行する。トランザクション外の場合はすぐに実行する。
+     * 
+     * @param id ジョブID
+     */
+    public void submitAfterCommit(long id) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            submit(id);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                submit(id);
+            }
+        });
+    }
+
+    // NOTE: 実行中のジョブには割り込みを行い、チャンクの区切りで実行待ちに戻させる
+
+    /**
+     * スレッドプールを停止する。
+     * 
+     * @throws InterruptedException 停止を待つ間に割り込まれた場合
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException {
+        executor.shutdownNow();
+        if (!executor.awaitTermination(SHUTDOWN_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+            logger.warn("ユーザ一括処理ジョブの停止を待ちきれませんでした。生存確認が途絶えた後に再開します。");
+        }
+    }
+
+}
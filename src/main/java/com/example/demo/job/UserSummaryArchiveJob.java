@@ -0,0 +1,109 @@
+package com.example.demo.job;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.logic.UserSummaryArchiveLogic;
+import com.example.demo.service.UserSummaryArchiveService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 更新日が基準日より前のユーザ概要を、チャンクごとのトランザクションでアーカイブへ移動する
+// NOTE: ユーザの書き込みや検索への影響を抑えるため、チャンクの間は待ち、1回の実行で移動するチャンク数にも上限を設ける
+// NOTE: 保存日数が0の場合は何もしない
+
+/**
+ * ユーザ概要アーカイブジョブ。
+ */
+@Component
+public class UserSummaryArchiveJob {
+
+    /** ユーザ概要アーカイブサービス。 */
+    private final UserSummaryArchiveService service;
+
+    /** ユーザ概要アーカイブロジック。 */
+    private final UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    /** 1チャンクの最大件数。 */
+    private final int chunkSize;
+
+    /** チャンクの間に待つミリ秒。 */
+    private final long pauseMillis;
+
+    /** 1回の実行で移動する最大チャンク数。 */
+    private final int maxChunks;
+
+    /** アーカイブへ移動した件数。 */
+    private final Counter archivedCounter;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param service ユーザ概要アーカイブサービス
+     * @param userSummaryArchiveLogic ユーザ概要アーカイブロジック
+     * @param meterRegistry メトリクスのレジストリ
+     * @param chunkSize 1チャンクの最大件数
+     * @param pauseMillis チャンクの間に待つミリ秒
+     * @param maxChunks 1回の実行で移動する最大チャンク数
+     */
+    public UserSummaryArchiveJob(
+            UserSummaryArchiveService service,
+            UserSummaryArchiveLogic userSummaryArchiveLogic,
+            MeterRegistry meterRegistry,
+            @Value("${summary.archive.chunkSize}") int chunkSize,
+            @Value("${summary.archive.pauseMillis}") long pauseMillis,
+            @Value("${summary.archive.maxChunks}") int maxChunks) {
+        this.service = service;
+        this.userSummaryArchiveLogic = userSummaryArchiveLogic;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+        this.maxChunks = maxChunks;
+        this.archivedCounter = Counter.builder("user_summary.archive.archived")
+                .description("ユーザ概要からアーカイブへ移動した件数")
+                .register(meterRegistry);
+    }
+
+    // NOTE: 最大件数まで移動できた場合は残りがあるので、待ってから続けて移動する
+    // NOTE: 例外はDBの一時的なエラーやユーザの書き込みとのデッドロックを想定し、次回の実行で再度移動する
+
+    /**
+     * 更新日が基準日より前のユーザ概要をアーカイブへ移動する。
+     */
+    @Scheduled(fixedDelayString = "${summary.archive.interval}")
+    public void archive() {
+        LocalDate horizon = userSummaryArchiveLogic.horizon();
+        if (horizon == null) {
+            return;
+        }
+
+        try {
+            int archivedCount;
+            int chunks = 0;
+            do {
+                archivedCount = service.archive(horizon, chunkSize);
+                archivedCounter.increment(archivedCount);
+                chunks++;
+                if (archivedCount == chunkSize && chunks < maxChunks) {
+                    Thread.sleep(pauseMillis);
+                }
+            } while (archivedCount == chunkSize && chunks < maxChunks);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        } catch (RuntimeException ex) {
+            logger.warn("ユーザ概要のアーカイブへの移動に失敗しました。次回の実行で再度移動します。", ex);
+        }
+    }
+
+}
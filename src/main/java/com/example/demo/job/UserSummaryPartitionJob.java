@@ -0,0 +1,52 @@
+package com.example.demo.job;
+
+import java.time.LocalDate;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.service.UserSummaryPartitionService;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 起動直後にも実行されるため、起動時に先の月のパーティションがなければ作成される
+// NOTE: ユーザ概要テーブルを分割していない場合は何もしない
+
+/**
+ * ユーザ概要パーティション管理ジョブ。
+ */
+@RequiredArgsConstructor
+@Component
+public class UserSummaryPartitionJob {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ概要パーティション管理サービス。 */
+    private final UserSummaryPartitionService service;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: 例外はメタデータロックの待ち時間切れなどを想定し、次回の実行で再度行う
+    // NOTE: 先の月のパーティションは余裕をもって作成しているため、数回失敗しても問題ない
+
+    /**
+     * パーティションを作成、削除する。
+     */
+    @Scheduled(fixedDelayString = "${summary.partition.interval}")
+    public void maintain() {
+        try {
+            int count = service.maintain(LocalDate.now());
+            if (count > 0) {
+                logger.info("パーティションを{}件作成、削除しました。", count);
+            }
+        } catch (RuntimeException ex) {
+            logger.warn("パーティションの作成、削除に失敗しました。次回の実行で再度行います。", ex);
+        }
+    }
+
+}
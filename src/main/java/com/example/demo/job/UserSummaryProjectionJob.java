@@ -0,0 +1,118 @@
+package com.example.demo.job;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.UserSummaryOutboxMapper;
+import com.example.demo.service.UserSummaryProjectionService;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 同期で反映する設定に戻した後もアウトボックスに残った変更を反映しきるため、設定にかかわらず常に動かす
+
+/**
+ * ユーザ概要反映ジョブ。アウトボックスに登録された変更を定期的にユーザ概要へ反映する。
+ */
+@Component
+public class UserSummaryProjectionJob {
+
+    /** ユーザ概要反映サービス。 */
+    private final UserSummaryProjectionService service;
+
+    /** ユーザ概要アウトボックスエンティティマッパー。 */
+    private final UserSummaryOutboxMapper userSummaryOutboxMapper;
+
+    /** 1回で反映する最大件数。 */
+    private final int batchSize;
+
+    /** 反映件数。 */
+    private final Counter projectedCounter;
+
+    /** 未反映件数。 */
+    private final AtomicLong pending = new AtomicLong();
+
+    /** 最も古い未反映の変更の経過秒数。 */
+    private final AtomicLong lagSeconds = new AtomicLong();
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param service ユーザ概要反映サービス
+     * @param userSummaryOutboxMapper ユーザ概要アウトボックスエンティティマッパー
+     * @param meterRegistry メトリクスのレジストリ
+     * @param batchSize 1回で反映する最大件数
+     */
+    public UserSummaryProjectionJob(
+            UserSummaryProjectionService service,
+            UserSummaryOutboxMapper userSummaryOutboxMapper,
+            MeterRegistry meterRegistry,
+            @Value("${summary.projection.batchSize}") int batchSize) {
+        this.service = service;
+        this.userSummaryOutboxMapper = userSummaryOutboxMapper;
+        this.batchSize = batchSize;
+        this.projectedCounter = Counter.builder("user_summary.projection.projected")
+                .description("ユーザ概要へ反映したアウトボックスの件数")
+                .register(meterRegistry);
+        Gauge.builder("user_summary.outbox.pending", pending, AtomicLong::get)
+                .description("ユーザ概要へ未反映のアウトボックスの件数")
+                .register(meterRegistry);
+        Gauge.builder("user_summary.outbox.lag", lagSeconds, AtomicLong::get)
+                .description("最も古い未反映のアウトボックスの経過秒数")
+                .baseUnit("seconds")
+                .register(meterRegistry);
+    }
+
+    // NOTE: 最大件数まで取得できた場合は残りがあるので続けて反映する
+    // NOTE: 例外はDBの一時的なエラーを想定し、次回の実行で再度反映する
+
+    /**
+     * アウトボックスに登録された変更をユーザ概要へ反映する。
+     */
+    @Scheduled(fixedDelayString = "${summary.projection.interval}")
+    public void project() {
+        try {
+            int projectedCount;
+            do {
+                projectedCount = service.project(batchSize);
+                projectedCounter.increment(projectedCount);
+            } while (projectedCount == batchSize);
+        } catch (RuntimeException ex) {
+            logger.warn("ユーザ概要への反映に失敗しました。次回の実行で再度反映します。", ex);
+        }
+
+        updateLag();
+    }
+
+    /**
+     * 未反映件数と経過秒数を更新する。
+     */
+    private void updateLag() {
+        try {
+            pending.set(userSummaryOutboxMapper.count());
+
+            LocalDateTime oldestCreatedAt = userSummaryOutboxMapper.findOldestCreatedAt();
+            long seconds = oldestCreatedAt == null
+                    ? 0
+                    : Duration.between(oldestCreatedAt, LocalDateTime.now()).toSeconds();
+            lagSeconds.set(Math.max(seconds, 0));
+        } catch (RuntimeException ex) {
+            logger.warn("アウトボックスの未反映件数の取得に失敗しました。", ex);
+        }
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.example.demo.logic;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+
+import com.example.demo.mapper.Department;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+// NOTE: 部署リストと部署IDセットを1つの参照で差し替えるため、読み込み途中の組み合わせが見えることはない
+
+/**
+ * 部署キャッシュのデータ。
+ */
+@Value
+public class DepartmentCacheData {
+
+    /** 部署エンティティリスト。 */
+    private List<Department> departmentList;
+
+    /** 部署IDセット。 */
+    private Set<String> idSet;
+
+    /** 版数。読み込み直して内容が変わるたびに増える。 */
+    private long version;
+
+    /** 読み込み日時。 */
+    private LocalDateTime loadedAt;
+
+}
@@ -0,0 +1,52 @@
+package com.example.demo.logic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: /actuator/departmentcache で件数と読み込み日時を確認し、DELETEで破棄できるようにする
+// NOTE: DBの部署を直接変更した場合に、再読み込みの間隔を待たずに反映するために使う
+
+/**
+ * 部署キャッシュの状態の出力と破棄を行うエンドポイント。
+ */
+@Endpoint(id = "departmentcache")
+@RequiredArgsConstructor
+@Component
+public class DepartmentCacheEndpoint {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
+
+    /**
+     * 部署キャッシュの状態を取得する。
+     * 
+     * @return 状態
+     */
+    @ReadOperation
+    public Map<String, Object> departmentCache() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("size", departmentCacheLogic.size());
+        result.put("loadedAt", departmentCacheLogic.getLoadedAt());
+        return result;
+    }
+
+    /**
+     * 部署キャッシュを破棄する。
+     */
+    @DeleteOperation
+    public void invalidate() {
+        departmentCacheLogic.invalidate();
+    }
+
+}
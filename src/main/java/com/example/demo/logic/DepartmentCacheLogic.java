@@ -0,0 +1,195 @@
+package com.example.demo.logic;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.Department;
+import com.example.demo.mapper.DepartmentMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 部署は十数件で更新もまれなため、すべてメモリに持ち、存在確認と全件取得でDBに問い合わせない
+// NOTE: 読み込んだ内容は不変のDepartmentCacheDataとして持ち、再読み込み時は参照を差し替えるだけのため、読み込みでロックを取らない
+// NOTE: キャッシュが古い間に削除された部署を指定しても、userテーブルの外部キー制約で登録・更新は失敗する
+// NOTE: 読み込み前や破棄後に呼び出された場合は、その場でDBから読み込む
+
+/**
+ * 部署キャッシュロジック。
+ */
+@Component
+public class DepartmentCacheLogic {
+
+    /** 部署エンティティマッパー。 */
+    private final DepartmentMapper departmentMapper;
+
+    /** 読み込み回数。 */
+    private final Counter loadedCounter;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** 部署キャッシュのデータ。未読み込みの場合はnull。 */
+    private volatile DepartmentCacheData data;
+
+    // NOTE: 破棄した後に読み込み直した場合も前と同じ版数にならないように、データとは別に持つ
+
+    /** 最後に読み込んだ版数。refreshの中だけで更新する。 */
+    private long lastVersion;
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param departmentMapper 部署エンティティマッパー
+     * @param meterRegistry メトリクスのレジストリ
+     */
+    public DepartmentCacheLogic(DepartmentMapper departmentMapper, MeterRegistry meterRegistry) {
+        this.departmentMapper = departmentMapper;
+        this.loadedCounter = Counter.builder("department.cache.loaded")
+                .description("部署キャッシュをDBから読み込んだ回数")
+                .register(meterRegistry);
+        Gauge.builder("department.cache.size", this, DepartmentCacheLogic::size)
+                .description("部署キャッシュの件数")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 対象の部署IDが存在するかどうか。
+     * 
+     * @param id 部署ID
+     * @return 存在する: true / 存在しない: false
+     */
+    public boolean existsById(String id) {
+        return load().getIdSet().contains(id);
+    }
+
+    /**
+     * 対象の部署IDがすべて存在するかどうか。
+     * 
+     * @param idList 部署IDリスト
+     * @return すべて存在する: true / 1つでも存在しない: false
+     */
+    public boolean existsByIdList(List<String> idList) {
+        return load().getIdSet().containsAll(idList);
+    }
+
+    /**
+     * すべての部署IDを取得する。
+     * 
+     * @return 部署IDセット（変更不可）
+     */
+    public Set<String> findIdSet() {
+        return load().getIdSet();
+    }
+
+    // NOTE: 呼び出し元でエンティティを書き換えてもキャッシュに影響しないように複製を返す
+
+    /**
+     * すべての部署エンティティを部署ID順に取得する。
+     * 
+     * @return 部署エンティティリスト
+     */
+    public List<Department> findAll() {
+        return load().getDepartmentList()
+                .stream()
+                .map(entity -> new Department(entity.getId(), entity.getName(), entity.getIsDeleted()))
+                .toList();
+    }
+
+    // NOTE: 読み込みに失敗した場合は例外を投げ、それまでのキャッシュを使い続ける
+    // NOTE: 内容が変わっていない場合は、部署一覧のレスポンスのキャッシュとETagを使い続けられるように版数を変えない
+
+    /**
+     * DBから部署を読み込み直す。
+     */
+    public synchronized void refresh() {
+        List<Department> entityList = departmentMapper.findAll();
+        List<Department> departmentList = entityList
+                .stream()
+                .map(entity -> new Department(entity.getId(), entity.getName(), entity.getIsDeleted()))
+                .toList();
+        Set<String> idSet = departmentList
+                .stream()
+                .map(Department::getId)
+                .collect(Collectors.toUnmodifiableSet());
+
+        DepartmentCacheData current = data;
+        if (current != null && current.getDepartmentList().equals(departmentList)) {
+            data = new DepartmentCacheData(current.getDepartmentList(), current.getIdSet(), current.getVersion(),
+                    LocalDateTime.now());
+        } else {
+            data = new DepartmentCacheData(departmentList, idSet, ++lastVersion, LocalDateTime.now());
+        }
+        loadedCounter.increment();
+        logger.debug("部署キャッシュを読み込みました。件数：{}", departmentList.size());
+    }
+
+    /**
+     * キャッシュを破棄する。次に参照したときにDBから読み込む。
+     */
+    public void invalidate() {
+        data = null;
+        logger.info("部署キャッシュを破棄しました。");
+    }
+
+    // NOTE: 版数は読み込み直して内容が変わった場合と、破棄した後に読み込み直した場合に変わる
+
+    /**
+     * キャッシュの版数を取得する。未読み込みの場合はDBから読み込む。
+     * 
+     * @return 版数
+     */
+    public long getVersion() {
+        return load().getVersion();
+    }
+
+    /**
+     * キャッシュの読み込み日時を取得する。
+     * 
+     * @return 読み込み日時 / 未読み込みの場合: null
+     */
+    public LocalDateTime getLoadedAt() {
+        DepartmentCacheData current = data;
+        return current == null ? null : current.getLoadedAt();
+    }
+
+    /**
+     * キャッシュの件数を取得する。
+     * 
+     * @return 件数 / 未読み込みの場合: 0
+     */
+    public int size() {
+        DepartmentCacheData current = data;
+        return current == null ? 0 : current.getDepartmentList().size();
+    }
+
+    /**
+     * キャッシュのデータを取得する。未読み込みの場合はDBから読み込む。
+     * 
+     * @return 部署キャッシュのデータ
+     */
+    private DepartmentCacheData load() {
+        DepartmentCacheData current = data;
+        if (current != null) {
+            return current;
+        }
+
+        synchronized (this) {
+            if (data == null) {
+                refresh();
+            }
+            return data;
+        }
+    }
+
+}
@@ -1,13 +1,29 @@
 package com.example.demo.logic;
 
+import java.time.Clock;
+import java.time.Instant;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.LongStream;
 
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
 import com.example.demo.constant.DateFormatConstants;
 
 // NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: IDは20桁で、10ミリ秒単位の日時（16桁）とノード番号（1桁）と、「_」に続く同じ日時の中の枝番（2桁）からなる
+// NOTE: 最後に採番した日時と枝番をAtomicLongで持ち、CASで前回より必ず大きい値にするため、同時に採番しても同じIDにならない
+// NOTE: ノード番号をアプリケーションごとに変えることで、複数のアプリケーションで採番しても同じIDにならない
+// NOTE: 日時は実際の日時より先に進めず、枝番を使い切った場合は次の日時まで待つ。1ノードで採番できるのは10ミリ秒に99件まで
+// NOTE: IDの日時が実際の日時を超えないため、再起動しても採番済みのIDを再び採番することはない
+// NOTE: 時計が戻った場合は、前回の日時の枝番を使い切った後、時計が前回の日時を過ぎるまで待つ
 
 /**
  * ID生成ロジック。
@@ -15,8 +31,58 @@ import com.example.demo.constant.DateFormatConstants;
 @Component
 public class GenerateIdLogic {
 
+    /** 日時の単位（ミリ秒）。 */
+    private static final long TICK_MILLIS = 10;
+
+    /** ノード番号の最大値。 */
+    private static final int MAX_NODE = 9;
+
+    /** 枝番の最大値。 */
+    private static final int MAX_SEQUENCE = 99;
+
+    /** 日時と枝番を1つの値にするときの枝番の桁。 */
+    private static final long SEQUENCE_RADIX = 100;
+
+    /** IDのフォーマット。 */
+    private static final String FORMAT = "%s_%02d";
+
     /** 日時フォーマッター。 */
-    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DateFormatConstants.ID_PATTERN);
+    private final DateTimeFormatter formatter = DateTimeFormatter.ofPattern(DateFormatConstants.ID_TICK_PATTERN);
+
+    /** 時計。 */
+    private final Clock clock;
+
+    /** ノード番号。 */
+    private final int node;
+
+    /** 最後に採番した日時（10ミリ秒単位）と枝番。日時 × 100 + 枝番。 */
+    private final AtomicLong lastSequence = new AtomicLong();
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param node ノード番号
+     */
+    @Autowired
+    public GenerateIdLogic(@Value("${id.node}") int node) {
+        this(Clock.systemDefaultZone(), node);
+    }
+
+    // NOTE: テストで日時を固定するため、時計を指定できるコンストラクタを用意する
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param clock 時計
+     * @param node ノード番号
+     */
+    GenerateIdLogic(Clock clock, int node) {
+        if (node < 0 || node > MAX_NODE) {
+            throw new IllegalArgumentException("id.node must be between 0 and " + MAX_NODE + ": " + node);
+        }
+        this.clock = clock;
+        this.node = node;
+    }
 
     /**
      * IDを生成する。
@@ -24,7 +90,95 @@ public class GenerateIdLogic {
      * @return ID
      */
     public String generateId() {
-        String id = LocalDateTime.now().format(formatter);
+        long sequence = reserve(1);
+        return format(sequence);
+    }
+
+    // NOTE: 1件ずつの採番と同じ枝番から、日時ごとにまとめて予約するため、CASは日時ごとに1回で済む
+    // NOTE: 件数が日時の残りの枝番より多い場合は、次の日時になってから残りを予約する
+    // NOTE: 予約した日時と枝番は昇順のため、同じブロックのIDは昇順に並ぶ
+
+    /**
+     * IDを件数分まとめて生成する。
+     * 
+     * @param count 件数
+     * @return IDリスト
+     */
+    public List<String> generateIdList(int count) {
+        List<String> idList = new ArrayList<>(Math.max(count, 0));
+        while (idList.size() < count) {
+            int max = count - idList.size();
+            long first = reserve(max);
+            long last = first + reservedCount(first, max) - 1;
+            LongStream.rangeClosed(first, last).mapToObj(this::format).forEach(idList::add);
+        }
+        return idList;
+    }
+
+    /**
+     * 同じ日時の中で連続した枝番を予約する。前回の日時の枝番を使い切った場合は次の日時まで待つ。
+     * 
+     * @param max 予約する最大件数
+     * @return 予約した最初の日時と枝番。予約した件数は日時の中の残りの枝番の数と最大件数の小さい方
+     */
+    private long reserve(int max) {
+        while (true) {
+            long now = clock.millis() / TICK_MILLIS;
+            long last = lastSequence.get();
+            long lastTick = last / SEQUENCE_RADIX;
+
+            long first;
+            if (now > lastTick) {
+                first = now * SEQUENCE_RADIX + 1;
+            } else if (last % SEQUENCE_RADIX < MAX_SEQUENCE) {
+                first = last + 1;
+            } else {
+                waitNextTick(lastTick);
+                continue;
+            }
+
+            long next = first + reservedCount(first, max) - 1;
+            if (lastSequence.compareAndSet(last, next)) {
+                return first;
+            }
+        }
+    }
+
+    /**
+     * 予約した件数を取得する。
+     * 
+     * @param first 予約した最初の日時と枝番
+     * @param max 予約する最大件数
+     * @return 日時の中の残りの枝番の数と最大件数の小さい方
+     */
+    private long reservedCount(long first, int max) {
+        return Math.min(max, MAX_SEQUENCE - first % SEQUENCE_RADIX + 1);
+    }
+
+    // NOTE: 待つのは最大でも10ミリ秒（時計が戻った場合は戻った時間）のため、スレッドを止めて待つ
+
+    /**
+     * 時計が指定した日時を過ぎるまで待つ。
+     * 
+     * @param tick 日時（10ミリ秒単位）
+     */
+    private void waitNextTick(long tick) {
+        long waitMillis = (tick + 1) * TICK_MILLIS - clock.millis();
+        if (waitMillis > 0) {
+            LockSupport.parkNanos(TimeUnit.MILLISECONDS.toNanos(waitMillis));
+        }
+    }
+
+    /**
+     * 日時とノード番号と枝番をIDに変換する。
+     * 
+     * @param sequence 日時（10ミリ秒単位）と枝番
+     * @return ID
+     */
+    private String format(long sequence) {
+        long tick = sequence / SEQUENCE_RADIX;
+        LocalDateTime dateTime = LocalDateTime.ofInstant(Instant.ofEpochMilli(tick * TICK_MILLIS), clock.getZone());
+        String id = String.format(FORMAT, dateTime.format(formatter) + node, sequence % SEQUENCE_RADIX);
         return id;
     }
 
@@ -1,22 +1,21 @@
 package com.example.demo.logic;
 
-import java.util.Locale;
 import java.util.Map;
 
-import org.slf4j.Logger;
-import org.slf4j.LoggerFactory;
-import org.springframework.context.MessageSource;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.example.demo.constant.URLConstants;
-import com.example.demo.external.ExternalApi;
+import com.example.demo.job.OperationLogShipper;
 
 import lombok.RequiredArgsConstructor;
 
 // NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 外部APIへの送信はOperationLogShipperがバックグラウンドでまとめて行い、呼び出し元は送信を待たない
+// NOTE: トランザクション内で呼び出された場合はコミット後に送信待ちにし、ロールバックされた操作は記録しない
+// NOTE: トランザクション外で呼び出された場合はすぐに送信待ちにする
+// NOTE: 複数ユーザ更新、インポート、ジョブの実行などはチャンクごとのトランザクションで書き込み、全体のトランザクションを持たない
+// NOTE: それらは書き込みがすべて終わってから呼び出すため、コミットされていない操作を記録することはない
 
 /**
  * ロギングロジック。
@@ -31,42 +30,31 @@ public class LoggingLogic {
     /** ロギングロジックコンバーター。 */
     private final LoggingLogicConverter converter;
 
-    /** メッセージソース。 */
-    private final MessageSource messageSource;
-
-    /** 外部API呼び出し処理。 */
-    private final ExternalApi externalApi;
-
-    /** ロガー。 */
-    private final Logger logger = LoggerFactory.getLogger(getClass());
+    /** 操作ログ送信処理。 */
+    private final OperationLogShipper shipper;
 
     /**
-     * 操作ログを保存する。例外はthrowsされないようにしている。
+     * 操作ログを保存する。トランザクション内の場合はコミット後に、トランザクション外の場合はすぐに保存する。例外はthrowsされないようにしている。
      * 
      * @param operation 操作内容
      * @param operator 操作者
      */
     public void logOperation(String operation, String operator) {
+        // NOTE: 操作日時は操作を行った時点とするため、コミットを待たずに変換する
         Map<String, Object> body = converter.convertToBody(operation, operator);
 
-        try {
-            externalApi.post(URLConstants.LOGGING_URL, body);
-
-            String message = messageSource.getMessage("I01", null, Locale.JAPAN);
-            logger.info(message);
-        } catch (HttpClientErrorException ex) {
-            String message = messageSource.getMessage("W01", null, Locale.JAPAN);
-            logger.warn(message, ex);
-        } catch (HttpServerErrorException ex) {
-            String message = messageSource.getMessage("W02", null, Locale.JAPAN);
-            logger.warn(message, ex);
-        } catch (ResourceAccessException ex) {
-            String message = messageSource.getMessage("W03", null, Locale.JAPAN);
-            logger.warn(message, ex);
-        } catch (RuntimeException ex) {
-            String message = messageSource.getMessage("W99", null, Locale.JAPAN);
-            logger.warn(message, ex);
+        // NOTE: 呼び出し元は書き込みのチャンクのトランザクションがコミットされた後に呼び出すこと
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            shipper.enqueue(body);
+            return;
         }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                shipper.enqueue(body);
+            }
+        });
     }
 
 }
@@ -0,0 +1,190 @@
+package com.example.demo.logic;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.apache.ibatis.session.ExecutorType;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.session.defaults.DefaultSqlSessionFactory;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.mapper.User;
+import com.example.demo.mapper.UserMapper;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 件数が多い登録・更新をJDBCのバッチ実行でまとめて送信する
+// NOTE: 更新は1行ごとに同じSQLを使うため、件数によってSQLの文字列が変わらず、行ごとの更新件数も取得できる
+// NOTE: rewriteBatchedStatementsを有効にしておくと、MySQLのドライバが複数行のINSERTに書き換えて送信する
+// NOTE: ユーザ概要への反映は1つのSQLで行うためバッチ実行にせず、UserSummaryProjectionLogicで1件ずつの書き込みと同じ処理を行う
+// NOTE: バッチ実行のSQLはflushStatementsまで送信されないため、ユーザ概要へ反映する前に送信しておく
+
+/**
+ * ユーザのバッチ書き込みロジック。
+ */
+@Component
+public class UserBatchWriteLogic {
+
+    /** 区切り文字。 */
+    private static final String SEP = ",";
+
+    /** バッチ実行のSqlSession。 */
+    private final SqlSessionTemplate batchSqlSession;
+
+    /** ユーザ概要反映ロジック。 */
+    private final UserSummaryProjectionLogic userSummaryProjectionLogic;
+
+    /** 業務エラー作成。 */
+    private final ExceptionCreator exceptionCreator;
+
+    // NOTE: SqlSessionTemplateをBeanとして登録すると通常のMapperもバッチ実行になってしまうため、ここで作成する
+    // NOTE: 同じトランザクション内ではSqlSessionのファクトリごとにExecutorTypeを混在させられないため、設定が同じ別のファクトリを作成する
+    // NOTE: どちらのファクトリもトランザクションのコネクションを使うため、バッチ実行と通常のMapperの書き込みは同じトランザクションになる
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param sqlSessionFactory SqlSessionのファクトリ
+     * @param userSummaryProjectionLogic ユーザ概要反映ロジック
+     * @param exceptionCreator 業務エラー作成
+     */
+    public UserBatchWriteLogic(
+            SqlSessionFactory sqlSessionFactory,
+            UserSummaryProjectionLogic userSummaryProjectionLogic,
+            ExceptionCreator exceptionCreator) {
+        this.batchSqlSession = new SqlSessionTemplate(
+                new DefaultSqlSessionFactory(sqlSessionFactory.getConfiguration()), ExecutorType.BATCH);
+        this.userSummaryProjectionLogic = userSummaryProjectionLogic;
+        this.exceptionCreator = exceptionCreator;
+    }
+
+    // NOTE: チャンクごとにトランザクションを分けることで、失敗したチャンク以外は登録されるようにする
+
+    /**
+     * ユーザとユーザ概要をバッチ実行で登録する。非同期の場合はユーザ概要の代わりにアウトボックスへ登録する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @return 登録成功件数
+     * @throws ApplicationException 業務エラー
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int insertChunk(List<User> entityList) throws ApplicationException {
+        UserMapper userMapper = batchSqlSession.getMapper(UserMapper.class);
+        entityList.forEach(userMapper::insert);
+        batchSqlSession.flushStatements();
+
+        // NOTE: 登録できなかった行は例外になるため、ユーザ概要へのコピーの件数で登録が成功しているか確認する
+        List<String> userIdList = entityList.stream().map(User::getId).toList();
+        int copiedCount = userSummaryProjectionLogic.copyListFromUser(userIdList);
+        if (copiedCount != entityList.size()) {
+            throw exceptionCreator.create("301", userIds(entityList));
+        }
+        return copiedCount;
+    }
+
+    /**
+     * ユーザをバッチ実行で1行ずつ更新し、ユーザ概要を最新の状態へ変更する。非同期の場合はユーザ概要の代わりにアウトボックスへ登録する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @return 行ごとの更新件数
+     * @throws ApplicationException 業務エラー
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int[] updateChunk(List<User> entityList) throws ApplicationException {
+        int[] updateCounts = updateRows(entityList);
+
+        // NOTE: 件数が1でない行は楽観ロックで更新できなかった行なので、その行のIDだけをエラーにする
+        List<User> failedList = filterByCount(entityList, updateCounts, false);
+        if (!failedList.isEmpty()) {
+            throw exceptionCreator.create("202", userIds(failedList));
+        }
+
+        modifySummary(entityList);
+        return updateCounts;
+    }
+
+    // NOTE: 更新できなかった行があってもエラーにせず、更新できた行だけをコミットする
+    // NOTE: バッチ実行では行ごとに更新件数が返却されるため、セーブポイントを使わなくても失敗した行だけを判別できる
+
+    /**
+     * ユーザをバッチ実行で1行ずつ更新し、更新できた行のユーザ概要を最新の状態へ変更する。非同期の場合はユーザ概要の代わりにアウトボックスへ登録する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @return 行ごとの更新件数
+     * @throws ApplicationException 業務エラー
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int[] updatePartialChunk(List<User> entityList) throws ApplicationException {
+        int[] updateCounts = updateRows(entityList);
+
+        List<User> updatedList = filterByCount(entityList, updateCounts, true);
+        if (!updatedList.isEmpty()) {
+            modifySummary(updatedList);
+        }
+        return updateCounts;
+    }
+
+    /**
+     * ユーザをバッチ実行で1行ずつ更新する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @return 行ごとの更新件数
+     */
+    private int[] updateRows(List<User> entityList) {
+        UserMapper userMapper = batchSqlSession.getMapper(UserMapper.class);
+        entityList.forEach(userMapper::update);
+
+        // NOTE: 同じSQLが連続する場合は1つのBatchResultにまとめられ、パラメータごとの件数が返却される
+        int[] updateCounts = batchSqlSession.flushStatements().get(0).getUpdateCounts();
+        return updateCounts;
+    }
+
+    /**
+     * 更新件数が1かどうかでユーザエンティティを絞り込む。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @param updateCounts 行ごとの更新件数
+     * @param updated 更新できた行を返却する: true / 更新できなかった行を返却する: false
+     * @return 絞り込んだユーザエンティティリスト
+     */
+    private List<User> filterByCount(List<User> entityList, int[] updateCounts, boolean updated) {
+        List<User> filteredList = IntStream
+                .range(0, updateCounts.length)
+                .filter(i -> (updateCounts[i] == 1) == updated)
+                .mapToObj(entityList::get)
+                .toList();
+        return filteredList;
+    }
+
+    /**
+     * ユーザ概要を最新の状態へ変更する。非同期の場合はユーザ概要の代わりにアウトボックスへ登録する。
+     * 
+     * @param entityList 更新したユーザエンティティリスト
+     * @throws ApplicationException 業務エラー
+     */
+    private void modifySummary(List<User> entityList) throws ApplicationException {
+        List<String> userIdList = entityList.stream().map(User::getId).distinct().toList();
+        int modifiedCount = userSummaryProjectionLogic.modifyListFromUser(userIdList);
+        if (modifiedCount != userIdList.size()) {
+            throw exceptionCreator.create("302", userIds(entityList));
+        }
+    }
+
+    /**
+     * カンマ区切りのユーザIDリストを返却する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @return カンマ区切りのユーザIDリスト
+     */
+    private String userIds(List<User> entityList) {
+        String ids = entityList
+                .stream()
+                .map(User::getId)
+                .collect(Collectors.joining(SEP));
+        return ids;
+    }
+
+}
@@ -0,0 +1,177 @@
+package com.example.demo.logic;
+
+import java.util.List;
+import java.util.stream.Collectors;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.BulkJobConstants;
+import com.example.demo.mapper.User;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobItem;
+import com.example.demo.mapper.UserBulkJobItemMapper;
+import com.example.demo.mapper.UserBulkJobMapper;
+import com.example.demo.mapper.UserMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: チャンクの書き込みと処理済み件数の更新を同じトランザクションで行うことで、再開時に同じ明細を二重に処理しない
+
+/**
+ * ユーザ一括処理ジョブのチャンク処理ロジック。
+ */
+@RequiredArgsConstructor
+@Component
+public class UserBulkJobChunkLogic {
+
+    /** 区切り文字。 */
+    private static final String SEP = ",";
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ一括処理ジョブエンティティマッパー。 */
+    private final UserBulkJobMapper userBulkJobMapper;
+
+    /** ユーザ一括処理ジョブ明細エンティティマッパー。 */
+    private final UserBulkJobItemMapper userBulkJobItemMapper;
+
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
+
+    /** ユーザエンティティマッパー。 */
+    private final UserMapper userMapper;
+
+    /** ユーザ概要反映ロジック。 */
+    private final UserSummaryProjectionLogic userSummaryProjectionLogic;
+
+    /** ユーザのバッチ書き込みロジック。 */
+    private final UserBatchWriteLogic userBatchWriteLogic;
+
+    /** 業務エラー作成。 */
+    private final ExceptionCreator exceptionCreator;
+
+    /**
+     * 処理済み件数の次の明細から1チャンク分を処理し、処理済み件数を更新する。
+     * 
+     * @param job ユーザ一括処理ジョブエンティティ
+     * @param chunkSize 1チャンクの最大件数
+     * @return 処理した件数。残りの明細がない場合は0
+     * @throws ApplicationException 業務エラー
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int processChunk(UserBulkJob job, int chunkSize) throws ApplicationException {
+        int fromCount = job.getProcessedCount();
+
+        List<UserBulkJobItem> itemList = userBulkJobItemMapper.findByJobId(job.getId(), fromCount, chunkSize);
+        if (itemList.isEmpty()) {
+            return 0;
+        }
+
+        List<User> entityList = itemList
+                .stream()
+                .map(item -> new User(
+                        item.getUserId(),
+                        item.getFamilyName(),
+                        item.getFirstName(),
+                        item.getDeptId(),
+                        item.getVersion()))
+                .toList();
+
+        if (BulkJobConstants.TYPE_CREATE.equals(job.getJobType())) {
+            create(entityList);
+        } else {
+            update(entityList);
+        }
+
+        int toCount = fromCount + itemList.size();
+        int updatedCount = userBulkJobMapper.updateProcessedCount(job.getId(), fromCount, toCount);
+        if (updatedCount != 1) {
+            throw exceptionCreator.create("203", job.getId());
+        }
+        return itemList.size();
+    }
+
+    /**
+     * ユーザを登録し、ユーザ概要へコピーする。
+     * 
+     * @param entityList 登録するユーザエンティティリスト
+     * @throws ApplicationException 業務エラー
+     */
+    private void create(List<User> entityList) throws ApplicationException {
+        List<String> deptIdList = entityList.stream().map(User::getDeptId).distinct().toList();
+        if (!departmentCacheLogic.existsByIdList(deptIdList)) {
+            throw exceptionCreator.create("401", deptIds(entityList));
+        }
+
+        List<String> userIdList = entityList.stream().map(User::getId).toList();
+        if (userMapper.existsByIdList(userIdList)) {
+            throw exceptionCreator.create("101", userIds(entityList));
+        }
+
+        int insertedCount = userMapper.insertList(entityList);
+        if (insertedCount != entityList.size()) {
+            throw exceptionCreator.create("201", userIds(entityList));
+        }
+
+        int copiedCount = userSummaryProjectionLogic.copyListFromUser(userIdList);
+        if (copiedCount != entityList.size()) {
+            throw exceptionCreator.create("301", userIds(entityList));
+        }
+    }
+
+    // NOTE: 複数ユーザ更新と同じくバッチ実行で1行ずつ更新し、楽観ロックで更新できなかった行のIDだけをエラーにする
+    // NOTE: UserBatchWriteLogicはこのチャンクのトランザクションに参加するため、処理済み件数の更新と一緒にロールバックされる
+
+    /**
+     * ユーザをバッチ実行で1行ずつ更新し、ユーザ概要を最新の状態へ変更する。
+     * 
+     * @param entityList 更新するユーザエンティティリスト
+     * @throws ApplicationException 業務エラー
+     */
+    private void update(List<User> entityList) throws ApplicationException {
+        List<String> deptIdList = entityList.stream().map(User::getDeptId).distinct().toList();
+        if (!departmentCacheLogic.existsByIdList(deptIdList)) {
+            throw exceptionCreator.create("402", deptIds(entityList));
+        }
+
+        List<String> userIdList = entityList.stream().map(User::getId).distinct().toList();
+        if (!userMapper.existsByIdList(userIdList)) {
+            throw exceptionCreator.create("102", userIds(entityList));
+        }
+
+        userBatchWriteLogic.updateChunk(entityList);
+    }
+
+    /**
+     * カンマ区切りのユーザIDリストを返却する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @return カンマ区切りのユーザIDリスト
+     */
+    private String userIds(List<User> entityList) {
+        String ids = entityList
+                .stream()
+                .map(User::getId)
+                .collect(Collectors.joining(SEP));
+        return ids;
+    }
+
+    /**
+     * カンマ区切りの部署IDリストを返却する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @return カンマ区切りの部署IDリスト
+     */
+    private String deptIds(List<User> entityList) {
+        String ids = entityList
+                .stream()
+                .map(User::getDeptId)
+                .collect(Collectors.joining(SEP));
+        return ids;
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.example.demo.logic;
+
+import java.util.List;
+
+import com.example.demo.mapper.UserSummary;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザ検索キャッシュのデータ。
+ */
+@Value
+public class UserSearchCacheData {
+
+    /** ユーザ概要エンティティリスト（変更不可）。 */
+    private List<UserSummary> entityList;
+
+    /** 有効期限（ミリ秒）。 */
+    private long expiresAt;
+
+}
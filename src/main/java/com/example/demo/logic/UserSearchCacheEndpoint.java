@@ -0,0 +1,64 @@
+package com.example.demo.logic;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.springframework.boot.actuate.endpoint.annotation.DeleteOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.WriteOperation;
+import org.springframework.stereotype.Component;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: /actuator/usersearchcache で件数とヒット率を確認し、DELETEで破棄できるようにする
+// NOTE: 古い検索結果が問題になった場合に、再起動せずにPOSTでキャッシュを無効にできるようにする
+
+/**
+ * ユーザ検索キャッシュの状態の出力、切り替え、破棄を行うエンドポイント。
+ */
+@Endpoint(id = "usersearchcache")
+@RequiredArgsConstructor
+@Component
+public class UserSearchCacheEndpoint {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ検索キャッシュロジック。 */
+    private final UserSearchCacheLogic userSearchCacheLogic;
+
+    /**
+     * ユーザ検索キャッシュの状態を取得する。
+     * 
+     * @return 状態
+     */
+    @ReadOperation
+    public Map<String, Object> userSearchCache() {
+        Map<String, Object> result = new LinkedHashMap<>();
+        result.put("enabled", userSearchCacheLogic.isEnabled());
+        result.put("size", userSearchCacheLogic.size());
+        result.put("hitRate", userSearchCacheLogic.getHitRate());
+        return result;
+    }
+
+    /**
+     * ユーザ検索キャッシュを使うか切り替える。
+     * 
+     * @param enabled キャッシュを使う場合: true / 使わない場合: false
+     */
+    @WriteOperation
+    public void setEnabled(boolean enabled) {
+        userSearchCacheLogic.setEnabled(enabled);
+    }
+
+    /**
+     * ユーザ検索キャッシュを破棄する。
+     */
+    @DeleteOperation
+    public void invalidate() {
+        userSearchCacheLogic.invalidateAll();
+    }
+
+}
@@ -0,0 +1,348 @@
+package com.example.demo.logic;
+
+import java.time.Clock;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.common.datasource.OperatorContextHolder;
+import com.example.demo.common.datasource.ReadWriteRoutingDataSource;
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: ダッシュボードなどが同じ条件で繰り返し検索するため、検索条件ごとに検索結果をメモリに持つ
+// NOTE: 検索条件はページ番号ではなくLIMIT、OFFSETに変換済みのため、同じページを指す検索は同じキーになる
+// NOTE: 件数の上限を超えた場合は最も長く参照されていない検索結果を、有効期限が過ぎた場合は参照したときに捨てる
+// NOTE: ユーザ概要を書き込む場合は、書き込むユーザの変更前と変更後の部署の検索結果と、部署を指定しない検索結果をコミット後に捨てる
+// NOTE: 検索中に破棄された場合は、破棄前の内容の可能性があるため検索結果を保持しない
+// NOTE: キャッシュにない場合は、同じ検索条件の実行中の検索があればその結果を共有する
+// NOTE: 破棄は起動しているアプリケーションの中だけのため、他のアプリケーションやレプリカの遅延による古い検索結果は有効期限まで残る
+// NOTE: 書き込んでからプライマリに接続する期間内の操作者は、自分の書き込みが見えるようにキャッシュを使わずに検索する
+
+/**
+ * ユーザ検索キャッシュロジック。
+ */
+@Component
+public class UserSearchCacheLogic {
+
+    /** 時計。 */
+    private final Clock clock;
+
+    /** ユーザ概要エンティティマッパー。 */
+    private final UserSummaryMapper userSummaryMapper;
+
+    /** ユーザ検索の同時実行の集約ロジック。 */
+    private final UserSearchSingleFlightLogic userSearchSingleFlightLogic;
+
+    /** 読み込みと書き込みで接続先を振り分けるDataSource。 */
+    private final ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    /** 保持する最大件数。 */
+    private final int maxSize;
+
+    /** 有効期間（ミリ秒）。 */
+    private final long ttlMillis;
+
+    /** 検索条件と検索結果。参照した順に並べる。 */
+    private final Map<UserSummaryCondition, UserSearchCacheData> cacheMap = new LinkedHashMap<>(16, 0.75f, true);
+
+    /** キャッシュにあった件数。 */
+    private final Counter hitCounter;
+
+    /** キャッシュになかった件数。 */
+    private final Counter missCounter;
+
+    /** 書き込んだ操作者のためキャッシュを使わなかった件数。 */
+    private final Counter bypassCounter;
+
+    /** 件数の上限を超えたため捨てた件数。 */
+    private final Counter sizeEvictedCounter;
+
+    /** 有効期限が過ぎたため捨てた件数。 */
+    private final Counter expiredCounter;
+
+    /** 書き込みにより捨てた件数。 */
+    private final Counter invalidatedCounter;
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /** キャッシュを使うか。 */
+    private volatile boolean enabled;
+
+    /** 破棄した回数。検索中に破棄されたか判定するために使う。 */
+    private long generation;
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param userSummaryMapper ユーザ概要エンティティマッパー
+     * @param userSearchSingleFlightLogic ユーザ検索の同時実行の集約ロジック
+     * @param readWriteRoutingDataSource 読み込みと書き込みで接続先を振り分けるDataSource
+     * @param meterRegistry メトリクスのレジストリ
+     * @param enabled キャッシュを使うか
+     * @param maxSize 保持する最大件数
+     * @param ttlMillis 有効期間（ミリ秒）
+     */
+    @Autowired
+    public UserSearchCacheLogic(
+            UserSummaryMapper userSummaryMapper,
+            UserSearchSingleFlightLogic userSearchSingleFlightLogic,
+            ReadWriteRoutingDataSource readWriteRoutingDataSource,
+            MeterRegistry meterRegistry,
+            @Value("${user.searchCache.enabled}") boolean enabled,
+            @Value("${user.searchCache.maxSize}") int maxSize,
+            @Value("${user.searchCache.ttlMillis}") long ttlMillis) {
+        this(Clock.systemDefaultZone(), userSummaryMapper, userSearchSingleFlightLogic, readWriteRoutingDataSource,
+                meterRegistry, enabled, maxSize, ttlMillis);
+    }
+
+    // NOTE: テストで時間を進めるため、時計を指定できるコンストラクタを用意する
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param clock 時計
+     * @param userSummaryMapper ユーザ概要エンティティマッパー
+     * @param userSearchSingleFlightLogic ユーザ検索の同時実行の集約ロジック
+     * @param readWriteRoutingDataSource 読み込みと書き込みで接続先を振り分けるDataSource
+     * @param meterRegistry メトリクスのレジストリ
+     * @param enabled キャッシュを使うか
+     * @param maxSize 保持する最大件数
+     * @param ttlMillis 有効期間（ミリ秒）
+     */
+    UserSearchCacheLogic(
+            Clock clock,
+            UserSummaryMapper userSummaryMapper,
+            UserSearchSingleFlightLogic userSearchSingleFlightLogic,
+            ReadWriteRoutingDataSource readWriteRoutingDataSource,
+            MeterRegistry meterRegistry,
+            boolean enabled,
+            int maxSize,
+            long ttlMillis) {
+        if (maxSize <= 0 || ttlMillis <= 0) {
+            throw new IllegalArgumentException("user.searchCache: maxSize=" + maxSize + ", ttlMillis=" + ttlMillis);
+        }
+
+        this.clock = clock;
+        this.userSummaryMapper = userSummaryMapper;
+        this.userSearchSingleFlightLogic = userSearchSingleFlightLogic;
+        this.readWriteRoutingDataSource = readWriteRoutingDataSource;
+        this.maxSize = maxSize;
+        this.ttlMillis = ttlMillis;
+        this.enabled = enabled;
+        this.hitCounter = Counter.builder("user.search.cache.requests")
+                .description("ユーザ検索キャッシュを参照した件数")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        this.missCounter = Counter.builder("user.search.cache.requests")
+                .description("ユーザ検索キャッシュを参照した件数")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        this.bypassCounter = Counter.builder("user.search.cache.requests")
+                .description("ユーザ検索キャッシュを参照した件数")
+                .tag("result", "bypass")
+                .register(meterRegistry);
+        this.sizeEvictedCounter = evictionCounter(meterRegistry, "size");
+        this.expiredCounter = evictionCounter(meterRegistry, "expired");
+        this.invalidatedCounter = evictionCounter(meterRegistry, "invalidated");
+        Gauge.builder("user.search.cache.size", this, UserSearchCacheLogic::size)
+                .description("ユーザ検索キャッシュの件数")
+                .register(meterRegistry);
+        Gauge.builder("user.search.cache.hit_rate", this, UserSearchCacheLogic::getHitRate)
+                .description("ユーザ検索キャッシュにあった割合（0〜1）")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 検索条件に一致するユーザ概要エンティティを検索する。キャッシュにない場合はDBから検索して保持する。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要エンティティリスト（変更不可）
+     */
+    public List<UserSummary> find(UserSummaryCondition condition) {
+        // NOTE: 呼び出し元で検索条件を書き換えてもキーが変わらないように複製する
+        UserSummaryCondition key = new UserSummaryCondition(
+                condition.getName(),
+                condition.getDeptId(),
+                condition.getBeginUpdatedAt(),
+                condition.getEndUpdatedAt(),
+                condition.getLimit(),
+                condition.getOffset(),
+                condition.getAfterUserId());
+
+        if (!enabled) {
+            return userSearchSingleFlightLogic.find(key);
+        }
+
+        // NOTE: 期間内の検索結果はプライマリから読んだものだが、期間外の操作者との違いを考えずに済むように保持もしない
+        if (readWriteRoutingDataSource.isWithinReadYourWrites(OperatorContextHolder.getOperator())) {
+            bypassCounter.increment();
+            return userSearchSingleFlightLogic.find(key);
+        }
+
+        long startGeneration;
+        synchronized (this) {
+            UserSearchCacheData data = cacheMap.get(key);
+            if (data != null && data.getExpiresAt() > clock.millis()) {
+                hitCounter.increment();
+                return data.getEntityList();
+            }
+            if (data != null) {
+                cacheMap.remove(key);
+                expiredCounter.increment();
+            }
+            startGeneration = generation;
+        }
+
+        missCounter.increment();
+        List<UserSummary> entityList = userSearchSingleFlightLogic.find(key);
+
+        synchronized (this) {
+            if (enabled && generation == startGeneration) {
+                cacheMap.put(key, new UserSearchCacheData(entityList, clock.millis() + ttlMillis));
+                evictOverflow();
+            }
+        }
+        return entityList;
+    }
+
+    // NOTE: 変更前の部署はユーザ概要、変更後の部署はユーザから取得するため、ユーザを書き込んだ後、ユーザ概要を書き込む前に呼び出す
+
+    /**
+     * 対象のユーザの部署の検索結果を破棄する。トランザクション内の場合はコミット後に破棄する。
+     * 
+     * @param userIdList ユーザIDリスト
+     */
+    public void invalidateByUserIdList(List<String> userIdList) {
+        if (!enabled || userIdList.isEmpty()) {
+            return;
+        }
+
+        List<String> deptIdList = userSummaryMapper.findDeptIdListByUserIdList(userIdList);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            invalidateByDeptIdList(deptIdList);
+            return;
+        }
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                invalidateByDeptIdList(deptIdList);
+            }
+        });
+    }
+
+    /**
+     * 対象の部署の検索結果と、部署を指定しない検索結果を破棄する。
+     * 
+     * @param deptIdList 部署IDリスト
+     */
+    public synchronized void invalidateByDeptIdList(Collection<String> deptIdList) {
+        generation++;
+        userSearchSingleFlightLogic.detachByDeptIdList(deptIdList);
+        int before = cacheMap.size();
+        cacheMap.keySet().removeIf(key -> key.getDeptId() == null || deptIdList.contains(key.getDeptId()));
+        invalidatedCounter.increment(before - cacheMap.size());
+    }
+
+    /**
+     * すべての検索結果を破棄する。
+     */
+    public synchronized void invalidateAll() {
+        generation++;
+        userSearchSingleFlightLogic.detachAll();
+        invalidatedCounter.increment(cacheMap.size());
+        cacheMap.clear();
+        logger.info("ユーザ検索キャッシュを破棄しました。");
+    }
+
+    // NOTE: 無効にした間の書き込みは破棄されないため、切り替えた時点ですべて破棄する
+
+    /**
+     * キャッシュを使うか切り替える。
+     * 
+     * @param enabled キャッシュを使う場合: true / 使わない場合: false
+     */
+    public synchronized void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+        generation++;
+        cacheMap.clear();
+        logger.warn("ユーザ検索キャッシュを{}にしました。", enabled ? "有効" : "無効");
+    }
+
+    /**
+     * キャッシュを使うかどうか。
+     * 
+     * @return 使う: true / 使わない: false
+     */
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * キャッシュの件数を取得する。
+     * 
+     * @return 件数
+     */
+    public synchronized int size() {
+        return cacheMap.size();
+    }
+
+    /**
+     * 起動してからキャッシュにあった割合を取得する。
+     * 
+     * @return 割合（0〜1） / 参照がない場合: 0
+     */
+    public double getHitRate() {
+        double hit = hitCounter.count();
+        double total = hit + missCounter.count();
+        return total == 0 ? 0 : hit / total;
+    }
+
+    /**
+     * 件数の上限を超えた分を、最も長く参照されていない検索結果から捨てる。
+     */
+    private void evictOverflow() {
+        Iterator<UserSummaryCondition> iterator = cacheMap.keySet().iterator();
+        while (cacheMap.size() > maxSize && iterator.hasNext()) {
+            iterator.next();
+            iterator.remove();
+            sizeEvictedCounter.increment();
+        }
+    }
+
+    /**
+     * 捨てた件数のカウンターを作成する。
+     * 
+     * @param meterRegistry メトリクスのレジストリ
+     * @param cause 捨てた理由
+     * @return カウンター
+     */
+    private static Counter evictionCounter(MeterRegistry meterRegistry, String cause) {
+        return Counter.builder("user.search.cache.evictions")
+                .description("ユーザ検索キャッシュから捨てた件数")
+                .tag("cause", cause)
+                .register(meterRegistry);
+    }
+
+}
@@ -0,0 +1,148 @@
+package com.example.demo.logic;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.datasource.OperatorContextHolder;
+import com.example.demo.common.datasource.ReadWriteRoutingDataSource;
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryCondition;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 同じ検索条件の検索が同時に来た場合は、最初の検索だけDBに問い合わせ、後から来た検索はその結果を待って共有する
+// NOTE: 待っている間はSQLを実行しないため、LazyConnectionDataSourceProxyによりコネクションを取得しない
+// NOTE: 実行中の検索の結果だけを共有し、保持はしないため、古い検索結果を返すことはない
+// NOTE: ユーザ概要を書き込んだ部署の実行中の検索は、コミット後に切り離し、以降の検索は新しく問い合わせる
+// NOTE: 書き込んでからプライマリに接続する期間内の操作者は、レプリカから読む他の検索の結果を共有せずに問い合わせる
+
+/**
+ * ユーザ検索の同時実行の集約ロジック。
+ */
+@Component
+public class UserSearchSingleFlightLogic {
+
+    /** ユーザ概要アーカイブロジック。 */
+    private final UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    /** 読み込みと書き込みで接続先を振り分けるDataSource。 */
+    private final ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    /** 実行中の検索条件と検索結果。 */
+    private final Map<UserSummaryCondition, CompletableFuture<List<UserSummary>>> inFlightMap =
+            new ConcurrentHashMap<>();
+
+    /** 実行中の検索の結果を共有した件数。 */
+    private final Counter coalescedCounter;
+
+    // NOTE: メトリクスを登録するため@RequiredArgsConstructorは使わない
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param userSummaryArchiveLogic ユーザ概要アーカイブロジック
+     * @param readWriteRoutingDataSource 読み込みと書き込みで接続先を振り分けるDataSource
+     * @param meterRegistry メトリクスのレジストリ
+     */
+    public UserSearchSingleFlightLogic(
+            UserSummaryArchiveLogic userSummaryArchiveLogic,
+            ReadWriteRoutingDataSource readWriteRoutingDataSource,
+            MeterRegistry meterRegistry) {
+        this.userSummaryArchiveLogic = userSummaryArchiveLogic;
+        this.readWriteRoutingDataSource = readWriteRoutingDataSource;
+        this.coalescedCounter = Counter.builder("user.search.coalesced")
+                .description("実行中の同じ検索条件の検索結果を共有した件数")
+                .register(meterRegistry);
+        Gauge.builder("user.search.in_flight", this, UserSearchSingleFlightLogic::inFlight)
+                .description("DBに問い合わせ中の検索条件の件数")
+                .register(meterRegistry);
+    }
+
+    // NOTE: 検索条件はMapのキーにするため、呼び出し元で書き換えないこと
+
+    /**
+     * 検索条件に一致するユーザ概要エンティティを検索する。同じ検索条件の検索が実行中の場合はその結果を待つ。
+     * 書き込んでからプライマリに接続する期間内の操作者の場合は、実行中の検索を待たずに検索する。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要エンティティリスト（変更不可）
+     */
+    public List<UserSummary> find(UserSummaryCondition condition) {
+        if (readWriteRoutingDataSource.isWithinReadYourWrites(OperatorContextHolder.getOperator())) {
+            return List.copyOf(userSummaryArchiveLogic.find(condition));
+        }
+
+        CompletableFuture<List<UserSummary>> future = new CompletableFuture<>();
+        CompletableFuture<List<UserSummary>> inFlight = inFlightMap.putIfAbsent(condition, future);
+        if (inFlight != null) {
+            coalescedCounter.increment();
+            return await(inFlight);
+        }
+
+        try {
+            List<UserSummary> entityList = List.copyOf(userSummaryArchiveLogic.find(condition));
+            future.complete(entityList);
+            return entityList;
+        } catch (RuntimeException | Error ex) {
+            future.completeExceptionally(ex);
+            throw ex;
+        } finally {
+            inFlightMap.remove(condition, future);
+        }
+    }
+
+    /**
+     * 対象の部署の検索と部署を指定しない検索を切り離す。以降の同じ検索条件の検索は新しく問い合わせる。
+     * 
+     * @param deptIdList 部署IDリスト
+     */
+    public void detachByDeptIdList(Collection<String> deptIdList) {
+        inFlightMap.keySet().removeIf(key -> key.getDeptId() == null || deptIdList.contains(key.getDeptId()));
+    }
+
+    /**
+     * すべての検索を切り離す。
+     */
+    public void detachAll() {
+        inFlightMap.clear();
+    }
+
+    /**
+     * DBに問い合わせ中の検索条件の件数を取得する。
+     * 
+     * @return 件数
+     */
+    public int inFlight() {
+        return inFlightMap.size();
+    }
+
+    /**
+     * 実行中の検索の結果を待つ。検索が失敗した場合は同じ例外を投げる。
+     * 
+     * @param inFlight 実行中の検索の結果
+     * @return ユーザ概要エンティティリスト（変更不可）
+     */
+    private List<UserSummary> await(CompletableFuture<List<UserSummary>> inFlight) {
+        try {
+            return inFlight.join();
+        } catch (CompletionException ex) {
+            if (ex.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (ex.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw ex;
+        }
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.example.demo.logic;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: 更新日が基準日（今日から保存日数前）より前のユーザ概要はUserSummaryArchiveJobでアーカイブへ移動する
+// NOTE: 検索は、更新日の開始が基準日以降の場合はユーザ概要だけ、それ以外の場合はアーカイブも読む
+// NOTE: 基準日は日ごとに進むだけなので、アーカイブへ移動した行は基準日以降の範囲の検索に含まれることはない
+
+/**
+ * ユーザ概要アーカイブロジック。
+ */
+@Component
+public class UserSummaryArchiveLogic {
+
+    /** 時計。 */
+    private final Clock clock;
+
+    /** ユーザ概要エンティティマッパー。 */
+    private final UserSummaryMapper userSummaryMapper;
+
+    /** ユーザ概要アーカイブエンティティマッパー。 */
+    private final UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    /** ユーザ概要に残す日数。0の場合はアーカイブしない。 */
+    private final int retentionDays;
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param userSummaryMapper ユーザ概要エンティティマッパー
+     * @param userSummaryArchiveMapper ユーザ概要アーカイブエンティティマッパー
+     * @param retentionDays ユーザ概要に残す日数。0の場合はアーカイブしない
+     */
+    @Autowired
+    public UserSummaryArchiveLogic(
+            UserSummaryMapper userSummaryMapper,
+            UserSummaryArchiveMapper userSummaryArchiveMapper,
+            @Value("${summary.archive.retentionDays}") int retentionDays) {
+        this(Clock.systemDefaultZone(), userSummaryMapper, userSummaryArchiveMapper, retentionDays);
+    }
+
+    // NOTE: テストで日付を固定するため、時計を指定できるコンストラクタを用意する
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param clock 時計
+     * @param userSummaryMapper ユーザ概要エンティティマッパー
+     * @param userSummaryArchiveMapper ユーザ概要アーカイブエンティティマッパー
+     * @param retentionDays ユーザ概要に残す日数。0の場合はアーカイブしない
+     */
+    UserSummaryArchiveLogic(
+            Clock clock,
+            UserSummaryMapper userSummaryMapper,
+            UserSummaryArchiveMapper userSummaryArchiveMapper,
+            int retentionDays) {
+        if (retentionDays < 0) {
+            throw new IllegalArgumentException("summary.archive.retentionDays: " + retentionDays);
+        }
+        this.clock = clock;
+        this.userSummaryMapper = userSummaryMapper;
+        this.userSummaryArchiveMapper = userSummaryArchiveMapper;
+        this.retentionDays = retentionDays;
+    }
+
+    /**
+     * アーカイブの基準日を取得する。
+     * 
+     * @return 基準日。この日より前の更新日のユーザ概要をアーカイブする / アーカイブしない場合: null
+     */
+    public LocalDate horizon() {
+        return retentionDays == 0 ? null : LocalDate.now(clock).minusDays(retentionDays);
+    }
+
+    /**
+     * 検索条件の更新日の範囲がアーカイブにかかるか判定する。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return アーカイブも読む必要がある場合: true
+     */
+    public boolean includesArchive(UserSummaryCondition condition) {
+        LocalDate horizon = horizon();
+        if (horizon == null) {
+            return false;
+        }
+        return condition.getBeginUpdatedAt() == null || condition.getBeginUpdatedAt().isBefore(horizon);
+    }
+
+    // NOTE: アーカイブも読む場合は、両方のテーブルのページのユーザIDをSQLで合わせて絞り込み、ページの行だけを読む
+    // NOTE: ユーザ概要だけの検索は、これまでと同じSQLとインデックス、実行計画のままにする
+
+    /**
+     * 検索条件に一致するユーザ概要エンティティを検索する。更新日の範囲がアーカイブにかかる場合はアーカイブも検索する。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要エンティティリスト
+     */
+    public List<UserSummary> find(UserSummaryCondition condition) {
+        if (!includesArchive(condition)) {
+            return userSummaryMapper.find(condition);
+        }
+        return userSummaryArchiveMapper.findWithSummary(condition);
+    }
+
+    // NOTE: アーカイブとの移動はユーザの書き込みと同じトランザクションで行い、同じユーザが両方のテーブルにある状態を見せない
+    // NOTE: アーカイブしない設定に戻した後も、書き込んだユーザはユーザ概要へ戻るように保存日数にかかわらず行う
+    // NOTE: パーティションをアーカイブへコピーしてから削除するまでの間は、同じユーザがユーザ概要にもあるため戻さない
+    // NOTE: そのユーザのアーカイブの行は、パーティションを削除した後にUserSummaryPartitionServiceImplが削除する
+
+    /**
+     * アーカイブにあるユーザ概要エンティティをユーザ概要へ戻す。ユーザ概要を変更する前に呼び出す。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 戻した件数
+     */
+    public int restore(List<String> idList) {
+        List<String> archivedIdList = userSummaryArchiveMapper.findUserIdListNotInSummary(idList);
+        if (archivedIdList.isEmpty()) {
+            return 0;
+        }
+        int count = userSummaryArchiveMapper.copyListToSummary(archivedIdList);
+        userSummaryArchiveMapper.deleteList(archivedIdList);
+        return count;
+    }
+
+}
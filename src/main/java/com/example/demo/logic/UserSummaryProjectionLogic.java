@@ -0,0 +1,145 @@
+package com.example.demo.logic;
+
+import java.util.List;
+import java.util.function.ToIntFunction;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.UserSummaryFacetMapper;
+import com.example.demo.mapper.UserSummaryMapper;
+import com.example.demo.mapper.UserSummaryOutboxMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+// NOTE: ユーザの書き込みと同じトランザクションでユーザ概要へ反映するか、アウトボックスに登録して非同期で反映するかを切り替える
+// NOTE: どちらの場合も戻り値の件数でユーザが存在したかを確認できるようにしている
+// NOTE: 同じトランザクションで反映する場合は、反映するユーザの部署の検索結果をコミット後に破棄する。非同期の場合は反映するジョブで破棄する
+// NOTE: 変更する場合は、アーカイブにあるユーザを先にユーザ概要へ戻す
+// NOTE: 同じトランザクションで反映する場合は、書き込む前と後のユーザ概要の件数で部署と更新日ごとの件数を更新する
+
+/**
+ * ユーザ概要反映ロジック。
+ */
+@RequiredArgsConstructor
+@Component
+public class UserSummaryProjectionLogic {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ概要エンティティマッパー。 */
+    private final UserSummaryMapper userSummaryMapper;
+
+    /** ユーザ概要件数エンティティマッパー。 */
+    private final UserSummaryFacetMapper userSummaryFacetMapper;
+
+    /** ユーザ概要アウトボックスエンティティマッパー。 */
+    private final UserSummaryOutboxMapper userSummaryOutboxMapper;
+
+    /** ユーザ検索キャッシュロジック。 */
+    private final UserSearchCacheLogic userSearchCacheLogic;
+
+    /** ユーザ概要アーカイブロジック。 */
+    private final UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    /** 非同期で反映するか。 */
+    @Value("${summary.projection.async}")
+    private final boolean async;
+
+    /** 1回のSQLで反映する最大件数。 */
+    @Value("${summary.refresh.chunkSize}")
+    private final int chunkSize;
+
+    /**
+     * ユーザ概要へ登録する。非同期の場合はアウトボックスへ登録する。
+     * 
+     * @param id ユーザID
+     * @return 登録成功件数
+     */
+    public int copyFromUser(String id) {
+        if (async) {
+            return userSummaryOutboxMapper.insertFromUser(id);
+        }
+        userSearchCacheLogic.invalidateByUserIdList(List.of(id));
+        int count = userSummaryMapper.copyFromUser(id);
+        userSummaryFacetMapper.addListFromSummary(List.of(id));
+        return count;
+    }
+
+    /**
+     * ユーザ概要へすべて登録する。非同期の場合はアウトボックスへ登録する。件数が多い場合は分割して登録する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 登録成功件数
+     */
+    public int copyListFromUser(List<String> idList) {
+        if (async) {
+            return chunked(idList, userSummaryOutboxMapper::insertListFromUser);
+        }
+        return chunked(idList, chunk -> {
+            userSearchCacheLogic.invalidateByUserIdList(chunk);
+            int count = userSummaryMapper.copyListFromUser(chunk);
+            userSummaryFacetMapper.addListFromSummary(chunk);
+            return count;
+        });
+    }
+
+    /**
+     * ユーザ概要を最新の状態へ変更する。非同期の場合はアウトボックスへ登録する。
+     * 
+     * @param id ユーザID
+     * @return 変更成功件数
+     */
+    public int modifyFromUser(String id) {
+        if (async) {
+            return userSummaryOutboxMapper.insertFromUser(id);
+        }
+        userSummaryArchiveLogic.restore(List.of(id));
+        userSearchCacheLogic.invalidateByUserIdList(List.of(id));
+        userSummaryFacetMapper.subtractListFromSummary(List.of(id));
+        int count = userSummaryMapper.modifyFromUser(id);
+        userSummaryFacetMapper.addListFromSummary(List.of(id));
+        return count;
+    }
+
+    /**
+     * ユーザ概要をすべて最新の状態へ変更する。非同期の場合はアウトボックスへ登録する。件数が多い場合は分割して変更する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 変更成功件数
+     */
+    public int modifyListFromUser(List<String> idList) {
+        if (async) {
+            return chunked(idList, userSummaryOutboxMapper::insertListFromUser);
+        }
+        return chunked(idList, chunk -> {
+            userSummaryArchiveLogic.restore(chunk);
+            userSearchCacheLogic.invalidateByUserIdList(chunk);
+            userSummaryFacetMapper.subtractListFromSummary(chunk);
+            int count = userSummaryMapper.modifyListFromUser(chunk);
+            userSummaryFacetMapper.addListFromSummary(chunk);
+            return count;
+        });
+    }
+
+    // NOTE: IN句が長すぎるとSQLの解析やロックの範囲が大きくなるので、一定の件数ごとに分割して実行する
+
+    /**
+     * IDリストを分割して処理を実行し、成功件数を合計する。
+     * 
+     * @param idList IDリスト
+     * @param action 分割したIDリストに対する処理
+     * @return 成功件数の合計
+     */
+    private int chunked(List<String> idList, ToIntFunction<List<String>> action) {
+        int count = 0;
+        for (int from = 0; from < idList.size(); from += chunkSize) {
+            int to = Math.min(from + chunkSize, idList.size());
+            count += action.applyAsInt(idList.subList(from, to));
+        }
+        return count;
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.example.demo.mapper;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: Entityは値の設定を行うために可変の@Dataとする
+
+/**
+ * ユーザ一括処理ジョブエンティティ。
+ */
+@AllArgsConstructor
+@Data
+public class UserBulkJob {
+
+    /** ジョブID。 */
+    private Long id;
+
+    /** ジョブ種別。 */
+    private String jobType;
+
+    /** ステータス。 */
+    private String status;
+
+    /** 操作者。 */
+    private String operator;
+
+    /** 全件数。 */
+    private Integer totalCount;
+
+    /** 処理済み件数。コミット済みのチェックポイント。 */
+    private Integer processedCount;
+
+    /** エラーID。 */
+    private String errorId;
+
+    /** エラーメッセージ。 */
+    private String errorMessage;
+
+    /** 最終生存確認日時。 */
+    private LocalDateTime heartbeatAt;
+
+    /** 登録日時。 */
+    private LocalDateTime createdAt;
+
+    /** 更新日時。 */
+    private LocalDateTime updatedAt;
+
+}
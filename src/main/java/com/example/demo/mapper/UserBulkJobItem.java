@@ -0,0 +1,37 @@
+package com.example.demo.mapper;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: Entityは値の設定を行うために可変の@Dataとする
+
+/**
+ * ユーザ一括処理ジョブ明細エンティティ。
+ */
+@AllArgsConstructor
+@Data
+public class UserBulkJobItem {
+
+    /** ジョブID。 */
+    private Long jobId;
+
+    /** 明細番号。1から始まる。 */
+    private Integer itemNo;
+
+    /** ユーザID。 */
+    private String userId;
+
+    /** 苗字。 */
+    private String familyName;
+
+    /** 名前。 */
+    private String firstName;
+
+    /** 部署ID。 */
+    private String deptId;
+
+    /** バージョン。 */
+    private Integer version;
+
+}
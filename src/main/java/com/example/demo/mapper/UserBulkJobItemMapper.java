@@ -0,0 +1,35 @@
+package com.example.demo.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * ユーザ一括処理ジョブ明細エンティティマッパー。
+ */
+@Mapper
+public interface UserBulkJobItemMapper {
+
+    /**
+     * 対象のジョブの明細を、明細番号が指定した番号より後のものから順に取得する。
+     * 
+     * @param jobId ジョブID
+     * @param afterItemNo この明細番号より後の明細を取得する
+     * @param limit 取得件数
+     * @return ユーザ一括処理ジョブ明細エンティティリスト
+     */
+    List<UserBulkJobItem> findByJobId(
+            @Param("jobId") long jobId,
+            @Param("afterItemNo") int afterItemNo,
+            @Param("limit") int limit);
+
+    /**
+     * 対象のユーザ一括処理ジョブ明細エンティティをすべて登録する。
+     * 
+     * @param entityList 登録するユーザ一括処理ジョブ明細エンティティリスト
+     * @return 登録成功件数
+     */
+    int insertList(List<UserBulkJobItem> entityList);
+
+}
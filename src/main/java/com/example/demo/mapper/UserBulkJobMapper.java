@@ -0,0 +1,90 @@
+package com.example.demo.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * ユーザ一括処理ジョブエンティティマッパー。
+ */
+@Mapper
+public interface UserBulkJobMapper {
+
+    /**
+     * 対象のジョブIDのユーザ一括処理ジョブエンティティを取得する。
+     * 
+     * @param id ジョブID
+     * @return ユーザ一括処理ジョブエンティティ。存在しない場合はnull
+     */
+    UserBulkJob findById(@Param("id") long id);
+
+    /**
+     * 実行待ち、または生存確認が途絶えた実行中のジョブIDを古い順に取得する。
+     * 
+     * @param staleSeconds 実行中のジョブを途絶えたとみなす経過秒数
+     * @param limit 取得件数
+     * @return ジョブIDリスト
+     */
+    List<Long> findResumableIdList(@Param("staleSeconds") int staleSeconds, @Param("limit") int limit);
+
+    /**
+     * ユーザ一括処理ジョブエンティティを登録する。採番したジョブIDをエンティティに設定する。
+     * 
+     * @param entity 登録するユーザ一括処理ジョブエンティティ
+     * @return 登録成功件数
+     */
+    int insert(UserBulkJob entity);
+
+    /**
+     * 実行待ち、または生存確認が途絶えた実行中のジョブを実行中にする。
+     * 
+     * @param id ジョブID
+     * @param staleSeconds 実行中のジョブを途絶えたとみなす経過秒数
+     * @return 更新成功件数。他で実行中の場合は0
+     */
+    int claim(@Param("id") long id, @Param("staleSeconds") int staleSeconds);
+
+    /**
+     * 処理済み件数を更新し、生存確認日時を更新する。
+     * 
+     * @param id ジョブID
+     * @param fromCount 更新前の処理済み件数
+     * @param toCount 更新後の処理済み件数
+     * @return 更新成功件数。他で処理が進んでいる場合は0
+     */
+    int updateProcessedCount(
+            @Param("id") long id,
+            @Param("fromCount") int fromCount,
+            @Param("toCount") int toCount);
+
+    /**
+     * 実行中のジョブを実行待ちに戻す。停止時に途中のジョブをすぐに再開できるようにする。
+     * 
+     * @param id ジョブID
+     * @return 更新成功件数
+     */
+    int release(@Param("id") long id);
+
+    /**
+     * 実行中のジョブを正常終了にする。
+     * 
+     * @param id ジョブID
+     * @return 更新成功件数
+     */
+    int complete(@Param("id") long id);
+
+    /**
+     * 実行中のジョブを異常終了にする。
+     * 
+     * @param id ジョブID
+     * @param errorId エラーID
+     * @param errorMessage エラーメッセージ
+     * @return 更新成功件数
+     */
+    int fail(
+            @Param("id") long id,
+            @Param("errorId") String errorId,
+            @Param("errorMessage") String errorMessage);
+
+}
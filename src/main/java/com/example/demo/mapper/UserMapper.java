@@ -27,20 +27,20 @@ public interface UserMapper {
     boolean existsByIdList(List<String> idList);
 
     /**
-     * 対象のユーザエンティティを更新する。
+     * 対象のユーザIDのうち、登録済みのユーザIDを取得する。
      * 
-     * @param entity 更新するユーザエンティティ
-     * @return 更新成功件数
+     * @param idList ユーザIDリスト
+     * @return 登録済みのユーザIDリスト
      */
-    int update(User entity);
+    List<String> findExistingIdList(List<String> idList);
 
     /**
-     * 対象のユーザエンティティをすべて更新する。
+     * 対象のユーザエンティティを更新する。
      * 
-     * @param entityList 更新するユーザエンティティリスト
+     * @param entity 更新するユーザエンティティ
      * @return 更新成功件数
      */
-    int updateList(List<User> entityList);
+    int update(User entity);
 
     /**
      * 対象のユーザエンティティを登録する。
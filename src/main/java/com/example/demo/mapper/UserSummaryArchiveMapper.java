@@ -0,0 +1,89 @@
+package com.example.demo.mapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+/**
+ * ユーザ概要アーカイブエンティティマッパー。
+ */
+@Mapper
+public interface UserSummaryArchiveMapper {
+
+    /**
+     * 検索条件に一致するユーザ概要エンティティを、ユーザ概要とアーカイブを合わせて検索する。両方にあるユーザはユーザ概要の行だけを返す。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要エンティティリスト
+     */
+    List<UserSummary> findWithSummary(UserSummaryCondition condition);
+
+    /**
+     * 検索条件に一致するアーカイブのユーザ概要エンティティを1件ずつ取得する。ユーザ概要にもあるユーザは除く。
+     * 
+     * @param condition ユーザ概要の検索条件。リミットとオフセットは使わない
+     * @return ユーザ概要エンティティのカーソル
+     */
+    Cursor<UserSummary> findCursor(UserSummaryCondition condition);
+
+    /**
+     * 更新日が基準日より前のユーザ概要エンティティのユーザIDを古い順に取得し、行ロックする。他のトランザクションがロック中の行は読み飛ばす。
+     * 
+     * @param horizon 基準日
+     * @param limit 取得件数
+     * @return ユーザIDリスト
+     */
+    List<String> findUserIdListForArchive(@Param("horizon") LocalDate horizon, @Param("limit") int limit);
+
+    /**
+     * 対象のユーザのうち、アーカイブにだけあるユーザのユーザIDを取得する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return ユーザIDリスト
+     */
+    List<String> findUserIdListNotInSummary(List<String> idList);
+
+    /**
+     * 対象のユーザ概要エンティティをアーカイブへすべて登録する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 登録、変更の影響件数
+     */
+    int copyListFromSummary(List<String> idList);
+
+    /**
+     * 対象のユーザ概要エンティティをすべて削除する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 削除成功件数
+     */
+    int deleteSummaryList(List<String> idList);
+
+    /**
+     * 対象のアーカイブのユーザ概要エンティティをユーザ概要へすべて戻す。ユーザ概要にもあるユーザは戻さない。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 登録成功件数
+     */
+    int copyListToSummary(List<String> idList);
+
+    /**
+     * 対象のアーカイブのユーザ概要エンティティをすべて削除する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 削除成功件数
+     */
+    int deleteList(List<String> idList);
+
+    /**
+     * ユーザ概要にもあるアーカイブのユーザ概要エンティティを削除する。
+     * 
+     * @param since ユーザ概要の更新日がこの日以降のユーザだけを対象にする / すべてのユーザを対象にする場合: null
+     * @return 削除成功件数
+     */
+    int deleteListInSummary(@Param("since") LocalDate since);
+
+}
@@ -33,4 +33,7 @@ public class UserSummaryCondition {
     /** オフセット。0以上。 */
     private Integer offset;
 
+    /** 検索開始位置のユーザID。このユーザIDより後のデータを検索する。 */
+    private String afterUserId;
+
 }
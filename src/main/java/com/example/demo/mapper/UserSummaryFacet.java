@@ -0,0 +1,27 @@
+package com.example.demo.mapper;
+
+import java.time.LocalDate;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: Entityは値の設定を行うために可変の@Dataとする
+
+/**
+ * ユーザ概要件数エンティティ。
+ */
+@AllArgsConstructor
+@Data
+public class UserSummaryFacet {
+
+    /** 部署ID。 */
+    private String deptId;
+
+    /** 最終更新日。 */
+    private LocalDate lastUpdatedAt;
+
+    /** ユーザ数。 */
+    private Integer userCount;
+
+}
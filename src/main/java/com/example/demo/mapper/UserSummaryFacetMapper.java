@@ -0,0 +1,45 @@
+package com.example.demo.mapper;
+
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+
+/**
+ * ユーザ概要件数エンティティマッパー。
+ */
+@Mapper
+public interface UserSummaryFacetMapper {
+
+    /**
+     * 検索条件の部署と更新日に一致する部署と更新日ごとの件数を集計表から取得する。フルネームは使わない。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要件数エンティティリスト
+     */
+    List<UserSummaryFacet> find(UserSummaryCondition condition);
+
+    /**
+     * 検索条件に一致する部署と更新日ごとの件数をユーザ概要とアーカイブから数える。フルネームを指定した場合に使う。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要件数エンティティリスト
+     */
+    List<UserSummaryFacet> findFromSummary(UserSummaryCondition condition);
+
+    /**
+     * 対象のユーザ概要エンティティの件数を集計表から引く。ユーザ概要を書き込む前に呼び出す。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 登録、変更の影響件数
+     */
+    int subtractListFromSummary(List<String> idList);
+
+    /**
+     * 対象のユーザ概要エンティティの件数を集計表に足す。ユーザ概要を書き込んだ後に呼び出す。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 登録、変更の影響件数
+     */
+    int addListFromSummary(List<String> idList);
+
+}
@@ -4,6 +4,7 @@ import java.util.List;
 
 import org.apache.ibatis.annotations.Mapper;
 import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
 /**
  * ユーザ概要エンティティマッパー。
@@ -19,6 +20,22 @@ public interface UserSummaryMapper {
      */
     List<UserSummary> find(UserSummaryCondition condition);
 
+    /**
+     * 検索条件に一致するユーザ概要エンティティを1件ずつ取得するカーソルを返却する。トランザクション内で使用すること。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要エンティティのカーソル
+     */
+    Cursor<UserSummary> findCursor(UserSummaryCondition condition);
+
+    /**
+     * 対象のユーザの、ユーザ概要の部署IDとユーザの部署IDを重複なく取得する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 部署IDリスト
+     */
+    List<String> findDeptIdListByUserIdList(List<String> idList);
+
     /**
      * 対象のユーザエンティティからユーザ概要エンティティへレコードをコピーする。
      * 
@@ -36,7 +53,7 @@ public interface UserSummaryMapper {
     int copyListFromUser(List<String> idList);
 
     /**
-     * 対象のユーザエンティティからユーザ概要エンティティへレコードを最新の状態へ変更する。
+     * 対象のユーザエンティティからユーザ概要エンティティへレコードを最新の状態へ変更する。バージョンが同じ場合は変更しない。
      * 
      * @param id ユーザID
      * @return 最新の状態へ変更成功件数
@@ -44,11 +61,27 @@ public interface UserSummaryMapper {
     int modifyFromUser(@Param("id") String id);
 
     /**
-     * 対象のユーザエンティティからユーザ概要エンティティへレコードをすべて最新の状態へ変更する。
+     * 対象のユーザエンティティからユーザ概要エンティティへレコードをすべて最新の状態へ変更する。バージョンが同じ場合は変更しない。
      * 
      * @param idList ユーザIDリスト
      * @return 最新の状態へ変更成功件数
      */
     int modifyListFromUser(List<String> idList);
 
+    /**
+     * 対象のユーザエンティティより古いバージョンで、更新日が今日でないユーザ概要エンティティをすべて削除する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 削除成功件数
+     */
+    int deleteStaleListFromUser(List<String> idList);
+
+    /**
+     * 対象のユーザエンティティからユーザ概要エンティティへレコードをすべて登録、または最新の状態へ変更する。ユーザ概要エンティティのバージョンより古い状態には戻さない。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 登録、変更の影響件数
+     */
+    int upsertListFromUser(List<String> idList);
+
 }
\ No newline at end of file
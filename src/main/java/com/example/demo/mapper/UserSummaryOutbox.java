@@ -0,0 +1,30 @@
+package com.example.demo.mapper;
+
+import java.time.LocalDateTime;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: Entityは値の設定を行うために可変の@Dataとする
+
+/**
+ * ユーザ概要アウトボックスエンティティ。
+ */
+@AllArgsConstructor
+@Data
+public class UserSummaryOutbox {
+
+    /** アウトボックスID。 */
+    private Long id;
+
+    /** ユーザID。 */
+    private String userId;
+
+    /** ユーザバージョン。 */
+    private Integer userVersion;
+
+    /** 登録日時。 */
+    private LocalDateTime createdAt;
+
+}
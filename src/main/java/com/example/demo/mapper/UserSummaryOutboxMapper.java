@@ -0,0 +1,61 @@
+package com.example.demo.mapper;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * ユーザ概要アウトボックスエンティティマッパー。
+ */
+@Mapper
+public interface UserSummaryOutboxMapper {
+
+    /**
+     * 対象のユーザエンティティの変更をアウトボックスへ登録する。
+     * 
+     * @param id ユーザID
+     * @return 登録成功件数
+     */
+    int insertFromUser(@Param("id") String id);
+
+    /**
+     * 対象のユーザエンティティの変更をアウトボックスへすべて登録する。
+     * 
+     * @param idList ユーザIDリスト
+     * @return 登録成功件数
+     */
+    int insertListFromUser(List<String> idList);
+
+    /**
+     * 古い順にアウトボックスエンティティを取得し、行ロックする。他のトランザクションがロック中の行は読み飛ばす。
+     * 
+     * @param limit 取得件数
+     * @return ユーザ概要アウトボックスエンティティリスト
+     */
+    List<UserSummaryOutbox> findOldestForUpdate(@Param("limit") int limit);
+
+    /**
+     * アウトボックスエンティティをすべて削除する。
+     * 
+     * @param idList アウトボックスIDリスト
+     * @return 削除成功件数
+     */
+    int deleteByIdList(List<Long> idList);
+
+    /**
+     * 未反映のアウトボックスエンティティの件数を取得する。
+     * 
+     * @return 未反映件数
+     */
+    long count();
+
+    /**
+     * 最も古い未反映のアウトボックスエンティティの登録日時を取得する。
+     * 
+     * @return 登録日時。未反映のものがない場合はnull
+     */
+    LocalDateTime findOldestCreatedAt();
+
+}
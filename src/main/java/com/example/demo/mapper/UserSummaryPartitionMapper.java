@@ -0,0 +1,84 @@
+package com.example.demo.mapper;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+/**
+ * ユーザ概要パーティションマッパー。
+ */
+@Mapper
+public interface UserSummaryPartitionMapper {
+
+    /**
+     * ユーザ概要テーブルのパーティション名を順にすべて取得する。
+     * 
+     * @return パーティション名リスト / 分割していない場合: 空のリスト
+     */
+    List<String> findPartitionNameList();
+
+    /**
+     * このセッションのメタデータロックの待ち時間を設定する。
+     * 
+     * @param seconds 待ち時間（秒）
+     * @return 影響件数
+     */
+    int setLockWaitTimeout(@Param("seconds") int seconds);
+
+    /**
+     * このセッションのメタデータロックの待ち時間をサーバの設定に戻す。
+     * 
+     * @return 影響件数
+     */
+    int resetLockWaitTimeout();
+
+    /**
+     * パーティションに行があるかどうか。
+     * 
+     * @param name パーティション名
+     * @return ある: true / ない: false
+     */
+    boolean existsRowInPartition(@Param("name") String name);
+
+    /**
+     * 上限のパーティションを分割し、指定の日付より前のパーティションを作成する。
+     * 
+     * @param name パーティション名
+     * @param lessThan この日付より前の行を格納する
+     * @return 影響件数
+     */
+    int addPartition(@Param("name") String name, @Param("lessThan") LocalDate lessThan);
+
+    /**
+     * パーティションのユーザIDを、指定のユーザIDより後から順に取得する。
+     * 
+     * @param name パーティション名
+     * @param afterUserId このユーザIDより後から取得する / 先頭から取得する場合: null
+     * @param limit 取得件数
+     * @return ユーザIDリスト
+     */
+    List<String> findUserIdListInPartition(
+            @Param("name") String name,
+            @Param("afterUserId") String afterUserId,
+            @Param("limit") int limit);
+
+    /**
+     * パーティションの対象の行をアーカイブへすべて登録する。
+     * 
+     * @param name パーティション名
+     * @param idList ユーザIDリスト
+     * @return 登録、変更の影響件数
+     */
+    int copyPartitionToArchive(@Param("name") String name, @Param("idList") List<String> idList);
+
+    /**
+     * パーティションを行ごと削除する。
+     * 
+     * @param name パーティション名
+     * @return 影響件数
+     */
+    int dropPartition(@Param("name") String name);
+
+}
@@ -9,11 +9,18 @@ package com.example.demo.service;
 public interface DepartmentService {
 
     /**
-     * すべての部署結果を取得する。
+     * 部署の版数を取得する。部署が変わった場合は版数も変わる。
      * 
      * @param operator 操作者
+     * @return 部署の版数
+     */
+    long fetchVersion(String operator);
+
+    /**
+     * すべての部署結果を取得する。
+     * 
      * @return 部署結果
      */
-    DepartmentResult fetchAll(String operator);
+    DepartmentResult fetchAll();
 
 }
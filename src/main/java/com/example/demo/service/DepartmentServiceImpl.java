@@ -5,12 +5,11 @@ import java.util.List;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.LoggingLogic;
 import com.example.demo.mapper.Department;
-import com.example.demo.mapper.DepartmentMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -31,8 +30,8 @@ public class DepartmentServiceImpl implements DepartmentService {
     /** 部署サービスコンバーター。 */
     private final DepartmentServiceImplConverter converter;
 
-    /** 部署エンティティマッパー。 */
-    private final DepartmentMapper departmentMapper;
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
 
     /** ロギングロジック。 */
     private final LoggingLogic loggingLogic;
@@ -45,24 +44,37 @@ public class DepartmentServiceImpl implements DepartmentService {
     /** ロガー。 */
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
+    // NOTE: 部署はキャッシュから取得してDBに問い合わせないため、コネクションを確保しないようにトランザクションを開始しない
+    // NOTE: 部署全件取得APIは毎回この処理を呼び出すため、操作ログはここで保存する
+
     /**
      * {@inheritDoc}
      */
-    @Transactional(rollbackFor = Exception.class, readOnly = true)
-    public DepartmentResult fetchAll(String operator) {
-        // 部署をすべて取得する
-        logger.debug("部署をすべて取得する");
-        List<Department> entityList = departmentMapper.findAll();
-
-        // 部署結果を作成する
-        logger.debug("部署結果を作成する");
-        DepartmentResult result = converter.convertToResult(entityList);
+    public long fetchVersion(String operator) {
+        // 部署の版数をキャッシュから取得する
+        logger.debug("部署の版数をキャッシュから取得する");
+        long version = departmentCacheLogic.getVersion();
 
         // 外部APIで操作ログを保存する
         logger.debug("外部APIで操作ログを保存する");
         loggingLogic.logOperation(OperationConstants.DEPARTMENT_FETCH_ALL, operator);
 
-        return result;
+        return version;
+    }
+
+    // NOTE: 部署全件取得APIは版数が変わった場合だけこの処理を呼び出す
+
+    /**
+     * {@inheritDoc}
+     */
+    public DepartmentResult fetchAll() {
+        // 部署をキャッシュからすべて取得する
+        logger.debug("部署をキャッシュからすべて取得する");
+        List<Department> entityList = departmentCacheLogic.findAll();
+
+        // 部署結果を作成する
+        logger.debug("部署結果を作成する");
+        return converter.convertToResult(entityList);
     }
 
 }
@@ -19,4 +19,14 @@ public interface UserBulkCreateService {
      */
     void bulkCreate(String operator, UserBulkCreateParam param) throws ApplicationException;
 
+    /**
+     * 複数のユーザを作成する。作成できなかった明細があっても、作成できた明細はコミットする。
+     * 
+     * @param operator 操作者
+     * @param bulkParam 複数のユーザ作成パラメータ
+     * @return 複数のユーザ作成・更新結果
+     * @throws ApplicationException 業務エラー
+     */
+    UserBulkResult bulkCreatePartial(String operator, UserBulkCreateParam bulkParam) throws ApplicationException;
+
 }
@@ -1,7 +1,10 @@
 package com.example.demo.service;
 
+import java.util.HashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -9,13 +12,15 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.BulkItemStatusConstants;
 import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.ExceptionCreator;
 import com.example.demo.logic.LoggingLogic;
-import com.example.demo.mapper.DepartmentMapper;
+import com.example.demo.logic.UserBatchWriteLogic;
+import com.example.demo.logic.UserSummaryProjectionLogic;
 import com.example.demo.mapper.User;
 import com.example.demo.mapper.UserMapper;
-import com.example.demo.mapper.UserSummaryMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,14 +44,17 @@ public class UserBulkCreateServiceImpl implements UserBulkCreateService {
     /** 複数のユーザ作成サービスコンバーター。 */
     private final UserBulkCreateServiceImplConverter converter;
 
-    /** 部署エンティティマッパー。 */
-    private final DepartmentMapper departmentMapper;
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
 
     /** ユーザエンティティマッパー。 */
     private final UserMapper userMapper;
 
-    /** ユーザ概要エンティティマッパー。 */
-    private final UserSummaryMapper userSummaryMapper;
+    /** ユーザ概要反映ロジック。 */
+    private final UserSummaryProjectionLogic userSummaryProjectionLogic;
+
+    /** ユーザのバッチ書き込みロジック。 */
+    private final UserBatchWriteLogic userBatchWriteLogic;
 
     /** 業務エラー作成。 */
     private final ExceptionCreator exceptionCreator;
@@ -78,7 +86,7 @@ public class UserBulkCreateServiceImpl implements UserBulkCreateService {
 
         // 登録する部署IDが存在することを確認する
         logger.debug("登録する部署IDが存在することを確認する");
-        boolean existsDept = departmentMapper.existsByIdList(deptIdList);
+        boolean existsDept = departmentCacheLogic.existsByIdList(deptIdList);
         if (!existsDept) {
             throw exceptionCreator.create("401", deptIds(entityList));
         }
@@ -102,7 +110,7 @@ public class UserBulkCreateServiceImpl implements UserBulkCreateService {
 
         // サマリーテーブルにコピーし、コピーが成功しているか確認する
         logger.debug("サマリーテーブルにコピーし、コピーが成功しているか確認する");
-        int copiedCount = userSummaryMapper.copyListFromUser(userIdList);
+        int copiedCount = userSummaryProjectionLogic.copyListFromUser(userIdList);
         if (copiedCount != entityList.size()) {
             throw exceptionCreator.create("301", userIds(entityList));
         }
@@ -112,6 +120,60 @@ public class UserBulkCreateServiceImpl implements UserBulkCreateService {
         externalApiLogic.logOperation(OperationConstants.USER_BULK_CREATE, operator);
     }
 
+    // NOTE: UserBatchWriteLogicのトランザクションでコミットするため、ここではトランザクションを開始しない
+    // NOTE: 操作ログはトランザクション外ですぐに送信待ちになるため、UserBatchWriteLogicのコミットの後に保存する
+    // NOTE: 登録とユーザ概要へのコピーはUserBatchWriteLogicのトランザクションでまとめてロールバックされる
+
+    /**
+     * {@inheritDoc}
+     */
+    public UserBulkResult bulkCreatePartial(String operator, UserBulkCreateParam bulkParam)
+            throws ApplicationException {
+        // 登録するエンティティを作成する
+        logger.debug("登録するエンティティを作成する");
+        List<User> entityList = converter.convertToEntity(bulkParam);
+
+        // 登録に使用できる部署IDを取得する
+        logger.debug("登録に使用できる部署IDを取得する");
+        Set<String> deptIdSet = departmentCacheLogic.findIdSet();
+
+        // 登録済みのユーザIDを取得する
+        logger.debug("登録済みのユーザIDを取得する");
+        List<String> userIdList = entityList.stream().map(User::getId).toList();
+        Set<String> existingIdSet = new HashSet<>(userMapper.findExistingIdList(userIdList));
+
+        // 明細ごとに登録できるか判定する
+        List<String> statusList = entityList
+                .stream()
+                .map(entity -> {
+                    if (!deptIdSet.contains(entity.getDeptId())) {
+                        return BulkItemStatusConstants.MISSING_DEPT;
+                    }
+                    if (existingIdSet.contains(entity.getId())) {
+                        return BulkItemStatusConstants.DUPLICATE;
+                    }
+                    return BulkItemStatusConstants.OK;
+                })
+                .toList();
+        List<User> insertList = IntStream
+                .range(0, entityList.size())
+                .filter(i -> BulkItemStatusConstants.OK.equals(statusList.get(i)))
+                .mapToObj(entityList::get)
+                .toList();
+
+        // 登録できる明細だけをバッチ実行で登録する
+        if (!insertList.isEmpty()) {
+            logger.debug("登録できる明細だけをバッチ実行で登録する");
+            userBatchWriteLogic.insertChunk(insertList);
+
+            // 外部APIで操作ログを保存する
+            logger.debug("外部APIで操作ログを保存する");
+            externalApiLogic.logOperation(OperationConstants.USER_BULK_CREATE, operator);
+        }
+
+        return converter.convertToResult(entityList, statusList);
+    }
+
     // NOTE: メインの業務処理外で共通の内容はprivateメソッドに切り出す
 
     /**
@@ -5,6 +5,7 @@ import java.util.stream.IntStream;
 
 import org.springframework.stereotype.Component;
 
+import com.example.demo.constant.BulkItemStatusConstants;
 import com.example.demo.logic.GenerateIdLogic;
 import com.example.demo.mapper.User;
 
@@ -22,15 +23,14 @@ import lombok.RequiredArgsConstructor;
 @Component
 public class UserBulkCreateServiceImplConverter {
 
-    /** IDのフォーマット。 */
-    private final static String FORMAT = "%s_%02d";
-
     // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
     // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
 
     /** ID生成ロジック。 */
     private final GenerateIdLogic generateIdLogic;
 
+    // NOTE: 必要な数のIDは1回でまとめて採番する
+
     /**
      * 複数のユーザ作成パラメータをユーザエンティティリストに変換する。
      * 
@@ -38,15 +38,15 @@ public class UserBulkCreateServiceImplConverter {
      * @return ユーザエンティティリスト
      */
     public List<User> convertToEntity(UserBulkCreateParam bulkParam) {
-        String id = generateIdLogic.generateId();
-
         List<UserCreateParam> paramList = bulkParam.getList();
 
+        List<String> idList = generateIdLogic.generateIdList(paramList.size());
+
         List<User> entityList = IntStream.range(0, paramList.size())
                 .mapToObj(i -> {
                     UserCreateParam param = paramList.get(i);
                     User entity = new User(
-                            String.format(FORMAT, id, i + 1),
+                            idList.get(i),
                             param.getFamilyName(),
                             param.getFirstName(),
                             param.getDeptId(),
@@ -57,4 +57,32 @@ public class UserBulkCreateServiceImplConverter {
         return entityList;
     }
 
+    /**
+     * ユーザエンティティリストと明細ごとの結果リストを複数のユーザ作成・更新結果に変換する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @param statusList 明細ごとの結果リスト
+     * @return 複数のユーザ作成・更新結果
+     */
+    public UserBulkResult convertToResult(List<User> entityList, List<String> statusList) {
+        List<UserBulkResultItemData> itemList = IntStream.range(0, entityList.size())
+                .mapToObj(i -> {
+                    UserBulkResultItemData item = new UserBulkResultItemData(
+                            i + 1,
+                            entityList.get(i).getId(),
+                            statusList.get(i));
+                    return item;
+                })
+                .toList();
+
+        int succeededCount = (int) statusList.stream().filter(BulkItemStatusConstants.OK::equals).count();
+
+        UserBulkResult result = new UserBulkResult(
+                entityList.size(),
+                succeededCount,
+                entityList.size() - succeededCount,
+                itemList);
+        return result;
+    }
+
 }
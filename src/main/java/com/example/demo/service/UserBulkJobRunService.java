@@ -0,0 +1,18 @@
+package com.example.demo.service;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザ一括処理ジョブ実行サービス。
+ */
+public interface UserBulkJobRunService {
+
+    /**
+     * ジョブの実行権を取得し、処理済み件数の次の明細からチャンクごとに処理する。
+     * 
+     * @param id ジョブID
+     */
+    void run(long id);
+
+}
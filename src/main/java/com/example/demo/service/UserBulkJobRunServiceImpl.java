@@ -0,0 +1,120 @@
+package com.example.demo.service;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.TransientDataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.BulkJobConstants;
+import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserBulkJobChunkLogic;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+
+/**
+ * ユーザ一括処理ジョブ実行サービス実装。
+ */
+@RequiredArgsConstructor
+@Service
+public class UserBulkJobRunServiceImpl implements UserBulkJobRunService {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ一括処理ジョブエンティティマッパー。 */
+    private final UserBulkJobMapper userBulkJobMapper;
+
+    /** ユーザ一括処理ジョブのチャンク処理ロジック。 */
+    private final UserBulkJobChunkLogic userBulkJobChunkLogic;
+
+    /** 業務エラー作成。 */
+    private final ExceptionCreator exceptionCreator;
+
+    /** ロギングロジック。 */
+    private final LoggingLogic loggingLogic;
+
+    /** 1チャンクの最大件数。 */
+    @Value("${user.bulkJob.chunkSize}")
+    private final int chunkSize;
+
+    /** 実行中のジョブを途絶えたとみなす経過秒数。 */
+    @Value("${user.bulkJob.staleSeconds}")
+    private final int staleSeconds;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: 全体を1つのトランザクションにはせず、チャンクごとにUserBulkJobChunkLogicでコミットする
+    // NOTE: 一時的なDBエラーの場合は実行中のまま終了し、生存確認が途絶えた後に再開させる
+    // NOTE: 停止のために割り込まれた場合は実行待ちに戻し、次回の起動時にチェックポイントから再開させる
+
+    /**
+     * {@inheritDoc}
+     */
+    public void run(long id) {
+        // ジョブの実行権を取得する
+        logger.debug("ジョブの実行権を取得する");
+        int claimedCount = userBulkJobMapper.claim(id, staleSeconds);
+        if (claimedCount != 1) {
+            logger.info("ジョブ{}は実行中または終了済みのため実行しません。", id);
+            return;
+        }
+        UserBulkJob job = userBulkJobMapper.findById(id);
+
+        // チェックポイントから1チャンクずつ処理する
+        logger.debug("チェックポイントから1チャンクずつ処理する");
+        try {
+            int processedCount;
+            while ((processedCount = userBulkJobChunkLogic.processChunk(job, chunkSize)) > 0) {
+                job.setProcessedCount(job.getProcessedCount() + processedCount);
+                logger.info("ジョブ{}の進捗：{}/{}件", id, job.getProcessedCount(), job.getTotalCount());
+
+                if (Thread.currentThread().isInterrupted()) {
+                    userBulkJobMapper.release(id);
+                    logger.info("ジョブ{}を中断しました。次回の起動時に{}件目から再開します。", id, job.getProcessedCount() + 1);
+                    return;
+                }
+            }
+        } catch (ApplicationException ex) {
+            userBulkJobMapper.fail(id, ex.getErrorId(), ex.getErrorMessage());
+            logger.warn("ジョブ{}が異常終了しました：{}", id, ex.getErrorMessage());
+            return;
+        } catch (TransientDataAccessException ex) {
+            logger.warn("ジョブ{}で一時的なDBエラーが発生しました。{}秒後以降に再開します。", id, staleSeconds, ex);
+            return;
+        } catch (DataAccessException ex) {
+            ApplicationException dbError = exceptionCreator.create("902");
+            userBulkJobMapper.fail(id, dbError.getErrorId(), dbError.getErrorMessage());
+            logger.warn("ジョブ{}が異常終了しました。", id, ex);
+            return;
+        }
+
+        // ジョブを正常終了にする
+        logger.debug("ジョブを正常終了にする");
+        userBulkJobMapper.complete(id);
+
+        // 外部APIで操作ログを保存する
+        logger.debug("外部APIで操作ログを保存する");
+        String operation = BulkJobConstants.TYPE_CREATE.equals(job.getJobType())
+                ? OperationConstants.USER_BULK_CREATE
+                : OperationConstants.USER_BULK_UPDATE;
+        loggingLogic.logOperation(operation, job.getOperator());
+    }
+
+}
@@ -0,0 +1,42 @@
+package com.example.demo.service;
+
+import com.example.demo.common.exception.ApplicationException;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザ一括処理ジョブサービス。
+ */
+public interface UserBulkJobService {
+
+    /**
+     * 複数のユーザを作成するジョブを登録する。
+     * 
+     * @param operator 操作者
+     * @param bulkParam 複数のユーザ作成パラメータ
+     * @return ユーザ一括処理ジョブ結果
+     * @throws ApplicationException 業務エラー
+     */
+    UserBulkJobResult submitCreate(String operator, UserBulkCreateParam bulkParam) throws ApplicationException;
+
+    /**
+     * 複数のユーザを更新するジョブを登録する。
+     * 
+     * @param operator 操作者
+     * @param bulkParam 複数のユーザ更新パラメータ
+     * @return ユーザ一括処理ジョブ結果
+     * @throws ApplicationException 業務エラー
+     */
+    UserBulkJobResult submitUpdate(String operator, UserBulkUpdateParam bulkParam) throws ApplicationException;
+
+    /**
+     * ジョブの状態を取得する。
+     * 
+     * @param id ジョブID
+     * @return ユーザ一括処理ジョブ結果
+     * @throws ApplicationException 業務エラー
+     */
+    UserBulkJobResult find(long id) throws ApplicationException;
+
+}
@@ -0,0 +1,192 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.BulkJobConstants;
+import com.example.demo.job.UserBulkJobWorker;
+import com.example.demo.logic.DepartmentCacheLogic;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobItem;
+import com.example.demo.mapper.UserBulkJobItemMapper;
+import com.example.demo.mapper.UserBulkJobMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+
+/**
+ * ユーザ一括処理ジョブサービス実装。
+ */
+@RequiredArgsConstructor
+@Service
+public class UserBulkJobServiceImpl implements UserBulkJobService {
+
+    /** 区切り文字。 */
+    private static final String SEP = ",";
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ一括処理ジョブサービスコンバーター。 */
+    private final UserBulkJobServiceImplConverter converter;
+
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
+
+    /** ユーザ一括処理ジョブエンティティマッパー。 */
+    private final UserBulkJobMapper userBulkJobMapper;
+
+    /** ユーザ一括処理ジョブ明細エンティティマッパー。 */
+    private final UserBulkJobItemMapper userBulkJobItemMapper;
+
+    /** ユーザ一括処理ジョブのワーカー。 */
+    private final UserBulkJobWorker userBulkJobWorker;
+
+    /** 業務エラー作成。 */
+    private final ExceptionCreator exceptionCreator;
+
+    /** 1回のSQLで登録する明細の最大件数。 */
+    @Value("${user.bulkJob.chunkSize}")
+    private final int chunkSize;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: rollbackForでどんな例外が発生してもロールバックするように設定
+    // NOTE: リクエストのスレッドではジョブと明細の登録だけを行い、ユーザの登録はワーカーで行う
+    // NOTE: 操作ログはワーカーでジョブが正常終了した時に保存する
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public UserBulkJobResult submitCreate(String operator, UserBulkCreateParam bulkParam)
+            throws ApplicationException {
+        // 重複のない部署IDリストを取得する
+        List<String> deptIdList = bulkParam.getList().stream().map(UserCreateParam::getDeptId).distinct().toList();
+
+        // 登録する部署IDが存在することを確認する
+        logger.debug("登録する部署IDが存在することを確認する");
+        boolean existsDept = departmentCacheLogic.existsByIdList(deptIdList);
+        if (!existsDept) {
+            throw exceptionCreator.create("401", String.join(SEP, deptIdList));
+        }
+
+        // ジョブを登録する
+        logger.debug("ジョブを登録する");
+        UserBulkJob entity = converter.convertToEntity(operator, BulkJobConstants.TYPE_CREATE,
+                bulkParam.getList().size());
+        insertJob(entity);
+
+        // ジョブの明細を登録する
+        logger.debug("ジョブの明細を登録する");
+        List<UserBulkJobItem> itemList = converter.convertToItemList(entity.getId(), bulkParam);
+        insertItemList(entity.getId(), itemList);
+
+        // コミット後にワーカーでジョブを実行する
+        logger.debug("コミット後にワーカーでジョブを実行する");
+        userBulkJobWorker.submitAfterCommit(entity.getId());
+
+        UserBulkJobResult result = converter.convertToResult(userBulkJobMapper.findById(entity.getId()));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public UserBulkJobResult submitUpdate(String operator, UserBulkUpdateParam bulkParam)
+            throws ApplicationException {
+        // 重複のない部署IDリストを取得する
+        List<String> deptIdList = bulkParam.getList().stream().map(UserUpdateParam::getDeptId).distinct().toList();
+
+        // 更新に使用する部署IDが存在することを確認する
+        logger.debug("更新に使用する部署IDが存在することを確認する");
+        boolean existsDept = departmentCacheLogic.existsByIdList(deptIdList);
+        if (!existsDept) {
+            throw exceptionCreator.create("402", String.join(SEP, deptIdList));
+        }
+
+        // ジョブを登録する
+        logger.debug("ジョブを登録する");
+        UserBulkJob entity = converter.convertToEntity(operator, BulkJobConstants.TYPE_UPDATE,
+                bulkParam.getList().size());
+        insertJob(entity);
+
+        // ジョブの明細を登録する
+        logger.debug("ジョブの明細を登録する");
+        List<UserBulkJobItem> itemList = converter.convertToItemList(entity.getId(), bulkParam);
+        insertItemList(entity.getId(), itemList);
+
+        // コミット後にワーカーでジョブを実行する
+        logger.debug("コミット後にワーカーでジョブを実行する");
+        userBulkJobWorker.submitAfterCommit(entity.getId());
+
+        UserBulkJobResult result = converter.convertToResult(userBulkJobMapper.findById(entity.getId()));
+        return result;
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(rollbackFor = Exception.class, readOnly = true)
+    public UserBulkJobResult find(long id) throws ApplicationException {
+        // ジョブを取得し、存在することを確認する
+        logger.debug("ジョブを取得し、存在することを確認する");
+        UserBulkJob entity = userBulkJobMapper.findById(id);
+        if (entity == null) {
+            throw exceptionCreator.create("103", id);
+        }
+
+        UserBulkJobResult result = converter.convertToResult(entity);
+        return result;
+    }
+
+    // NOTE: メインの業務処理外で共通の内容はprivateメソッドに切り出す
+
+    /**
+     * ジョブを登録し、登録が成功しているか確認する。
+     * 
+     * @param entity ユーザ一括処理ジョブエンティティ
+     * @throws ApplicationException 登録に失敗した場合
+     */
+    private void insertJob(UserBulkJob entity) throws ApplicationException {
+        int insertedCount = userBulkJobMapper.insert(entity);
+        if (insertedCount != 1) {
+            throw exceptionCreator.create("201", entity.getJobType());
+        }
+    }
+
+    /**
+     * ジョブの明細を最大件数ごとに分割して登録し、登録が成功しているか確認する。
+     * 
+     * @param jobId ジョブID
+     * @param itemList ユーザ一括処理ジョブ明細エンティティリスト
+     * @throws ApplicationException 登録に失敗した場合
+     */
+    private void insertItemList(long jobId, List<UserBulkJobItem> itemList) throws ApplicationException {
+        for (int from = 0; from < itemList.size(); from += chunkSize) {
+            List<UserBulkJobItem> chunk = itemList.subList(from, Math.min(from + chunkSize, itemList.size()));
+            int insertedCount = userBulkJobItemMapper.insertList(chunk);
+            if (insertedCount != chunk.size()) {
+                throw exceptionCreator.create("201", jobId);
+            }
+        }
+    }
+
+}
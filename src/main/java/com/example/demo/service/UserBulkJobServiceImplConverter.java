@@ -0,0 +1,133 @@
+package com.example.demo.service;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.constant.BulkJobConstants;
+import com.example.demo.logic.GenerateIdLogic;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobItem;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザ一括処理ジョブサービスコンバーター。
+ */
+@RequiredArgsConstructor
+@Component
+public class UserBulkJobServiceImplConverter {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ID生成ロジック。 */
+    private final GenerateIdLogic generateIdLogic;
+
+    /**
+     * 実行待ちのユーザ一括処理ジョブエンティティを作成する。
+     * 
+     * @param operator 操作者
+     * @param jobType ジョブ種別
+     * @param totalCount 全件数
+     * @return ユーザ一括処理ジョブエンティティ
+     */
+    public UserBulkJob convertToEntity(String operator, String jobType, int totalCount) {
+        UserBulkJob entity = new UserBulkJob(
+                null,
+                jobType,
+                BulkJobConstants.STATUS_QUEUED,
+                operator,
+                totalCount,
+                0,
+                null,
+                null,
+                null,
+                null,
+                null);
+        return entity;
+    }
+
+    // NOTE: 再開時に同じユーザIDで登録できるように、ユーザIDはジョブの登録時に採番して明細に保存する
+    // NOTE: 必要な数のIDは1回でまとめて採番する
+
+    /**
+     * 複数のユーザ作成パラメータをユーザ一括処理ジョブ明細エンティティリストに変換する。
+     * 
+     * @param jobId ジョブID
+     * @param bulkParam 複数のユーザ作成パラメータ
+     * @return ユーザ一括処理ジョブ明細エンティティリスト
+     */
+    public List<UserBulkJobItem> convertToItemList(long jobId, UserBulkCreateParam bulkParam) {
+        List<UserCreateParam> paramList = bulkParam.getList();
+        List<UserBulkJobItem> itemList = new ArrayList<>(paramList.size());
+
+        List<String> idList = generateIdLogic.generateIdList(paramList.size());
+        for (int i = 0; i < paramList.size(); i++) {
+            UserCreateParam param = paramList.get(i);
+            UserBulkJobItem item = new UserBulkJobItem(
+                    jobId,
+                    i + 1,
+                    idList.get(i),
+                    param.getFamilyName(),
+                    param.getFirstName(),
+                    param.getDeptId(),
+                    0);
+            itemList.add(item);
+        }
+        return itemList;
+    }
+
+    /**
+     * 複数のユーザ更新パラメータをユーザ一括処理ジョブ明細エンティティリストに変換する。
+     * 
+     * @param jobId ジョブID
+     * @param bulkParam 複数のユーザ更新パラメータ
+     * @return ユーザ一括処理ジョブ明細エンティティリスト
+     */
+    public List<UserBulkJobItem> convertToItemList(long jobId, UserBulkUpdateParam bulkParam) {
+        List<UserUpdateParam> paramList = bulkParam.getList();
+        List<UserBulkJobItem> itemList = new ArrayList<>(paramList.size());
+
+        for (int i = 0; i < paramList.size(); i++) {
+            UserUpdateParam param = paramList.get(i);
+            UserBulkJobItem item = new UserBulkJobItem(
+                    jobId,
+                    i + 1,
+                    param.getId(),
+                    param.getFamilyName(),
+                    param.getFirstName(),
+                    param.getDeptId(),
+                    param.getVersion());
+            itemList.add(item);
+        }
+        return itemList;
+    }
+
+    /**
+     * ユーザ一括処理ジョブエンティティをユーザ一括処理ジョブ結果に変換する。
+     * 
+     * @param entity ユーザ一括処理ジョブエンティティ
+     * @return ユーザ一括処理ジョブ結果
+     */
+    public UserBulkJobResult convertToResult(UserBulkJob entity) {
+        UserBulkJobResult result = new UserBulkJobResult(
+                entity.getId(),
+                entity.getJobType(),
+                entity.getStatus(),
+                entity.getTotalCount(),
+                entity.getProcessedCount(),
+                entity.getErrorId(),
+                entity.getErrorMessage(),
+                entity.getCreatedAt(),
+                entity.getUpdatedAt());
+        return result;
+    }
+
+}
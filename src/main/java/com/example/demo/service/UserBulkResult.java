@@ -0,0 +1,28 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * 複数のユーザ作成・更新結果。
+ */
+@Value
+public class UserBulkResult {
+
+    /** 明細件数。 */
+    private Integer totalCount;
+
+    /** 成功件数。 */
+    private Integer succeededCount;
+
+    /** 失敗件数。 */
+    private Integer failedCount;
+
+    /** 明細ごとの結果リスト。 */
+    private List<UserBulkResultItemData> itemList;
+
+}
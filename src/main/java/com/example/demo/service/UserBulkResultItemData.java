@@ -0,0 +1,23 @@
+package com.example.demo.service;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * 複数のユーザ作成・更新結果の明細ごとの結果のデータ。
+ */
+@Value
+public class UserBulkResultItemData {
+
+    /** 明細番号。 */
+    private Integer itemNo;
+
+    /** ユーザID。 */
+    private String id;
+
+    /** 結果。 */
+    private String status;
+
+}
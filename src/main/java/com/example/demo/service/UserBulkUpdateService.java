@@ -19,4 +19,14 @@ public interface UserBulkUpdateService {
      */
     void bulkUpdate(String operator, UserBulkUpdateParam bulkParam) throws ApplicationException;
 
+    /**
+     * 複数のユーザを更新する。更新できなかった明細があっても、更新できた明細はコミットする。
+     * 
+     * @param operator 操作者
+     * @param bulkParam 複数のユーザ更新パラメータ
+     * @return 複数のユーザ作成・更新結果
+     * @throws ApplicationException 業務エラー
+     */
+    UserBulkResult bulkUpdatePartial(String operator, UserBulkUpdateParam bulkParam) throws ApplicationException;
+
 }
@@ -1,21 +1,23 @@
 package com.example.demo.service;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.BulkItemStatusConstants;
 import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.ExceptionCreator;
 import com.example.demo.logic.LoggingLogic;
-import com.example.demo.mapper.DepartmentMapper;
+import com.example.demo.logic.UserBatchWriteLogic;
 import com.example.demo.mapper.User;
 import com.example.demo.mapper.UserMapper;
-import com.example.demo.mapper.UserSummaryMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -39,14 +41,14 @@ public class UserBulkUpdateServiceImpl implements UserBulkUpdateService {
     /** 複数のユーザ更新サービスコンバーター。 */
     private final UserBulkUpdateServiceImplConverter converter;
 
-    /** 部署エンティティマッパー。 */
-    private final DepartmentMapper departmentMapper;
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
 
     /** ユーザエンティティマッパー。 */
     private final UserMapper userMapper;
 
-    /** ユーザ概要エンティティマッパー。 */
-    private final UserSummaryMapper userSummaryMapper;
+    /** ユーザのバッチ書き込みロジック。 */
+    private final UserBatchWriteLogic userBatchWriteLogic;
 
     /** 業務エラー作成。 */
     private final ExceptionCreator exceptionCreator;
@@ -62,12 +64,14 @@ public class UserBulkUpdateServiceImpl implements UserBulkUpdateService {
     /** ロガー。 */
     private final Logger logger = LoggerFactory.getLogger(getClass());
 
-    // NOTE: rollbackForでどんな例外が発生してもロールバックするように設定
+    // NOTE: UserBatchWriteLogicのトランザクションでコミットするため、ここではトランザクションを開始しない
+    // NOTE: 操作ログはトランザクション外ですぐに送信待ちになるため、UserBatchWriteLogicのコミットの後に保存する
+    // NOTE: 更新とユーザ概要への反映はUserBatchWriteLogicのトランザクションでまとめてロールバックされる
+    // NOTE: 存在確認の後に削除・更新された行は楽観ロックで更新件数が0になるため、更新時に検出できる
 
     /**
      * {@inheritDoc}
      */
-    @Transactional(rollbackFor = Exception.class)
     public void bulkUpdate(String operator, UserBulkUpdateParam bulkParam) throws ApplicationException {
         // 更新するエンティティを作成する
         logger.debug("更新するエンティティを作成する");
@@ -78,7 +82,7 @@ public class UserBulkUpdateServiceImpl implements UserBulkUpdateService {
 
         // 登録する部署IDが存在することを確認する
         logger.debug("登録する部署IDが存在することを確認する");
-        boolean existsDept = departmentMapper.existsByIdList(deptIdList);
+        boolean existsDept = departmentCacheLogic.existsByIdList(deptIdList);
         if (!existsDept) {
             throw exceptionCreator.create("402", deptIds(entityList));
         }
@@ -93,25 +97,65 @@ public class UserBulkUpdateServiceImpl implements UserBulkUpdateService {
             throw exceptionCreator.create("102", userIds(entityList));
         }
 
-        // テーブルの更新を行い、更新が成功しているか確認する
-        logger.debug("テーブルの更新を行い、更新が成功しているか確認する");
-        int updatedCount = userMapper.updateList(entityList);
-        if (updatedCount != entityList.size()) {
-            throw exceptionCreator.create("202", userIds(entityList));
-        }
-
-        // サマリーテーブルを更新し、更新が成功しているか確認する
-        logger.debug("サマリーテーブルを更新し、更新が成功しているか確認する");
-        int modifiedCount = userSummaryMapper.modifyListFromUser(userIdList);
-        if (modifiedCount != entityList.size()) {
-            throw exceptionCreator.create("302", userIds(entityList));
-        }
+        // テーブルとサマリーテーブルの更新をバッチ実行で行い、更新が成功しているか確認する
+        logger.debug("テーブルとサマリーテーブルの更新をバッチ実行で行い、更新が成功しているか確認する");
+        userBatchWriteLogic.updateChunk(entityList);
 
         // 外部APIで操作ログを保存する
         logger.debug("外部APIで操作ログを保存する");
         externalApiLogic.logOperation(OperationConstants.USER_BULK_UPDATE, operator);
     }
 
+    // NOTE: 更新対象が存在しない明細は、バージョンが一致しない明細と同じく更新件数が0になるためconflictとする
+
+    /**
+     * {@inheritDoc}
+     */
+    public UserBulkResult bulkUpdatePartial(String operator, UserBulkUpdateParam bulkParam)
+            throws ApplicationException {
+        // 更新するエンティティを作成する
+        logger.debug("更新するエンティティを作成する");
+        List<User> entityList = converter.convertToEntity(bulkParam);
+
+        // 更新に使用できる部署IDを取得する
+        logger.debug("更新に使用できる部署IDを取得する");
+        Set<String> deptIdSet = departmentCacheLogic.findIdSet();
+
+        // 部署が存在する明細だけを更新対象にする
+        List<User> updateList = entityList
+                .stream()
+                .filter(entity -> deptIdSet.contains(entity.getDeptId()))
+                .toList();
+
+        // 更新対象の明細をバッチ実行で更新し、行ごとの更新件数を取得する
+        int[] updateCounts = new int[0];
+        if (!updateList.isEmpty()) {
+            logger.debug("更新対象の明細をバッチ実行で更新し、行ごとの更新件数を取得する");
+            updateCounts = userBatchWriteLogic.updatePartialChunk(updateList);
+        }
+
+        // 明細ごとの結果を作成する
+        List<String> statusList = new ArrayList<>();
+        int updateIndex = 0;
+        for (User entity : entityList) {
+            if (!deptIdSet.contains(entity.getDeptId())) {
+                statusList.add(BulkItemStatusConstants.MISSING_DEPT);
+            } else if (updateCounts[updateIndex++] == 1) {
+                statusList.add(BulkItemStatusConstants.OK);
+            } else {
+                statusList.add(BulkItemStatusConstants.CONFLICT);
+            }
+        }
+
+        // 更新できた明細がある場合は外部APIで操作ログを保存する
+        if (statusList.contains(BulkItemStatusConstants.OK)) {
+            logger.debug("外部APIで操作ログを保存する");
+            externalApiLogic.logOperation(OperationConstants.USER_BULK_UPDATE, operator);
+        }
+
+        return converter.convertToResult(entityList, statusList);
+    }
+
     // NOTE: メインの業務処理外で共通の内容はprivateメソッドに切り出す
 
     /**
@@ -1,10 +1,13 @@
 package com.example.demo.service;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
-import com.example.demo.mapper.User;
 import org.springframework.stereotype.Component;
 
+import com.example.demo.constant.BulkItemStatusConstants;
+import com.example.demo.mapper.User;
+
 // NOTE: DTOの変換処理はよく手が入るため切り出しておく
 // NOTE: 実装や単体テストの修正がやりやすくなる
 // NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
@@ -38,4 +41,32 @@ public class UserBulkUpdateServiceImplConverter {
         return entityList;
     }
 
+    /**
+     * ユーザエンティティリストと明細ごとの結果リストを複数のユーザ作成・更新結果に変換する。
+     * 
+     * @param entityList ユーザエンティティリスト
+     * @param statusList 明細ごとの結果リスト
+     * @return 複数のユーザ作成・更新結果
+     */
+    public UserBulkResult convertToResult(List<User> entityList, List<String> statusList) {
+        List<UserBulkResultItemData> itemList = IntStream.range(0, entityList.size())
+                .mapToObj(i -> {
+                    UserBulkResultItemData item = new UserBulkResultItemData(
+                            i + 1,
+                            entityList.get(i).getId(),
+                            statusList.get(i));
+                    return item;
+                })
+                .toList();
+
+        int succeededCount = (int) statusList.stream().filter(BulkItemStatusConstants.OK::equals).count();
+
+        UserBulkResult result = new UserBulkResult(
+                entityList.size(),
+                succeededCount,
+                entityList.size() - succeededCount,
+                itemList);
+        return result;
+    }
+
 }
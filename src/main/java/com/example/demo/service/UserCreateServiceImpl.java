@@ -7,12 +7,12 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.common.exception.ApplicationException;
 import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.ExceptionCreator;
 import com.example.demo.logic.LoggingLogic;
-import com.example.demo.mapper.DepartmentMapper;
+import com.example.demo.logic.UserSummaryProjectionLogic;
 import com.example.demo.mapper.User;
 import com.example.demo.mapper.UserMapper;
-import com.example.demo.mapper.UserSummaryMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -33,14 +33,14 @@ public class UserCreateServiceImpl implements UserCreateService {
     /** ユーザ作成サービスコンバーター。 */
     private final UserCreateServiceImplConverter converter;
 
-    /** 部署エンティティマッパー。 */
-    private final DepartmentMapper departmentMapper;
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
 
     /** ユーザエンティティマッパー。 */
     private final UserMapper userMapper;
 
-    /** ユーザ概要エンティティマッパー。 */
-    private final UserSummaryMapper userSummaryMapper;
+    /** ユーザ概要反映ロジック。 */
+    private final UserSummaryProjectionLogic userSummaryProjectionLogic;
 
     /** 業務エラー作成。 */
     private final ExceptionCreator exceptionCreator;
@@ -72,7 +72,7 @@ public class UserCreateServiceImpl implements UserCreateService {
 
         // 登録に使用する部署IDが存在することを確認する
         logger.debug("登録に使用する部署IDが存在することを確認する");
-        boolean existsDept = departmentMapper.existsById(deptId);
+        boolean existsDept = departmentCacheLogic.existsById(deptId);
         if (!existsDept) {
             throw exceptionCreator.create("401", deptId(entity));
         }
@@ -96,7 +96,7 @@ public class UserCreateServiceImpl implements UserCreateService {
 
         // サマリーテーブルにコピーし、コピーが成功しているか確認する
         logger.debug("サマリーテーブルにコピーし、コピーが成功しているか確認する");
-        int copiedCount = userSummaryMapper.copyFromUser(userId);
+        int copiedCount = userSummaryProjectionLogic.copyFromUser(userId);
         if (copiedCount != 1) {
             throw exceptionCreator.create("301", userId(entity));
         }
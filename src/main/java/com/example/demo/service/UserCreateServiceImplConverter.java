@@ -19,9 +19,6 @@ import lombok.RequiredArgsConstructor;
 @Component
 public class UserCreateServiceImplConverter {
 
-    /** IDのフォーマット。 */
-    private static final String FORMAT = "%s_%02d";
-
     // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
     // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
 
@@ -38,7 +35,7 @@ public class UserCreateServiceImplConverter {
         String id = generateIdLogic.generateId();
 
         User entity = new User(
-                String.format(FORMAT, id, 1),
+                id,
                 param.getFamilyName(),
                 param.getFirstName(),
                 param.getDeptId(),
@@ -0,0 +1,24 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザエクスポートサービス。
+ */
+public interface UserExportService {
+
+    /**
+     * 検索条件に一致するすべてのユーザを出力先へ書き込む。
+     * 
+     * @param operator 操作者
+     * @param param ユーザエクスポートパラメータ
+     * @param outputStream 出力先
+     * @throws IOException 書き込みエラー
+     */
+    void export(String operator, UserExportParam param, OutputStream outputStream) throws IOException;
+
+}
@@ -0,0 +1,131 @@
+package com.example.demo.service;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserSummaryArchiveLogic;
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+
+/**
+ * ユーザエクスポートサービス実装。
+ */
+@RequiredArgsConstructor
+@Service
+public class UserExportServiceImpl implements UserExportService {
+
+    /** 出力先へフラッシュする件数の間隔。 */
+    private static final int FLUSH_INTERVAL = 1000;
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザエクスポートサービスコンバーター。 */
+    private final UserExportServiceImplConverter converter;
+
+    /** ユーザ概要エンティティマッパー。 */
+    private final UserSummaryMapper userSummaryMapper;
+
+    /** ユーザ概要アーカイブエンティティマッパー。 */
+    private final UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    /** ユーザ概要アーカイブロジック。 */
+    private final UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    /** ロギングロジック。 */
+    private final LoggingLogic loggingLogic;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: rollbackForでどんな例外が発生してもロールバックするように設定
+    // NOTE: readOnlyで取得以外のDBアクセスが行われた場合に例外とする
+    // NOTE: Cursorはトランザクション内でしか読み込めないため、書き込みが終わるまでトランザクションを維持する
+    // NOTE: ストリーミング取得は1つのコネクションで同時に1つしか読めないため、アーカイブはユーザ概要を書き込んだ後に続けて書き込む
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(rollbackFor = Exception.class, readOnly = true)
+    public void export(String operator, UserExportParam param, OutputStream outputStream) throws IOException {
+        // 検索条件を作成する
+        logger.debug("検索条件を作成する");
+        UserSummaryCondition condition = converter.convertToCondition(param);
+
+        // NOTE: 出力先はServletのものなのでcloseしない
+        Writer writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+
+        // ヘッダを書き込む
+        logger.debug("ヘッダを書き込む");
+        writer.write(converter.convertToHeader(param.getFormat()));
+
+        // 出力対象のデータを1件ずつ取得して書き込む
+        logger.debug("出力対象のデータを1件ずつ取得して書き込む");
+        int count = 0;
+        try (Cursor<UserSummary> cursor = userSummaryMapper.findCursor(condition)) {
+            count += write(cursor, writer, param.getFormat());
+        }
+
+        // 更新日の範囲がアーカイブにかかる場合は、アーカイブからも1件ずつ取得して書き込む
+        if (userSummaryArchiveLogic.includesArchive(condition)) {
+            logger.debug("アーカイブからも1件ずつ取得して書き込む");
+            try (Cursor<UserSummary> cursor = userSummaryArchiveMapper.findCursor(condition)) {
+                count += write(cursor, writer, param.getFormat());
+            }
+        }
+        writer.flush();
+        logger.info("エクスポート件数：{}", count);
+
+        // 外部APIで操作ログを保存する
+        logger.debug("外部APIで操作ログを保存する");
+        loggingLogic.logOperation(OperationConstants.USER_EXPORT, operator);
+    }
+
+    /**
+     * カーソルから1件ずつ取得して書き込む。
+     * 
+     * @param cursor ユーザ概要エンティティのカーソル
+     * @param writer 出力先
+     * @param format 出力形式
+     * @return 書き込んだ件数
+     * @throws IOException 書き込みに失敗した場合
+     */
+    private int write(Cursor<UserSummary> cursor, Writer writer, String format) throws IOException {
+        int count = 0;
+        for (UserSummary entity : cursor) {
+            writer.write(converter.convertToLine(entity, format));
+
+            count++;
+            if (count % FLUSH_INTERVAL == 0) {
+                writer.flush();
+            }
+        }
+        return count;
+    }
+
+}
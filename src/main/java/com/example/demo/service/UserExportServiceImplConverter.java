@@ -0,0 +1,125 @@
+package com.example.demo.service;
+
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.constant.FileFormatConstants;
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザエクスポートサービスコンバーター。
+ */
+@RequiredArgsConstructor
+@Component
+public class UserExportServiceImplConverter {
+
+    /** 改行。 */
+    private static final String LINE_SEPARATOR = "\n";
+
+    /** CSVの区切り文字。 */
+    private static final String CSV_SEP = ",";
+
+    /** CSVのヘッダ。 */
+    private static final String CSV_HEADER = "name,dept_id,dept_name,last_updated_at,user_id,user_version";
+
+    /** CSVの囲み文字。 */
+    private static final String QUOTE = "\"";
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+    // NOTE: レスポンスと同じスネークケースで出力するためSpringのObjectMapperを使う
+
+    /** オブジェクトマッパー。 */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * ユーザエクスポートパラメータをユーザ概要の検索条件に変換する。
+     * 
+     * @param param ユーザエクスポートパラメータ
+     * @return ユーザ概要の検索条件
+     */
+    public UserSummaryCondition convertToCondition(UserExportParam param) {
+        UserSummaryCondition condition = new UserSummaryCondition(
+                param.getName(),
+                param.getDeptId(),
+                param.getBeginUpdatedAt(),
+                param.getEndUpdatedAt(),
+                null,
+                null,
+                null);
+        return condition;
+    }
+
+    /**
+     * 出力形式に応じたヘッダに変換する。
+     * 
+     * @param format 出力形式
+     * @return ヘッダ。ヘッダがない形式の場合は空文字
+     */
+    public String convertToHeader(String format) {
+        String header = FileFormatConstants.CSV.equals(format) ? CSV_HEADER + LINE_SEPARATOR : "";
+        return header;
+    }
+
+    /**
+     * ユーザ概要エンティティを出力形式に応じた1行に変換する。
+     * 
+     * @param entity ユーザ概要エンティティ
+     * @param format 出力形式
+     * @return 改行を含む1行
+     * @throws JsonProcessingException JSON変換エラー
+     */
+    public String convertToLine(UserSummary entity, String format) throws JsonProcessingException {
+        UserExportResultData data = new UserExportResultData(
+                entity.getName(),
+                entity.getDeptId(),
+                entity.getDeptName(),
+                entity.getLastUpdatedAt(),
+                entity.getUserId(),
+                entity.getUserVersion());
+
+        if (FileFormatConstants.CSV.equals(format)) {
+            String line = Stream.of(
+                    data.getName(),
+                    data.getDeptId(),
+                    data.getDeptName(),
+                    data.getLastUpdatedAt(),
+                    data.getUserId(),
+                    data.getUserVersion())
+                    .map(value -> escapeCsv(String.valueOf(value)))
+                    .collect(Collectors.joining(CSV_SEP));
+            return line + LINE_SEPARATOR;
+        }
+
+        String line = objectMapper.writeValueAsString(data);
+        return line + LINE_SEPARATOR;
+    }
+
+    /**
+     * CSVの値をエスケープする。区切り文字、囲み文字、改行を含む場合は囲み文字で囲む。
+     * 
+     * @param value 値
+     * @return エスケープした値
+     */
+    private String escapeCsv(String value) {
+        if (!value.contains(CSV_SEP) && !value.contains(QUOTE) && !value.contains("\r") && !value.contains("\n")) {
+            return value;
+        }
+
+        String escaped = QUOTE + value.replace(QUOTE, QUOTE + QUOTE) + QUOTE;
+        return escaped;
+    }
+
+}
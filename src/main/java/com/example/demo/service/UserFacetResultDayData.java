@@ -0,0 +1,22 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザ件数集計結果更新日データ。
+ */
+@Value
+public class UserFacetResultDayData {
+
+    /** 最終更新日。 */
+    private LocalDate lastUpdatedAt;
+
+    /** 件数。 */
+    private Integer count;
+
+}
@@ -0,0 +1,20 @@
+package com.example.demo.service;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザ件数集計結果部署データ。
+ */
+@Value
+public class UserFacetResultDeptData {
+
+    /** 部署ID。 */
+    private String deptId;
+
+    /** 件数。 */
+    private Integer count;
+
+}
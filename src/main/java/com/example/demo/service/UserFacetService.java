@@ -0,0 +1,20 @@
+package com.example.demo.service;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザ件数集計サービス。
+ */
+public interface UserFacetService {
+
+    /**
+     * 検索条件に一致するユーザの件数を部署ごとと更新日ごとに集計する。
+     * 
+     * @param operator 操作者
+     * @param param ユーザ件数集計パラメータ
+     * @return ユーザ件数集計結果
+     */
+    UserFacetResult facet(String operator, UserFacetParam param);
+
+}
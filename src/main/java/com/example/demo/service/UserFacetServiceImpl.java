@@ -0,0 +1,79 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryFacet;
+import com.example.demo.mapper.UserSummaryFacetMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+
+/**
+ * ユーザ件数集計サービス実装。
+ */
+@RequiredArgsConstructor
+@Service
+public class UserFacetServiceImpl implements UserFacetService {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ件数集計サービスコンバーター。 */
+    private final UserFacetServiceImplConverter converter;
+
+    /** ユーザ概要件数エンティティマッパー。 */
+    private final UserSummaryFacetMapper userSummaryFacetMapper;
+
+    /** ロギングロジック。 */
+    private final LoggingLogic loggingLogic;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: rollbackForでどんな例外が発生してもロールバックするように設定
+    // NOTE: readOnlyで取得以外のDBアクセスが行われた場合に例外とする
+    // NOTE: フルネームごとの件数は集計表に持たないため、フルネームを指定した場合だけユーザ概要を数える
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(rollbackFor = Exception.class, readOnly = true)
+    public UserFacetResult facet(String operator, UserFacetParam param) {
+        // 検索条件を作成する
+        logger.debug("検索条件を作成する");
+        UserSummaryCondition condition = converter.convertToCondition(param);
+
+        // 部署と更新日ごとの件数を取得する
+        logger.debug("部署と更新日ごとの件数を取得する");
+        List<UserSummaryFacet> entityList = condition.getName() == null
+                ? userSummaryFacetMapper.find(condition)
+                : userSummaryFacetMapper.findFromSummary(condition);
+
+        // 集計結果を作成する
+        logger.debug("集計結果を作成する");
+        UserFacetResult result = converter.convertToResult(entityList);
+
+        // 外部APIで操作ログを保存する
+        logger.debug("外部APIで操作ログを保存する");
+        loggingLogic.logOperation(OperationConstants.USER_FACET, operator);
+
+        return result;
+    }
+
+}
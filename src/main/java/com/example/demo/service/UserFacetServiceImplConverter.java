@@ -0,0 +1,80 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryFacet;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザ件数集計サービスコンバーター。
+ */
+@Component
+public class UserFacetServiceImplConverter {
+
+    /**
+     * ユーザ件数集計パラメータをユーザ概要の検索条件に変換する。
+     * 
+     * @param param ユーザ件数集計パラメータ
+     * @return ユーザ概要の検索条件
+     */
+    public UserSummaryCondition convertToCondition(UserFacetParam param) {
+        // NOTE: 件数はすべての行を数えるのでリミット、オフセット、カーソルは使わない
+        UserSummaryCondition condition = new UserSummaryCondition(
+                param.getName(),
+                param.getDeptId(),
+                param.getBeginUpdatedAt(),
+                param.getEndUpdatedAt(),
+                null,
+                null,
+                null);
+        return condition;
+    }
+
+    // NOTE: 部署と更新日ごとの件数を、部署ごと、更新日ごとに足し合わせる
+    // NOTE: TreeMapで部署ID、更新日の昇順に並べる
+
+    /**
+     * ユーザ概要件数エンティティリストをユーザ件数集計結果に変換する。
+     * 
+     * @param entityList ユーザ概要件数エンティティリスト
+     * @return ユーザ件数集計結果
+     */
+    public UserFacetResult convertToResult(List<UserSummaryFacet> entityList) {
+        int totalCount = 0;
+        Map<String, Integer> deptCountMap = new TreeMap<>();
+        Map<LocalDate, Integer> dayCountMap = new TreeMap<>();
+        for (UserSummaryFacet entity : entityList) {
+            totalCount += entity.getUserCount();
+            deptCountMap.merge(entity.getDeptId(), entity.getUserCount(), Integer::sum);
+            dayCountMap.merge(entity.getLastUpdatedAt(), entity.getUserCount(), Integer::sum);
+        }
+
+        List<UserFacetResultDeptData> deptList = deptCountMap.entrySet()
+                .stream()
+                .map(entry -> new UserFacetResultDeptData(entry.getKey(), entry.getValue()))
+                .toList();
+
+        List<UserFacetResultDayData> dayList = dayCountMap.entrySet()
+                .stream()
+                .map(entry -> new UserFacetResultDayData(entry.getKey(), entry.getValue()))
+                .toList();
+
+        UserFacetResult result = new UserFacetResult(
+                totalCount,
+                deptList,
+                dayList);
+
+        return result;
+    }
+
+}
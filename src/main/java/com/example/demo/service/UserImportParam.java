@@ -0,0 +1,17 @@
+package com.example.demo.service;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザインポートパラメータ。
+ */
+@Value
+public class UserImportParam {
+
+    /** 入力形式。ndjsonまたはcsv。 */
+    private String format;
+
+}
@@ -0,0 +1,38 @@
+package com.example.demo.service;
+
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Pattern;
+
+import org.hibernate.validator.constraints.Length;
+
+import lombok.Value;
+
+// NOTE: 1件ずつバリデーションチェックを行うため、ユーザ作成リクエストと同じチェックを書く
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザインポートの1件分のレコード。
+ */
+@Value
+public class UserImportRecord {
+
+    /** 行番号。 */
+    private Integer lineNo;
+
+    /** 苗字。 */
+    @NotNull
+    @Length(min = 1, max = 50)
+    private String familyName;
+
+    /** 名前。 */
+    @NotNull
+    @Length(min = 1, max = 50)
+    private String firstName;
+
+    /** 部署ID。 */
+    @NotNull
+    @Pattern(regexp = "^[0-9]{2}$", message = "{my.DeptIdLength.message}")
+    private String deptId;
+
+}
@@ -0,0 +1,23 @@
+package com.example.demo.service;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザインポート結果のチャンクごとのデータ。
+ */
+@Value
+public class UserImportResultChunkData {
+
+    /** チャンク番号。 */
+    private Integer chunkNo;
+
+    /** 登録件数。 */
+    private Integer importedCount;
+
+    /** エラー件数。 */
+    private Integer rejectedCount;
+
+}
@@ -0,0 +1,22 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import lombok.Value;
+
+// NOTE: コンストラクタで各フィールドを設定することで漏れをなくしたい
+// NOTE: 不変性を保ちたいため@Value
+
+/**
+ * ユーザインポート結果のエラーになったレコードのデータ。
+ */
+@Value
+public class UserImportResultRejectData {
+
+    /** 行番号。 */
+    private Integer lineNo;
+
+    /** エラーメッセージリスト。 */
+    private List<String> messageList;
+
+}
@@ -0,0 +1,29 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.io.InputStream;
+
+import com.example.demo.common.exception.ApplicationException;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザインポートサービス。
+ */
+public interface UserImportService {
+
+    /**
+     * 入力元から1件ずつユーザを読み込み、チャンクごとに登録する。エラーになったレコードは登録せずに結果に含める。
+     * 
+     * @param operator 操作者
+     * @param param ユーザインポートパラメータ
+     * @param inputStream 入力元
+     * @return ユーザインポート結果
+     * @throws ApplicationException 業務エラー
+     * @throws IOException 読み込みエラー
+     */
+    UserImportResult importUsers(String operator, UserImportParam param, InputStream inputStream)
+            throws ApplicationException, IOException;
+
+}
@@ -0,0 +1,241 @@
+package com.example.demo.service;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserBatchWriteLogic;
+import com.example.demo.mapper.User;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+
+/**
+ * ユーザインポートサービス実装。
+ */
+@RequiredArgsConstructor
+@Service
+public class UserImportServiceImpl implements UserImportService {
+
+    /** 区切り文字。 */
+    private static final String SEP = ":";
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザインポートサービスコンバーター。 */
+    private final UserImportServiceImplConverter converter;
+
+    /** 部署キャッシュロジック。 */
+    private final DepartmentCacheLogic departmentCacheLogic;
+
+    /** ユーザのバッチ書き込みロジック。 */
+    private final UserBatchWriteLogic userBatchWriteLogic;
+
+    /** バリデーター。 */
+    private final Validator validator;
+
+    /** メッセージソース。 */
+    private final MessageSource messageSource;
+
+    /** 業務エラー作成。 */
+    private final ExceptionCreator exceptionCreator;
+
+    /** ロギングロジック。 */
+    private final LoggingLogic loggingLogic;
+
+    /** 1回のトランザクションで登録する最大件数。 */
+    @Value("${user.import.chunkSize}")
+    private final int chunkSize;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: 件数が多いため全体を1つのトランザクションにはせず、チャンクごとにUserBatchWriteLogicでトランザクションを分ける
+    // NOTE: 入力元は1行ずつ読み込み、チャンク分のレコードだけをメモリに保持する
+
+    /**
+     * {@inheritDoc}
+     */
+    public UserImportResult importUsers(String operator, UserImportParam param, InputStream inputStream)
+            throws ApplicationException, IOException {
+        String format = param.getFormat();
+
+        // 登録に使用できる部署IDを取得する
+        logger.debug("登録に使用できる部署IDを取得する");
+        Set<String> deptIdSet = departmentCacheLogic.findIdSet();
+
+        BufferedReader reader = new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8));
+        int lineNo = 0;
+
+        // ヘッダがある形式の場合はヘッダが正しいことを確認する
+        if (converter.hasHeader(format)) {
+            logger.debug("ヘッダが正しいことを確認する");
+            lineNo++;
+            if (!converter.isValidHeader(reader.readLine())) {
+                throw exceptionCreator.create("903");
+            }
+        }
+
+        List<UserImportResultChunkData> chunkList = new ArrayList<>();
+        List<UserImportResultRejectData> rejectList = new ArrayList<>();
+        List<UserImportRecord> recordList = new ArrayList<>(chunkSize);
+        int readCount = 0;
+        int totalCount = 0;
+        int importedCount = 0;
+        int rejectedCountInChunk = 0;
+
+        // 1行ずつ読み込み、チャンクごとに登録する
+        logger.debug("1行ずつ読み込み、チャンクごとに登録する");
+        String line;
+        while ((line = reader.readLine()) != null) {
+            lineNo++;
+            if (line.isBlank()) {
+                continue;
+            }
+            totalCount++;
+            readCount++;
+
+            List<String> messageList = new ArrayList<>();
+            try {
+                UserImportRecord record = converter.convertToRecord(lineNo, line, format);
+                messageList.addAll(validate(record, deptIdSet));
+                if (messageList.isEmpty()) {
+                    recordList.add(record);
+                }
+            } catch (ApplicationException ex) {
+                messageList.add(ex.getErrorId() + SEP + ex.getErrorMessage());
+            }
+
+            if (!messageList.isEmpty()) {
+                rejectList.add(new UserImportResultRejectData(lineNo, messageList));
+                rejectedCountInChunk++;
+            }
+
+            if (readCount == chunkSize) {
+                UserImportResultChunkData chunk = writeChunk(chunkList.size() + 1, recordList, rejectedCountInChunk,
+                        rejectList);
+                chunkList.add(chunk);
+                importedCount += chunk.getImportedCount();
+                logger.info("インポート進捗：チャンク{}、登録{}件、エラー{}件、累計{}件",
+                        chunk.getChunkNo(), chunk.getImportedCount(), chunk.getRejectedCount(), totalCount);
+
+                recordList = new ArrayList<>(chunkSize);
+                readCount = 0;
+                rejectedCountInChunk = 0;
+            }
+        }
+
+        // 残りのレコードを登録する
+        if (readCount > 0) {
+            UserImportResultChunkData chunk = writeChunk(chunkList.size() + 1, recordList, rejectedCountInChunk,
+                    rejectList);
+            chunkList.add(chunk);
+            importedCount += chunk.getImportedCount();
+            logger.info("インポート進捗：チャンク{}、登録{}件、エラー{}件、累計{}件",
+                    chunk.getChunkNo(), chunk.getImportedCount(), chunk.getRejectedCount(), totalCount);
+        }
+
+        // 外部APIで操作ログを保存する
+        logger.debug("外部APIで操作ログを保存する");
+        loggingLogic.logOperation(OperationConstants.USER_IMPORT, operator);
+
+        UserImportResult result = new UserImportResult(
+                totalCount,
+                importedCount,
+                totalCount - importedCount,
+                chunkList,
+                rejectList);
+        return result;
+    }
+
+    // NOTE: メインの業務処理外で共通の内容はprivateメソッドに切り出す
+
+    /**
+     * レコードのバリデーションチェックと、登録に使用する部署が存在するかのチェックを行う。
+     * 
+     * @param record ユーザインポートのレコード
+     * @param deptIdSet 登録に使用できる部署IDのセット
+     * @return エラーメッセージリスト。エラーがない場合は空
+     */
+    private List<String> validate(UserImportRecord record, Set<String> deptIdSet) {
+        Set<ConstraintViolation<UserImportRecord>> violations = validator.validate(record);
+        if (!violations.isEmpty()) {
+            List<String> messageList = violations
+                    .stream()
+                    .map(violation -> violation.getPropertyPath() + SEP + violation.getMessage())
+                    .sorted(Comparator.naturalOrder())
+                    .toList();
+            return messageList;
+        }
+
+        if (!deptIdSet.contains(record.getDeptId())) {
+            String message = messageSource.getMessage("401", new Object[] { record.getDeptId() }, Locale.JAPAN);
+            return List.of("401" + SEP + message);
+        }
+        return List.of();
+    }
+
+    /**
+     * チャンクのレコードを登録する。登録に失敗した場合はチャンクのレコードをすべてエラーにする。
+     * 
+     * @param chunkNo チャンク番号
+     * @param recordList 登録するレコードリスト
+     * @param rejectedCount チェックでエラーになった件数
+     * @param rejectList エラーになったレコードのリスト
+     * @return チャンクの結果
+     */
+    private UserImportResultChunkData writeChunk(int chunkNo, List<UserImportRecord> recordList, int rejectedCount,
+            List<UserImportResultRejectData> rejectList) {
+        if (recordList.isEmpty()) {
+            return new UserImportResultChunkData(chunkNo, 0, rejectedCount);
+        }
+
+        List<User> entityList = converter.convertToEntityList(recordList);
+
+        String message;
+        try {
+            int insertedCount = userBatchWriteLogic.insertChunk(entityList);
+            return new UserImportResultChunkData(chunkNo, insertedCount, rejectedCount);
+        } catch (ApplicationException ex) {
+            message = ex.getErrorId() + SEP + ex.getErrorMessage();
+        } catch (DataAccessException ex) {
+            logger.warn("チャンク{}の登録に失敗しました。", chunkNo, ex);
+            message = "902" + SEP + messageSource.getMessage("902", null, Locale.JAPAN);
+        }
+
+        recordList.forEach(record -> rejectList.add(new UserImportResultRejectData(record.getLineNo(), List.of(message))));
+        return new UserImportResultChunkData(chunkNo, 0, rejectedCount + recordList.size());
+    }
+
+}
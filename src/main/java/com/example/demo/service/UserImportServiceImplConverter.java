@@ -0,0 +1,205 @@
+package com.example.demo.service;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.springframework.stereotype.Component;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.FileFormatConstants;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.logic.GenerateIdLogic;
+import com.example.demo.mapper.User;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: DTOの変換処理はよく手が入るため切り出しておく
+// NOTE: 実装や単体テストの修正がやりやすくなる
+// NOTE: どのクラスで使う変換処理なのかわかりやすいように対象のクラス名を含んだクラス名にしている
+// NOTE: Controller, Service, Mapper以外はすべてComponentとする
+
+/**
+ * ユーザインポートサービスコンバーター。
+ */
+@RequiredArgsConstructor
+@Component
+public class UserImportServiceImplConverter {
+
+    /** CSVのヘッダ。 */
+    private static final String CSV_HEADER = "family_name,first_name,dept_id";
+
+    /** CSVの区切り文字。 */
+    private static final char CSV_SEP = ',';
+
+    /** CSVの囲み文字。 */
+    private static final char QUOTE = '"';
+
+    /** CSVの列数。 */
+    private static final int CSV_COLUMN_COUNT = 3;
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ID生成ロジック。 */
+    private final GenerateIdLogic generateIdLogic;
+
+    /** 業務エラー作成。 */
+    private final ExceptionCreator exceptionCreator;
+
+    /** オブジェクトマッパー。 */
+    private final ObjectMapper objectMapper;
+
+    /**
+     * 入力形式にヘッダがあるかどうか。
+     * 
+     * @param format 入力形式
+     * @return ヘッダがある: true / ヘッダがない: false
+     */
+    public boolean hasHeader(String format) {
+        return FileFormatConstants.CSV.equals(format);
+    }
+
+    /**
+     * ヘッダが正しいかどうか。
+     * 
+     * @param line ヘッダの行
+     * @return 正しい: true / 正しくない: false
+     */
+    public boolean isValidHeader(String line) {
+        return line != null && CSV_HEADER.equals(line.strip());
+    }
+
+    /**
+     * 1行を入力形式に応じてユーザインポートのレコードに変換する。
+     * 
+     * @param lineNo 行番号
+     * @param line 行
+     * @param format 入力形式
+     * @return ユーザインポートのレコード
+     * @throws ApplicationException 形式が不正な場合
+     */
+    public UserImportRecord convertToRecord(int lineNo, String line, String format) throws ApplicationException {
+        Map<String, String> values = FileFormatConstants.CSV.equals(format) ? parseCsv(line) : parseJson(line);
+
+        UserImportRecord record = new UserImportRecord(
+                lineNo,
+                values.get("family_name"),
+                values.get("first_name"),
+                values.get("dept_id"));
+        return record;
+    }
+
+    // NOTE: 必要な数のIDは1回でまとめて採番する
+
+    /**
+     * ユーザインポートのレコードリストをユーザエンティティリストに変換する。
+     * 
+     * @param recordList ユーザインポートのレコードリスト
+     * @return ユーザエンティティリスト
+     */
+    public List<User> convertToEntityList(List<UserImportRecord> recordList) {
+        List<User> entityList = new ArrayList<>(recordList.size());
+
+        List<String> idList = generateIdLogic.generateIdList(recordList.size());
+        for (int i = 0; i < recordList.size(); i++) {
+            UserImportRecord record = recordList.get(i);
+            User entity = new User(
+                    idList.get(i),
+                    record.getFamilyName(),
+                    record.getFirstName(),
+                    record.getDeptId(),
+                    0);
+            entityList.add(entity);
+        }
+        return entityList;
+    }
+
+    // NOTE: 1行分だけを読み込むため、JacksonのストリーミングAPIで項目を読み込む
+    // NOTE: 文字列以外の値も文字列として読み込み、値のチェックはバリデーションで行う
+
+    /**
+     * NDJSONの1行を項目名と値のマップに変換する。
+     * 
+     * @param line 行
+     * @return 項目名と値のマップ
+     * @throws ApplicationException 形式が不正な場合
+     */
+    private Map<String, String> parseJson(String line) throws ApplicationException {
+        Map<String, String> values = new HashMap<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(line)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw exceptionCreator.create("903");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken token = parser.nextToken();
+                if (token.isScalarValue()) {
+                    values.put(name, token == JsonToken.VALUE_NULL ? null : parser.getText());
+                } else {
+                    parser.skipChildren();
+                }
+            }
+
+            if (parser.nextToken() != null) {
+                throw exceptionCreator.create("903");
+            }
+        } catch (IOException ex) {
+            throw exceptionCreator.create("903");
+        }
+        return values;
+    }
+
+    /**
+     * CSVの1行を項目名と値のマップに変換する。
+     * 
+     * @param line 行
+     * @return 項目名と値のマップ
+     * @throws ApplicationException 形式が不正な場合
+     */
+    private Map<String, String> parseCsv(String line) throws ApplicationException {
+        List<String> columns = new ArrayList<>(CSV_COLUMN_COUNT);
+        StringBuilder column = new StringBuilder();
+        boolean quoted = false;
+
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == QUOTE && i + 1 < line.length() && line.charAt(i + 1) == QUOTE) {
+                    column.append(QUOTE);
+                    i++;
+                } else if (c == QUOTE) {
+                    quoted = false;
+                } else {
+                    column.append(c);
+                }
+            } else if (c == QUOTE && column.isEmpty()) {
+                quoted = true;
+            } else if (c == CSV_SEP) {
+                columns.add(column.toString());
+                column.setLength(0);
+            } else {
+                column.append(c);
+            }
+        }
+        columns.add(column.toString());
+
+        if (quoted || columns.size() != CSV_COLUMN_COUNT) {
+            throw exceptionCreator.create("903");
+        }
+
+        Map<String, String> values = new HashMap<>();
+        values.put("family_name", columns.get(0));
+        values.put("first_name", columns.get(1));
+        values.put("dept_id", columns.get(2));
+        return values;
+    }
+
+}
@@ -31,4 +31,7 @@ public class UserSearchParam {
     /** 1ページで表示する件数。最大100件。 */
     private Integer pageSize;
 
+    /** カーソル。前回の検索結果の次のページのカーソル。 */
+    private String cursor;
+
 }
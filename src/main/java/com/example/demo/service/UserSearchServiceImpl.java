@@ -9,9 +9,9 @@ import org.springframework.transaction.annotation.Transactional;
 
 import com.example.demo.constant.OperationConstants;
 import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserSearchCacheLogic;
 import com.example.demo.mapper.UserSummary;
 import com.example.demo.mapper.UserSummaryCondition;
-import com.example.demo.mapper.UserSummaryMapper;
 
 import lombok.RequiredArgsConstructor;
 
@@ -32,8 +32,8 @@ public class UserSearchServiceImpl implements UserSearchService {
     /** ユーザ検索サービスコンバーター。 */
     private final UserSearchServiceImplConverter converter;
 
-    /** ユーザ概要エンティティマッパー。　 */
-    private final UserSummaryMapper userSummaryMapper;
+    /** ユーザ検索キャッシュロジック。 */
+    private final UserSearchCacheLogic userSearchCacheLogic;
 
     /** ロギングロジック。 */
     private final LoggingLogic externalApiLogic;
@@ -58,9 +58,9 @@ public class UserSearchServiceImpl implements UserSearchService {
         logger.debug("検索条件を作成する");
         UserSummaryCondition condition = converter.convertToCondition(param);
 
-        // 検索対象のデータを取得する
+        // 検索対象のデータを取得する。同じ検索条件の検索結果がキャッシュにあればDBに問い合わせない
         logger.debug("検索対象のデータを取得する");
-        List<UserSummary> entityList = userSummaryMapper.find(condition);
+        List<UserSummary> entityList = userSearchCacheLogic.find(condition);
 
         // 検索結果を作成する
         logger.debug("検索結果を作成する");
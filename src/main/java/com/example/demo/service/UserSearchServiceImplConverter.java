@@ -1,5 +1,7 @@
 package com.example.demo.service;
 
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
 import java.util.List;
 
 import org.springframework.stereotype.Component;
@@ -25,8 +27,11 @@ public class UserSearchServiceImplConverter {
      * @return ユーザ概要の検索条件
      */
     public UserSummaryCondition convertToCondition(UserSearchParam param) {
+        String afterUserId = decodeCursor(param.getCursor());
+
+        // NOTE: カーソルを指定した場合はuser_idで位置を決めるのでOFFSETでの読み飛ばしは不要
         Integer limit = param.getPageSize() + 1;
-        Integer offset = (param.getPageNo() - 1) * param.getPageSize();
+        Integer offset = afterUserId != null ? 0 : (param.getPageNo() - 1) * param.getPageSize();
 
         UserSummaryCondition condition = new UserSummaryCondition(
                 param.getName(),
@@ -34,7 +39,8 @@ public class UserSearchServiceImplConverter {
                 param.getBeginUpdatedAt(),
                 param.getEndUpdatedAt(),
                 limit,
-                offset);
+                offset,
+                afterUserId);
         return condition;
     }
 
@@ -49,6 +55,8 @@ public class UserSearchServiceImplConverter {
     public UserSearchResult convertToResult(List<UserSummary> entityList, Integer pageNo, Integer pageSize) {
         Integer prevPageNo = pageNo > 1 ? pageNo - 1 : null;
         Integer nextPageNo = entityList.size() > pageSize ? pageNo + 1 : null;
+        String nextCursor = entityList.size() > pageSize ? encodeCursor(entityList.get(pageSize - 1).getUserId())
+                : null;
 
         List<UserSearchResultData> list = entityList
                 .stream()
@@ -69,9 +77,40 @@ public class UserSearchServiceImplConverter {
                 list,
                 prevPageNo,
                 nextPageNo,
-                pageSize);
+                pageSize,
+                nextCursor);
 
         return result;
     }
 
+    // NOTE: カーソルはクライアントにユーザIDの形式を意識させないためにBase64URLでエンコードする
+
+    /**
+     * ユーザIDをカーソルにエンコードする。
+     * 
+     * @param userId ユーザID
+     * @return カーソル
+     */
+    private String encodeCursor(String userId) {
+        String cursor = Base64.getUrlEncoder()
+                .withoutPadding()
+                .encodeToString(userId.getBytes(StandardCharsets.UTF_8));
+        return cursor;
+    }
+
+    /**
+     * カーソルをユーザIDにデコードする。
+     * 
+     * @param cursor カーソル
+     * @return ユーザID。カーソルがNULLの場合はNULL
+     */
+    private String decodeCursor(String cursor) {
+        if (cursor == null) {
+            return null;
+        }
+
+        String userId = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+        return userId;
+    }
+
 }
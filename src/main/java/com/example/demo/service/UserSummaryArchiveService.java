@@ -0,0 +1,22 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザ概要アーカイブサービス。
+ */
+public interface UserSummaryArchiveService {
+
+    /**
+     * 更新日が基準日より前のユーザ概要を古い順にアーカイブへ移動する。
+     * 
+     * @param horizon 基準日
+     * @param chunkSize 1回で移動する最大件数
+     * @return 移動した件数
+     */
+    int archive(LocalDate horizon, int chunkSize);
+
+}
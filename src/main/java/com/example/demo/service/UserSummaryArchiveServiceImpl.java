@@ -0,0 +1,67 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+
+/**
+ * ユーザ概要アーカイブサービス実装。
+ */
+@RequiredArgsConstructor
+@Service
+public class UserSummaryArchiveServiceImpl implements UserSummaryArchiveService {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ概要アーカイブエンティティマッパー。 */
+    private final UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: rollbackForでどんな例外が発生してもロールバックするように設定
+    // NOTE: アーカイブへの登録とユーザ概要の削除を同じトランザクションで行い、検索で同じユーザが両方にある状態や、どちらにもない状態を見せない
+    // NOTE: 行ロックの時間を短くするため、1回のトランザクションで移動する件数はチャンクの件数までにする
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int archive(LocalDate horizon, int chunkSize) {
+        // 移動対象のユーザIDリストを取得する
+        logger.debug("移動対象のユーザIDリストを取得する");
+        List<String> idList = userSummaryArchiveMapper.findUserIdListForArchive(horizon, chunkSize);
+        if (idList.isEmpty()) {
+            return 0;
+        }
+
+        // アーカイブへ登録する
+        logger.debug("アーカイブへ登録する");
+        userSummaryArchiveMapper.copyListFromSummary(idList);
+
+        // ユーザ概要から削除する
+        logger.debug("ユーザ概要から削除する");
+        userSummaryArchiveMapper.deleteSummaryList(idList);
+
+        return idList.size();
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザ概要パーティション管理サービス。
+ */
+public interface UserSummaryPartitionService {
+
+    /**
+     * 先の月のパーティションを作成し、保存期間を過ぎた月のパーティションを削除する。ユーザ概要テーブルを分割していない場合は何もしない。
+     * 
+     * @param today 今日
+     * @return 作成、削除したパーティションの件数
+     */
+    int maintain(LocalDate today);
+
+}
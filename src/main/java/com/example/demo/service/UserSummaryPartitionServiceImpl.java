@@ -0,0 +1,260 @@
+package com.example.demo.service;
+
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+import com.example.demo.mapper.UserSummaryPartitionMapper;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+// NOTE: パーティションは更新日の月ごとにp202504のような名前で作成し、最後に上限のpmaxを置く
+// NOTE: 保存期間を過ぎたパーティションは、行をアーカイブへコピーしてから削除する
+
+/**
+ * ユーザ概要パーティション管理サービス実装。
+ */
+@Service
+public class UserSummaryPartitionServiceImpl implements UserSummaryPartitionService {
+
+    /** 月ごとのパーティション名の書式。 */
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    /** 上限のパーティション名。 */
+    private static final String MAX_PARTITION_NAME = "pmax";
+
+    /** 1か月の最小の日数。 */
+    private static final int MIN_DAYS_OF_MONTH = 28;
+
+    /** ユーザ概要パーティションマッパー。 */
+    private final UserSummaryPartitionMapper userSummaryPartitionMapper;
+
+    /** ユーザ概要アーカイブエンティティマッパー。 */
+    private final UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    /** 今月より先に作成しておく月数。 */
+    private final int futureMonths;
+
+    /** パーティションを残す月数。0の場合は削除しない。 */
+    private final int retentionMonths;
+
+    /** メタデータロックの待ち時間（秒）。 */
+    private final int lockWaitTimeout;
+
+    /** アーカイブへコピーする1チャンクの最大件数。 */
+    private final int chunkSize;
+
+    /** チャンクの間に待つミリ秒。 */
+    private final long pauseMillis;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: 削除するパーティションの行はアーカイブへ移るが、検索は更新日の開始がアーカイブの基準日より前の場合だけアーカイブを読む
+    // NOTE: 削除するパーティションの行がすべてアーカイブの基準日より前になるように、アーカイブの保存日数を保存期間の最小の日数以下にする
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param userSummaryPartitionMapper ユーザ概要パーティションマッパー
+     * @param userSummaryArchiveMapper ユーザ概要アーカイブエンティティマッパー
+     * @param futureMonths 今月より先に作成しておく月数
+     * @param retentionMonths パーティションを残す月数。0の場合は削除しない
+     * @param archiveRetentionDays ユーザ概要に残す日数。0の場合はアーカイブしない
+     * @param lockWaitTimeout メタデータロックの待ち時間（秒）
+     * @param chunkSize アーカイブへコピーする1チャンクの最大件数
+     * @param pauseMillis チャンクの間に待つミリ秒
+     */
+    public UserSummaryPartitionServiceImpl(
+            UserSummaryPartitionMapper userSummaryPartitionMapper,
+            UserSummaryArchiveMapper userSummaryArchiveMapper,
+            @Value("${summary.partition.futureMonths}") int futureMonths,
+            @Value("${summary.partition.retentionMonths}") int retentionMonths,
+            @Value("${summary.archive.retentionDays}") int archiveRetentionDays,
+            @Value("${summary.partition.lockWaitTimeout}") int lockWaitTimeout,
+            @Value("${summary.archive.chunkSize}") int chunkSize,
+            @Value("${summary.archive.pauseMillis}") long pauseMillis) {
+        if (retentionMonths > 0
+                && (archiveRetentionDays <= 0 || archiveRetentionDays > retentionMonths * MIN_DAYS_OF_MONTH)) {
+            throw new IllegalArgumentException("summary.partition.retentionMonths: " + retentionMonths
+                    + " (summary.archive.retentionDays: " + archiveRetentionDays + ")");
+        }
+        this.userSummaryPartitionMapper = userSummaryPartitionMapper;
+        this.userSummaryArchiveMapper = userSummaryArchiveMapper;
+        this.futureMonths = futureMonths;
+        this.retentionMonths = retentionMonths;
+        this.lockWaitTimeout = lockWaitTimeout;
+        this.chunkSize = chunkSize;
+        this.pauseMillis = pauseMillis;
+    }
+
+    // NOTE: DDLは暗黙的にコミットされるため、トランザクションで囲まない
+    // NOTE: SUPPORTSはトランザクションを開始しないが、待ち時間の設定とDDLは同じコネクションで実行される
+    // NOTE: 途中で失敗しても、作成、削除済みのパーティションは次回の実行で対象にならないため、そのままやり直せる
+    // NOTE: パーティションの作成と削除はテーブル全体の排他的なメタデータロックを取るため、その間は検索、書き込みが待たされる
+    // NOTE: 待たせる時間はメタデータロックの待ち時間までに抑える
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public int maintain(LocalDate today) {
+        // パーティション名リストを取得する
+        logger.debug("パーティション名リストを取得する");
+        List<String> partitionNameList = userSummaryPartitionMapper.findPartitionNameList();
+        if (partitionNameList.isEmpty()) {
+            return 0;
+        }
+
+        // メタデータロックの待ち時間を設定する
+        logger.debug("メタデータロックの待ち時間を設定する");
+        userSummaryPartitionMapper.setLockWaitTimeout(lockWaitTimeout);
+        try {
+            return addFuturePartition(partitionNameList, YearMonth.from(today))
+                    + dropExpiredPartition(partitionNameList, YearMonth.from(today), today);
+        } finally {
+            // メタデータロックの待ち時間を戻す
+            logger.debug("メタデータロックの待ち時間を戻す");
+            userSummaryPartitionMapper.resetLockWaitTimeout();
+        }
+    }
+
+    // NOTE: 上限のパーティションに行があると、分割し直す間その行をコピーし、その間はテーブルへの書き込みが止まる
+    // NOTE: 先の月まで作成していれば上限のパーティションは空のため、行がある場合は作成せずにメンテナンス時間での手動の作成に任せる
+
+    /**
+     * 最後の月の次の月から、今月の先の月までのパーティションを作成する。
+     * 
+     * @param partitionNameList パーティション名リスト
+     * @param thisMonth 今月
+     * @return 作成したパーティションの件数
+     */
+    private int addFuturePartition(List<String> partitionNameList, YearMonth thisMonth) {
+        YearMonth lastMonth = partitionNameList.stream()
+                .map(this::toYearMonth)
+                .filter(month -> month != null)
+                .max(YearMonth::compareTo)
+                .orElse(thisMonth.minusMonths(1));
+        int count = 0;
+        for (YearMonth month = lastMonth.plusMonths(1); !month.isAfter(thisMonth.plusMonths(futureMonths));
+                month = month.plusMonths(1)) {
+            String name = month.format(PARTITION_NAME_FORMAT);
+            if (userSummaryPartitionMapper.existsRowInPartition(MAX_PARTITION_NAME)) {
+                logger.warn("上限のパーティションに行があるため作成しない：{}", name);
+                break;
+            }
+            logger.info("パーティションを作成する：{}", name);
+            userSummaryPartitionMapper.addPartition(name, month.plusMonths(1).atDay(1));
+            count++;
+        }
+        return count;
+    }
+
+    // NOTE: 最も古いパーティションにはその月より前の行もすべて含まれる
+    // NOTE: アーカイブへの移動と同じく、件数の集計表はユーザ概要とアーカイブの合計のため変わらない
+    // NOTE: コピーしてから削除するまでの間に書き込まれたユーザは、アーカイブから戻さずにユーザ概要の行を変更する
+    // NOTE: 更新日が今日になって今月のパーティションへ移るため削除されないが、アーカイブにもあるため削除した後にアーカイブから削除する
+    // NOTE: コピー、削除に失敗した場合は、コピーしたユーザが両方にあるため、アーカイブから削除して次回の実行でやり直す
+
+    /**
+     * 保存期間を過ぎた月のパーティションをアーカイブへコピーしてから削除する。
+     * 
+     * @param partitionNameList パーティション名リスト
+     * @param thisMonth 今月
+     * @param today 今日
+     * @return 削除したパーティションの件数
+     */
+    private int dropExpiredPartition(List<String> partitionNameList, YearMonth thisMonth, LocalDate today) {
+        if (retentionMonths <= 0) {
+            return 0;
+        }
+        YearMonth oldestMonth = thisMonth.minusMonths(retentionMonths);
+        int count = 0;
+        for (String name : partitionNameList) {
+            YearMonth month = toYearMonth(name);
+            if (month != null && month.isBefore(oldestMonth)) {
+                try {
+                    logger.info("パーティションをアーカイブへコピーする：{}", name);
+                    copyPartitionToArchive(name);
+                    logger.info("パーティションを削除する：{}", name);
+                    userSummaryPartitionMapper.dropPartition(name);
+                } catch (RuntimeException ex) {
+                    userSummaryArchiveMapper.deleteListInSummary(null);
+                    throw ex;
+                }
+                userSummaryArchiveMapper.deleteListInSummary(today.minusDays(1));
+                count++;
+            }
+        }
+        return count;
+    }
+
+    // NOTE: トランザクションを開始しないため、チャンクごとのコピーはそれぞれコミットされる
+    // NOTE: コピー元の行の共有ロックはチャンクの間だけで、UserSummaryArchiveJobと同じくチャンクの間は待ってユーザの書き込みを通す
+
+    /**
+     * パーティションの行を、ユーザIDの順にチャンクごとにアーカイブへコピーする。
+     * 
+     * @param name パーティション名
+     */
+    private void copyPartitionToArchive(String name) {
+        String afterUserId = null;
+        List<String> idList;
+        do {
+            idList = userSummaryPartitionMapper.findUserIdListInPartition(name, afterUserId, chunkSize);
+            if (idList.isEmpty()) {
+                return;
+            }
+            userSummaryPartitionMapper.copyPartitionToArchive(name, idList);
+            afterUserId = idList.get(idList.size() - 1);
+            if (idList.size() == chunkSize) {
+                pause();
+            }
+        } while (idList.size() == chunkSize);
+    }
+
+    // NOTE: 割り込まれた場合は途中でやめ、コピーに失敗した場合と同じくアーカイブから削除して次回の実行でやり直す
+
+    /**
+     * チャンクの間に待つ。
+     */
+    private void pause() {
+        try {
+            Thread.sleep(pauseMillis);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("パーティションのコピー中に割り込まれました。", ex);
+        }
+    }
+
+    /**
+     * パーティション名から月を取得する。
+     * 
+     * @param name パーティション名
+     * @return 月 / 月ごとのパーティションでない場合: null
+     */
+    private YearMonth toYearMonth(String name) {
+        try {
+            return YearMonth.parse(name, PARTITION_NAME_FORMAT);
+        } catch (DateTimeParseException ex) {
+            return null;
+        }
+    }
+
+}
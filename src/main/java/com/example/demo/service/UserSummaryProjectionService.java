@@ -0,0 +1,19 @@
+package com.example.demo.service;
+
+// NOTE: Controllerから実装・単体テストを作成したりする際に有用なのでインターフェスを作っておく
+// NOTE: テスト環境と開発環境と本番環境でServiceの実装を変えることなどもできる
+
+/**
+ * ユーザ概要反映サービス。
+ */
+public interface UserSummaryProjectionService {
+
+    /**
+     * アウトボックスに登録された変更を古い順にユーザ概要へ反映する。
+     * 
+     * @param batchSize 1回で反映する最大件数
+     * @return 反映したアウトボックスの件数
+     */
+    int project(int batchSize);
+
+}
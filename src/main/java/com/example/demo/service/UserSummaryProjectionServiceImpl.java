@@ -0,0 +1,109 @@
+package com.example.demo.service;
+
+import java.util.List;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.example.demo.logic.UserSearchCacheLogic;
+import com.example.demo.logic.UserSummaryArchiveLogic;
+import com.example.demo.mapper.UserSummaryFacetMapper;
+import com.example.demo.mapper.UserSummaryMapper;
+import com.example.demo.mapper.UserSummaryOutbox;
+import com.example.demo.mapper.UserSummaryOutboxMapper;
+
+import lombok.RequiredArgsConstructor;
+
+// NOTE: 業務の処理の流れを書く
+// NOTE: 詳細設計書の各項目に書いてありそうなことを書くイメージ
+// NOTE: 詳細設計書の各項目の詳細な記述は各メソッドに切り出しているイメージ
+
+/**
+ * ユーザ概要反映サービス実装。
+ */
+@RequiredArgsConstructor
+@Service
+public class UserSummaryProjectionServiceImpl implements UserSummaryProjectionService {
+
+    // NOTE: @Autowiredするクラスはprivate finalで定義し、@RequiredArgsConstructorでインジェクションする
+    // NOTE: 書き換え不能にすることで不用意な書き換えを防ぐ
+
+    /** ユーザ概要エンティティマッパー。 */
+    private final UserSummaryMapper userSummaryMapper;
+
+    /** ユーザ概要件数エンティティマッパー。 */
+    private final UserSummaryFacetMapper userSummaryFacetMapper;
+
+    /** ユーザ概要アウトボックスエンティティマッパー。 */
+    private final UserSummaryOutboxMapper userSummaryOutboxMapper;
+
+    /** ユーザ検索キャッシュロジック。 */
+    private final UserSearchCacheLogic userSearchCacheLogic;
+
+    /** ユーザ概要アーカイブロジック。 */
+    private final UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    // NOTE: 処理ごとにログを出したい場合など
+    // NOTE: logger.debugでデバッグ時表示
+    // NOTE: logger.infoで常時表示
+    // NOTE: logger.debug、logger.infoをprivateメソッドに切り出してしまうとログを実行した行数の情報がprivateメソッドの方になってしまうので直接使う
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    // NOTE: rollbackForでどんな例外が発生してもロールバックするように設定
+    // NOTE: 反映とアウトボックスの削除を同じトランザクションで行い、失敗した場合は次回に再度反映する
+    // NOTE: 反映はuser_versionで冪等にしているので、同じ変更を2回以上反映しても問題ない
+
+    /**
+     * {@inheritDoc}
+     */
+    @Transactional(rollbackFor = Exception.class)
+    public int project(int batchSize) {
+        // 反映対象のアウトボックスを取得する
+        logger.debug("反映対象のアウトボックスを取得する");
+        List<UserSummaryOutbox> outboxList = userSummaryOutboxMapper.findOldestForUpdate(batchSize);
+        if (outboxList.isEmpty()) {
+            return 0;
+        }
+
+        // 重複のないユーザIDリストを取得する
+        List<String> userIdList = outboxList.stream().map(UserSummaryOutbox::getUserId).distinct().toList();
+
+        // アーカイブにあるユーザをユーザ概要へ戻す
+        logger.debug("アーカイブにあるユーザをユーザ概要へ戻す");
+        userSummaryArchiveLogic.restore(userIdList);
+
+        // 反映するユーザの部署の検索結果をコミット後に破棄する
+        logger.debug("反映するユーザの部署の検索結果をコミット後に破棄する");
+        userSearchCacheLogic.invalidateByUserIdList(userIdList);
+
+        // 反映する前のユーザ概要の件数を部署と更新日ごとの件数から引く
+        logger.debug("反映する前のユーザ概要の件数を部署と更新日ごとの件数から引く");
+        userSummaryFacetMapper.subtractListFromSummary(userIdList);
+
+        // 更新日で分割したテーブルに古い行が残らないように削除する
+        logger.debug("更新日で分割したテーブルに古い行が残らないように削除する");
+        userSummaryMapper.deleteStaleListFromUser(userIdList);
+
+        // サマリーテーブルへ反映する
+        logger.debug("サマリーテーブルへ反映する");
+        userSummaryMapper.upsertListFromUser(userIdList);
+
+        // 反映した後のユーザ概要の件数を部署と更新日ごとの件数に足す
+        logger.debug("反映した後のユーザ概要の件数を部署と更新日ごとの件数に足す");
+        userSummaryFacetMapper.addListFromSummary(userIdList);
+
+        // アウトボックスIDリストを取得する
+        List<Long> idList = outboxList.stream().map(UserSummaryOutbox::getId).toList();
+
+        // 反映したアウトボックスを削除する
+        logger.debug("反映したアウトボックスを削除する");
+        userSummaryOutboxMapper.deleteByIdList(idList);
+
+        return outboxList.size();
+    }
+
+}
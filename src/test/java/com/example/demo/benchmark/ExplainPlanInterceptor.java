@@ -0,0 +1,141 @@
+package com.example.demo.benchmark;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.ResultSetMetaData;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+// NOTE: テストでだけ使う。@Import(ExplainPlanInterceptor.class)でMyBatisに登録する
+// NOTE: 検索のSQLを実行する前に、同じSQLと同じバインド値でEXPLAINを実行し、全件走査かファイルソートの場合は例外にする
+// NOTE: 件数が少ないと全件走査の方が速いと判断されるため、大量データ（03_procedure.sql）を登録したDBで実行する
+
+/**
+ * 検索のSQLの実行計画を確認するインターセプター。
+ */
+@Intercepts({
+        @Signature(type = Executor.class, method = "query", args = { MappedStatement.class, Object.class,
+                RowBounds.class, ResultHandler.class }),
+        @Signature(type = Executor.class, method = "queryCursor", args = { MappedStatement.class, Object.class,
+                RowBounds.class }) })
+public class ExplainPlanInterceptor implements Interceptor {
+
+    /** 実行計画を確認するSQLのID。 */
+    private static final Set<String> TARGET_ID_SET = Set.of(
+            "com.example.demo.mapper.UserSummaryMapper.find",
+            "com.example.demo.mapper.UserSummaryMapper.findCursor",
+            "com.example.demo.mapper.UserSummaryArchiveMapper.find",
+            "com.example.demo.mapper.UserSummaryArchiveMapper.findCursor");
+
+    /** 全件走査を表すアクセスタイプ。ALLはテーブル、indexはインデックスの全件走査。 */
+    private static final Set<String> FULL_SCAN_TYPE_SET = Set.of("ALL", "index");
+
+    /** ロガー。 */
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    /**
+     * 対象のSQLの場合は実行計画を確認してから実行する。
+     * 
+     * @param invocation 呼び出し
+     * @return 実行結果
+     * @throws Throwable 実行計画が全件走査かファイルソートの場合、またはSQLの実行に失敗した場合
+     */
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        if (!TARGET_ID_SET.contains(mappedStatement.getId())) {
+            return invocation.proceed();
+        }
+
+        Object parameter = invocation.getArgs()[1];
+        BoundSql boundSql = mappedStatement.getBoundSql(parameter);
+        Executor executor = (Executor) invocation.getTarget();
+        List<Map<String, Object>> planList = explain(executor.getTransaction().getConnection(), mappedStatement,
+                parameter, boundSql);
+        logger.info("{}の実行計画：{}", mappedStatement.getId(), planList);
+
+        List<String> violationList = findViolationList(planList);
+        if (!violationList.isEmpty()) {
+            throw new IllegalStateException(mappedStatement.getId() + "の実行計画が" + violationList + "です。SQL："
+                    + boundSql.getSql());
+        }
+        return invocation.proceed();
+    }
+
+    // NOTE: コネクションはトランザクションのものを使うため閉じない
+
+    /**
+     * 同じバインド値でEXPLAINを実行する。
+     * 
+     * @param connection コネクション
+     * @param mappedStatement SQLの定義
+     * @param parameter パラメータ
+     * @param boundSql バインド前のSQL
+     * @return 実行計画の行リスト
+     * @throws SQLException EXPLAINの実行に失敗した場合
+     */
+    private List<Map<String, Object>> explain(Connection connection, MappedStatement mappedStatement,
+            Object parameter, BoundSql boundSql) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN " + boundSql.getSql())) {
+            new DefaultParameterHandler(mappedStatement, parameter, boundSql).setParameters(statement);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                ResultSetMetaData metaData = resultSet.getMetaData();
+                List<Map<String, Object>> planList = new ArrayList<>();
+                while (resultSet.next()) {
+                    Map<String, Object> plan = new LinkedHashMap<>();
+                    for (int i = 1; i <= metaData.getColumnCount(); i++) {
+                        plan.put(metaData.getColumnLabel(i), resultSet.getObject(i));
+                    }
+                    planList.add(plan);
+                }
+                return planList;
+            }
+        }
+    }
+
+    // NOTE: 派生テーブル（<derived2>など）はLIMITで絞り込んだ後の結果なので、全件走査や並べ替えをしても重くない
+
+    /**
+     * 実行計画から全件走査とファイルソートを探す。派生テーブルは対象外とする。
+     * 
+     * @param planList 実行計画の行リスト
+     * @return 見つかった内容のリスト / 見つからない場合: 空のリスト
+     */
+    static List<String> findViolationList(List<Map<String, Object>> planList) {
+        List<String> violationList = new ArrayList<>();
+        for (Map<String, Object> plan : planList) {
+            Object table = plan.get("table");
+            if (table != null && table.toString().startsWith("<derived")) {
+                continue;
+            }
+            Object type = plan.get("type");
+            Object extra = plan.get("Extra");
+            if (type != null && FULL_SCAN_TYPE_SET.contains(type.toString())) {
+                violationList.add("全件走査（table=" + table + ", type=" + type + "）");
+            }
+            if (extra != null && extra.toString().contains("Using filesort")) {
+                violationList.add("ファイルソート（table=" + table + "）");
+            }
+        }
+        return violationList;
+    }
+
+}
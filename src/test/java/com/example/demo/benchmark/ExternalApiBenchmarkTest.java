@@ -0,0 +1,118 @@
+package com.example.demo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.net.http.HttpClient;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.SimpleClientHttpRequestFactory;
+import org.springframework.web.client.RestTemplate;
+import org.springframework.web.util.DefaultUriBuilderFactory;
+
+import com.example.demo.constant.URLConstants;
+import com.example.demo.external.ExternalApi;
+import com.example.demo.external.ExternalHttpClientFactory;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: 通常のテストでは実行しない。./gradlew benchmark で実行する
+// NOTE: 外部APIはDockerのWireMockを使う（docker compose up -d wiremock）
+// NOTE: 変更前のSimpleClientHttpRequestFactoryと、JDKのHttpClientを使い回す場合の1秒あたりの送信数を比較する
+
+@Tag("benchmark")
+class ExternalApiBenchmarkTest {
+
+    /** 1スレッドあたりの送信数。 */
+    private static final int CALLS_PER_THREAD = 500;
+
+    /** WireMockのURL。 */
+    private static final String BASE_URL = Objects.requireNonNullElse(
+            System.getenv("EXTERNAL_BASE_URL"), "http://localhost:8081");
+
+    /** WireMockのAPIキー。 */
+    private static final String API_KEY = Objects.requireNonNullElse(
+            System.getenv("EXTERNAL_API_KEY"), "abcd1234");
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 8, 32 })
+    void benchmark(int threadCount) throws Exception {
+        ExternalHttpClientFactory httpClientFactory = new ExternalHttpClientFactory(new SimpleMeterRegistry(),
+                HttpClient.Version.HTTP_2, 1_000, 3_000, 4);
+        try {
+            long simpleRate = measure(new SimpleClientHttpRequestFactory(), threadCount);
+            long pooledRate = measure(httpClientFactory.createRequestFactory(), threadCount);
+
+            logger.info("スレッド数：{}、SimpleClientHttpRequestFactory：{}件/秒、HttpClient：{}件/秒",
+                    threadCount, simpleRate, pooledRate);
+        } finally {
+            httpClientFactory.shutdown();
+        }
+    }
+
+    private long measure(ClientHttpRequestFactory requestFactory, int threadCount) throws Exception {
+        RestTemplate restTemplate = new RestTemplate(requestFactory);
+        restTemplate.setUriTemplateHandler(new DefaultUriBuilderFactory(BASE_URL));
+        restTemplate.getInterceptors().add((request, body, execution) -> {
+            request.getHeaders().add("X-Api-Key", API_KEY);
+            return execution.execute(request, body);
+        });
+        ExternalApi externalApi = new ExternalApi(restTemplate);
+        Map<String, Object> requestBody = new HashMap<>();
+        requestBody.put("operation", "性能比較");
+        requestBody.put("operator", "BENCHMARK");
+
+        // NOTE: 接続の確立やJITの影響を除くため、計測前に送信しておく
+        for (int i = 0; i < 100; i++) {
+            externalApi.post(URLConstants.LOGGING_URL, requestBody);
+        }
+
+        CountDownLatch startLatch = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<Integer>> futureList = IntStream.range(0, threadCount)
+                    .mapToObj(i -> executor.submit(() -> {
+                        startLatch.await();
+                        int okCount = 0;
+                        for (int j = 0; j < CALLS_PER_THREAD; j++) {
+                            Map<String, Object> responseBody = externalApi.post(URLConstants.LOGGING_URL, requestBody);
+                            if ("OK".equals(responseBody.get("message"))) {
+                                okCount++;
+                            }
+                        }
+                        return okCount;
+                    }))
+                    .toList();
+
+            long start = System.nanoTime();
+            startLatch.countDown();
+            int okCount = 0;
+            for (Future<Integer> future : futureList) {
+                okCount += future.get();
+            }
+            long nanos = System.nanoTime() - start;
+
+            int total = threadCount * CALLS_PER_THREAD;
+            assertThat(okCount).isEqualTo(total);
+            return total * 1_000_000_000L / nanos;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+}
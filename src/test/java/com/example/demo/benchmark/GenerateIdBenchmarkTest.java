@@ -0,0 +1,97 @@
+package com.example.demo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.example.demo.logic.GenerateIdLogic;
+
+// NOTE: 通常のテストでは実行しない。./gradlew benchmark で実行する
+// NOTE: 複数のスレッドで同時に採番し、1秒あたりの採番数と、すべてのIDが異なることを確認する
+// NOTE: 1ノードで採番できるのは10ミリ秒に99件までのため、スレッド数を増やしても1秒あたり約9,900件が上限になる
+
+@Tag("benchmark")
+class GenerateIdBenchmarkTest {
+
+    /** 1スレッドあたりの採番数。 */
+    private static final int COUNT_PER_THREAD = 5_000;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1, 4, 16 })
+    void benchmark(int threadCount) throws Exception {
+        GenerateIdLogic generateIdLogic = new GenerateIdLogic(0);
+        Set<String> idSet = new HashSet<>();
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+        try {
+            List<Future<String[]>> futureList = IntStream.range(0, threadCount)
+                    .mapToObj(i -> executor.submit(() -> {
+                        // NOTE: 計測中はSetへの追加の競合を含めないように、スレッドごとに配列へ保持する
+                        String[] ids = new String[COUNT_PER_THREAD];
+                        startLatch.await();
+                        for (int j = 0; j < COUNT_PER_THREAD; j++) {
+                            ids[j] = generateIdLogic.generateId();
+                        }
+                        return ids;
+                    }))
+                    .toList();
+
+            long start = System.nanoTime();
+            startLatch.countDown();
+            List<String[]> resultList = new ArrayList<>(threadCount);
+            for (Future<String[]> future : futureList) {
+                resultList.add(future.get());
+            }
+            long nanos = System.nanoTime() - start;
+            resultList.forEach(ids -> idSet.addAll(Arrays.asList(ids)));
+
+            long total = (long) threadCount * COUNT_PER_THREAD;
+            logger.info("スレッド数：{}、採番数：{}、{}ms、{}件/秒",
+                    threadCount, total, nanos / 1_000_000, total * 1_000_000_000L / nanos);
+
+            assertThat(idSet).hasSize((int) total);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // NOTE: 1件ずつ採番する場合と、ブロックでまとめて採番する場合を比較する
+
+    @ParameterizedTest
+    @ValueSource(ints = { 1_000, 10_000 })
+    void benchmarkBlock(int count) {
+        GenerateIdLogic generateIdLogic = new GenerateIdLogic(0);
+
+        long singleStart = System.nanoTime();
+        List<String> singleList = IntStream.range(0, count).mapToObj(i -> generateIdLogic.generateId()).toList();
+        long singleMillis = (System.nanoTime() - singleStart) / 1_000_000;
+
+        long blockStart = System.nanoTime();
+        List<String> blockList = generateIdLogic.generateIdList(count);
+        long blockMillis = (System.nanoTime() - blockStart) / 1_000_000;
+
+        logger.info("件数：{}、1件ずつ：{}ms、ブロック：{}ms", count, singleMillis, blockMillis);
+
+        assertThat(new HashSet<>(singleList)).hasSize(count);
+        assertThat(blockList).doesNotHaveDuplicates().doesNotContainAnyElementsOf(singleList);
+    }
+
+}
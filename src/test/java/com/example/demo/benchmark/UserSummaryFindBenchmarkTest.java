@@ -0,0 +1,171 @@
+package com.example.demo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+// NOTE: 通常のテストでは実行しない。./gradlew benchmark で実行する
+// NOTE: 大量データ（CALL generate_user_summary_data()）を登録したDBで、検索条件の組み合わせごとにp50とp99を比較する
+// NOTE: 変更前のSQL（ユーザ概要を直接LIMITとOFFSETで検索する）と、ユーザIDを絞り込んでから読むSQLを比較する
+// NOTE: インデックスの変更前後は、READMEの手順でインデックスを変更する前と後にそれぞれ実行して比較する
+
+@Tag("benchmark")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserSummaryFindBenchmarkTest {
+
+    /** 1ページの件数に次のページの有無を確認する1件を足したリミット。 */
+    private static final int LIMIT = 101;
+
+    /** 計測前に実行する回数。 */
+    private static final int WARMUP = 5;
+
+    /** 計測する回数。 */
+    private static final int ITERATIONS = 50;
+
+    /** 変更前のSQL。 */
+    private static final String LEGACY_SQL = """
+            SELECT
+              name, dept_id, dept_name, last_updated_at, user_id, user_version
+            FROM
+              user_summary
+            WHERE
+              1 = 1
+              %s
+            ORDER BY
+              user_id ASC
+            LIMIT ? OFFSET ?
+            """;
+
+    @Autowired
+    private UserSummaryMapper userSummaryMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    static Stream<Arguments> conditions() {
+        LocalDate begin = LocalDate.of(2025, 4, 1);
+        LocalDate end = LocalDate.of(2025, 4, 1);
+        return Stream.of(0, 100_000).flatMap(offset -> Stream.of(
+                Arguments.of("部署", new UserSummaryCondition(
+                        null, "01", null, null, LIMIT, offset, null)),
+                Arguments.of("フルネーム", new UserSummaryCondition(
+                        "name00000001", null, null, null, LIMIT, offset, null)),
+                Arguments.of("フルネームと部署", new UserSummaryCondition(
+                        "name00000001", "01", null, null, LIMIT, offset, null)),
+                Arguments.of("部署と更新日", new UserSummaryCondition(
+                        null, "01", begin, end, LIMIT, offset, null)),
+                Arguments.of("更新日", new UserSummaryCondition(
+                        null, null, begin, end, LIMIT, offset, null))));
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("conditions")
+    void benchmark(String caseName, UserSummaryCondition condition) {
+        // 変更前のSQL
+        long[] legacyNanos = measure(() -> findLegacy(condition).size());
+
+        // ユーザIDを絞り込んでから読むSQL
+        long[] pageNanos = measure(() -> userSummaryMapper.find(condition).size());
+
+        logger.info("検索条件：{}、オフセット：{}、変更前：p50={}ms p99={}ms、絞り込み後：p50={}ms p99={}ms",
+                caseName, condition.getOffset(),
+                percentileMillis(legacyNanos, 50), percentileMillis(legacyNanos, 99),
+                percentileMillis(pageNanos, 50), percentileMillis(pageNanos, 99));
+
+        assertThat(userSummaryMapper.find(condition)).isEqualTo(findLegacy(condition));
+    }
+
+    /**
+     * 変更前のSQLで検索する。
+     * 
+     * @param condition ユーザ概要の検索条件
+     * @return ユーザ概要エンティティリスト
+     */
+    private List<UserSummary> findLegacy(UserSummaryCondition condition) {
+        StringBuilder where = new StringBuilder();
+        List<Object> args = new ArrayList<>();
+        if (condition.getName() != null) {
+            where.append(" AND name = ?");
+            args.add(condition.getName());
+        }
+        if (condition.getDeptId() != null) {
+            where.append(" AND dept_id = ?");
+            args.add(condition.getDeptId());
+        }
+        if (condition.getBeginUpdatedAt() != null) {
+            where.append(" AND last_updated_at >= ?");
+            args.add(condition.getBeginUpdatedAt());
+        }
+        if (condition.getEndUpdatedAt() != null) {
+            where.append(" AND last_updated_at <= ?");
+            args.add(condition.getEndUpdatedAt());
+        }
+        args.add(condition.getLimit());
+        args.add(condition.getOffset());
+
+        return jdbcTemplate.query(String.format(LEGACY_SQL, where), (rs, rowNum) -> new UserSummary(
+                rs.getString("name"),
+                rs.getString("dept_id"),
+                rs.getString("dept_name"),
+                rs.getObject("last_updated_at", LocalDate.class),
+                rs.getString("user_id"),
+                rs.getInt("user_version")), args.toArray());
+    }
+
+    /**
+     * 検索を繰り返し実行し、1回ごとの実行時間を計測する。
+     * 
+     * @param search 検索
+     * @return 実行時間（ナノ秒）の配列
+     */
+    private long[] measure(Supplier<Integer> search) {
+        for (int i = 0; i < WARMUP; i++) {
+            search.get();
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            search.get();
+            nanos[i] = System.nanoTime() - start;
+        }
+        return nanos;
+    }
+
+    /**
+     * 実行時間のパーセンタイルを取得する。
+     * 
+     * @param nanos 実行時間（ナノ秒）の配列
+     * @param percentile パーセンタイル
+     * @return 実行時間（ミリ秒）
+     */
+    private double percentileMillis(long[] nanos, int percentile) {
+        long[] sorted = nanos.clone();
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(sorted.length * percentile / 100.0) - 1;
+        return sorted[Math.max(index, 0)] / 1_000_000.0;
+    }
+
+}
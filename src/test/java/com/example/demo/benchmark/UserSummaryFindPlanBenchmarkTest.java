@@ -0,0 +1,89 @@
+package com.example.demo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+// NOTE: 通常のテストでは実行しない。./gradlew benchmark で実行する
+// NOTE: 大量データ（CALL generate_user_summary_data()）を登録したDBで、検索のSQLが全件走査やファイルソートにならないことを確認する
+// NOTE: 実行計画の確認はExplainPlanInterceptorが行い、問題がある場合は検索が例外になる
+
+@Tag("benchmark")
+@Import(ExplainPlanInterceptor.class)
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserSummaryFindPlanBenchmarkTest {
+
+    /** 1ページの件数に次のページの有無を確認する1件を足したリミット。 */
+    private static final Integer LIMIT = 101;
+
+    @Autowired
+    private UserSummaryMapper userSummaryMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    static Stream<Arguments> conditions() {
+        return Stream.of(
+                Arguments.of("部署", new UserSummaryCondition(
+                        null, "01", null, null, LIMIT, 0, null)),
+                Arguments.of("部署（2ページ目）", new UserSummaryCondition(
+                        null, "01", null, null, LIMIT, 100, null)),
+                Arguments.of("部署（カーソル）", new UserSummaryCondition(
+                        null, "01", null, null, LIMIT, 0, "20250401120000000_01")),
+                Arguments.of("フルネーム", new UserSummaryCondition(
+                        "name00000001", null, null, null, LIMIT, 0, null)),
+                Arguments.of("フルネームと部署", new UserSummaryCondition(
+                        "name00000001", "01", null, null, LIMIT, 0, null)),
+                Arguments.of("部署と更新日", new UserSummaryCondition(
+                        null, "01", LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 1), LIMIT, 0, null)),
+                Arguments.of("フルネームと更新日", new UserSummaryCondition(
+                        "name00000001", null, LocalDate.of(2025, 4, 1), LocalDate.of(2025, 4, 30), LIMIT, 0, null)));
+    }
+
+    // NOTE: 更新日だけの検索は、更新日の範囲とuser_idの順を同時に満たすインデックスがないため対象外とする
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("conditions")
+    void find(String caseName, UserSummaryCondition condition) {
+        // NOTE: 実行計画に問題がある場合はExplainPlanInterceptorが例外を投げる
+        assertThatCode(() -> userSummaryMapper.find(condition)).doesNotThrowAnyException();
+    }
+
+    // NOTE: 変更前のSQL（${deptId}）では部署IDが数値として埋め込まれ、インデックスを使えないことを確認する
+    @Test
+    void legacyDeptIdLiteral() {
+        List<Map<String, Object>> planList = jdbcTemplate.queryForList("""
+                EXPLAIN
+                SELECT
+                  name, dept_id, dept_name, last_updated_at, user_id, user_version
+                FROM
+                  user_summary
+                WHERE
+                  dept_id = 01
+                ORDER BY
+                  user_id ASC
+                LIMIT 101 OFFSET 0
+                """);
+
+        assertThat(ExplainPlanInterceptor.findViolationList(planList)).isNotEmpty();
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.example.demo.benchmark;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.example.demo.logic.UserSummaryProjectionLogic;
+
+// NOTE: 通常のテストでは実行しない。./gradlew benchmark で実行する
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるので計測用のデータは元に戻る
+// NOTE: 変更前のSQL（相関サブクエリ）とJOINで1回にまとめたSQLの実行時間を比較する
+
+@Tag("benchmark")
+@Import(UserSummaryProjectionLogic.class)
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserSummaryRefreshBenchmarkTest {
+
+    /** 計測用のユーザIDの開始値。 */
+    private static final long BASE_ID = 80000000000000000L;
+
+    /** 変更前のSQL。 */
+    private static final String LEGACY_SQL = """
+            UPDATE
+              user_summary AS os
+            SET
+              name = (SELECT CONCAT(o.family_name, o.first_name) FROM user AS o WHERE o.id = os.user_id),
+              dept_id = (SELECT o.dept_id FROM user AS o WHERE o.id = os.user_id),
+              dept_name = (SELECT d.name FROM user AS o INNER JOIN department AS d ON o.dept_id = d.id WHERE o.id = os.user_id),
+              last_updated_at = CURDATE(),
+              user_version = (SELECT o.version FROM user AS o WHERE o.id = os.user_id)
+            WHERE
+              os.user_id IN (%s)
+            """;
+
+    @Autowired
+    private UserSummaryProjectionLogic userSummaryProjectionLogic;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private final Logger logger = LoggerFactory.getLogger(getClass());
+
+    @ParameterizedTest
+    @ValueSource(ints = { 10, 1_000, 100_000 })
+    void benchmark(int size) {
+        List<String> idList = createData(size);
+
+        // 変更前のSQL
+        bumpVersion();
+        String sql = String.format(LEGACY_SQL, idList.stream().map(id -> "?").collect(Collectors.joining(",")));
+        long legacyStart = System.nanoTime();
+        int legacyCount = jdbcTemplate.update(sql, idList.toArray());
+        long legacyMillis = (System.nanoTime() - legacyStart) / 1_000_000;
+
+        // JOINで1回にまとめたSQL
+        bumpVersion();
+        long joinStart = System.nanoTime();
+        int joinCount = userSummaryProjectionLogic.modifyListFromUser(idList);
+        long joinMillis = (System.nanoTime() - joinStart) / 1_000_000;
+
+        // バージョンが同じため更新しない場合
+        long skipStart = System.nanoTime();
+        int skipCount = userSummaryProjectionLogic.modifyListFromUser(idList);
+        long skipMillis = (System.nanoTime() - skipStart) / 1_000_000;
+
+        logger.info("件数：{}、相関サブクエリ：{}ms、JOIN：{}ms、JOIN（更新なし）：{}ms",
+                size, legacyMillis, joinMillis, skipMillis);
+
+        assertThat(legacyCount).isEqualTo(size);
+        assertThat(joinCount).isEqualTo(size);
+        assertThat(skipCount).isEqualTo(0);
+    }
+
+    /**
+     * 計測用のユーザとユーザ概要を登録する。
+     * 
+     * @param size 件数
+     * @return ユーザIDリスト
+     */
+    private List<String> createData(int size) {
+        List<String> idList = IntStream.range(0, size)
+                .mapToObj(i -> String.format("%017d_01", BASE_ID + i))
+                .toList();
+
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user (id, family_name, first_name, dept_id, version) VALUES (?, '苗字', '名前', '01', 0)",
+                idList,
+                1_000,
+                (ps, id) -> ps.setString(1, id));
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO user_summary (name, dept_id, dept_name, last_updated_at, user_id, user_version) "
+                        + "VALUES ('苗字名前', '01', '部署1', CURDATE(), ?, 0)",
+                idList,
+                1_000,
+                (ps, id) -> ps.setString(1, id));
+        return idList;
+    }
+
+    /**
+     * 計測用のユーザのバージョンを上げ、ユーザ概要を更新対象にする。
+     */
+    private void bumpVersion() {
+        jdbcTemplate.update("UPDATE user SET version = version + 1 WHERE id LIKE '8%'");
+    }
+
+}
@@ -0,0 +1,68 @@
+package com.example.demo.common;
+
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.concurrent.atomic.AtomicReference;
+
+// NOTE: 有効期限や待ち時間を確認するテストで共通して使う
+// NOTE: テスト対象が別のスレッドから読む場合もあるため、現在の日時はAtomicReferenceで持つ
+// NOTE: withZoneで作成した時計も同じ日時を共有し、元の時計を進めると一緒に進む
+
+/**
+ * テストで時間を進められる時計。
+ */
+public class TestClock extends Clock {
+
+    /** 初期の日時。 */
+    private static final Instant INITIAL_INSTANT = Instant.parse("2025-01-01T03:30:23.123Z");
+
+    /** タイムゾーン。 */
+    private final ZoneId zone;
+
+    /** 現在の日時。 */
+    private final AtomicReference<Instant> instant;
+
+    /**
+     * コンストラクタ。
+     */
+    public TestClock() {
+        this(ZoneId.of("Asia/Tokyo"), new AtomicReference<>(INITIAL_INSTANT));
+    }
+
+    /**
+     * コンストラクタ。
+     * 
+     * @param zone タイムゾーン
+     * @param instant 現在の日時
+     */
+    private TestClock(ZoneId zone, AtomicReference<Instant> instant) {
+        this.zone = zone;
+        this.instant = instant;
+    }
+
+    /**
+     * 時間を進める。
+     * 
+     * @param millis 進めるミリ秒
+     */
+    public void advance(long millis) {
+        instant.updateAndGet(current -> current.plusMillis(millis));
+    }
+
+    @Override
+    public ZoneId getZone() {
+        return zone;
+    }
+
+    @Override
+    public Clock withZone(ZoneId zone) {
+        return new TestClock(zone, instant);
+    }
+
+    @Override
+    public Instant instant() {
+        return instant.get();
+    }
+
+}
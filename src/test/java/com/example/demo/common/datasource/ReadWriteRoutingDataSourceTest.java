@@ -0,0 +1,184 @@
+package com.example.demo.common.datasource;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.common.TestClock;
+import com.example.demo.constant.DataSourceTypeConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: トランザクションマネージャーの代わりにTransactionSynchronizationManagerへトランザクションの状態を設定する
+
+class ReadWriteRoutingDataSourceTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final long READ_YOUR_WRITES_MILLIS = 1_000;
+
+    private static final String OPERATOR = "OPERATOR";
+
+    private static final String OTHER_OPERATOR = "OTHER";
+
+    private ReadWriteRoutingDataSource dataSource;
+
+    private MeterRegistry meterRegistry;
+
+    private TestClock clock;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new TestClock();
+        dataSource = new ReadWriteRoutingDataSource(clock, meterRegistry, READ_YOUR_WRITES_MILLIS);
+    }
+
+    @AfterEach
+    void tearDown() {
+        end();
+        OperatorContextHolder.clear();
+    }
+
+    /**
+     * トランザクションを開始した状態にする。
+     * 
+     * @param readOnly readOnlyのトランザクションか
+     */
+    private void begin(boolean readOnly) {
+        TransactionSynchronizationManager.initSynchronization();
+        TransactionSynchronizationManager.setActualTransactionActive(true);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(readOnly);
+    }
+
+    /**
+     * コミットした状態にする。
+     */
+    private void commit() {
+        TransactionSynchronizationManager.getSynchronizations()
+                .forEach(TransactionSynchronization::afterCommit);
+        end();
+    }
+
+    /**
+     * トランザクションを終了した状態にする。
+     */
+    private void end() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+        TransactionSynchronizationManager.setActualTransactionActive(false);
+        TransactionSynchronizationManager.setCurrentTransactionReadOnly(false);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("route")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：readOnlyのトランザクションはレプリカに接続する")
+        @Test
+        void testOK1() {
+            begin(true);
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(dataSource.route(OPERATOR)).isEqualTo(DataSourceTypeConstants.REPLICA);
+        }
+
+        @DisplayName("正常終了：readOnly以外のトランザクションとトランザクション外はプライマリに接続する")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(dataSource.route(OPERATOR)).isEqualTo(DataSourceTypeConstants.PRIMARY);
+
+            begin(false);
+            assertThat(dataSource.route(OPERATOR)).isEqualTo(DataSourceTypeConstants.PRIMARY);
+        }
+
+        @DisplayName("正常終了：書き込んだ操作者は一定時間プライマリに接続する")
+        @Test
+        void testOK3() {
+            begin(false);
+            dataSource.route(OPERATOR);
+            commit();
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            begin(true);
+            assertThat(dataSource.route(OPERATOR)).isEqualTo(DataSourceTypeConstants.PRIMARY);
+            assertThat(dataSource.route(OTHER_OPERATOR)).isEqualTo(DataSourceTypeConstants.REPLICA);
+            assertThat(dataSource.route(null)).isEqualTo(DataSourceTypeConstants.REPLICA);
+
+            // NOTE: 期限を過ぎたらレプリカに戻ること
+            clock.advance(READ_YOUR_WRITES_MILLIS);
+            assertThat(dataSource.route(OPERATOR)).isEqualTo(DataSourceTypeConstants.REPLICA);
+        }
+
+        @DisplayName("正常終了：ロールバックした場合は書き込んだものとしない")
+        @Test
+        void testOK4() {
+            begin(false);
+            dataSource.route(OPERATOR);
+            TransactionSynchronizationManager.getSynchronizations()
+                    .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+            end();
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            begin(true);
+            assertThat(dataSource.route(OPERATOR)).isEqualTo(DataSourceTypeConstants.REPLICA);
+        }
+
+    }
+
+    @DisplayName("determineCurrentLookupKey")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：リクエストの操作者で判定し、接続先ごとの件数を数える")
+        @Test
+        void testOK1() {
+            OperatorContextHolder.setOperator(OPERATOR);
+            begin(false);
+            dataSource.determineCurrentLookupKey();
+            commit();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            begin(true);
+            Object actual = dataSource.determineCurrentLookupKey();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(DataSourceTypeConstants.PRIMARY);
+            assertThat(meterRegistry.get("datasource.routing").tag("target", DataSourceTypeConstants.PRIMARY)
+                    .counter().count()).isEqualTo(2.0);
+        }
+
+    }
+
+}
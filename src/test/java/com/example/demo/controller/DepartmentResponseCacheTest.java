@@ -0,0 +1,165 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.service.DepartmentResult;
+import com.example.demo.service.DepartmentResultData;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentResponseCacheTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: ObjectMapperはモックにせず、レスポンスと同じスネークケースの設定で生成する
+    private DepartmentResponseCache responseCache;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private DepartmentRestControllerConverter converter;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+    @BeforeEach
+    void setUp() {
+        responseCache = new DepartmentResponseCache(converter, objectMapper);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("get, put")
+    @Nested
+    class Method1 {
+
+        private DepartmentResult result1 = null;
+        private DepartmentResult result2 = null;
+        private DepartmentResponse response1 = null;
+        private DepartmentResponse response2 = null;
+
+        @BeforeEach
+        void setUp() {
+            // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+
+            result1 = new DepartmentResult(List.of(new DepartmentResultData("01", "部署1", false)));
+            result2 = new DepartmentResult(List.of(new DepartmentResultData("01", "部署1", true)));
+            response1 = new DepartmentResponse(List.of(new DepartmentResponseData("01", "部署1", false)));
+            response2 = new DepartmentResponse(List.of(new DepartmentResponseData("01", "部署1", true)));
+        }
+
+        @DisplayName("正常終了：版数が同じ場合は変換済みの部署レスポンスを返す")
+        @Test
+        void testOK1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(response1)
+                    .when(converter)
+                    .convertToResponse(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            DepartmentResponseBody actual1 = responseCache.put(1L, result1);
+            DepartmentResponseBody actual2 = responseCache.get(1L);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(new String(actual1.getBody(), StandardCharsets.UTF_8)).isEqualTo(
+                    "{\"status\":\"success\",\"code\":null,\"message\":null,"
+                            + "\"data\":{\"list\":[{\"id\":\"01\",\"name\":\"部署1\",\"is_deleted\":false}]}}");
+            assertThat(actual1.getEtag()).matches("\"[0-9a-f]{64}\"");
+            assertThat(actual2).isSameAs(actual1);
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToResponse(eq(result1));
+        }
+
+        @DisplayName("正常終了：未変換か版数が変わった場合はnullを返す")
+        @Test
+        void testOK2() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(response1)
+                    .when(converter)
+                    .convertToResponse(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            DepartmentResponseBody actual1 = responseCache.get(1L);
+            responseCache.put(1L, result1);
+            DepartmentResponseBody actual2 = responseCache.get(2L);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual1).isNull();
+            assertThat(actual2).isNull();
+        }
+
+        @DisplayName("正常終了：版数が変わった場合は変換し直した部署レスポンスに差し替える")
+        @Test
+        void testOK3() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(response1)
+                    .when(converter)
+                    .convertToResponse(eq(result1));
+
+            doReturn(response2)
+                    .when(converter)
+                    .convertToResponse(eq(result2));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            DepartmentResponseBody actual1 = responseCache.put(1L, result1);
+            DepartmentResponseBody actual2 = responseCache.put(2L, result2);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual2.getVersion()).isEqualTo(2L);
+            assertThat(actual2.getEtag()).isNotEqualTo(actual1.getEtag());
+            assertThat(responseCache.get(1L)).isNull();
+            assertThat(responseCache.get(2L)).isSameAs(actual2);
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToResponse(eq(result1));
+            verify(converter, times(1)).convertToResponse(eq(result2));
+        }
+
+    }
+
+}
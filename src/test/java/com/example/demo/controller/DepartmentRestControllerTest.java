@@ -4,6 +4,7 @@ import static org.mockito.Mockito.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -13,6 +14,8 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.dao.DataAccessException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
 
@@ -38,6 +41,10 @@ class DepartmentRestControllerTest {
 
     private static final String OPERATOR_VALUE = "OPERATOR";
 
+    private static final String ETAG = "\"0123456789abcdef\"";
+
+    private static final long VERSION = 1L;
+
     // NOTE: テスト対象とモックを定義する
     // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
 
@@ -48,7 +55,7 @@ class DepartmentRestControllerTest {
     // NOTE: 呼び出されるクラスは@MockitoBean
     // NOTE: Springの設定を読み込まないため@Mockは使わない
     @MockitoBean
-    private DepartmentRestControllerConverter converter;
+    private DepartmentResponseCache responseCache;
 
     @MockitoBean
     private DepartmentService service;
@@ -115,13 +122,21 @@ class DepartmentRestControllerTest {
                 // モックの振る舞い設定
                 // -------------------------------------------------------------
 
+                doReturn(VERSION)
+                        .when(service)
+                        .fetchVersion(anyString());
+
                 doReturn(result)
                         .when(service)
-                        .fetchAll(anyString());
+                        .fetchAll();
+
+                doReturn(null)
+                        .when(responseCache)
+                        .get(anyLong());
 
-                doReturn(response)
-                        .when(converter)
-                        .convertToResponse(any());
+                doReturn(new DepartmentResponseBody(VERSION, responseJson.getBytes(StandardCharsets.UTF_8), ETAG))
+                        .when(responseCache)
+                        .put(anyLong(), any());
 
                 // -------------------------------------------------------------
                 // テスト実行・実行結果確認
@@ -131,11 +146,84 @@ class DepartmentRestControllerTest {
                         get(URL)
                                 .header(OPERATOR_KEY, OPERATOR_VALUE))
                         .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                         .andExpect(content().json(responseJson));
 
-                // NOTE: 呼び出されるメソッドが想定通りであること
-                verify(service, times(1)).fetchAll(eq(OPERATOR_VALUE));
-                verify(converter, times(1)).convertToResponse(eq(result));
+                // NOTE: 変換済みの部署レスポンスがない場合は、部署結果を取得して変換すること
+                verify(service, times(1)).fetchVersion(eq(OPERATOR_VALUE));
+                verify(responseCache, times(1)).get(eq(VERSION));
+                verify(service, times(1)).fetchAll();
+                verify(responseCache, times(1)).put(eq(VERSION), eq(result));
+            }
+
+            @DisplayName("正常終了：版数が同じ場合")
+            @Test
+            void testOK2() throws Exception {
+                String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+                // -------------------------------------------------------------
+                // モックの振る舞い設定
+                // -------------------------------------------------------------
+
+                doReturn(VERSION)
+                        .when(service)
+                        .fetchVersion(anyString());
+
+                doReturn(new DepartmentResponseBody(VERSION, responseJson.getBytes(StandardCharsets.UTF_8), ETAG))
+                        .when(responseCache)
+                        .get(anyLong());
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        get(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE))
+                        .andExpect(status().isOk())
+                        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                        .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                        .andExpect(content().json(responseJson));
+
+                // NOTE: 変換済みの部署レスポンスを返し、部署結果の取得も変換もしないこと
+                verify(service, times(1)).fetchVersion(eq(OPERATOR_VALUE));
+                verify(service, never()).fetchAll();
+                verify(responseCache, never()).put(anyLong(), any());
+            }
+
+            @DisplayName("正常終了：If-None-MatchがETagと一致する場合")
+            @Test
+            void testOK3() throws Exception {
+                String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+                // -------------------------------------------------------------
+                // モックの振る舞い設定
+                // -------------------------------------------------------------
+
+                doReturn(VERSION)
+                        .when(service)
+                        .fetchVersion(anyString());
+
+                doReturn(new DepartmentResponseBody(VERSION, responseJson.getBytes(StandardCharsets.UTF_8), ETAG))
+                        .when(responseCache)
+                        .get(anyLong());
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                // NOTE: ボディを返さずに304になること
+                mockMvc.perform(
+                        get(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .header(HttpHeaders.IF_NONE_MATCH, ETAG))
+                        .andExpect(status().isNotModified())
+                        .andExpect(header().string(HttpHeaders.ETAG, ETAG))
+                        .andExpect(content().string(""));
+
+                // NOTE: 304の場合も操作ログを保存するため版数の取得は呼び出されること
+                verify(service, times(1)).fetchVersion(eq(OPERATOR_VALUE));
             }
 
             @DisplayName("異常終了：RuntimeException")
@@ -149,7 +237,7 @@ class DepartmentRestControllerTest {
 
                 doThrow(RuntimeException.class)
                         .when(service)
-                        .fetchAll(anyString());
+                        .fetchVersion(anyString());
 
                 // -------------------------------------------------------------
                 // テスト実行・実行結果確認
@@ -162,7 +250,7 @@ class DepartmentRestControllerTest {
                         .andExpect(content().json(responseJson));
 
                 // NOTE: 呼び出されるメソッドが想定通りであること
-                verify(service, times(1)).fetchAll(eq(OPERATOR_VALUE));
+                verify(service, times(1)).fetchVersion(eq(OPERATOR_VALUE));
             }
 
             @DisplayName("異常終了：DataAccessException")
@@ -177,7 +265,7 @@ class DepartmentRestControllerTest {
                 doThrow(new DataAccessException("") {
                 })
                         .when(service)
-                        .fetchAll(anyString());
+                        .fetchVersion(anyString());
 
                 // -------------------------------------------------------------
                 // テスト実行・実行結果確認
@@ -190,7 +278,7 @@ class DepartmentRestControllerTest {
                         .andExpect(content().json(responseJson));
 
                 // NOTE: 呼び出されるメソッドが想定通りであること
-                verify(service, times(1)).fetchAll(eq(OPERATOR_VALUE));
+                verify(service, times(1)).fetchVersion(eq(OPERATOR_VALUE));
             }
 
         }
@@ -22,6 +22,8 @@ import com.example.demo.common.response.ErrorResponse;
 import com.example.demo.common.response.SuccessResponse;
 import com.example.demo.service.UserBulkCreateParam;
 import com.example.demo.service.UserBulkCreateService;
+import com.example.demo.service.UserBulkResult;
+import com.example.demo.service.UserBulkResultItemData;
 import com.example.demo.service.UserCreateParam;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.databind.PropertyNamingStrategies;
@@ -809,4 +811,115 @@ class UserBulkCreateRestControllerTest {
 
     }
 
+    @DisplayName("bulkCreatePartialApi")
+    @Nested
+    class Method2 {
+
+        private static final String PARTIAL_URL = "/users/bulk/create?partial=true";
+
+        private static final String BASE_ID = "20250101120055111";
+
+        private UserBulkCreateRequest bulkRequest = null;
+        private UserBulkCreateParam bulkParam = null;
+
+        @BeforeEach
+        void setUp() {
+            bulkRequest = new UserBulkCreateRequest(List.of(
+                    new UserCreateRequest("苗字1", "名前1", "01"),
+                    new UserCreateRequest("苗字2", "名前2", "99")));
+
+            bulkParam = new UserBulkCreateParam(List.of(
+                    new UserCreateParam("苗字1", "名前1", "01"),
+                    new UserCreateParam("苗字2", "名前2", "99")));
+        }
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(bulkRequest);
+            UserBulkResponse response = new UserBulkResponse(2, 1, 1, List.of(
+                    new UserBulkResponseItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResponseItemData(2, BASE_ID + "_02", "missing_dept")));
+            String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+            UserBulkResult result = new UserBulkResult(2, 1, 1, List.of(
+                    new UserBulkResultItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResultItemData(2, BASE_ID + "_02", "missing_dept")));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(bulkParam)
+                    .when(converter)
+                    .convertToParam(any());
+
+            doReturn(result)
+                    .when(service)
+                    .bulkCreatePartial(anyString(), any());
+
+            doReturn(response)
+                    .when(converter)
+                    .convertToResponse(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(PARTIAL_URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(responseJson));
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            // NOTE: partial=trueの場合は、すべてロールバックするAPIが呼び出されないこと
+            verify(converter, times(1)).convertToParam(eq(bulkRequest));
+            verify(service, times(1)).bulkCreatePartial(eq(OPERATOR_VALUE), eq(bulkParam));
+            verify(service, never()).bulkCreate(anyString(), any());
+            verify(converter, times(1)).convertToResponse(eq(result));
+        }
+
+        @DisplayName("異常終了：DataAccessException")
+        @Test
+        void testNG1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(bulkRequest);
+            String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                    "902",
+                    "DBエラーが発生しました"));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(bulkParam)
+                    .when(converter)
+                    .convertToParam(any());
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(service)
+                    .bulkCreatePartial(anyString(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(PARTIAL_URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(content().json(responseJson));
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToParam(eq(bulkRequest));
+            verify(service, times(1)).bulkCreatePartial(eq(OPERATOR_VALUE), eq(bulkParam));
+        }
+
+    }
+
 }
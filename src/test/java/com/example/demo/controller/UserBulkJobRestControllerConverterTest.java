@@ -0,0 +1,120 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.service.UserBulkCreateParam;
+import com.example.demo.service.UserBulkJobResult;
+import com.example.demo.service.UserBulkUpdateParam;
+import com.example.demo.service.UserCreateParam;
+import com.example.demo.service.UserUpdateParam;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkJobRestControllerConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserBulkJobRestControllerConverter converter;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("convertToParam：作成")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserBulkJobCreateRequest jobRequest = new UserBulkJobCreateRequest(List.of(
+                    new UserCreateRequest("苗字1", "名前1", "01"),
+                    new UserCreateRequest("苗字2", "名前2", "02")));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkCreateParam bulkParam = converter.convertToParam(jobRequest);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(bulkParam).isEqualTo(new UserBulkCreateParam(List.of(
+                    new UserCreateParam("苗字1", "名前1", "01"),
+                    new UserCreateParam("苗字2", "名前2", "02"))));
+        }
+
+    }
+
+    @DisplayName("convertToParam：更新")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserBulkJobUpdateRequest jobRequest = new UserBulkJobUpdateRequest(List.of(
+                    new UserUpdateRequest("20250101120055111_01", "苗字1", "名前1", "01", 0),
+                    new UserUpdateRequest("20250101120055111_02", "苗字2", "名前2", "02", 3)));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkUpdateParam bulkParam = converter.convertToParam(jobRequest);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(bulkParam).isEqualTo(new UserBulkUpdateParam(List.of(
+                    new UserUpdateParam("20250101120055111_01", "苗字1", "名前1", "01", 0),
+                    new UserUpdateParam("20250101120055111_02", "苗字2", "名前2", "02", 3))));
+        }
+
+    }
+
+    @DisplayName("convertToResponse")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 5, 0);
+            UserBulkJobResult result = new UserBulkJobResult(
+                    1L, "update", "failed", 3, 1, "102", "更新対象のデータが登録されていません：x", createdAt, updatedAt);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkJobResponse response = converter.convertToResponse(result);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(response).isEqualTo(new UserBulkJobResponse(
+                    1L, "update", "failed", 3, 1, "102", "更新対象のデータが登録されていません：x", createdAt, updatedAt));
+        }
+
+    }
+
+}
@@ -0,0 +1,352 @@
+package com.example.demo.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.common.response.ErrorResponse;
+import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.service.UserBulkCreateParam;
+import com.example.demo.service.UserBulkJobResult;
+import com.example.demo.service.UserBulkJobService;
+import com.example.demo.service.UserBulkUpdateParam;
+import com.example.demo.service.UserCreateParam;
+import com.example.demo.service.UserUpdateParam;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+
+// NOTE: Controllerのテストはバリデーションとレスポンスが想定通りに動くかだけに観点を置く
+// NOTE: Serviceの処理はServiceのテストに切り出すことでテスト観点を明確化する
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+// NOTE: テスト対象のControllerを@WebMvcTestで設定
+@WebMvcTest(UserBulkJobRestController.class)
+class UserBulkJobRestControllerTest {
+
+    private static final String OPERATOR_KEY = "X-Operator";
+
+    private static final String OPERATOR_VALUE = "OPERATOR";
+
+    private static final String VALIDATION_ERROR_CODE = "901";
+
+    private static final String VALIDATION_ERROR_MESSAGE = "バリデーションエラーが発生しました";
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 55, 111000000);
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テストを実行するのに必要なクラスをインジェクションする
+    @Autowired
+    private MockMvc mockMvc;
+
+    // NOTE: 呼び出されるクラスは@MockitoBean
+    // NOTE: Springの設定を読み込まないため@Mockは使わない
+    @MockitoBean
+    private UserBulkJobRestControllerConverter converter;
+
+    @MockitoBean
+    private UserBulkJobService service;
+
+    // NOTE: レスポンスの日時をSpring Bootと同じISO形式の文字列で比較する
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("submitCreateJobApi")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String URL = "/users/bulk/jobs/create";
+
+        private UserBulkJobCreateRequest jobRequest = new UserBulkJobCreateRequest(List.of(
+                new UserCreateRequest("苗字1", "名前1", "01"),
+                new UserCreateRequest("苗字2", "名前2", "01")));
+
+        private UserBulkCreateParam bulkParam = new UserBulkCreateParam(List.of(
+                new UserCreateParam("苗字1", "名前1", "01"),
+                new UserCreateParam("苗字2", "名前2", "01")));
+
+        private UserBulkJobResult result = new UserBulkJobResult(
+                1L, "create", "queued", 2, 0, null, null, NOW, NOW);
+
+        private UserBulkJobResponse response = new UserBulkJobResponse(
+                1L, "create", "queued", 2, 0, null, null, NOW, NOW);
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(jobRequest);
+            String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(bulkParam)
+                    .when(converter)
+                    .convertToParam(any(UserBulkJobCreateRequest.class));
+
+            doReturn(result)
+                    .when(service)
+                    .submitCreate(anyString(), any());
+
+            doReturn(response)
+                    .when(converter)
+                    .convertToResponse(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isAccepted())
+                    .andExpect(content().json(responseJson));
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToParam(eq(jobRequest));
+            verify(service, times(1)).submitCreate(eq(OPERATOR_VALUE), eq(bulkParam));
+            verify(converter, times(1)).convertToResponse(eq(result));
+        }
+
+        @DisplayName("異常終了：ApplicationException")
+        @Test
+        void testNG1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(jobRequest);
+            String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                    "401",
+                    "登録に使用する部署が存在しません：01"));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(bulkParam)
+                    .when(converter)
+                    .convertToParam(any(UserBulkJobCreateRequest.class));
+
+            doThrow(new ApplicationException("401", "登録に使用する部署が存在しません：01"))
+                    .when(service)
+                    .submitCreate(anyString(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(content().json(responseJson));
+        }
+
+        @DisplayName("異常終了：バリデーション：list:0")
+        @Test
+        void testNG2() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(new UserBulkJobCreateRequest(List.of()));
+            String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                    VALIDATION_ERROR_CODE,
+                    VALIDATION_ERROR_MESSAGE,
+                    List.of("list:1以上、100000以下の長さです。")));
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json(responseJson));
+
+            verify(service, never()).submitCreate(anyString(), any());
+        }
+
+    }
+
+    @DisplayName("submitUpdateJobApi")
+    @Nested
+    class Method2 {
+
+        private static final String URL = "/users/bulk/jobs/update";
+
+        private static final String USER_ID = "20250101120055111_01";
+
+        private UserBulkJobUpdateRequest jobRequest = new UserBulkJobUpdateRequest(List.of(
+                new UserUpdateRequest(USER_ID, "苗字1", "名前1", "01", 0)));
+
+        private UserBulkUpdateParam bulkParam = new UserBulkUpdateParam(List.of(
+                new UserUpdateParam(USER_ID, "苗字1", "名前1", "01", 0)));
+
+        private UserBulkJobResult result = new UserBulkJobResult(
+                2L, "update", "queued", 1, 0, null, null, NOW, NOW);
+
+        private UserBulkJobResponse response = new UserBulkJobResponse(
+                2L, "update", "queued", 1, 0, null, null, NOW, NOW);
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(jobRequest);
+            String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(bulkParam)
+                    .when(converter)
+                    .convertToParam(any(UserBulkJobUpdateRequest.class));
+
+            doReturn(result)
+                    .when(service)
+                    .submitUpdate(anyString(), any());
+
+            doReturn(response)
+                    .when(converter)
+                    .convertToResponse(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isAccepted())
+                    .andExpect(content().json(responseJson));
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToParam(eq(jobRequest));
+            verify(service, times(1)).submitUpdate(eq(OPERATOR_VALUE), eq(bulkParam));
+            verify(converter, times(1)).convertToResponse(eq(result));
+        }
+
+        @DisplayName("異常終了：バリデーション：id")
+        @Test
+        void testNG1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(new UserBulkJobUpdateRequest(List.of(
+                    new UserUpdateRequest("1", "苗字1", "名前1", "01", 0))));
+            String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                    VALIDATION_ERROR_CODE,
+                    VALIDATION_ERROR_MESSAGE,
+                    List.of("list[0].id:ユーザIDは「17桁の数字_2桁の数字」形式です。")));
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isBadRequest())
+                    .andExpect(content().json(responseJson));
+
+            verify(service, never()).submitUpdate(anyString(), any());
+        }
+
+    }
+
+    @DisplayName("findJobApi")
+    @Nested
+    class Method3 {
+
+        private static final String URL = "/users/bulk/jobs/3";
+
+        private UserBulkJobResult result = new UserBulkJobResult(
+                3L, "create", "completed", 2, 2, null, null, NOW, NOW);
+
+        private UserBulkJobResponse response = new UserBulkJobResponse(
+                3L, "create", "completed", 2, 2, null, null, NOW, NOW);
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(result)
+                    .when(service)
+                    .find(anyLong());
+
+            doReturn(response)
+                    .when(converter)
+                    .convertToResponse(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(get(URL))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(responseJson));
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(service, times(1)).find(3L);
+            verify(converter, times(1)).convertToResponse(eq(result));
+        }
+
+        @DisplayName("異常終了：ApplicationException")
+        @Test
+        void testNG1() throws Exception {
+            String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                    "103",
+                    "対象のジョブが登録されていません：3"));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(new ApplicationException("103", "対象のジョブが登録されていません：3"))
+                    .when(service)
+                    .find(anyLong());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(get(URL))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(content().json(responseJson));
+        }
+
+    }
+
+}
@@ -12,6 +12,8 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.example.demo.service.UserBulkResult;
+import com.example.demo.service.UserBulkResultItemData;
 import com.example.demo.service.UserBulkUpdateParam;
 import com.example.demo.service.UserUpdateParam;
 
@@ -107,4 +109,34 @@ class UserBulkUpdateRestControllerConverterTest {
 
     }
 
+    @DisplayName("convertToResponse")
+    @Nested
+    class Method2 {
+
+        private static final String BASE_ID = "20250101120055111";
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserBulkResult result = new UserBulkResult(2, 1, 1, List.of(
+                    new UserBulkResultItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResultItemData(2, BASE_ID + "_02", "STATUS")));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkResponse response = converter.convertToResponse(result);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(response).isEqualTo(new UserBulkResponse(2, 1, 1, List.of(
+                    new UserBulkResponseItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResponseItemData(2, BASE_ID + "_02", "STATUS"))));
+        }
+
+    }
+
 }
@@ -20,6 +20,8 @@ import org.springframework.test.web.servlet.MockMvc;
 import com.example.demo.common.exception.ApplicationException;
 import com.example.demo.common.response.ErrorResponse;
 import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.service.UserBulkResult;
+import com.example.demo.service.UserBulkResultItemData;
 import com.example.demo.service.UserBulkUpdateParam;
 import com.example.demo.service.UserBulkUpdateService;
 import com.example.demo.service.UserUpdateParam;
@@ -1167,4 +1169,115 @@ class UserBulkUpdateRestControllerTest {
 
     }
 
+    @DisplayName("bulkUpdatePartialApi")
+    @Nested
+    class Method2 {
+
+        private static final String PARTIAL_URL = "/users/bulk/update?partial=true";
+
+        private static final String BASE_ID = "20250101120055111";
+
+        private UserBulkUpdateRequest bulkRequest = null;
+        private UserBulkUpdateParam bulkParam = null;
+
+        @BeforeEach
+        void setUp() {
+            bulkRequest = new UserBulkUpdateRequest(List.of(
+                    new UserUpdateRequest(BASE_ID + "_01", "苗字1", "名前1", "01", 0),
+                    new UserUpdateRequest(BASE_ID + "_02", "苗字2", "名前2", "01", 9)));
+
+            bulkParam = new UserBulkUpdateParam(List.of(
+                    new UserUpdateParam(BASE_ID + "_01", "苗字1", "名前1", "01", 0),
+                    new UserUpdateParam(BASE_ID + "_02", "苗字2", "名前2", "01", 9)));
+        }
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(bulkRequest);
+            UserBulkResponse response = new UserBulkResponse(2, 1, 1, List.of(
+                    new UserBulkResponseItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResponseItemData(2, BASE_ID + "_02", "conflict")));
+            String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+            UserBulkResult result = new UserBulkResult(2, 1, 1, List.of(
+                    new UserBulkResultItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResultItemData(2, BASE_ID + "_02", "conflict")));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(bulkParam)
+                    .when(converter)
+                    .convertToParam(any());
+
+            doReturn(result)
+                    .when(service)
+                    .bulkUpdatePartial(anyString(), any());
+
+            doReturn(response)
+                    .when(converter)
+                    .convertToResponse(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(PARTIAL_URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isOk())
+                    .andExpect(content().json(responseJson));
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            // NOTE: partial=trueの場合は、すべてロールバックするAPIが呼び出されないこと
+            verify(converter, times(1)).convertToParam(eq(bulkRequest));
+            verify(service, times(1)).bulkUpdatePartial(eq(OPERATOR_VALUE), eq(bulkParam));
+            verify(service, never()).bulkUpdate(anyString(), any());
+            verify(converter, times(1)).convertToResponse(eq(result));
+        }
+
+        @DisplayName("異常終了：DataAccessException")
+        @Test
+        void testNG1() throws Exception {
+            String requestJson = objectMapper.writeValueAsString(bulkRequest);
+            String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                    "902",
+                    "DBエラーが発生しました"));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(bulkParam)
+                    .when(converter)
+                    .convertToParam(any());
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(service)
+                    .bulkUpdatePartial(anyString(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            mockMvc.perform(
+                    post(PARTIAL_URL)
+                            .header(OPERATOR_KEY, OPERATOR_VALUE)
+                            .content(requestJson)
+                            .contentType(MediaType.APPLICATION_JSON_VALUE))
+                    .andExpect(status().isInternalServerError())
+                    .andExpect(content().json(responseJson));
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToParam(eq(bulkRequest));
+            verify(service, times(1)).bulkUpdatePartial(eq(OPERATOR_VALUE), eq(bulkParam));
+        }
+
+    }
+
 }
@@ -0,0 +1,119 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+
+import com.example.demo.service.UserExportParam;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserExportRestControllerConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    @InjectMocks
+    private UserExportRestControllerConverter converter;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("convertToParam")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String NAME = "苗字1名前1";
+        private static final String DEPT_ID = "01";
+        private static final LocalDate BEGIN_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final LocalDate END_UPDATED_AT = LocalDate.of(2025, 12, 31);
+        private static final String FORMAT = "csv";
+
+        private UserExportRequest request = null;
+
+        @BeforeEach
+        void setUp() {
+            // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+
+            request = new UserExportRequest(
+                    NAME,
+                    DEPT_ID,
+                    BEGIN_UPDATED_AT,
+                    END_UPDATED_AT,
+                    FORMAT);
+        }
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserExportParam param = converter.convertToParam(request);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(param.getName()).isEqualTo(NAME);
+            assertThat(param.getDeptId()).isEqualTo(DEPT_ID);
+            assertThat(param.getBeginUpdatedAt()).isEqualTo(BEGIN_UPDATED_AT);
+            assertThat(param.getEndUpdatedAt()).isEqualTo(END_UPDATED_AT);
+            assertThat(param.getFormat()).isEqualTo(FORMAT);
+        }
+
+    }
+
+    @DisplayName("convertToMediaType")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：ndjson")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            MediaType mediaType = converter.convertToMediaType("ndjson");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(mediaType.toString()).isEqualTo("application/x-ndjson;charset=UTF-8");
+        }
+
+        @DisplayName("正常終了：csv")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            MediaType mediaType = converter.convertToMediaType("csv");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(mediaType.toString()).isEqualTo("text/csv;charset=UTF-8");
+        }
+
+    }
+
+}
@@ -0,0 +1,111 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.service.UserFacetParam;
+import com.example.demo.service.UserFacetResult;
+import com.example.demo.service.UserFacetResultDayData;
+import com.example.demo.service.UserFacetResultDeptData;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserFacetRestControllerConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    @InjectMocks
+    private UserFacetRestControllerConverter converter;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("convertToParam")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String NAME = "苗字1名前1";
+        private static final String DEPT_ID = "01";
+        private static final LocalDate BEGIN_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final LocalDate END_UPDATED_AT = LocalDate.of(2025, 1, 31);
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserFacetParam param = converter.convertToParam(
+                    new UserFacetRequest(NAME, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(param.getName()).isEqualTo(NAME);
+            assertThat(param.getDeptId()).isEqualTo(DEPT_ID);
+            assertThat(param.getBeginUpdatedAt()).isEqualTo(BEGIN_UPDATED_AT);
+            assertThat(param.getEndUpdatedAt()).isEqualTo(END_UPDATED_AT);
+        }
+
+    }
+
+    @DisplayName("convertToResponse")
+    @Nested
+    class Method2 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final LocalDate DAY1 = LocalDate.of(2025, 1, 1);
+        private static final LocalDate DAY2 = LocalDate.of(2025, 1, 2);
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserFacetResult result = new UserFacetResult(
+                    6,
+                    List.of(
+                            new UserFacetResultDeptData("01", 4),
+                            new UserFacetResultDeptData("02", 2)),
+                    List.of(
+                            new UserFacetResultDayData(DAY1, 5),
+                            new UserFacetResultDayData(DAY2, 1)));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserFacetResponse response = converter.convertToResponse(result);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(response.getTotalCount()).isEqualTo(6);
+            assertThat(response.getDeptList()).containsExactly(
+                    new UserFacetResponseDeptData("01", 4),
+                    new UserFacetResponseDeptData("02", 2));
+            assertThat(response.getDayList()).containsExactly(
+                    new UserFacetResponseDayData(DAY1, 5),
+                    new UserFacetResponseDayData(DAY2, 1));
+        }
+
+    }
+
+}
@@ -0,0 +1,306 @@
+package com.example.demo.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.dao.DataAccessException;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.common.response.ErrorResponse;
+import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.service.UserFacetParam;
+import com.example.demo.service.UserFacetResult;
+import com.example.demo.service.UserFacetResultDayData;
+import com.example.demo.service.UserFacetResultDeptData;
+import com.example.demo.service.UserFacetService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+
+// NOTE: Controllerのテストはバリデーションとレスポンスが想定通りに動くかだけに観点を置く
+// NOTE: Serviceの処理はServiceのテストに切り出すことでテスト観点を明確化する
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+// NOTE: テスト対象のControllerを@WebMvcTestで設定
+@WebMvcTest(UserFacetRestController.class)
+class UserFacetRestControllerTest {
+
+    private static final String URL = "/users/facets";
+
+    private static final String OPERATOR_KEY = "X-Operator";
+
+    private static final String OPERATOR_VALUE = "OPERATOR";
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テストを実行するのに必要なクラスをインジェクションする
+    @Autowired
+    private MockMvc mockMvc;
+
+    // NOTE: 呼び出されるクラスは@MockitoBean
+    // NOTE: Springの設定を読み込まないため@Mockは使わない
+    @MockitoBean
+    private UserFacetRestControllerConverter converter;
+
+    @MockitoBean
+    private UserFacetService service;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .registerModule(new JavaTimeModule()
+                    .addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ISO_LOCAL_DATE)));
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("facetApi")
+    @Nested
+    class Method1 {
+
+        @DisplayName("業務処理")
+        @Nested
+        class Application {
+
+            // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+            // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+            private static final String NAME = "苗字1名前1";
+            private static final String DEPT_ID = "01";
+            private static final LocalDate BEGIN_UPDATED_AT = LocalDate.of(2025, 1, 1);
+            private static final LocalDate END_UPDATED_AT = LocalDate.of(2025, 12, 31);
+            private static final LocalDate LAST_UPDATED_AT = LocalDate.of(2025, 1, 1);
+            private static final Integer COUNT = 3;
+
+            private UserFacetRequest request = null;
+            private UserFacetParam param = null;
+            private UserFacetResult result = null;
+            private UserFacetResponse response = null;
+
+            @BeforeEach
+            void setUp() {
+                // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+
+                request = new UserFacetRequest(NAME, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT);
+
+                param = new UserFacetParam(NAME, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT);
+
+                result = new UserFacetResult(
+                        COUNT,
+                        List.of(new UserFacetResultDeptData(DEPT_ID, COUNT)),
+                        List.of(new UserFacetResultDayData(LAST_UPDATED_AT, COUNT)));
+
+                response = new UserFacetResponse(
+                        COUNT,
+                        List.of(new UserFacetResponseDeptData(DEPT_ID, COUNT)),
+                        List.of(new UserFacetResponseDayData(LAST_UPDATED_AT, COUNT)));
+            }
+
+            @DisplayName("正常終了")
+            @Test
+            void testOK1() throws Exception {
+                String requestJson = objectMapper.writeValueAsString(request);
+                String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+                // -------------------------------------------------------------
+                // モックの振る舞い設定
+                // -------------------------------------------------------------
+
+                doReturn(param)
+                        .when(converter)
+                        .convertToParam(any());
+
+                doReturn(result)
+                        .when(service)
+                        .facet(anyString(), any());
+
+                doReturn(response)
+                        .when(converter)
+                        .convertToResponse(any());
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(requestJson)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isOk())
+                        .andExpect(content().json(responseJson));
+
+                // NOTE: 呼び出されるメソッドが想定通りであること
+                verify(converter, times(1)).convertToParam(eq(request));
+                verify(service, times(1)).facet(eq(OPERATOR_VALUE), eq(param));
+                verify(converter, times(1)).convertToResponse(eq(result));
+            }
+
+            @DisplayName("異常終了：DataAccessException")
+            @Test
+            void testNG1() throws Exception {
+                String requestJson = objectMapper.writeValueAsString(request);
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        "902",
+                        "DBエラーが発生しました"));
+
+                // -------------------------------------------------------------
+                // モックの振る舞い設定
+                // -------------------------------------------------------------
+
+                doReturn(param)
+                        .when(converter)
+                        .convertToParam(any());
+
+                doThrow(new DataAccessException("") {
+                })
+                        .when(service)
+                        .facet(anyString(), any());
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(requestJson)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isInternalServerError())
+                        .andExpect(content().json(responseJson));
+
+                // NOTE: 呼び出されるメソッドが想定通りであること
+                verify(converter, times(1)).convertToParam(eq(request));
+                verify(service, times(1)).facet(eq(OPERATOR_VALUE), eq(param));
+            }
+
+        }
+
+        @DisplayName("バリデーション")
+        @Nested
+        class Validation {
+
+            private static final String NAME = "苗字1名前1";
+            private static final String DEPT_ID = "01";
+            private static final LocalDate BEGIN_UPDATE_AT = LocalDate.of(2025, 1, 1);
+            private static final LocalDate END_UPDATED_AT = LocalDate.of(2025, 12, 31);
+
+            private static final String VALIDATION_ERROR_CODE = "901";
+            private static final String VALIDATION_ERROR_MESSAGE = "バリデーションエラーが発生しました";
+
+            @DisplayName("name：0")
+            @Test
+            void testNG1() throws Exception {
+                String requestJson = objectMapper.writeValueAsString(new UserFacetRequest(
+                        "",
+                        DEPT_ID,
+                        BEGIN_UPDATE_AT,
+                        END_UPDATED_AT));
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        VALIDATION_ERROR_CODE,
+                        VALIDATION_ERROR_MESSAGE,
+                        List.of("name:1以上、100以下の桁数です。")));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(requestJson)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().json(responseJson));
+            }
+
+            @DisplayName("request：null")
+            @Test
+            void testNG2() throws Exception {
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        "903",
+                        "リクエスト構造エラーが発生しました",
+                        null));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().json(responseJson));
+            }
+
+            @DisplayName("header：null")
+            @Test
+            void testNG3() throws Exception {
+                String requestJson = objectMapper.writeValueAsString(new UserFacetRequest(
+                        NAME,
+                        DEPT_ID,
+                        BEGIN_UPDATE_AT,
+                        END_UPDATED_AT));
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        "904",
+                        "ヘッダのエラーが発生しました",
+                        null));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .content(requestJson)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().json(responseJson));
+            }
+
+            @DisplayName("dept_id：1")
+            @Test
+            void testNG4() throws Exception {
+                String requestJson = objectMapper.writeValueAsString(new UserFacetRequest(
+                        NAME,
+                        "1",
+                        BEGIN_UPDATE_AT,
+                        END_UPDATED_AT));
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        VALIDATION_ERROR_CODE,
+                        VALIDATION_ERROR_MESSAGE,
+                        List.of("deptId:部署IDは「2桁の数字」形式です。")));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(requestJson)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().json(responseJson));
+            }
+
+        }
+
+    }
+
+}
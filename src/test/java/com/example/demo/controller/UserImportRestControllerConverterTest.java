@@ -0,0 +1,91 @@
+package com.example.demo.controller;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.MediaType;
+
+import com.example.demo.service.UserImportParam;
+import com.example.demo.service.UserImportResult;
+import com.example.demo.service.UserImportResultChunkData;
+import com.example.demo.service.UserImportResultRejectData;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserImportRestControllerConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserImportRestControllerConverter converter;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("convertToParam")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：ndjson")
+        @Test
+        void testOK1() {
+            UserImportParam param = converter.convertToParam(MediaType.parseMediaType("application/x-ndjson"));
+
+            assertThat(param.getFormat()).isEqualTo("ndjson");
+        }
+
+        @DisplayName("正常終了：csv")
+        @Test
+        void testOK2() {
+            UserImportParam param = converter.convertToParam(MediaType.parseMediaType("text/csv;charset=UTF-8"));
+
+            assertThat(param.getFormat()).isEqualTo("csv");
+        }
+
+    }
+
+    @DisplayName("convertToResponse")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserImportResult result = new UserImportResult(
+                    3,
+                    2,
+                    1,
+                    List.of(new UserImportResultChunkData(1, 2, 1)),
+                    List.of(new UserImportResultRejectData(3, List.of("deptId:部署IDは「2桁の数字」形式です。"))));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserImportResponse response = converter.convertToResponse(result);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(response.getTotalCount()).isEqualTo(3);
+            assertThat(response.getImportedCount()).isEqualTo(2);
+            assertThat(response.getRejectedCount()).isEqualTo(1);
+            assertThat(response.getChunkList()).containsExactly(new UserImportResponseChunkData(1, 2, 1));
+            assertThat(response.getRejectList())
+                    .containsExactly(new UserImportResponseRejectData(3, List.of("deptId:部署IDは「2桁の数字」形式です。")));
+        }
+
+    }
+
+}
@@ -0,0 +1,269 @@
+package com.example.demo.controller;
+
+import static org.mockito.Mockito.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import java.io.InputStream;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.common.response.ErrorResponse;
+import com.example.demo.common.response.SuccessResponse;
+import com.example.demo.service.UserImportParam;
+import com.example.demo.service.UserImportResult;
+import com.example.demo.service.UserImportResultChunkData;
+import com.example.demo.service.UserImportResultRejectData;
+import com.example.demo.service.UserImportService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+
+// NOTE: Controllerのテストはバリデーションとレスポンスが想定通りに動くかだけに観点を置く
+// NOTE: Serviceの処理はServiceのテストに切り出すことでテスト観点を明確化する
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+// NOTE: テスト対象のControllerを@WebMvcTestで設定
+@WebMvcTest(UserImportRestController.class)
+class UserImportRestControllerTest {
+
+    private static final String URL = "/users/import";
+
+    private static final String OPERATOR_KEY = "X-Operator";
+
+    private static final String OPERATOR_VALUE = "OPERATOR";
+
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テストを実行するのに必要なクラスをインジェクションする
+    @Autowired
+    private MockMvc mockMvc;
+
+    // NOTE: 呼び出されるクラスは@MockitoBean
+    // NOTE: Springの設定を読み込まないため@Mockは使わない
+    @MockitoBean
+    private UserImportRestControllerConverter converter;
+
+    @MockitoBean
+    private UserImportService service;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE);
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("importApi")
+    @Nested
+    class Method1 {
+
+        @DisplayName("業務処理")
+        @Nested
+        class Application {
+
+            // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+            // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+            private static final String BODY = """
+                    {"family_name":"苗字","first_name":"名前1","dept_id":"01"}
+                    {"family_name":"苗字","first_name":"名前2","dept_id":"99"}
+                    """;
+            private static final String MESSAGE = "401:登録に使用する部署が存在しません：99";
+
+            private UserImportParam param = null;
+            private UserImportResult result = null;
+            private UserImportResponse response = null;
+
+            @BeforeEach
+            void setUp() {
+                // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+
+                param = new UserImportParam("ndjson");
+
+                result = new UserImportResult(
+                        2,
+                        1,
+                        1,
+                        List.of(new UserImportResultChunkData(1, 1, 1)),
+                        List.of(new UserImportResultRejectData(2, List.of(MESSAGE))));
+
+                response = new UserImportResponse(
+                        2,
+                        1,
+                        1,
+                        List.of(new UserImportResponseChunkData(1, 1, 1)),
+                        List.of(new UserImportResponseRejectData(2, List.of(MESSAGE))));
+            }
+
+            @DisplayName("正常終了")
+            @Test
+            void testOK1() throws Exception {
+                String responseJson = objectMapper.writeValueAsString(new SuccessResponse(response));
+
+                // -------------------------------------------------------------
+                // モックの振る舞い設定
+                // -------------------------------------------------------------
+
+                doReturn(param)
+                        .when(converter)
+                        .convertToParam(any());
+
+                doReturn(result)
+                        .when(service)
+                        .importUsers(anyString(), any(), any(InputStream.class));
+
+                doReturn(response)
+                        .when(converter)
+                        .convertToResponse(any());
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(BODY)
+                                .contentType(NDJSON_CONTENT_TYPE))
+                        .andExpect(status().isOk())
+                        .andExpect(content().json(responseJson));
+
+                // NOTE: 呼び出されるメソッドが想定通りであること
+                verify(converter, times(1)).convertToParam(eq(MediaType.parseMediaType(NDJSON_CONTENT_TYPE)));
+                verify(service, times(1)).importUsers(eq(OPERATOR_VALUE), eq(param), any(InputStream.class));
+                verify(converter, times(1)).convertToResponse(eq(result));
+            }
+
+            @DisplayName("異常終了：ApplicationException")
+            @Test
+            void testNG1() throws Exception {
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        "903",
+                        "リクエスト構造エラーが発生しました"));
+
+                // -------------------------------------------------------------
+                // モックの振る舞い設定
+                // -------------------------------------------------------------
+
+                doReturn(param)
+                        .when(converter)
+                        .convertToParam(any());
+
+                doThrow(new ApplicationException("903", "リクエスト構造エラーが発生しました"))
+                        .when(service)
+                        .importUsers(anyString(), any(), any(InputStream.class));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(BODY)
+                                .contentType(NDJSON_CONTENT_TYPE))
+                        .andExpect(status().isInternalServerError())
+                        .andExpect(content().json(responseJson));
+
+                // NOTE: 呼び出されるメソッドが想定通りであること
+                verify(service, times(1)).importUsers(eq(OPERATOR_VALUE), eq(param), any(InputStream.class));
+            }
+
+            @DisplayName("異常終了：RuntimeException")
+            @Test
+            void testNG2() throws Exception {
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        "999",
+                        "想定外の例外が発生しました"));
+
+                // -------------------------------------------------------------
+                // モックの振る舞い設定
+                // -------------------------------------------------------------
+
+                doReturn(param)
+                        .when(converter)
+                        .convertToParam(any());
+
+                doThrow(RuntimeException.class)
+                        .when(service)
+                        .importUsers(anyString(), any(), any(InputStream.class));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(BODY)
+                                .contentType(NDJSON_CONTENT_TYPE))
+                        .andExpect(status().isInternalServerError())
+                        .andExpect(content().json(responseJson));
+
+                // NOTE: 呼び出されるメソッドが想定通りであること
+                verify(service, times(1)).importUsers(eq(OPERATOR_VALUE), eq(param), any(InputStream.class));
+            }
+
+        }
+
+        @DisplayName("リクエスト")
+        @Nested
+        class Request {
+
+            @DisplayName("Content-Type：application/json")
+            @Test
+            void testNG1() throws Exception {
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content("[]")
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isUnsupportedMediaType());
+
+                // NOTE: 呼び出されるメソッドが想定通りであること
+                verify(service, never()).importUsers(anyString(), any(), any(InputStream.class));
+            }
+
+            @DisplayName("header：null")
+            @Test
+            void testNG2() throws Exception {
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        "904",
+                        "ヘッダのエラーが発生しました"));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .content("")
+                                .contentType(NDJSON_CONTENT_TYPE))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().json(responseJson));
+
+                // NOTE: 呼び出されるメソッドが想定通りであること
+                verify(service, never()).importUsers(anyString(), any(), any(InputStream.class));
+            }
+
+        }
+
+    }
+
+}
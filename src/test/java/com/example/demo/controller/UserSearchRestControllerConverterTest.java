@@ -46,6 +46,7 @@ class UserSearchRestControllerConverterTest {
 
         private static final Integer PAGE_NO = 1;
         private static final Integer PAGE_SIZE = 100;
+        private static final String CURSOR = "MjAyNTAxMDExMjAwNTUxMTFfMDE";
 
         private UserSearchRequest request = null;
 
@@ -59,7 +60,8 @@ class UserSearchRestControllerConverterTest {
                     BEGIN_UPDATED_AT,
                     END_UPDATED_AT,
                     PAGE_NO,
-                    PAGE_SIZE);
+                    PAGE_SIZE,
+                    CURSOR);
         }
 
         @DisplayName("正常終了")
@@ -81,6 +83,7 @@ class UserSearchRestControllerConverterTest {
             assertThat(param.getEndUpdatedAt()).isEqualTo(END_UPDATED_AT);
             assertThat(param.getPageNo()).isEqualTo(PAGE_NO);
             assertThat(param.getPageSize()).isEqualTo(PAGE_SIZE);
+            assertThat(param.getCursor()).isEqualTo(CURSOR);
         }
 
     }
@@ -103,6 +106,7 @@ class UserSearchRestControllerConverterTest {
         private static final Integer PREV_PAGE_NO = null;
         private static final Integer NEXT_PAGE_NO = 2;
         private static final Integer PAGE_SIZE = 100;
+        private static final String NEXT_CURSOR = "MjAyNTAxMDExMjAwNTUxMTFfMDM";
 
         private UserSearchResult result = null;
 
@@ -134,7 +138,8 @@ class UserSearchRestControllerConverterTest {
                             USER_VERSION)),
                     PREV_PAGE_NO,
                     NEXT_PAGE_NO,
-                    PAGE_SIZE);
+                    PAGE_SIZE,
+                    NEXT_CURSOR);
         }
 
         @DisplayName("正常終了")
@@ -153,6 +158,7 @@ class UserSearchRestControllerConverterTest {
             assertThat(response.getPrevPageNo()).isEqualTo(PREV_PAGE_NO);
             assertThat(response.getNextPageNo()).isEqualTo(NEXT_PAGE_NO);
             assertThat(response.getPageSize()).isEqualTo(PAGE_SIZE);
+            assertThat(response.getNextCursor()).isEqualTo(NEXT_CURSOR);
 
             List<UserSearchResponseData> responseList = response.getList();
             assertThat(responseList).hasSize(3);
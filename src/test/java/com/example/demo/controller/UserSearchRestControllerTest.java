@@ -108,7 +108,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATED_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        PAGE_SIZE);
+                        PAGE_SIZE,
+                        null);
 
                 param = new UserSearchParam(
                         BASE_FAMILY_NAME + "1" + BASE_FIRST_NAME + "1",
@@ -116,7 +117,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATED_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        PAGE_SIZE);
+                        PAGE_SIZE,
+                        null);
 
                 result = new UserSearchResult(List.of(
                         new UserSearchResultData(
@@ -142,7 +144,8 @@ class UserSearchRestControllerTest {
                                 VERSION)),
                         PREV_PAGE_NO,
                         NEXT_PAGE_NO,
-                        PAGE_SIZE);
+                        PAGE_SIZE,
+                        null);
 
                 response = new UserSearchResponse(List.of(
                         new UserSearchResponseData(
@@ -168,7 +171,8 @@ class UserSearchRestControllerTest {
                                 VERSION)),
                         PREV_PAGE_NO,
                         NEXT_PAGE_NO,
-                        PAGE_SIZE);
+                        PAGE_SIZE,
+                        null);
             }
 
             @DisplayName("正常終了")
@@ -312,7 +316,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        PAGE_SIZE));
+                        PAGE_SIZE,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -340,7 +345,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        PAGE_SIZE));
+                        PAGE_SIZE,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -388,7 +394,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        PAGE_SIZE));
+                        PAGE_SIZE,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         "904",
                         "ヘッダのエラーが発生しました",
@@ -415,7 +422,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        PAGE_SIZE));
+                        PAGE_SIZE,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -443,7 +451,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        PAGE_SIZE));
+                        PAGE_SIZE,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -471,6 +480,7 @@ class UserSearchRestControllerTest {
                         null,
                         null,
                         null,
+                        null,
                         null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
@@ -502,7 +512,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         null,
-                        PAGE_SIZE));
+                        PAGE_SIZE,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -530,7 +541,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         0,
-                        PAGE_SIZE));
+                        PAGE_SIZE,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -558,6 +570,7 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
+                        null,
                         null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
@@ -586,7 +599,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        0));
+                        0,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -614,7 +628,8 @@ class UserSearchRestControllerTest {
                         BEGIN_UPDATE_AT,
                         END_UPDATED_AT,
                         PAGE_NO,
-                        101));
+                        101,
+                        null));
                 String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
                         VALIDATION_ERROR_CODE,
                         VALIDATION_ERROR_MESSAGE,
@@ -633,6 +648,64 @@ class UserSearchRestControllerTest {
                         .andExpect(content().json(responseJson));
             }
 
+            @DisplayName("cursor:26")
+            @Test
+            void testNG13() throws Exception {
+                String requestJson = objectMapper.writeValueAsString(new UserSearchRequest(
+                        NAME,
+                        DEPT_ID,
+                        BEGIN_UPDATE_AT,
+                        END_UPDATED_AT,
+                        PAGE_NO,
+                        PAGE_SIZE,
+                        "MjAyNTAxMDExMjAwNTUxMTFfMD"));
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        VALIDATION_ERROR_CODE,
+                        VALIDATION_ERROR_MESSAGE,
+                        List.of("cursor:カーソルの形式が不正です。")));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(requestJson)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().json(responseJson));
+            }
+
+            @DisplayName("cursor:記号")
+            @Test
+            void testNG14() throws Exception {
+                String requestJson = objectMapper.writeValueAsString(new UserSearchRequest(
+                        NAME,
+                        DEPT_ID,
+                        BEGIN_UPDATE_AT,
+                        END_UPDATED_AT,
+                        PAGE_NO,
+                        PAGE_SIZE,
+                        "MjAyNTAxMDExMjAwNTUxMTFfMDE="));
+                String responseJson = objectMapper.writeValueAsString(new ErrorResponse(
+                        VALIDATION_ERROR_CODE,
+                        VALIDATION_ERROR_MESSAGE,
+                        List.of("cursor:カーソルの形式が不正です。")));
+
+                // -------------------------------------------------------------
+                // テスト実行・実行結果確認
+                // -------------------------------------------------------------
+
+                mockMvc.perform(
+                        post(URL)
+                                .header(OPERATOR_KEY, OPERATOR_VALUE)
+                                .content(requestJson)
+                                .contentType(MediaType.APPLICATION_JSON_VALUE))
+                        .andExpect(status().isBadRequest())
+                        .andExpect(content().json(responseJson));
+            }
+
         }
 
     }
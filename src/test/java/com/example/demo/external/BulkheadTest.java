@@ -0,0 +1,145 @@
+package com.example.demo.external;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class BulkheadTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int MAX_CONCURRENT_CALLS = 1;
+
+    private static final long MAX_WAIT_MILLIS = 0;
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private static final byte[] BODY = new byte[0];
+
+    // NOTE: 同時に呼び出す件数を指定するため@InjectMocksは使わずにテスト対象を作成する
+    private Bulkhead bulkhead;
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private HttpRequest request;
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    @Mock
+    private ClientHttpResponse response;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        bulkhead = new Bulkhead(meterRegistry, MAX_CONCURRENT_CALLS, MAX_WAIT_MILLIS);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("intercept")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(response)
+                    .when(execution)
+                    .execute(any(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            ClientHttpResponse actual = bulkhead.intercept(request, BODY, execution);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isSameAs(response);
+            assertThat(bulkhead.availablePermits()).isEqualTo(MAX_CONCURRENT_CALLS);
+        }
+
+        @DisplayName("異常終了：同時に呼び出す件数を超えた場合")
+        @Test
+        void testNG1() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            // NOTE: 1件目の呼び出しを止めておき、同時に呼び出せる件数を埋める
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return response;
+            })
+                    .when(execution)
+                    .execute(any(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            CompletableFuture<ClientHttpResponse> future = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return bulkhead.intercept(request, BODY, execution);
+                } catch (Exception ex) {
+                    throw new IllegalStateException(ex);
+                }
+            });
+            started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            assertThatThrownBy(() -> bulkhead.intercept(request, BODY, execution))
+                    .isInstanceOf(ExternalApiRejectedException.class);
+            double available = meterRegistry.get("external.bulkhead.available").gauge().value();
+
+            release.countDown();
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(available).isEqualTo(0.0);
+            assertThat(bulkhead.availablePermits()).isEqualTo(MAX_CONCURRENT_CALLS);
+            assertThat(meterRegistry.get("external.bulkhead.rejected").counter().count()).isEqualTo(1.0);
+            verify(execution, times(1)).execute(any(), any());
+        }
+
+    }
+
+}
@@ -0,0 +1,99 @@
+package com.example.demo.external;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.constant.CircuitBreakerStateConstants;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerEndpointTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private CircuitBreakerEndpoint endpoint;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private CircuitBreaker circuitBreaker;
+
+    @Mock
+    private Bulkhead bulkhead;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("circuitBreaker")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            List<CircuitBreakerTransitionData> transitionList = List.of(new CircuitBreakerTransitionData(
+                    CircuitBreakerStateConstants.CLOSED,
+                    CircuitBreakerStateConstants.OPEN,
+                    LocalDateTime.of(2025, 1, 1, 12, 30, 23)));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(CircuitBreakerStateConstants.OPEN)
+                    .when(circuitBreaker)
+                    .getState();
+
+            doReturn(60)
+                    .when(circuitBreaker)
+                    .getFailureRate();
+
+            doReturn(10)
+                    .when(circuitBreaker)
+                    .getBufferedCalls();
+
+            doReturn(transitionList)
+                    .when(circuitBreaker)
+                    .getTransitionList();
+
+            doReturn(16)
+                    .when(bulkhead)
+                    .availablePermits();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            Map<String, Object> actual = endpoint.circuitBreaker();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).containsExactly(
+                    entry("state", CircuitBreakerStateConstants.OPEN),
+                    entry("failureRate", 60),
+                    entry("bufferedCalls", 10),
+                    entry("bulkheadAvailable", 16),
+                    entry("transitions", transitionList));
+        }
+
+    }
+
+}
@@ -0,0 +1,339 @@
+package com.example.demo.external;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpRequest;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.client.ClientHttpRequestExecution;
+import org.springframework.http.client.ClientHttpResponse;
+
+import com.example.demo.common.TestClock;
+import com.example.demo.constant.CircuitBreakerStateConstants;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+// NOTE: 開いてからの経過時間を進めるため、時計を指定できるコンストラクタでテスト対象を作成する
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakerTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int WINDOW_SIZE = 4;
+
+    private static final int MINIMUM_CALLS = 2;
+
+    private static final int FAILURE_RATE_THRESHOLD = 50;
+
+    private static final long OPEN_MILLIS = 1_000;
+
+    private static final int HALF_OPEN_CALLS = 2;
+
+    private static final byte[] BODY = new byte[0];
+
+    private CircuitBreaker circuitBreaker;
+
+    private MeterRegistry meterRegistry;
+
+    private TestClock clock;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private HttpRequest request;
+
+    @Mock
+    private ClientHttpRequestExecution execution;
+
+    @Mock
+    private ClientHttpResponse okResponse;
+
+    @Mock
+    private ClientHttpResponse errorResponse;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new TestClock();
+        circuitBreaker = new CircuitBreaker(clock, meterRegistry, WINDOW_SIZE, MINIMUM_CALLS,
+                FAILURE_RATE_THRESHOLD, OPEN_MILLIS, HALF_OPEN_CALLS);
+    }
+
+    /**
+     * 失敗させてサーキットブレーカーを開く。
+     */
+    private void open() throws IOException {
+        doThrow(new IOException("テスト"))
+                .when(execution)
+                .execute(any(), any());
+        for (int i = 0; i < MINIMUM_CALLS; i++) {
+            assertThatThrownBy(() -> circuitBreaker.intercept(request, BODY, execution))
+                    .isInstanceOf(IOException.class);
+        }
+        reset(execution);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("intercept")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：閉じている場合は呼び出す")
+        @Test
+        void testOK1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(okResponse)
+                    .when(execution)
+                    .execute(any(), any());
+
+            doReturn(HttpStatus.OK)
+                    .when(okResponse)
+                    .getStatusCode();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            ClientHttpResponse actual = circuitBreaker.intercept(request, BODY, execution);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isSameAs(okResponse);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateConstants.CLOSED);
+            assertThat(circuitBreaker.getBufferedCalls()).isEqualTo(1);
+            assertThat(circuitBreaker.getFailureRate()).isEqualTo(0);
+        }
+
+        @DisplayName("正常終了：失敗率が閾値以上になったら開き、呼び出さずに失敗させる")
+        @Test
+        void testOK2() throws Exception {
+            open();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> circuitBreaker.intercept(request, BODY, execution))
+                    .isInstanceOf(ExternalApiRejectedException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(execution, never()).execute(any(), any());
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateConstants.OPEN);
+            assertThat(circuitBreaker.getTransitionList())
+                    .extracting(CircuitBreakerTransitionData::getFrom, CircuitBreakerTransitionData::getTo)
+                    .containsExactly(tuple(CircuitBreakerStateConstants.CLOSED, CircuitBreakerStateConstants.OPEN));
+            assertThat(meterRegistry.get("external.circuit_breaker.state").gauge().value()).isEqualTo(1.0);
+            assertThat(meterRegistry.get("external.circuit_breaker.rejected").counter().count()).isEqualTo(1.0);
+        }
+
+        @DisplayName("正常終了：一定時間が過ぎたら半開にし、試しの呼び出しがすべて成功したら閉じる")
+        @Test
+        void testOK3() throws Exception {
+            open();
+            clock.advance(OPEN_MILLIS);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(okResponse)
+                    .when(execution)
+                    .execute(any(), any());
+
+            doReturn(HttpStatus.OK)
+                    .when(okResponse)
+                    .getStatusCode();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            circuitBreaker.intercept(request, BODY, execution);
+            String halfOpenState = circuitBreaker.getState();
+            circuitBreaker.intercept(request, BODY, execution);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(halfOpenState).isEqualTo(CircuitBreakerStateConstants.HALF_OPEN);
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateConstants.CLOSED);
+            assertThat(circuitBreaker.getBufferedCalls()).isEqualTo(0);
+            assertThat(circuitBreaker.getTransitionList())
+                    .extracting(CircuitBreakerTransitionData::getTo)
+                    .containsExactly(
+                            CircuitBreakerStateConstants.OPEN,
+                            CircuitBreakerStateConstants.HALF_OPEN,
+                            CircuitBreakerStateConstants.CLOSED);
+        }
+
+        @DisplayName("正常終了：半開で試しの呼び出しが失敗したら再び開く")
+        @Test
+        void testOK4() throws Exception {
+            open();
+            clock.advance(OPEN_MILLIS);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(errorResponse)
+                    .when(execution)
+                    .execute(any(), any());
+
+            doReturn(HttpStatus.SERVICE_UNAVAILABLE)
+                    .when(errorResponse)
+                    .getStatusCode();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            circuitBreaker.intercept(request, BODY, execution);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 開き直した時点から一定時間は呼び出さないこと
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateConstants.OPEN);
+            assertThatThrownBy(() -> circuitBreaker.intercept(request, BODY, execution))
+                    .isInstanceOf(ExternalApiRejectedException.class);
+            verify(execution, times(1)).execute(any(), any());
+        }
+
+        @DisplayName("正常終了：4xxは成功、5xxは失敗として数える")
+        @Test
+        void testOK5() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(okResponse, okResponse, okResponse, errorResponse)
+                    .when(execution)
+                    .execute(any(), any());
+
+            doReturn(HttpStatus.BAD_REQUEST)
+                    .when(okResponse)
+                    .getStatusCode();
+
+            doReturn(HttpStatus.INTERNAL_SERVER_ERROR)
+                    .when(errorResponse)
+                    .getStatusCode();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            for (int i = 0; i < WINDOW_SIZE; i++) {
+                circuitBreaker.intercept(request, BODY, execution);
+            }
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateConstants.CLOSED);
+            assertThat(circuitBreaker.getFailureRate()).isEqualTo(25);
+        }
+
+        @DisplayName("正常終了：バルクヘッドで拒否された場合は結果に含めない")
+        @Test
+        void testOK6() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(new ExternalApiRejectedException("テスト"))
+                    .when(execution)
+                    .execute(any(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            for (int i = 0; i < WINDOW_SIZE; i++) {
+                assertThatThrownBy(() -> circuitBreaker.intercept(request, BODY, execution))
+                        .isInstanceOf(ExternalApiRejectedException.class);
+            }
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(circuitBreaker.getState()).isEqualTo(CircuitBreakerStateConstants.CLOSED);
+            assertThat(circuitBreaker.getBufferedCalls()).isEqualTo(0);
+        }
+
+        @DisplayName("異常終了：設定が不正な場合")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> new CircuitBreaker(clock, meterRegistry, 2, 3, 50, 1_000, 1))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new CircuitBreaker(clock, meterRegistry, 2, 2, 50, 1_000, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @DisplayName("tryAcquire")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：半開では決められた件数だけ呼び出せる")
+        @Test
+        void testOK1() throws Exception {
+            open();
+            clock.advance(OPEN_MILLIS);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean acquired1 = circuitBreaker.tryAcquire();
+            boolean acquired2 = circuitBreaker.tryAcquire();
+            boolean acquired3 = circuitBreaker.tryAcquire();
+            circuitBreaker.release();
+            boolean acquired4 = circuitBreaker.tryAcquire();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 結果を記録せずに返した分は、再び呼び出せること
+            assertThat(acquired1).isTrue();
+            assertThat(acquired2).isTrue();
+            assertThat(acquired3).isFalse();
+            assertThat(acquired4).isTrue();
+        }
+
+    }
+
+}
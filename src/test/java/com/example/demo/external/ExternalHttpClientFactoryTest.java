@@ -0,0 +1,191 @@
+package com.example.demo.external;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.http.HttpClient;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.client.RestTemplate;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+// NOTE: タイムアウトを確認するため、JDKのHttpServerで応答を遅らせるサーバーを起動する
+
+class ExternalHttpClientFactoryTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final long CONNECT_TIMEOUT_MILLIS = 1_000;
+
+    private static final long READ_TIMEOUT_MILLIS = 200;
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private static final String RESPONSE_BODY = """
+            {"message": "OK"}
+            """;
+
+    private ExternalHttpClientFactory httpClientFactory;
+
+    private MeterRegistry meterRegistry;
+
+    private HttpServer server;
+
+    private ExternalApi externalApi;
+
+    /** サーバーが応答するまでの待ち。 */
+    private CountDownLatch release;
+
+    /** サーバーがリクエストを受け取ったことの通知。 */
+    private CountDownLatch received;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        meterRegistry = new SimpleMeterRegistry();
+        httpClientFactory = new ExternalHttpClientFactory(meterRegistry, HttpClient.Version.HTTP_2,
+                CONNECT_TIMEOUT_MILLIS, READ_TIMEOUT_MILLIS, 2);
+
+        release = new CountDownLatch(0);
+        received = new CountDownLatch(1);
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.setExecutor(Executors.newCachedThreadPool());
+        server.createContext("/logging", this::handle);
+        server.start();
+
+        RestTemplate restTemplate = new RestTemplate(httpClientFactory.createRequestFactory());
+        restTemplate.getInterceptors().add(httpClientFactory.createInFlightInterceptor());
+        externalApi = new ExternalApi(restTemplate);
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+        httpClientFactory.shutdown();
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        received.countDown();
+        try {
+            release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException ex) {
+            Thread.currentThread().interrupt();
+        }
+
+        byte[] response = RESPONSE_BODY.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/json");
+        exchange.sendResponseHeaders(200, response.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(response);
+        }
+    }
+
+    private String url() {
+        return "http://localhost:" + server.getAddress().getPort() + "/logging";
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("createRequestFactory")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            Map<String, Object> requestBody = new HashMap<>();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // NOTE: HTTP/2に対応していないサーバーとはHTTP/1.1で通信できること
+            Map<String, Object> responseBody = externalApi.post(url(), requestBody);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(responseBody).containsEntry("message", "OK");
+        }
+
+        @DisplayName("異常終了：読み込みのタイムアウト")
+        @Test
+        void testNG1() {
+            release = new CountDownLatch(1);
+            Map<String, Object> requestBody = new HashMap<>();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            long start = System.nanoTime();
+            assertThatThrownBy(() -> externalApi.post(url(), requestBody))
+                    .isInstanceOf(ResourceAccessException.class);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            release.countDown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: サーバーの応答を待たずにタイムアウトすること
+            assertThat(elapsedMillis).isLessThan(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS));
+        }
+
+    }
+
+    @DisplayName("createInFlightInterceptor")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：通信中の件数を数える")
+        @Test
+        void testOK1() throws Exception {
+            release = new CountDownLatch(1);
+            Map<String, Object> requestBody = new HashMap<>();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // NOTE: 読み込みのタイムアウトより前に応答させる
+            CompletableFuture<Map<String, Object>> future = CompletableFuture
+                    .supplyAsync(() -> externalApi.post(url(), requestBody));
+            received.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            double inFlight = meterRegistry.get("external.http.in_flight").gauge().value();
+            release.countDown();
+            future.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(inFlight).isEqualTo(1.0);
+            assertThat(meterRegistry.get("external.http.in_flight").gauge().value()).isEqualTo(0.0);
+        }
+
+    }
+
+}
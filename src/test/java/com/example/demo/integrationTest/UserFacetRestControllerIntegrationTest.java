@@ -0,0 +1,71 @@
+package com.example.demo.integrationTest;
+
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.test.context.jdbc.Sql;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.annotation.Transactional;
+
+@Sql(scripts = "/test-data/Integration_facet.sql")
+@SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
+@AutoConfigureMockMvc
+@Transactional
+class UserFacetRestControllerIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @DisplayName("正常終了")
+    @Test
+    void testOK1() throws Exception {
+        mockMvc.perform(
+                post("/users/facets")
+                        .header("X-Operator", "OPERATOR")
+                        .content("""
+                                {
+                                  "begin_updated_at": "2025-01-01",
+                                  "end_updated_at": "2025-01-02"
+                                }
+                                """)
+                        .contentType(MediaType.APPLICATION_JSON_VALUE))
+                .andExpect(status().isOk())
+                .andExpect(content().json("""
+                        {
+                          "status": "success",
+                          "code": null,
+                          "message": null,
+                          "data": {
+                            "total_count": 6,
+                            "dept_list": [
+                              {
+                                "dept_id": "01",
+                                "count": 4
+                              },
+                              {
+                                "dept_id": "02",
+                                "count": 2
+                              }
+                            ],
+                            "day_list": [
+                              {
+                                "last_updated_at": "2025-01-01",
+                                "count": 3
+                              },
+                              {
+                                "last_updated_at": "2025-01-02",
+                                "count": 3
+                              }
+                            ]
+                          }
+                        }
+                        """));
+    }
+
+}
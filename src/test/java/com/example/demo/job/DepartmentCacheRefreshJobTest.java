@@ -0,0 +1,77 @@
+package com.example.demo.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.demo.logic.DepartmentCacheLogic;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentCacheRefreshJobTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private DepartmentCacheRefreshJob job;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private DepartmentCacheLogic departmentCacheLogic;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("refresh")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.refresh();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(departmentCacheLogic, times(1)).refresh();
+        }
+
+        @DisplayName("異常終了：DBエラーの場合は例外を外に伝えない")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(new QueryTimeoutException("タイムアウト"))
+                    .when(departmentCacheLogic)
+                    .refresh();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatCode(() -> job.refresh()).doesNotThrowAnyException();
+        }
+
+    }
+
+}
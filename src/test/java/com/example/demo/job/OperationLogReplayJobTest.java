@@ -0,0 +1,195 @@
+package com.example.demo.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class OperationLogReplayJobTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int BATCH_SIZE = 2;
+
+    private static final Map<String, Object> BODY1 = Map.of("operation", "テスト処理1");
+
+    private static final Map<String, Object> BODY2 = Map.of("operation", "テスト処理2");
+
+    private static final Map<String, Object> BODY3 = Map.of("operation", "テスト処理3");
+
+    // NOTE: メトリクスの値を確認するため@InjectMocksは使わずにテスト対象を作成する
+    private OperationLogReplayJob job;
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private OperationLogSpool spool;
+
+    @Mock
+    private OperationLogShipper shipper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new OperationLogReplayJob(spool, shipper, meterRegistry, BATCH_SIZE);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("replay")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：退避ファイルが空になるまで古い順に送信する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(true, true, false)
+                    .when(spool)
+                    .hasPending();
+
+            doReturn(List.of(BODY1, BODY2), List.of(BODY3))
+                    .when(spool)
+                    .peek(anyInt());
+
+            doReturn(2, 1)
+                    .when(shipper)
+                    .send(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.replay();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(spool, times(2)).peek(BATCH_SIZE);
+            verify(shipper, times(1)).send(eq(List.of(BODY1, BODY2)));
+            verify(shipper, times(1)).send(eq(List.of(BODY3)));
+            verify(spool, times(1)).commit(2);
+            verify(spool, times(1)).commit(1);
+            assertThat(meterRegistry.get("operation_log.spool.replayed").counter().count()).isEqualTo(3.0);
+        }
+
+        @DisplayName("正常終了：送信に失敗した場合は退避ファイルに残して終了する")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(true)
+                    .when(spool)
+                    .hasPending();
+
+            doReturn(List.of(BODY1, BODY2))
+                    .when(spool)
+                    .peek(anyInt());
+
+            doReturn(0)
+                    .when(shipper)
+                    .send(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.replay();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(shipper, times(1)).send(eq(List.of(BODY1, BODY2)));
+            verify(spool, never()).commit(anyInt());
+            assertThat(meterRegistry.get("operation_log.spool.replayed").counter().count()).isEqualTo(0.0);
+        }
+
+        @DisplayName("正常終了：途中まで送信できた場合は送信できた分だけ退避ファイルから削除して終了する")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(true)
+                    .when(spool)
+                    .hasPending();
+
+            doReturn(List.of(BODY1, BODY2))
+                    .when(spool)
+                    .peek(anyInt());
+
+            doReturn(1)
+                    .when(shipper)
+                    .send(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.replay();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 送信できたログは二重に送信しないように削除すること
+            verify(shipper, times(1)).send(eq(List.of(BODY1, BODY2)));
+            verify(spool, times(1)).commit(1);
+            assertThat(meterRegistry.get("operation_log.spool.replayed").counter().count()).isEqualTo(1.0);
+        }
+
+        @DisplayName("正常終了：退避ファイルが空の場合は何もしない")
+        @Test
+        void testOK4() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(false)
+                    .when(spool)
+                    .hasPending();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.replay();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(spool, never()).peek(anyInt());
+            verify(shipper, never()).send(any());
+        }
+
+    }
+
+}
@@ -0,0 +1,702 @@
+package com.example.demo.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import com.example.demo.constant.OverflowPolicyConstants;
+import com.example.demo.constant.URLConstants;
+import com.example.demo.external.ExternalApi;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class OperationLogShipperTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int QUEUE_CAPACITY = 2;
+
+    private static final int BATCH_SIZE = 10;
+
+    private static final long LINGER_MILLIS = 100;
+
+    private static final long OFFER_TIMEOUT_MILLIS = 10;
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private static final Map<String, Object> BODY1 = Map.of("operation", "テスト処理1");
+
+    private static final Map<String, Object> BODY2 = Map.of("operation", "テスト処理2");
+
+    private static final Map<String, Object> BODY3 = Map.of("operation", "テスト処理3");
+
+    // NOTE: 待ち行列の大きさや扱いを指定するため@InjectMocksは使わずにテスト対象を作成する
+    private final List<OperationLogShipper> shipperList = new ArrayList<>();
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private ExternalApi externalApi;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private OperationLogSpool spool;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        for (OperationLogShipper shipper : shipperList) {
+            shipper.shutdown();
+        }
+    }
+
+    private OperationLogShipper create(String overflowPolicy) {
+        return create(overflowPolicy, false);
+    }
+
+    private OperationLogShipper create(String overflowPolicy, boolean bulkEnabled) {
+        OperationLogShipper shipper = new OperationLogShipper(externalApi, messageSource, spool, meterRegistry,
+                QUEUE_CAPACITY, BATCH_SIZE, LINGER_MILLIS, overflowPolicy, OFFER_TIMEOUT_MILLIS, bulkEnabled);
+        shipperList.add(shipper);
+        return shipper;
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("enqueue")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：1件の場合は従来のURLへ送信する")
+        @Test
+        void testOK1() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+            shipper.start();
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean accepted = shipper.enqueue(BODY1);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(accepted).isTrue();
+            verify(externalApi, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1))
+                    .post(eq(URLConstants.LOGGING_URL), eq(BODY1));
+            verify(messageSource, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1))
+                    .getMessage(eq("I01"), isNull(), eq(Locale.JAPAN));
+        }
+
+        @DisplayName("正常終了：複数件の場合は既定では従来のURLへ1件ずつ古い順に送信する")
+        @Test
+        void testOK2() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // NOTE: 送信するスレッドを開始する前に待ち行列に入れ、1回でまとめて取り出されるようにする
+            shipper.enqueue(BODY1);
+            shipper.enqueue(BODY2);
+            shipper.start();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(externalApi, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1))
+                    .post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+
+            // NOTE: 古い順に送信し、外部APIが対応していない一括のURLへは送信しないこと
+            InOrder inOrder = inOrder(externalApi);
+            inOrder.verify(externalApi).post(eq(URLConstants.LOGGING_URL), eq(BODY1));
+            inOrder.verify(externalApi).post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+            verify(externalApi, never()).post(eq(URLConstants.LOGGING_BULK_URL), any());
+        }
+
+        @DisplayName("正常終了：一括の送信を有効にした場合は複数件を一括のURLへまとめて送信する")
+        @Test
+        void testOK3() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST, true);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // NOTE: 送信するスレッドを開始する前に待ち行列に入れ、1回でまとめて送信されるようにする
+            shipper.enqueue(BODY1);
+            shipper.enqueue(BODY2);
+            shipper.start();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(externalApi, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1))
+                    .post(eq(URLConstants.LOGGING_BULK_URL), eq(Map.of("list", List.of(BODY1, BODY2))));
+            verify(externalApi, never()).post(eq(URLConstants.LOGGING_URL), any());
+        }
+
+        @DisplayName("正常終了：あふれた場合に新しいログを破棄する")
+        @Test
+        void testOK4() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean accepted1 = shipper.enqueue(BODY1);
+            boolean accepted2 = shipper.enqueue(BODY2);
+            boolean accepted3 = shipper.enqueue(BODY3);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(accepted1).isTrue();
+            assertThat(accepted2).isTrue();
+            assertThat(accepted3).isFalse();
+            assertThat(meterRegistry.get("operation_log.queue.size").gauge().value()).isEqualTo(2.0);
+            assertThat(meterRegistry.get("operation_log.dropped").counter().count()).isEqualTo(1.0);
+            verify(messageSource, times(1)).getMessage(eq("W04"), isNull(), eq(Locale.JAPAN));
+        }
+
+        @DisplayName("正常終了：あふれた場合に古いログを破棄する")
+        @Test
+        void testOK5() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_OLDEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean accepted1 = shipper.enqueue(BODY1);
+            boolean accepted2 = shipper.enqueue(BODY2);
+            boolean accepted3 = shipper.enqueue(BODY3);
+            shipper.start();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(accepted1).isTrue();
+            assertThat(accepted2).isTrue();
+            assertThat(accepted3).isTrue();
+            assertThat(meterRegistry.get("operation_log.dropped").counter().count()).isEqualTo(1.0);
+            verify(externalApi, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1))
+                    .post(eq(URLConstants.LOGGING_URL), eq(BODY3));
+            verify(externalApi, times(1)).post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+            verify(externalApi, never()).post(eq(URLConstants.LOGGING_URL), eq(BODY1));
+            verify(messageSource, never()).getMessage(eq("W04"), isNull(), any());
+        }
+
+        @DisplayName("正常終了：あふれた場合に空くまで待ち、待ちきれない場合は新しいログを破棄する")
+        @Test
+        void testOK6() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.BLOCK);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            shipper.enqueue(BODY1);
+            shipper.enqueue(BODY2);
+            long start = System.nanoTime();
+            boolean accepted3 = shipper.enqueue(BODY3);
+            long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(accepted3).isFalse();
+            assertThat(elapsedMillis).isGreaterThanOrEqualTo(OFFER_TIMEOUT_MILLIS);
+            assertThat(meterRegistry.get("operation_log.dropped").counter().count()).isEqualTo(1.0);
+        }
+
+        @DisplayName("正常終了：送信に失敗した場合は退避ファイルへ追記する")
+        @Test
+        void testOK7() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+            shipper.start();
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(ResourceAccessException.class)
+                    .when(externalApi)
+                    .post(anyString(), any());
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            shipper.enqueue(BODY1);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(spool, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).append(eq(List.of(BODY1)));
+        }
+
+        @DisplayName("正常終了：退避済みのログがある場合は送信せずに退避ファイルへ追記する")
+        @Test
+        void testOK8() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+            shipper.start();
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(true)
+                    .when(spool)
+                    .hasPending();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            shipper.enqueue(BODY1);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 退避済みのログより先に送信されないこと
+            verify(spool, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).append(eq(List.of(BODY1)));
+            verify(externalApi, never()).post(anyString(), any());
+        }
+
+        @DisplayName("正常終了：途中で送信に失敗した場合は残りのログだけを退避ファイルへ追記する")
+        @Test
+        void testOK9() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(ResourceAccessException.class)
+                    .when(externalApi)
+                    .post(anyString(), eq(BODY2));
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            shipper.enqueue(BODY1);
+            shipper.enqueue(BODY2);
+            shipper.start();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 送信できたログは二重に送信しないように追記しないこと
+            verify(spool, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).append(eq(List.of(BODY2)));
+        }
+
+        @DisplayName("正常終了：4xxで拒否されたログは退避せず、後続のログを送信する")
+        @Test
+        void testOK10() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(HttpClientErrorException.class)
+                    .when(externalApi)
+                    .post(anyString(), eq(BODY1));
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            shipper.start();
+            shipper.enqueue(BODY1);
+            shipper.enqueue(BODY2);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 拒否されたログで後続のログが止まらず、退避ファイルへも追記しないこと
+            verify(externalApi, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1))
+                    .post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+            verify(spool, never()).append(anyList());
+        }
+
+        @DisplayName("異常終了：あふれた場合の扱いが不正な場合")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> create("unknown"))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+    @DisplayName("send")
+    @Nested
+    class Method2 {
+
+        private final List<Map<String, Object>> bodyList = List.of(BODY1, BODY2);
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int actual = shipper.send(bodyList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(2);
+            assertThat(meterRegistry.get("operation_log.send").timer().count()).isEqualTo(1L);
+            assertThat(meterRegistry.get("operation_log.failed").counter().count()).isEqualTo(0.0);
+            verify(externalApi, times(1)).post(eq(URLConstants.LOGGING_URL), eq(BODY1));
+            verify(externalApi, times(1)).post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+            verify(messageSource, times(1)).getMessage(eq("I01"), isNull(), eq(Locale.JAPAN));
+        }
+
+        @DisplayName("正常終了：一括の送信を有効にした場合")
+        @Test
+        void testOK2() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST, true);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int actual = shipper.send(bodyList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(2);
+            verify(externalApi, times(1))
+                    .post(eq(URLConstants.LOGGING_BULK_URL), eq(Map.of("list", List.of(BODY1, BODY2))));
+            verify(externalApi, never()).post(eq(URLConstants.LOGGING_URL), any());
+        }
+
+        @DisplayName("正常終了：途中で失敗した場合は送信できた件数を返す")
+        @Test
+        void testOK3() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(ResourceAccessException.class)
+                    .when(externalApi)
+                    .post(anyString(), eq(BODY2));
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int actual = shipper.send(List.of(BODY1, BODY2, BODY3));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 失敗したログより後のログは、順番を守るため送信しないこと
+            assertThat(actual).isEqualTo(1);
+            assertThat(meterRegistry.get("operation_log.failed").counter().count()).isEqualTo(2.0);
+            verify(externalApi, never()).post(anyString(), eq(BODY3));
+            verify(messageSource, times(1)).getMessage(eq("W03"), isNull(), eq(Locale.JAPAN));
+        }
+
+        @DisplayName("正常終了：4xxで拒否されたログは破棄し、後続のログを送信する")
+        @Test
+        void testOK4() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(HttpClientErrorException.class)
+                    .when(externalApi)
+                    .post(anyString(), eq(BODY1));
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int actual = shipper.send(bodyList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 送信し直しても同じ結果になるため、拒否されたログも処理済みとすること
+            assertThat(actual).isEqualTo(2);
+            assertThat(meterRegistry.get("operation_log.failed").counter().count()).isEqualTo(1.0);
+            verify(externalApi, times(1)).post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+            verify(messageSource, times(1)).getMessage(eq("W01"), isNull(), eq(Locale.JAPAN));
+        }
+
+        @DisplayName("正常終了：一括で4xxで拒否された場合は1件ずつ送信し直し、拒否されたログだけを破棄する")
+        @Test
+        void testOK5() {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST, true);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(HttpClientErrorException.class)
+                    .when(externalApi)
+                    .post(eq(URLConstants.LOGGING_BULK_URL), any());
+
+            doThrow(HttpClientErrorException.class)
+                    .when(externalApi)
+                    .post(eq(URLConstants.LOGGING_URL), eq(BODY1));
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int actual = shipper.send(bodyList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(2);
+            assertThat(meterRegistry.get("operation_log.failed").counter().count()).isEqualTo(1.0);
+            verify(externalApi, times(1)).post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+            verify(messageSource, times(2)).getMessage(eq("W01"), isNull(), eq(Locale.JAPAN));
+        }
+
+        @DisplayName("異常終了:HttpServerErrorException")
+        @Test
+        void testNG1() {
+            assertSendFailed(HttpServerErrorException.class, "W02");
+        }
+
+        @DisplayName("異常終了:ResourceAccessException")
+        @Test
+        void testNG2() {
+            assertSendFailed(ResourceAccessException.class, "W03");
+        }
+
+        @DisplayName("異常終了:RuntimeException")
+        @Test
+        void testNG3() {
+            assertSendFailed(RuntimeException.class, "W99");
+        }
+
+        private void assertSendFailed(Class<? extends Throwable> exceptionClass, String messageId) {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(exceptionClass)
+                    .when(externalApi)
+                    .post(anyString(), any());
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生しないこと
+            int actual = shipper.send(bodyList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(0);
+            assertThat(meterRegistry.get("operation_log.failed").counter().count()).isEqualTo(2.0);
+            verify(messageSource, times(1)).getMessage(eq(messageId), isNull(), eq(Locale.JAPAN));
+        }
+
+    }
+
+    @DisplayName("shutdown")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了：待ち行列に残ったログを送信する")
+        @Test
+        void testOK1() throws Exception {
+            OperationLogShipper shipper = create(OverflowPolicyConstants.DROP_NEWEST);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn("テストメッセージ")
+                    .when(messageSource)
+                    .getMessage(anyString(), isNull(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            shipper.enqueue(BODY1);
+            shipper.enqueue(BODY2);
+            shipper.shutdown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(externalApi, times(1)).post(eq(URLConstants.LOGGING_URL), eq(BODY1));
+            verify(externalApi, times(1)).post(eq(URLConstants.LOGGING_URL), eq(BODY2));
+            assertThat(meterRegistry.get("operation_log.queue.size").gauge().value()).isEqualTo(0.0);
+        }
+
+    }
+
+}
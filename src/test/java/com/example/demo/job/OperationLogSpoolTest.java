@@ -0,0 +1,293 @@
+package com.example.demo.job;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+// NOTE: 一時ディレクトリに退避ファイルを作成し、開き直した場合の読み込みも確認する
+
+class OperationLogSpoolTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    /** ヘッダーの大きさ。 */
+    private static final int DATA_START = 64;
+
+    /** レコードの長さ、連番、CRCの大きさ。 */
+    private static final int RECORD_HEADER_SIZE = 16;
+
+    private static final int CAPACITY = 1024 * 1024;
+
+    private static final Map<String, Object> BODY1 = Map.of("operation", "テスト処理1");
+
+    private static final Map<String, Object> BODY2 = Map.of("operation", "テスト処理2");
+
+    private static final Map<String, Object> BODY3 = Map.of("operation", "テスト処理3");
+
+    private static final Map<String, Object> BODY4 = Map.of("operation", "テスト処理4");
+
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private final List<OperationLogSpool> spoolList = new ArrayList<>();
+
+    @TempDir
+    Path dir;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        for (OperationLogSpool spool : spoolList) {
+            spool.close();
+        }
+    }
+
+    private OperationLogSpool open(int capacity) {
+        OperationLogSpool spool = new OperationLogSpool(objectMapper, meterRegistry, dir.toString(), capacity);
+        spoolList.add(spool);
+        return spool;
+    }
+
+    private int recordSize() throws Exception {
+        return RECORD_HEADER_SIZE + objectMapper.writeValueAsBytes(BODY1).length;
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("append, peek")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：追記した順に取得する")
+        @Test
+        void testOK1() {
+            OperationLogSpool spool = open(CAPACITY);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int appendedCount = spool.append(List.of(BODY1, BODY2, BODY3));
+            List<Map<String, Object>> actualList = spool.peek(2);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 取得しただけでは削除されないこと
+            assertThat(appendedCount).isEqualTo(3);
+            assertThat(actualList).containsExactly(BODY1, BODY2);
+            assertThat(spool.hasPending()).isTrue();
+            assertThat(meterRegistry.get("operation_log.spool.pending").gauge().value()).isEqualTo(3.0);
+        }
+
+        @DisplayName("正常終了：末尾に収まらない場合は先頭へ折り返す")
+        @Test
+        void testOK2() throws Exception {
+            OperationLogSpool spool = open(DATA_START + recordSize() * 3);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            spool.append(List.of(BODY1, BODY2));
+            spool.commit(2);
+            int appendedCount = spool.append(List.of(BODY3, BODY4));
+            List<Map<String, Object>> actualList = spool.peek(10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(appendedCount).isEqualTo(2);
+            assertThat(actualList).containsExactly(BODY3, BODY4);
+        }
+
+        @DisplayName("正常終了：あふれた場合は破棄する")
+        @Test
+        void testOK3() throws Exception {
+            OperationLogSpool spool = open(DATA_START + recordSize() * 2 + 1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int appendedCount = spool.append(List.of(BODY1, BODY2, BODY3));
+            List<Map<String, Object>> actualList = spool.peek(10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 未送信のログは上書きされないこと
+            assertThat(appendedCount).isEqualTo(2);
+            assertThat(actualList).containsExactly(BODY1, BODY2);
+            assertThat(meterRegistry.get("operation_log.spool.dropped").counter().count()).isEqualTo(1.0);
+        }
+
+    }
+
+    @DisplayName("commit")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：送信済みのログを削除する")
+        @Test
+        void testOK1() {
+            OperationLogSpool spool = open(CAPACITY);
+            spool.append(List.of(BODY1, BODY2, BODY3));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            spool.commit(2);
+            List<Map<String, Object>> actualList = spool.peek(10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(BODY3);
+            assertThat(spool.pending()).isEqualTo(1L);
+        }
+
+        @DisplayName("正常終了：すべて削除した場合は空になる")
+        @Test
+        void testOK2() {
+            OperationLogSpool spool = open(CAPACITY);
+            spool.append(List.of(BODY1, BODY2));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            spool.commit(2);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(spool.hasPending()).isFalse();
+            assertThat(spool.peek(10)).isEmpty();
+        }
+
+    }
+
+    @DisplayName("OperationLogSpool")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了：開き直した場合は未送信のログだけを読み込む")
+        @Test
+        void testOK1() throws Exception {
+            OperationLogSpool spool = open(CAPACITY);
+            spool.append(List.of(BODY1, BODY2, BODY3));
+            spool.commit(1);
+            spool.close();
+            spoolList.remove(spool);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            OperationLogSpool reopened = open(CAPACITY);
+            List<Map<String, Object>> actualList = reopened.peek(10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(BODY2, BODY3);
+        }
+
+        @DisplayName("正常終了：折り返した後に開き直した場合")
+        @Test
+        void testOK2() throws Exception {
+            int capacity = DATA_START + recordSize() * 3;
+            OperationLogSpool spool = open(capacity);
+            spool.append(List.of(BODY1, BODY2));
+            spool.commit(2);
+            spool.append(List.of(BODY3, BODY4));
+            spool.close();
+            spoolList.remove(spool);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            OperationLogSpool reopened = open(capacity);
+            List<Map<String, Object>> actualList = reopened.peek(10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(BODY3, BODY4);
+        }
+
+        @DisplayName("正常終了：壊れたレコード以降は読み込まない")
+        @Test
+        void testOK3() throws Exception {
+            OperationLogSpool spool = open(CAPACITY);
+            spool.append(List.of(BODY1, BODY2, BODY3));
+            spool.close();
+            spoolList.remove(spool);
+
+            // NOTE: 2件目のレコードのJSONを書き換え、書き込みの途中で落ちた状態にする
+            try (FileChannel channel = FileChannel.open(dir.resolve("operation-log.spool"), StandardOpenOption.WRITE)) {
+                channel.write(ByteBuffer.wrap(new byte[] { 0 }), DATA_START + recordSize() + RECORD_HEADER_SIZE);
+            }
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            OperationLogSpool reopened = open(CAPACITY);
+            List<Map<String, Object>> actualList = reopened.peek(10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(BODY1);
+
+            // NOTE: 壊れたレコードの位置から追記を再開すること
+            reopened.append(List.of(BODY4));
+            assertThat(reopened.peek(10)).containsExactly(BODY1, BODY4);
+        }
+
+        @DisplayName("異常終了：ファイルの大きさが小さすぎる場合")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> open(DATA_START))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
@@ -0,0 +1,138 @@
+package com.example.demo.job;
+
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.demo.mapper.UserBulkJobMapper;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkJobResumeJobTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int STALE_SECONDS = 300;
+
+    private static final int LIMIT = 10;
+
+    // NOTE: 秒数などはintのため@InjectMocksでは設定できないので、@BeforeEachで生成する
+    private UserBulkJobResumeJob job;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserBulkJobMapper userBulkJobMapper;
+
+    @Mock
+    private UserBulkJobWorker userBulkJobWorker;
+
+    @BeforeEach
+    void setUp() {
+        job = new UserBulkJobResumeJob(userBulkJobMapper, userBulkJobWorker, STALE_SECONDS, LIMIT);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("resume")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：再開できるジョブをワーカーへ渡す")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of(1L, 2L))
+                    .when(userBulkJobMapper)
+                    .findResumableIdList(STALE_SECONDS, LIMIT);
+
+            doReturn(true)
+                    .when(userBulkJobWorker)
+                    .submit(anyLong());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.resume();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobWorker, times(1)).submit(1L);
+            verify(userBulkJobWorker, times(1)).submit(2L);
+        }
+
+        @DisplayName("正常終了：待ち行列があふれた場合は次回に渡す")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of(1L, 2L, 3L))
+                    .when(userBulkJobMapper)
+                    .findResumableIdList(STALE_SECONDS, LIMIT);
+
+            doReturn(true, false)
+                    .when(userBulkJobWorker)
+                    .submit(anyLong());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.resume();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobWorker, times(1)).submit(1L);
+            verify(userBulkJobWorker, times(1)).submit(2L);
+            verify(userBulkJobWorker, never()).submit(3L);
+        }
+
+        @DisplayName("異常終了：DBエラーの場合は例外を外に伝えない")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(new QueryTimeoutException("タイムアウト"))
+                    .when(userBulkJobMapper)
+                    .findResumableIdList(STALE_SECONDS, LIMIT);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.resume();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobWorker, never()).submit(anyLong());
+        }
+
+    }
+
+}
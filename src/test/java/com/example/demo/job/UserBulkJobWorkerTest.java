@@ -0,0 +1,203 @@
+package com.example.demo.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.service.UserBulkJobRunService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkJobWorkerTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int POOL_SIZE = 1;
+
+    private static final int QUEUE_CAPACITY = 1;
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    // NOTE: スレッドプールの大きさを指定するため@InjectMocksは使わずにテスト対象を作成する
+    private UserBulkJobWorker worker;
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserBulkJobRunService service;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        worker = new UserBulkJobWorker(service, meterRegistry, POOL_SIZE, QUEUE_CAPACITY);
+    }
+
+    @AfterEach
+    void tearDown() throws InterruptedException {
+        worker.shutdown();
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("submit")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：スレッドプールでジョブを実行する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean accepted = worker.submit(1L);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(accepted).isTrue();
+            verify(service, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).run(1L);
+        }
+
+        @DisplayName("正常終了：実行中のジョブは二重に受け付けない、待ち行列があふれた場合は受け付けない")
+        @Test
+        void testOK2() throws Exception {
+            CountDownLatch started = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+
+            // NOTE: 1件目のジョブの実行を止めておき、スレッドと待ち行列を埋める
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return null;
+            })
+                    .when(service)
+                    .run(1L);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean accepted1 = worker.submit(1L);
+            started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            boolean acceptedAgain = worker.submit(1L);
+            boolean accepted2 = worker.submit(2L);
+            boolean accepted3 = worker.submit(3L);
+
+            double queued = meterRegistry.get("user_bulk_job.worker.queued").gauge().value();
+
+            release.countDown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(accepted1).isTrue();
+            assertThat(acceptedAgain).isTrue();
+            assertThat(accepted2).isTrue();
+            assertThat(accepted3).isFalse();
+            assertThat(queued).isEqualTo(1.0);
+
+            verify(service, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).run(2L);
+            verify(service, times(1)).run(1L);
+            verify(service, never()).run(3L);
+        }
+
+        @DisplayName("正常終了：ジョブの例外はスレッドプールの外に伝えない")
+        @Test
+        void testOK3() {
+            doThrow(new RuntimeException("テスト"))
+                    .when(service)
+                    .run(1L);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean accepted1 = worker.submit(1L);
+            verify(service, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).run(1L);
+            boolean accepted2 = worker.submit(2L);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 例外の後も次のジョブを実行できること
+            assertThat(accepted1).isTrue();
+            assertThat(accepted2).isTrue();
+            verify(service, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).run(2L);
+        }
+
+    }
+
+    @DisplayName("submitAfterCommit")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：トランザクション外の場合はすぐに実行する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            worker.submitAfterCommit(1L);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).run(1L);
+        }
+
+        @DisplayName("正常終了：トランザクション内の場合はコミット後に実行する")
+        @Test
+        void testOK2() {
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // -------------------------------------------------------------
+                // テスト実行
+                // -------------------------------------------------------------
+
+                worker.submitAfterCommit(1L);
+
+                // -------------------------------------------------------------
+                // 実行結果確認
+                // -------------------------------------------------------------
+
+                verify(service, after(100).never()).run(anyLong());
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+
+                verify(service, timeout(TimeUnit.SECONDS.toMillis(TIMEOUT_SECONDS)).times(1)).run(1L);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+    }
+
+}
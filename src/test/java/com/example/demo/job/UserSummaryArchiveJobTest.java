@@ -0,0 +1,176 @@
+package com.example.demo.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DeadlockLoserDataAccessException;
+
+import com.example.demo.logic.UserSummaryArchiveLogic;
+import com.example.demo.service.UserSummaryArchiveService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryArchiveJobTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final LocalDate HORIZON = LocalDate.of(2025, 5, 16);
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final int MAX_CHUNKS = 3;
+
+    // NOTE: メトリクスを確認するため@InjectMocksは使わずにテスト対象を作成する
+    private UserSummaryArchiveJob job;
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryArchiveService service;
+
+    @Mock
+    private UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new UserSummaryArchiveJob(service, userSummaryArchiveLogic, meterRegistry, CHUNK_SIZE, 0, MAX_CHUNKS);
+    }
+
+    private double archived() {
+        return meterRegistry.get("user_summary.archive.archived").counter().count();
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("archive")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：チャンクの最大件数に満たなくなるまで移動する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(HORIZON)
+                    .when(userSummaryArchiveLogic)
+                    .horizon();
+            doReturn(2, 1)
+                    .when(service)
+                    .archive(any(), anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.archive();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, times(2)).archive(eq(HORIZON), eq(CHUNK_SIZE));
+            assertThat(archived()).isEqualTo(3.0);
+        }
+
+        @DisplayName("正常終了：1回の実行で移動するのは最大チャンク数まで")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(HORIZON)
+                    .when(userSummaryArchiveLogic)
+                    .horizon();
+            doReturn(CHUNK_SIZE)
+                    .when(service)
+                    .archive(any(), anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.archive();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, times(MAX_CHUNKS)).archive(any(), anyInt());
+            assertThat(archived()).isEqualTo(6.0);
+        }
+
+        @DisplayName("正常終了：アーカイブしない設定の場合は何もしない")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(null)
+                    .when(userSummaryArchiveLogic)
+                    .horizon();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.archive();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, never()).archive(any(), anyInt());
+        }
+
+        @DisplayName("異常終了：ユーザの書き込みとのデッドロックの場合は例外を外に伝えない")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(HORIZON)
+                    .when(userSummaryArchiveLogic)
+                    .horizon();
+            doThrow(new DeadlockLoserDataAccessException("デッドロック", null))
+                    .when(service)
+                    .archive(any(), anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatCode(() -> job.archive()).doesNotThrowAnyException();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, times(1)).archive(any(), anyInt());
+        }
+
+    }
+
+}
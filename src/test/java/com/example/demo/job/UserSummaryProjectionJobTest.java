@@ -0,0 +1,166 @@
+package com.example.demo.job;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+
+import com.example.demo.mapper.UserSummaryOutboxMapper;
+import com.example.demo.service.UserSummaryProjectionService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryProjectionJobTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int BATCH_SIZE = 2;
+
+    // NOTE: メトリクスの値を確認するため@InjectMocksは使わずにテスト対象を作成する
+    private UserSummaryProjectionJob job;
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryProjectionService service;
+
+    @Mock
+    private UserSummaryOutboxMapper userSummaryOutboxMapper;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        job = new UserSummaryProjectionJob(service, userSummaryOutboxMapper, meterRegistry, BATCH_SIZE);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("project")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：最大件数まで反映した場合は続けて反映する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(BATCH_SIZE, 1)
+                    .when(service)
+                    .project(anyInt());
+
+            doReturn(0L)
+                    .when(userSummaryOutboxMapper)
+                    .count();
+
+            doReturn(null)
+                    .when(userSummaryOutboxMapper)
+                    .findOldestCreatedAt();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.project();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, times(2)).project(eq(BATCH_SIZE));
+            assertThat(meterRegistry.get("user_summary.projection.projected").counter().count()).isEqualTo(3.0);
+            assertThat(meterRegistry.get("user_summary.outbox.pending").gauge().value()).isEqualTo(0.0);
+            assertThat(meterRegistry.get("user_summary.outbox.lag").gauge().value()).isEqualTo(0.0);
+        }
+
+        @DisplayName("正常終了：未反映の変更が残っている場合は経過秒数を記録する")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(0)
+                    .when(service)
+                    .project(anyInt());
+
+            doReturn(5L)
+                    .when(userSummaryOutboxMapper)
+                    .count();
+
+            doReturn(LocalDateTime.now().minusSeconds(60))
+                    .when(userSummaryOutboxMapper)
+                    .findOldestCreatedAt();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            job.project();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, times(1)).project(eq(BATCH_SIZE));
+            assertThat(meterRegistry.get("user_summary.outbox.pending").gauge().value()).isEqualTo(5.0);
+            assertThat(meterRegistry.get("user_summary.outbox.lag").gauge().value()).isGreaterThanOrEqualTo(60.0);
+        }
+
+        @DisplayName("異常終了：例外はthrowsされない")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(service)
+                    .project(anyInt());
+
+            doReturn(1L)
+                    .when(userSummaryOutboxMapper)
+                    .count();
+
+            doReturn(LocalDateTime.now())
+                    .when(userSummaryOutboxMapper)
+                    .findOldestCreatedAt();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生しないこと
+            assertThatCode(() -> job.project()).doesNotThrowAnyException();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(service, times(1)).project(eq(BATCH_SIZE));
+            assertThat(meterRegistry.get("user_summary.projection.projected").counter().count()).isEqualTo(0.0);
+            assertThat(meterRegistry.get("user_summary.outbox.pending").gauge().value()).isEqualTo(1.0);
+        }
+
+    }
+
+}
@@ -0,0 +1,317 @@
+package com.example.demo.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.demo.mapper.Department;
+import com.example.demo.mapper.DepartmentMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class DepartmentCacheLogicTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: メトリクスの値を確認するため@InjectMocksは使わずにテスト対象を作成する
+    private DepartmentCacheLogic departmentCacheLogic;
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private DepartmentMapper departmentMapper;
+
+    private List<Department> entityList = null;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        departmentCacheLogic = new DepartmentCacheLogic(departmentMapper, meterRegistry);
+
+        entityList = List.of(
+                new Department("01", "部署1", false),
+                new Department("02", "部署2", false),
+                new Department("03", "部署3", true));
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("existsById, existsByIdList, findIdSet")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：初回だけDBから読み込む")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(departmentMapper)
+                    .findAll();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            boolean exists = departmentCacheLogic.existsById("01");
+            boolean notExists = departmentCacheLogic.existsById("99");
+            boolean existsAll = departmentCacheLogic.existsByIdList(List.of("01", "03"));
+            boolean notExistsAll = departmentCacheLogic.existsByIdList(List.of("01", "99"));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 削除済みの部署も存在するものとして扱うこと
+            assertThat(exists).isTrue();
+            assertThat(notExists).isFalse();
+            assertThat(existsAll).isTrue();
+            assertThat(notExistsAll).isFalse();
+            assertThat(departmentCacheLogic.findIdSet()).containsExactlyInAnyOrder("01", "02", "03");
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(departmentMapper, times(1)).findAll();
+            assertThat(meterRegistry.get("department.cache.size").gauge().value()).isEqualTo(3.0);
+            assertThat(meterRegistry.get("department.cache.loaded").counter().count()).isEqualTo(1.0);
+        }
+
+        @DisplayName("異常終了：DBエラー")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(new QueryTimeoutException("タイムアウト"))
+                    .when(departmentMapper)
+                    .findAll();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> departmentCacheLogic.existsById("01"))
+                    .isInstanceOf(QueryTimeoutException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(departmentCacheLogic.getLoadedAt()).isNull();
+        }
+
+    }
+
+    @DisplayName("findAll")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：書き換えてもキャッシュに影響しない")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(departmentMapper)
+                    .findAll();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<Department> actualList = departmentCacheLogic.findAll();
+            actualList.get(0).setName("書き換え");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).hasSize(3);
+            assertThat(departmentCacheLogic.findAll()).isEqualTo(entityList);
+        }
+
+    }
+
+    @DisplayName("refresh, invalidate")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了：読み込み直した内容に差し替える")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList, List.of(new Department("04", "部署4", false)))
+                    .when(departmentMapper)
+                    .findAll();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            departmentCacheLogic.refresh();
+            departmentCacheLogic.refresh();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(departmentCacheLogic.existsById("01")).isFalse();
+            assertThat(departmentCacheLogic.existsById("04")).isTrue();
+            verify(departmentMapper, times(2)).findAll();
+        }
+
+        @DisplayName("正常終了：破棄した場合は次に参照したときに読み込む")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(departmentMapper)
+                    .findAll();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            departmentCacheLogic.refresh();
+            departmentCacheLogic.invalidate();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(departmentCacheLogic.size()).isEqualTo(0);
+            assertThat(departmentCacheLogic.existsById("01")).isTrue();
+            verify(departmentMapper, times(2)).findAll();
+        }
+
+        @DisplayName("異常終了：読み込みに失敗した場合はそれまでのキャッシュを使い続ける")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .doThrow(new QueryTimeoutException("タイムアウト"))
+                    .when(departmentMapper)
+                    .findAll();
+
+            departmentCacheLogic.refresh();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> departmentCacheLogic.refresh())
+                    .isInstanceOf(QueryTimeoutException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(departmentCacheLogic.existsById("01")).isTrue();
+            verify(departmentMapper, times(2)).findAll();
+        }
+
+    }
+
+    @DisplayName("getVersion")
+    @Nested
+    class Method4 {
+
+        @DisplayName("正常終了：内容が変わらない場合は読み込み直しても版数が変わらない")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(departmentMapper)
+                    .findAll();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            long actual1 = departmentCacheLogic.getVersion();
+            long actual2 = departmentCacheLogic.getVersion();
+            departmentCacheLogic.refresh();
+            long actual3 = departmentCacheLogic.getVersion();
+            departmentCacheLogic.invalidate();
+            long actual4 = departmentCacheLogic.getVersion();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 定期的に読み込み直しても同じ版数で、破棄した後に読み込み直した場合は前と同じ版数にならないこと
+            assertThat(actual2).isEqualTo(actual1);
+            assertThat(actual3).isEqualTo(actual1);
+            assertThat(actual4).isNotEqualTo(actual1);
+            verify(departmentMapper, times(3)).findAll();
+        }
+
+        @DisplayName("正常終了：読み込み直して内容が変わった場合は版数が変わる")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList, List.of(
+                    new Department("01", "部署1", false),
+                    new Department("02", "部署2（変更）", false),
+                    new Department("03", "部署3", true)))
+                    .when(departmentMapper)
+                    .findAll();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            long actual1 = departmentCacheLogic.getVersion();
+            departmentCacheLogic.refresh();
+            long actual2 = departmentCacheLogic.getVersion();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual2).isNotEqualTo(actual1);
+            assertThat(departmentCacheLogic.findAll().get(1).getName()).isEqualTo("部署2（変更）");
+        }
+
+    }
+
+}
@@ -3,82 +3,329 @@ package com.example.demo.logic;
 import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
-import java.time.LocalDateTime;
+import java.time.Clock;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
 
-import org.junit.jupiter.api.AfterAll;
-import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
-import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
-import org.mockito.MockedStatic;
-import org.mockito.Mockito;
-import org.mockito.junit.jupiter.MockitoExtension;
 
 // NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+// NOTE: 日時を固定するため、時計を指定できるコンストラクタでテスト対象を作成する
 
-@ExtendWith(MockitoExtension.class)
 class GenerateIdLogicTest {
 
-    // NOTE: テスト対象とモックを定義する
-    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+    private static final ZoneId ZONE = ZoneId.of("Asia/Tokyo");
 
-    // NOTE: テスト対象のクラスを@InjectMocks
-    @InjectMocks
-    private GenerateIdLogic generateIdLogic;
+    // 2025-01-01T12:30:23.123
+    private static final Instant NOW = Instant.parse("2025-01-01T03:30:23.123Z");
 
     // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
     // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
 
-    @DisplayName("create")
+    @DisplayName("generateId")
     @Nested
     class Method1 {
 
-        private static final String ID = "20250101123023123";
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(Clock.fixed(NOW, ZONE), 1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            String actual = generateIdLogic.generateId();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 10ミリ秒単位の日時の後ろにノード番号と枝番が付くこと
+            assertThat(actual).isEqualTo("20250101123023121_01");
+        }
+
+        @DisplayName("正常終了：同じ日時に複数回採番する場合")
+        @Test
+        void testOK2() {
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(Clock.fixed(NOW, ZONE), 1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = List.of(
+                    generateIdLogic.generateId(),
+                    generateIdLogic.generateId(),
+                    generateIdLogic.generateId());
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 日時は進めずに枝番が使われること
+            assertThat(actualList).containsExactly(
+                    "20250101123023121_01",
+                    "20250101123023121_02",
+                    "20250101123023121_03");
+        }
+
+        @DisplayName("正常終了：時計が戻った場合")
+        @Test
+        void testOK3() {
+            Clock clock = mock(Clock.class);
+            doReturn(ZONE)
+                    .when(clock)
+                    .getZone();
+            doReturn(NOW.toEpochMilli(), NOW.toEpochMilli() - 1_000)
+                    .when(clock)
+                    .millis();
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(clock, 1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            String actual1 = generateIdLogic.generateId();
+            String actual2 = generateIdLogic.generateId();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 時計が戻っても前回より小さいIDにならないこと
+            assertThat(actual1).isEqualTo("20250101123023121_01");
+            assertThat(actual2).isEqualTo("20250101123023121_02");
+        }
+
+        @DisplayName("正常終了：同じ日時の枝番を使い切った場合")
+        @Test
+        void testOK4() {
+            Clock clock = mock(Clock.class);
+            AtomicInteger callCount = new AtomicInteger();
+            doReturn(ZONE)
+                    .when(clock)
+                    .getZone();
+            // NOTE: 100回目の採番で枝番がなくなり、待っている間に時計が進む
+            doAnswer(invocation -> callCount.incrementAndGet() <= 100 ? NOW.toEpochMilli() : NOW.toEpochMilli() + 10)
+                    .when(clock)
+                    .millis();
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(clock, 1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = IntStream.range(0, 100).mapToObj(i -> generateIdLogic.generateId()).toList();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 先の日時を使わずに、次の日時になってから採番すること
+            assertThat(actualList.get(98)).isEqualTo("20250101123023121_99");
+            assertThat(actualList.get(99)).isEqualTo("20250101123023131_01");
+        }
+
+        @DisplayName("正常終了：ノード番号が異なる場合")
+        @Test
+        void testOK5() {
+            GenerateIdLogic node1 = new GenerateIdLogic(Clock.fixed(NOW, ZONE), 1);
+            GenerateIdLogic node2 = new GenerateIdLogic(Clock.fixed(NOW, ZONE), 2);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
 
-        private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 30, 23, 123456789);
+            List<String> idList1 = IntStream.range(0, 99).mapToObj(i -> node1.generateId()).toList();
+            List<String> idList2 = IntStream.range(0, 99).mapToObj(i -> node2.generateId()).toList();
 
-        private static MockedStatic<LocalDateTime> mock = null;
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 同じ日時に採番しても、ノードが異なれば同じIDにならないこと
+            assertThat(idList1).doesNotContainAnyElementsOf(idList2);
+        }
+
+        @DisplayName("正常終了：複数のスレッドで同時に採番する場合")
+        @Test
+        void testOK6() throws Exception {
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(Clock.systemDefaultZone(), 0);
+            int threadCount = 8;
+            int countPerThread = 1_000;
+            Set<String> idSet = ConcurrentHashMap.newKeySet();
 
-        @BeforeAll
-        static void setUpAll() {
-            // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                List<Future<?>> futureList = IntStream.range(0, threadCount)
+                        .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                            for (int j = 0; j < countPerThread; j++) {
+                                idSet.add(generateIdLogic.generateId());
+                            }
+                        }))
+                        .toList();
+                for (Future<?> future : futureList) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
 
-            // LocalDateTimeをモック化する
-            mock = Mockito.mockStatic(LocalDateTime.class);
+            // NOTE: すべてのIDが異なり、17桁の数字と2桁の枝番であること
+            assertThat(idSet).hasSize(threadCount * countPerThread);
+            assertThat(idSet).allMatch(id -> id.matches("^[0-9]{17}_[0-9]{2}$"));
         }
 
-        @AfterAll
-        static void tearDownAll() {
-            // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+        @DisplayName("異常終了：ノード番号が範囲外の場合")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
 
-            // Mockito.mockStaticでモック化したモックは複数実行したテストのスレッド内で残るため毎回closeする必要がある
-            mock.close();
+            assertThatThrownBy(() -> new GenerateIdLogic(Clock.fixed(NOW, ZONE), 10))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> new GenerateIdLogic(Clock.fixed(NOW, ZONE), -1))
+                    .isInstanceOf(IllegalArgumentException.class);
         }
 
+    }
+
+    @DisplayName("generateIdList")
+    @Nested
+    class Method2 {
+
         @DisplayName("正常終了")
         @Test
         void testOK1() {
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(Clock.fixed(NOW, ZONE), 1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = generateIdLogic.generateIdList(3);
+            String actual = generateIdLogic.generateId();
+
             // -----------------------------------------------------------------
-            // モックの振る舞い設定
+            // 実行結果確認
             // -----------------------------------------------------------------
 
-            mock.when(LocalDateTime::now).thenReturn(NOW);
+            // NOTE: 連続した枝番のIDが採番され、次の採番はブロックの後の枝番になること
+            assertThat(actualList).containsExactly(
+                    "20250101123023121_01",
+                    "20250101123023121_02",
+                    "20250101123023121_03");
+            assertThat(actual).isEqualTo("20250101123023121_04");
+        }
+
+        @DisplayName("正常終了：件数が0の場合")
+        @Test
+        void testOK2() {
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(Clock.fixed(NOW, ZONE), 1);
 
             // -----------------------------------------------------------------
             // テスト実行
             // -----------------------------------------------------------------
 
+            List<String> actualList = generateIdLogic.generateIdList(0);
             String actual = generateIdLogic.generateId();
 
             // -----------------------------------------------------------------
             // 実行結果確認
             // -----------------------------------------------------------------
-            assertThat(actual).isEqualTo(ID);
 
-            // NOTE: 呼び出されるメソッドが想定通りであること
-            mock.verify(LocalDateTime::now, times(1));
+            // NOTE: 日時が予約されないこと
+            assertThat(actualList).isEmpty();
+            assertThat(actual).isEqualTo("20250101123023121_01");
+        }
+
+        @DisplayName("正常終了：同じ日時の枝番より件数が多い場合")
+        @Test
+        void testOK3() {
+            Clock clock = mock(Clock.class);
+            AtomicInteger callCount = new AtomicInteger();
+            doReturn(ZONE)
+                    .when(clock)
+                    .getZone();
+            // NOTE: 99件を予約した後、残りの1件を予約するときに枝番がなくなり、待っている間に時計が進む
+            doAnswer(invocation -> callCount.incrementAndGet() <= 2 ? NOW.toEpochMilli() : NOW.toEpochMilli() + 10)
+                    .when(clock)
+                    .millis();
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(clock, 1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = generateIdLogic.generateIdList(100);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 残りの枝番を使い切ってから、次の日時の枝番を使うこと
+            assertThat(actualList).hasSize(100).doesNotHaveDuplicates().isSorted();
+            assertThat(actualList.get(0)).isEqualTo("20250101123023121_01");
+            assertThat(actualList.get(98)).isEqualTo("20250101123023121_99");
+            assertThat(actualList.get(99)).isEqualTo("20250101123023131_01");
+        }
+
+        @DisplayName("正常終了：複数のスレッドで同時に採番する場合")
+        @Test
+        void testOK4() throws Exception {
+            GenerateIdLogic generateIdLogic = new GenerateIdLogic(Clock.systemDefaultZone(), 0);
+            int threadCount = 8;
+            int blockCount = 100;
+            int blockSize = 10;
+            Set<String> idSet = ConcurrentHashMap.newKeySet();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            ExecutorService executor = Executors.newFixedThreadPool(threadCount);
+            try {
+                List<Future<?>> futureList = IntStream.range(0, threadCount)
+                        .<Future<?>>mapToObj(i -> executor.submit(() -> {
+                            for (int j = 0; j < blockCount; j++) {
+                                idSet.addAll(generateIdLogic.generateIdList(blockSize));
+                                idSet.add(generateIdLogic.generateId());
+                            }
+                        }))
+                        .toList();
+                for (Future<?> future : futureList) {
+                    future.get();
+                }
+            } finally {
+                executor.shutdownNow();
+            }
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: ブロックと1件ずつの採番が混在しても、すべてのIDが異なること
+            assertThat(idSet).hasSize(threadCount * blockCount * (blockSize + 1));
         }
 
     }
@@ -4,7 +4,6 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.HashMap;
-import java.util.Locale;
 import java.util.Map;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -15,13 +14,10 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.context.MessageSource;
-import org.springframework.web.client.HttpClientErrorException;
-import org.springframework.web.client.HttpServerErrorException;
-import org.springframework.web.client.ResourceAccessException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
-import com.example.demo.constant.URLConstants;
-import com.example.demo.external.ExternalApi;
+import com.example.demo.job.OperationLogShipper;
 
 // NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
 
@@ -41,10 +37,7 @@ class LoggingLogicTest {
     private LoggingLogicConverter converter;
 
     @Mock
-    private MessageSource messageSource;
-
-    @Mock
-    private ExternalApi externalApi;
+    private OperationLogShipper shipper;
 
     // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
     // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
@@ -53,22 +46,19 @@ class LoggingLogicTest {
     @Nested
     class Method1 {
 
-        private static final String URL = URLConstants.LOGGING_URL;
         private static final String OPERATION = "テスト処理";
         private static final String OPERATOR = "OPERATOR";
 
         private Map<String, Object> requestBody = null;
-        private Map<String, Object> responseBody = null;
 
         @BeforeEach
         void setUp() {
             // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
 
             requestBody = new HashMap<>();
-            responseBody = new HashMap<>();
         }
 
-        @DisplayName("正常終了")
+        @DisplayName("正常終了：トランザクション外の場合はすぐに送信待ちにする")
         @Test
         void testOK1() {
             // -----------------------------------------------------------------
@@ -79,13 +69,9 @@ class LoggingLogicTest {
                     .when(converter)
                     .convertToBody(anyString(), anyString());
 
-            doReturn(responseBody)
-                    .when(externalApi)
-                    .post(anyString(), any());
-
-            doReturn("テストメッセージ")
-                    .when(messageSource)
-                    .getMessage(anyString(), isNull(), any());
+            doReturn(true)
+                    .when(shipper)
+                    .enqueue(any());
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -96,13 +82,12 @@ class LoggingLogicTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToBody(eq(OPERATION), eq(OPERATOR));
-            verify(externalApi, times(1)).post(eq(URL), eq(requestBody));
-            verify(messageSource, times(1)).getMessage(eq("I01"), isNull(), eq(Locale.JAPAN));
+            verify(shipper, times(1)).enqueue(eq(requestBody));
         }
 
-        @DisplayName("異常終了:HttpClientErrorException")
+        @DisplayName("正常終了：待ち行列があふれた場合")
         @Test
-        void testNG1() {
+        void testOK2() {
             // -----------------------------------------------------------------
             // モックの振る舞い設定
             // -----------------------------------------------------------------
@@ -111,13 +96,9 @@ class LoggingLogicTest {
                     .when(converter)
                     .convertToBody(anyString(), anyString());
 
-            doThrow(HttpClientErrorException.class)
-                    .when(externalApi)
-                    .post(anyString(), any());
-
-            doReturn("テストメッセージ")
-                    .when(messageSource)
-                    .getMessage(anyString(), isNull(), any());
+            doReturn(false)
+                    .when(shipper)
+                    .enqueue(any());
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -128,13 +109,12 @@ class LoggingLogicTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToBody(eq(OPERATION), eq(OPERATOR));
-            verify(externalApi, times(1)).post(eq(URL), eq(requestBody));
-            verify(messageSource, times(1)).getMessage(eq("W01"), isNull(), eq(Locale.JAPAN));
+            verify(shipper, times(1)).enqueue(eq(requestBody));
         }
 
-        @DisplayName("異常終了:HttpServerErrorException")
+        @DisplayName("正常終了：トランザクション内の場合はコミット後に送信待ちにする")
         @Test
-        void testNG2() {
+        void testOK3() {
             // -----------------------------------------------------------------
             // モックの振る舞い設定
             // -----------------------------------------------------------------
@@ -143,62 +123,37 @@ class LoggingLogicTest {
                     .when(converter)
                     .convertToBody(anyString(), anyString());
 
-            doThrow(HttpServerErrorException.class)
-                    .when(externalApi)
-                    .post(anyString(), any());
-
-            doReturn("テストメッセージ")
-                    .when(messageSource)
-                    .getMessage(anyString(), isNull(), any());
-
-            // -----------------------------------------------------------------
-            // テスト実行
-            // -----------------------------------------------------------------
-
-            // 例外が発生しないこと
-            assertThatCode(() -> externalApiLogic.logOperation(OPERATION, OPERATOR)).doesNotThrowAnyException();
-
-            // NOTE: 呼び出されるメソッドが想定通りであること
-            verify(converter, times(1)).convertToBody(eq(OPERATION), eq(OPERATOR));
-            verify(externalApi, times(1)).post(eq(URL), eq(requestBody));
-            verify(messageSource, times(1)).getMessage(eq("W02"), isNull(), eq(Locale.JAPAN));
-        }
-
-        @DisplayName("異常終了:ResourceAccessException")
-        @Test
-        void testNG3() {
-            // -----------------------------------------------------------------
-            // モックの振る舞い設定
-            // -----------------------------------------------------------------
+            doReturn(true)
+                    .when(shipper)
+                    .enqueue(any());
 
-            doReturn(requestBody)
-                    .when(converter)
-                    .convertToBody(anyString(), anyString());
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // -------------------------------------------------------------
+                // テスト実行
+                // -------------------------------------------------------------
 
-            doThrow(ResourceAccessException.class)
-                    .when(externalApi)
-                    .post(anyString(), any());
+                externalApiLogic.logOperation(OPERATION, OPERATOR);
 
-            doReturn("テストメッセージ")
-                    .when(messageSource)
-                    .getMessage(anyString(), isNull(), any());
+                // -------------------------------------------------------------
+                // 実行結果確認
+                // -------------------------------------------------------------
 
-            // -----------------------------------------------------------------
-            // テスト実行
-            // -----------------------------------------------------------------
+                verify(converter, times(1)).convertToBody(eq(OPERATION), eq(OPERATOR));
+                verify(shipper, never()).enqueue(any());
 
-            // 例外が発生しないこと
-            assertThatCode(() -> externalApiLogic.logOperation(OPERATION, OPERATOR)).doesNotThrowAnyException();
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
 
-            // NOTE: 呼び出されるメソッドが想定通りであること
-            verify(converter, times(1)).convertToBody(eq(OPERATION), eq(OPERATOR));
-            verify(externalApi, times(1)).post(eq(URL), eq(requestBody));
-            verify(messageSource, times(1)).getMessage(eq("W03"), isNull(), eq(Locale.JAPAN));
+                verify(shipper, times(1)).enqueue(eq(requestBody));
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
         }
 
-        @DisplayName("異常終了:RuntimeException")
+        @DisplayName("正常終了：トランザクションがロールバックされた場合は送信待ちにしない")
         @Test
-        void testNG4() {
+        void testOK4() {
             // -----------------------------------------------------------------
             // モックの振る舞い設定
             // -----------------------------------------------------------------
@@ -207,25 +162,25 @@ class LoggingLogicTest {
                     .when(converter)
                     .convertToBody(anyString(), anyString());
 
-            doThrow(RuntimeException.class)
-                    .when(externalApi)
-                    .post(anyString(), any());
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // -------------------------------------------------------------
+                // テスト実行
+                // -------------------------------------------------------------
 
-            doReturn("テストメッセージ")
-                    .when(messageSource)
-                    .getMessage(anyString(), isNull(), any());
+                externalApiLogic.logOperation(OPERATION, OPERATOR);
 
-            // -----------------------------------------------------------------
-            // テスト実行
-            // -----------------------------------------------------------------
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
 
-            // 例外が発生しないこと
-            assertThatCode(() -> externalApiLogic.logOperation(OPERATION, OPERATOR)).doesNotThrowAnyException();
+                // -------------------------------------------------------------
+                // 実行結果確認
+                // -------------------------------------------------------------
 
-            // NOTE: 呼び出されるメソッドが想定通りであること
-            verify(converter, times(1)).convertToBody(eq(OPERATION), eq(OPERATOR));
-            verify(externalApi, times(1)).post(eq(URL), eq(requestBody));
-            verify(messageSource, times(1)).getMessage(eq("W99"), isNull(), eq(Locale.JAPAN));
+                verify(shipper, never()).enqueue(any());
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
         }
 
     }
@@ -0,0 +1,286 @@
+package com.example.demo.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.context.annotation.Import;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.context.jdbc.Sql;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.mapper.User;
+
+// NOTE: バッチ実行の結果はDBの内容で確認したいため、@MybatisTestで実際のDBを使ってテストする
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるのでテスト後に変更したデータが元に戻る
+// NOTE: ユーザ概要への反映はUserSummaryProjectionLogicの実際の処理で確認し、検索キャッシュの破棄だけモックにする
+
+@Sql(scripts = "/test-data/UserBatchWriteLogic.sql")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({
+        UserBatchWriteLogic.class,
+        UserSummaryProjectionLogic.class,
+        UserSummaryArchiveLogic.class,
+        ExceptionCreator.class })
+class UserBatchWriteLogicTest {
+
+    private static final String INSERTABLE_BASE_ID = "20250701094512000";
+    private static final String EXISTING_BASE_ID = "20250101120055111";
+    private static final String ARCHIVED_ID = "20241231120055111_01";
+
+    // NOTE: テスト対象のクラスを@Autowired
+    @Autowired
+    private UserBatchWriteLogic userBatchWriteLogic;
+
+    // NOTE: 検索キャッシュの破棄が呼び出されたか確認するために使う
+    @MockitoBean
+    private UserSearchCacheLogic userSearchCacheLogic;
+
+    // NOTE: テーブルの内容を確認するために使う
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer facetCount(String deptId) {
+        return jdbcTemplate.queryForObject(
+                "SELECT COALESCE(SUM(user_count), 0) FROM user_summary_facet WHERE dept_id = ?",
+                Integer.class, deptId);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("insertChunk")
+    @Nested
+    class Method1 {
+
+        @DisplayName("登録が成功する場合")
+        @Test
+        void testOK1() throws Exception {
+            List<User> entityList = List.of(
+                    new User(INSERTABLE_BASE_ID + "_01", "苗字", "名前1", "01", 0),
+                    new User(INSERTABLE_BASE_ID + "_02", "苗字", "名前2", "02", 0),
+                    new User(INSERTABLE_BASE_ID + "_03", "苗字", "名前3", "01", 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBatchWriteLogic.insertChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(3);
+
+            Integer userCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM user WHERE id LIKE ?", Integer.class, INSERTABLE_BASE_ID + "%");
+            assertThat(userCount).isEqualTo(3);
+
+            List<String> nameList = jdbcTemplate.queryForList(
+                    "SELECT name FROM user_summary WHERE user_id LIKE ? ORDER BY user_id",
+                    String.class,
+                    INSERTABLE_BASE_ID + "%");
+            assertThat(nameList).containsExactly("苗字名前1", "苗字名前2", "苗字名前3");
+
+            // NOTE: 部署ごとの件数と検索キャッシュにも反映されること
+            assertThat(facetCount("01")).isEqualTo(6);
+            assertThat(facetCount("02")).isEqualTo(1);
+            verify(userSearchCacheLogic, times(1)).invalidateByUserIdList(eq(List.of(
+                    INSERTABLE_BASE_ID + "_01", INSERTABLE_BASE_ID + "_02", INSERTABLE_BASE_ID + "_03")));
+        }
+
+        @DisplayName("登録済みのIDがある場合")
+        @Test
+        void testNG1() {
+            List<User> entityList = List.of(
+                    new User(INSERTABLE_BASE_ID + "_01", "苗字", "名前1", "01", 0),
+                    new User(EXISTING_BASE_ID + "_01", "苗字", "名前2", "01", 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> userBatchWriteLogic.insertChunk(entityList))
+                    .isInstanceOf(DataAccessException.class);
+        }
+
+    }
+
+    @DisplayName("updateChunk")
+    @Nested
+    class Method2 {
+
+        @DisplayName("更新が成功する場合")
+        @Test
+        void testOK1() throws Exception {
+            List<User> entityList = List.of(
+                    new User(EXISTING_BASE_ID + "_01", "更新", "名前1", "02", 0),
+                    new User(EXISTING_BASE_ID + "_02", "更新", "名前2", "02", 0),
+                    new User(EXISTING_BASE_ID + "_03", "更新", "名前3", "02", 1));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int[] updateCounts = userBatchWriteLogic.updateChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 行ごとの更新件数が返却されること
+            assertThat(updateCounts).containsExactly(1, 1, 1);
+
+            List<Integer> versionList = jdbcTemplate.queryForList(
+                    "SELECT version FROM user WHERE id LIKE ? ORDER BY id", Integer.class, EXISTING_BASE_ID + "%");
+            assertThat(versionList).containsExactly(1, 1, 2);
+
+            List<String> deptNameList = jdbcTemplate.queryForList(
+                    "SELECT dept_name FROM user_summary WHERE user_id LIKE ? ORDER BY user_id",
+                    String.class,
+                    EXISTING_BASE_ID + "%");
+            assertThat(deptNameList).containsExactly("部署2", "部署2", "部署2");
+
+            // NOTE: 部署ごとの件数と検索キャッシュにも反映されること
+            assertThat(facetCount("01")).isEqualTo(1);
+            assertThat(facetCount("02")).isEqualTo(3);
+            verify(userSearchCacheLogic, times(1)).invalidateByUserIdList(eq(List.of(
+                    EXISTING_BASE_ID + "_01", EXISTING_BASE_ID + "_02", EXISTING_BASE_ID + "_03")));
+        }
+
+        @DisplayName("アーカイブ済みのユーザを更新する場合")
+        @Test
+        void testOK2() throws Exception {
+            List<User> entityList = List.of(new User(ARCHIVED_ID, "更新", "名前4", "02", 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int[] updateCounts = userBatchWriteLogic.updateChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(updateCounts).containsExactly(1);
+
+            // NOTE: アーカイブからユーザ概要へ戻してから変更すること
+            List<String> deptNameList = jdbcTemplate.queryForList(
+                    "SELECT dept_name FROM user_summary WHERE user_id = ?", String.class, ARCHIVED_ID);
+            assertThat(deptNameList).containsExactly("部署2");
+
+            Integer archiveCount = jdbcTemplate.queryForObject(
+                    "SELECT COUNT(*) FROM user_summary_archive WHERE user_id = ?", Integer.class, ARCHIVED_ID);
+            assertThat(archiveCount).isEqualTo(0);
+
+            assertThat(facetCount("01")).isEqualTo(3);
+            assertThat(facetCount("02")).isEqualTo(1);
+        }
+
+        @DisplayName("バージョンが一致しない行がある場合")
+        @Test
+        void testNG1() {
+            List<User> entityList = List.of(
+                    new User(EXISTING_BASE_ID + "_01", "更新", "名前1", "02", 0),
+                    new User(EXISTING_BASE_ID + "_02", "更新", "名前2", "02", 9),
+                    new User(EXISTING_BASE_ID + "_03", "更新", "名前3", "02", 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // NOTE: 更新できなかった行のIDだけがエラーメッセージに含まれること
+            assertThatThrownBy(() -> userBatchWriteLogic.updateChunk(entityList))
+                    .isInstanceOfSatisfying(ApplicationException.class, e -> {
+                        assertThat(e.getErrorId()).isEqualTo("202");
+                        assertThat(e.getErrorMessage())
+                                .isEqualTo("更新に失敗しました：" + EXISTING_BASE_ID + "_02," + EXISTING_BASE_ID + "_03");
+                    });
+        }
+
+    }
+
+    @DisplayName("updatePartialChunk")
+    @Nested
+    class Method3 {
+
+        @DisplayName("バージョンが一致しない行がある場合")
+        @Test
+        void testOK1() throws Exception {
+            List<User> entityList = List.of(
+                    new User(EXISTING_BASE_ID + "_01", "更新", "名前1", "02", 0),
+                    new User(EXISTING_BASE_ID + "_02", "更新", "名前2", "02", 9),
+                    new User(EXISTING_BASE_ID + "_03", "更新", "名前3", "02", 1));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int[] updateCounts = userBatchWriteLogic.updatePartialChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 更新できなかった行だけ件数が0になり、他の行は更新されること
+            assertThat(updateCounts).containsExactly(1, 0, 1);
+
+            List<Integer> versionList = jdbcTemplate.queryForList(
+                    "SELECT version FROM user WHERE id LIKE ? ORDER BY id", Integer.class, EXISTING_BASE_ID + "%");
+            assertThat(versionList).containsExactly(1, 0, 2);
+
+            List<String> deptNameList = jdbcTemplate.queryForList(
+                    "SELECT dept_name FROM user_summary WHERE user_id LIKE ? ORDER BY user_id",
+                    String.class,
+                    EXISTING_BASE_ID + "%");
+            assertThat(deptNameList).containsExactly("部署2", "部署1", "部署2");
+
+            // NOTE: 更新できた行だけ部署ごとの件数と検索キャッシュに反映されること
+            assertThat(facetCount("01")).isEqualTo(2);
+            assertThat(facetCount("02")).isEqualTo(2);
+            verify(userSearchCacheLogic, times(1)).invalidateByUserIdList(eq(List.of(
+                    EXISTING_BASE_ID + "_01", EXISTING_BASE_ID + "_03")));
+        }
+
+        @DisplayName("すべての行が更新できない場合")
+        @Test
+        void testOK2() throws Exception {
+            List<User> entityList = List.of(
+                    new User(EXISTING_BASE_ID + "_01", "更新", "名前1", "02", 9),
+                    new User(INSERTABLE_BASE_ID + "_01", "更新", "名前2", "02", 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int[] updateCounts = userBatchWriteLogic.updatePartialChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(updateCounts).containsExactly(0, 0);
+
+            List<String> deptNameList = jdbcTemplate.queryForList(
+                    "SELECT dept_name FROM user_summary WHERE user_id LIKE ? ORDER BY user_id",
+                    String.class,
+                    EXISTING_BASE_ID + "%");
+            assertThat(deptNameList).containsExactly("部署1", "部署1", "部署1");
+            verify(userSearchCacheLogic, never()).invalidateByUserIdList(any());
+        }
+
+    }
+
+}
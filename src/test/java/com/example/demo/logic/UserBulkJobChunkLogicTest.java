@@ -0,0 +1,345 @@
+package com.example.demo.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.mapper.User;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobItem;
+import com.example.demo.mapper.UserBulkJobItemMapper;
+import com.example.demo.mapper.UserBulkJobMapper;
+import com.example.demo.mapper.UserMapper;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkJobChunkLogicTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserBulkJobChunkLogic logic;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserBulkJobMapper userBulkJobMapper;
+
+    @Mock
+    private UserBulkJobItemMapper userBulkJobItemMapper;
+
+    @Mock
+    private DepartmentCacheLogic departmentCacheLogic;
+
+    @Mock
+    private UserMapper userMapper;
+
+    @Mock
+    private UserSummaryProjectionLogic userSummaryProjectionLogic;
+
+    @Mock
+    private UserBatchWriteLogic userBatchWriteLogic;
+
+    @Mock
+    private ExceptionCreator exceptionCreator;
+
+    private static final long JOB_ID = 1L;
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final String USER_ID1 = "20250101120055111_03";
+
+    private static final String USER_ID2 = "20250101120055111_04";
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("processChunk")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private List<UserBulkJobItem> itemList = List.of(
+                new UserBulkJobItem(JOB_ID, 3, USER_ID1, "苗字", "名前3", "01", 0),
+                new UserBulkJobItem(JOB_ID, 4, USER_ID2, "苗字", "名前4", "02", 0));
+
+        private List<User> entityList = List.of(
+                new User(USER_ID1, "苗字", "名前3", "01", 0),
+                new User(USER_ID2, "苗字", "名前4", "02", 0));
+
+        // NOTE: 正常系
+
+        @DisplayName("正常終了：作成：処理済み件数の次の明細を登録し、処理済み件数を更新する")
+        @Test
+        void testOK1() throws Exception {
+            UserBulkJob job = new UserBulkJob(JOB_ID, "create", "running", "OPERATOR", 5, 2, null, null, null,
+                    null, null);
+
+            doReturn(itemList)
+                    .when(userBulkJobItemMapper)
+                    .findByJobId(JOB_ID, 2, CHUNK_SIZE);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(false)
+                    .when(userMapper)
+                    .existsByIdList(List.of(USER_ID1, USER_ID2));
+
+            doReturn(2)
+                    .when(userMapper)
+                    .insertList(entityList);
+
+            doReturn(2)
+                    .when(userSummaryProjectionLogic)
+                    .copyListFromUser(List.of(USER_ID1, USER_ID2));
+
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .updateProcessedCount(JOB_ID, 2, 4);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = logic.processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(2);
+
+            verify(userBulkJobMapper, times(1)).updateProcessedCount(JOB_ID, 2, 4);
+        }
+
+        @DisplayName("正常終了：更新")
+        @Test
+        void testOK2() throws Exception {
+            UserBulkJob job = new UserBulkJob(JOB_ID, "update", "running", "OPERATOR", 5, 2, null, null, null,
+                    null, null);
+
+            doReturn(itemList)
+                    .when(userBulkJobItemMapper)
+                    .findByJobId(JOB_ID, 2, CHUNK_SIZE);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(true)
+                    .when(userMapper)
+                    .existsByIdList(List.of(USER_ID1, USER_ID2));
+
+            doReturn(new int[] { 1, 1 })
+                    .when(userBatchWriteLogic)
+                    .updateChunk(entityList);
+
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .updateProcessedCount(JOB_ID, 2, 4);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = logic.processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(2);
+
+            // NOTE: 行ごとの更新件数とユーザ概要の変更はUserBatchWriteLogicで行うこと
+            verify(userBatchWriteLogic, times(1)).updateChunk(eq(entityList));
+            verify(userSummaryProjectionLogic, never()).modifyListFromUser(anyList());
+            verify(userMapper, never()).insertList(anyList());
+        }
+
+        @DisplayName("正常終了：残りの明細がない")
+        @Test
+        void testOK3() throws Exception {
+            UserBulkJob job = new UserBulkJob(JOB_ID, "create", "running", "OPERATOR", 5, 5, null, null, null,
+                    null, null);
+
+            doReturn(List.of())
+                    .when(userBulkJobItemMapper)
+                    .findByJobId(JOB_ID, 5, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = logic.processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+
+            verify(userBulkJobMapper, never()).updateProcessedCount(anyLong(), anyInt(), anyInt());
+        }
+
+        // NOTE: 異常系
+
+        @DisplayName("異常終了：作成：登録対象のデータが既に登録されている")
+        @Test
+        void testNG1() {
+            UserBulkJob job = new UserBulkJob(JOB_ID, "create", "running", "OPERATOR", 5, 2, null, null, null,
+                    null, null);
+
+            doReturn(itemList)
+                    .when(userBulkJobItemMapper)
+                    .findByJobId(JOB_ID, 2, CHUNK_SIZE);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(true)
+                    .when(userMapper)
+                    .existsByIdList(List.of(USER_ID1, USER_ID2));
+
+            doReturn(new ApplicationException("101", "登録対象のデータが既に登録されています"))
+                    .when(exceptionCreator)
+                    .create(anyString(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> logic.processChunk(job, CHUNK_SIZE))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "101");
+
+            verify(userMapper, never()).insertList(anyList());
+            verify(userBulkJobMapper, never()).updateProcessedCount(anyLong(), anyInt(), anyInt());
+        }
+
+        @DisplayName("異常終了：更新：部署が存在しない")
+        @Test
+        void testNG2() {
+            UserBulkJob job = new UserBulkJob(JOB_ID, "update", "running", "OPERATOR", 5, 2, null, null, null,
+                    null, null);
+
+            doReturn(itemList)
+                    .when(userBulkJobItemMapper)
+                    .findByJobId(JOB_ID, 2, CHUNK_SIZE);
+
+            doReturn(false)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(new ApplicationException("402", "更新に使用する部署が存在しません"))
+                    .when(exceptionCreator)
+                    .create(anyString(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> logic.processChunk(job, CHUNK_SIZE))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "402");
+
+            verify(userBatchWriteLogic, never()).updateChunk(anyList());
+        }
+
+        @DisplayName("異常終了：他で処理が進んでいて処理済み件数を更新できない")
+        @Test
+        void testNG3() {
+            UserBulkJob job = new UserBulkJob(JOB_ID, "create", "running", "OPERATOR", 5, 2, null, null, null,
+                    null, null);
+
+            doReturn(itemList)
+                    .when(userBulkJobItemMapper)
+                    .findByJobId(JOB_ID, 2, CHUNK_SIZE);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(false)
+                    .when(userMapper)
+                    .existsByIdList(List.of(USER_ID1, USER_ID2));
+
+            doReturn(2)
+                    .when(userMapper)
+                    .insertList(entityList);
+
+            doReturn(2)
+                    .when(userSummaryProjectionLogic)
+                    .copyListFromUser(List.of(USER_ID1, USER_ID2));
+
+            doReturn(0)
+                    .when(userBulkJobMapper)
+                    .updateProcessedCount(JOB_ID, 2, 4);
+
+            doReturn(new ApplicationException("203", "ジョブの処理済み件数の更新に失敗しました：1"))
+                    .when(exceptionCreator)
+                    .create(anyString(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> logic.processChunk(job, CHUNK_SIZE))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "203");
+        }
+
+        @DisplayName("異常終了：更新：楽観ロックで更新できない行がある")
+        @Test
+        void testNG4() throws Exception {
+            UserBulkJob job = new UserBulkJob(JOB_ID, "update", "running", "OPERATOR", 5, 2, null, null, null,
+                    null, null);
+
+            doReturn(itemList)
+                    .when(userBulkJobItemMapper)
+                    .findByJobId(JOB_ID, 2, CHUNK_SIZE);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(true)
+                    .when(userMapper)
+                    .existsByIdList(List.of(USER_ID1, USER_ID2));
+
+            doThrow(new ApplicationException("202", "更新に失敗しました：" + USER_ID2))
+                    .when(userBatchWriteLogic)
+                    .updateChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> logic.processChunk(job, CHUNK_SIZE))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "202");
+
+            // NOTE: チャンクはロールバックされるため、処理済み件数を更新しないこと
+            verify(userBulkJobMapper, never()).updateProcessedCount(anyLong(), anyInt(), anyInt());
+        }
+
+    }
+
+}
@@ -0,0 +1,504 @@
+package com.example.demo.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.example.demo.common.TestClock;
+import com.example.demo.common.datasource.OperatorContextHolder;
+import com.example.demo.common.datasource.ReadWriteRoutingDataSource;
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+// NOTE: 有効期限を確認するため、時計を進められるTestClockを使う
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchCacheLogicTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int MAX_SIZE = 2;
+
+    private static final long TTL_MILLIS = 30_000;
+
+    private static final List<String> USER_ID_LIST = List.of("20250101120055111_01");
+
+    private static final List<UserSummary> ENTITY_LIST = List.of(
+            new UserSummary("苗字名前1", "01", "部署1", LocalDate.of(2025, 1, 1), "20250101120055111_01", 0));
+
+    // NOTE: 時計とメトリクスを確認するため@InjectMocksは使わずにテスト対象を作成する
+    private UserSearchCacheLogic userSearchCacheLogic;
+
+    private MeterRegistry meterRegistry;
+
+    private TestClock clock;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryMapper userSummaryMapper;
+
+    @Mock
+    private UserSearchSingleFlightLogic userSearchSingleFlightLogic;
+
+    @Mock
+    private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        clock = new TestClock();
+        userSearchCacheLogic = create(true);
+    }
+
+    private UserSearchCacheLogic create(boolean enabled) {
+        return new UserSearchCacheLogic(clock, userSummaryMapper, userSearchSingleFlightLogic,
+                readWriteRoutingDataSource, meterRegistry, enabled, MAX_SIZE, TTL_MILLIS);
+    }
+
+    private UserSummaryCondition condition(String deptId, Integer offset) {
+        return new UserSummaryCondition(null, deptId, null, null, 101, offset, null);
+    }
+
+    private double count(String name, String key, String value) {
+        return meterRegistry.get(name).tag(key, value).counter().count();
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("find")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：同じ検索条件の2回目は問い合わせない")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actual1 = userSearchCacheLogic.find(condition("01", 0));
+            List<UserSummary> actual2 = userSearchCacheLogic.find(condition("01", 0));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual1).isEqualTo(ENTITY_LIST);
+            assertThat(actual2).isEqualTo(ENTITY_LIST);
+            verify(userSearchSingleFlightLogic, times(1)).find(eq(condition("01", 0)));
+            assertThat(count("user.search.cache.requests", "result", "hit")).isEqualTo(1.0);
+            assertThat(count("user.search.cache.requests", "result", "miss")).isEqualTo(1.0);
+            assertThat(meterRegistry.get("user.search.cache.hit_rate").gauge().value()).isEqualTo(0.5);
+            assertThat(meterRegistry.get("user.search.cache.size").gauge().value()).isEqualTo(1.0);
+        }
+
+        @DisplayName("正常終了：呼び出し元で検索条件を書き換えてもキーが変わらない")
+        @Test
+        void testOK2() {
+            UserSummaryCondition condition = condition("01", 0);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchCacheLogic.find(condition);
+            condition.setDeptId("02");
+            userSearchCacheLogic.find(condition("01", 0));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSearchSingleFlightLogic, times(1)).find(any());
+        }
+
+        @DisplayName("正常終了：有効期限が過ぎた場合は問い合わせ直す")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchCacheLogic.find(condition("01", 0));
+            clock.advance(TTL_MILLIS);
+            userSearchCacheLogic.find(condition("01", 0));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSearchSingleFlightLogic, times(2)).find(any());
+            assertThat(count("user.search.cache.evictions", "cause", "expired")).isEqualTo(1.0);
+        }
+
+        @DisplayName("正常終了：件数の上限を超えた場合は最も長く参照されていない検索結果を捨てる")
+        @Test
+        void testOK4() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchCacheLogic.find(condition("01", 0));
+            userSearchCacheLogic.find(condition("01", 100));
+            // NOTE: 1件目を参照し、2件目を最も長く参照されていない状態にする
+            userSearchCacheLogic.find(condition("01", 0));
+            userSearchCacheLogic.find(condition("01", 200));
+            userSearchCacheLogic.find(condition("01", 0));
+            userSearchCacheLogic.find(condition("01", 100));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSearchSingleFlightLogic, times(1)).find(eq(condition("01", 0)));
+            verify(userSearchSingleFlightLogic, times(2)).find(eq(condition("01", 100)));
+            assertThat(userSearchCacheLogic.size()).isEqualTo(MAX_SIZE);
+            assertThat(count("user.search.cache.evictions", "cause", "size")).isEqualTo(2.0);
+        }
+
+        @DisplayName("正常終了：無効の場合は毎回問い合わせる")
+        @Test
+        void testOK5() {
+            userSearchCacheLogic = create(false);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchCacheLogic.find(condition("01", 0));
+            userSearchCacheLogic.find(condition("01", 0));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSearchSingleFlightLogic, times(2)).find(any());
+            assertThat(userSearchCacheLogic.size()).isZero();
+        }
+
+        @DisplayName("正常終了：検索中に破棄された場合は検索結果を保持しない")
+        @Test
+        void testOK6() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doAnswer(invocation -> {
+                userSearchCacheLogic.invalidateByDeptIdList(List.of("01"));
+                return ENTITY_LIST;
+            })
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actual = userSearchCacheLogic.find(condition("01", 0));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(ENTITY_LIST);
+            assertThat(userSearchCacheLogic.size()).isZero();
+        }
+
+        @DisplayName("正常終了：書き込んでからプライマリに接続する期間内の操作者はキャッシュを使わずに問い合わせる")
+        @Test
+        void testOK7() {
+            // NOTE: 書き込む前にキャッシュに保持した状態にする
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+            userSearchCacheLogic.find(condition("01", 0));
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(true)
+                    .when(readWriteRoutingDataSource)
+                    .isWithinReadYourWrites(eq("operator"));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            OperatorContextHolder.setOperator("operator");
+            try {
+                userSearchCacheLogic.find(condition("01", 0));
+                userSearchCacheLogic.find(condition("02", 0));
+            } finally {
+                OperatorContextHolder.clear();
+            }
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 保持している検索結果を返さず、問い合わせた検索結果も保持しないこと
+            verify(userSearchSingleFlightLogic, times(3)).find(any());
+            assertThat(userSearchCacheLogic.size()).isEqualTo(1);
+            assertThat(count("user.search.cache.requests", "result", "bypass")).isEqualTo(2.0);
+            assertThat(count("user.search.cache.requests", "result", "hit")).isZero();
+        }
+
+    }
+
+    @DisplayName("invalidateByUserIdList")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：対象の部署と部署を指定しない検索結果を破棄する")
+        @Test
+        void testOK1() {
+            userSearchCacheLogic = new UserSearchCacheLogic(clock, userSummaryMapper, userSearchSingleFlightLogic,
+                    readWriteRoutingDataSource, meterRegistry, true, 10, TTL_MILLIS);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            doReturn(List.of("01", "03"))
+                    .when(userSummaryMapper)
+                    .findDeptIdListByUserIdList(anyList());
+
+            userSearchCacheLogic.find(condition("01", 0));
+            userSearchCacheLogic.find(condition("02", 0));
+            userSearchCacheLogic.find(condition(null, 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchCacheLogic.invalidateByUserIdList(USER_ID_LIST);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSummaryMapper, times(1)).findDeptIdListByUserIdList(eq(USER_ID_LIST));
+            verify(userSearchSingleFlightLogic, times(1)).detachByDeptIdList(eq(List.of("01", "03")));
+            assertThat(userSearchCacheLogic.size()).isEqualTo(1);
+            assertThat(count("user.search.cache.evictions", "cause", "invalidated")).isEqualTo(2.0);
+
+            // NOTE: 別の部署の検索結果は残っていること
+            userSearchCacheLogic.find(condition("02", 0));
+            verify(userSearchSingleFlightLogic, times(1)).find(eq(condition("02", 0)));
+        }
+
+        @DisplayName("正常終了：トランザクション内の場合はコミット後に破棄する")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            doReturn(List.of("01"))
+                    .when(userSummaryMapper)
+                    .findDeptIdListByUserIdList(anyList());
+
+            userSearchCacheLogic.find(condition("01", 0));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // -------------------------------------------------------------
+                // テスト実行
+                // -------------------------------------------------------------
+
+                userSearchCacheLogic.invalidateByUserIdList(USER_ID_LIST);
+
+                // -------------------------------------------------------------
+                // 実行結果確認
+                // -------------------------------------------------------------
+
+                assertThat(userSearchCacheLogic.size()).isEqualTo(1);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(TransactionSynchronization::afterCommit);
+
+                assertThat(userSearchCacheLogic.size()).isZero();
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @DisplayName("正常終了：トランザクションがロールバックされた場合は破棄しない")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            doReturn(List.of("01"))
+                    .when(userSummaryMapper)
+                    .findDeptIdListByUserIdList(anyList());
+
+            userSearchCacheLogic.find(condition("01", 0));
+
+            TransactionSynchronizationManager.initSynchronization();
+            try {
+                // -------------------------------------------------------------
+                // テスト実行
+                // -------------------------------------------------------------
+
+                userSearchCacheLogic.invalidateByUserIdList(USER_ID_LIST);
+
+                TransactionSynchronizationManager.getSynchronizations()
+                        .forEach(s -> s.afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK));
+
+                // -------------------------------------------------------------
+                // 実行結果確認
+                // -------------------------------------------------------------
+
+                assertThat(userSearchCacheLogic.size()).isEqualTo(1);
+            } finally {
+                TransactionSynchronizationManager.clearSynchronization();
+            }
+        }
+
+        @DisplayName("正常終了：無効の場合は部署を取得しない")
+        @Test
+        void testOK4() {
+            userSearchCacheLogic = create(false);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchCacheLogic.invalidateByUserIdList(USER_ID_LIST);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSummaryMapper, never()).findDeptIdListByUserIdList(anyList());
+        }
+
+    }
+
+    @DisplayName("setEnabled")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了：切り替えた場合はすべて破棄する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSearchSingleFlightLogic)
+                    .find(any());
+
+            userSearchCacheLogic.find(condition("01", 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchCacheLogic.setEnabled(false);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(userSearchCacheLogic.isEnabled()).isFalse();
+            assertThat(userSearchCacheLogic.size()).isZero();
+        }
+
+    }
+
+    @DisplayName("UserSearchCacheLogic")
+    @Nested
+    class Method4 {
+
+        @DisplayName("異常終了：最大件数が0以下の場合")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> new UserSearchCacheLogic(clock, userSummaryMapper, userSearchSingleFlightLogic,
+                    readWriteRoutingDataSource, meterRegistry, true, 0, TTL_MILLIS))
+                    .isInstanceOf(IllegalArgumentException.class);
+        }
+
+    }
+
+}
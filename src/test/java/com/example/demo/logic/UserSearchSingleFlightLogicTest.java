@@ -0,0 +1,341 @@
+package com.example.demo.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.demo.common.datasource.OperatorContextHolder;
+import com.example.demo.common.datasource.ReadWriteRoutingDataSource;
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryCondition;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+// NOTE: 同時に検索した場合を確認するため、DBへの問い合わせをCountDownLatchで止めておき、別のスレッドから検索する
+
+@ExtendWith(MockitoExtension.class)
+class UserSearchSingleFlightLogicTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final long TIMEOUT_SECONDS = 5;
+
+    private static final List<UserSummary> ENTITY_LIST = List.of(
+            new UserSummary("苗字名前1", "01", "部署1", LocalDate.of(2025, 1, 1), "20250101120055111_01", 0));
+
+    // NOTE: メトリクスの値を確認するため@InjectMocksは使わずにテスト対象を作成する
+    private UserSearchSingleFlightLogic userSearchSingleFlightLogic;
+
+    private MeterRegistry meterRegistry;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    @Mock
+    private ReadWriteRoutingDataSource readWriteRoutingDataSource;
+
+    /** DBへの問い合わせが始まったことの通知。 */
+    private CountDownLatch started;
+
+    /** DBへの問い合わせが終わるまでの待ち。 */
+    private CountDownLatch release;
+
+    // NOTE: 共通のスレッドプールはスレッド数が少ない場合があるため、検索ごとにスレッドを用意する
+    private ExecutorService executor;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userSearchSingleFlightLogic = new UserSearchSingleFlightLogic(userSummaryArchiveLogic, readWriteRoutingDataSource,
+                meterRegistry);
+        started = new CountDownLatch(1);
+        release = new CountDownLatch(1);
+        executor = Executors.newCachedThreadPool();
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        executor.shutdownNow();
+        OperatorContextHolder.clear();
+    }
+
+    private UserSummaryCondition condition(String deptId) {
+        return new UserSummaryCondition(null, deptId, null, null, 101, 0, null);
+    }
+
+    /**
+     * 後から来た検索が実行中の検索の結果を待ち始めるまで待つ。
+     * 
+     * @param count 待ち始めた検索の件数
+     */
+    private void awaitCoalesced(double count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(TIMEOUT_SECONDS);
+        while (meterRegistry.get("user.search.coalesced").counter().count() < count
+                && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("find")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：同じ検索条件の同時の検索は1回だけ問い合わせる")
+        @Test
+        void testOK1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return ENTITY_LIST;
+            })
+                    .when(userSummaryArchiveLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            CompletableFuture<List<UserSummary>> leader = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("01")), executor);
+            started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            double inFlight = meterRegistry.get("user.search.in_flight").gauge().value();
+
+            CompletableFuture<List<UserSummary>> follower1 = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("01")), executor);
+            CompletableFuture<List<UserSummary>> follower2 = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("01")), executor);
+            awaitCoalesced(2);
+            release.countDown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(ENTITY_LIST);
+            assertThat(follower1.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(ENTITY_LIST);
+            assertThat(follower2.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(ENTITY_LIST);
+            verify(userSummaryArchiveLogic, times(1)).find(any());
+            assertThat(inFlight).isEqualTo(1.0);
+            assertThat(userSearchSingleFlightLogic.inFlight()).isZero();
+        }
+
+        @DisplayName("正常終了：終わった検索の結果は共有しない")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(ENTITY_LIST)
+                    .when(userSummaryArchiveLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSearchSingleFlightLogic.find(condition("01"));
+            userSearchSingleFlightLogic.find(condition("01"));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSummaryArchiveLogic, times(2)).find(any());
+            assertThat(meterRegistry.get("user.search.coalesced").counter().count()).isZero();
+        }
+
+        @DisplayName("正常終了：書き込んでからプライマリに接続する期間内の操作者は実行中の検索を待たずに問い合わせる")
+        @Test
+        void testOK3() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return ENTITY_LIST;
+            })
+                    .doReturn(ENTITY_LIST)
+                    .when(userSummaryArchiveLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            CompletableFuture<List<UserSummary>> leader = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("01")), executor);
+            started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            // NOTE: 実行中の検索はレプリカから読んでいるため、書き込んだ操作者の検索はその結果を共有しないこと
+            doReturn(true)
+                    .when(readWriteRoutingDataSource)
+                    .isWithinReadYourWrites(eq("operator"));
+            OperatorContextHolder.setOperator("operator");
+            List<UserSummary> actual = userSearchSingleFlightLogic.find(condition("01"));
+            release.countDown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(ENTITY_LIST);
+            assertThat(leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(ENTITY_LIST);
+            verify(userSummaryArchiveLogic, times(2)).find(any());
+            assertThat(meterRegistry.get("user.search.coalesced").counter().count()).isZero();
+        }
+
+        @DisplayName("異常終了：実行中の検索が失敗した場合は待っていた検索も同じ例外になる")
+        @Test
+        void testNG1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                throw new QueryTimeoutException("");
+            })
+                    .when(userSummaryArchiveLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            CompletableFuture<List<UserSummary>> leader = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("01")), executor);
+            started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            CompletableFuture<List<UserSummary>> follower = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("01")), executor);
+            awaitCoalesced(1);
+            release.countDown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DataAccessException.class);
+            assertThatThrownBy(() -> follower.get(TIMEOUT_SECONDS, TimeUnit.SECONDS))
+                    .hasCauseInstanceOf(DataAccessException.class);
+            verify(userSummaryArchiveLogic, times(1)).find(any());
+            assertThat(userSearchSingleFlightLogic.inFlight()).isZero();
+        }
+
+    }
+
+    @DisplayName("detachByDeptIdList")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：切り離した後の検索は新しく問い合わせる")
+        @Test
+        void testOK1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return ENTITY_LIST;
+            })
+                    .doReturn(ENTITY_LIST)
+                    .when(userSummaryArchiveLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            CompletableFuture<List<UserSummary>> before = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("01")), executor);
+            started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            userSearchSingleFlightLogic.detachByDeptIdList(List.of("01"));
+            List<UserSummary> after = userSearchSingleFlightLogic.find(condition("01"));
+            release.countDown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(before.get(TIMEOUT_SECONDS, TimeUnit.SECONDS)).isEqualTo(ENTITY_LIST);
+            assertThat(after).isEqualTo(ENTITY_LIST);
+            verify(userSummaryArchiveLogic, times(2)).find(any());
+            assertThat(meterRegistry.get("user.search.coalesced").counter().count()).isZero();
+        }
+
+        @DisplayName("正常終了：別の部署の検索は切り離さない")
+        @Test
+        void testOK2() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doAnswer(invocation -> {
+                started.countDown();
+                release.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+                return ENTITY_LIST;
+            })
+                    .when(userSummaryArchiveLogic)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            CompletableFuture<List<UserSummary>> leader = CompletableFuture
+                    .supplyAsync(() -> userSearchSingleFlightLogic.find(condition("02")), executor);
+            started.await(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+
+            userSearchSingleFlightLogic.detachByDeptIdList(List.of("01"));
+            int inFlight = userSearchSingleFlightLogic.inFlight();
+            release.countDown();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            leader.get(TIMEOUT_SECONDS, TimeUnit.SECONDS);
+            assertThat(inFlight).isEqualTo(1);
+        }
+
+    }
+
+}
@@ -0,0 +1,305 @@
+package com.example.demo.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.Clock;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+// NOTE: 基準日を固定するため、日付を固定した時計を使う
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryArchiveLogicTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final int RETENTION_DAYS = 30;
+
+    /** 今日（2025-06-15）。基準日は2025-05-16。 */
+    private static final Clock CLOCK = Clock.fixed(
+            LocalDate.of(2025, 6, 15).atStartOfDay(ZoneId.systemDefault()).toInstant(), ZoneId.systemDefault());
+
+    private static final List<String> USER_ID_LIST = List.of("20250101120055111_01");
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryMapper userSummaryMapper;
+
+    @Mock
+    private UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    // NOTE: 保存日数はintのため@InjectMocksでは設定できないので、保存日数ごとに生成する
+    private UserSummaryArchiveLogic create(int retentionDays) {
+        return new UserSummaryArchiveLogic(CLOCK, userSummaryMapper, userSummaryArchiveMapper, retentionDays);
+    }
+
+    private UserSummaryCondition condition(LocalDate beginUpdatedAt, Integer limit, Integer offset) {
+        return new UserSummaryCondition(null, "01", beginUpdatedAt, null, limit, offset, null);
+    }
+
+    private UserSummary entity(String userId) {
+        return new UserSummary("苗字名前", "01", "部署1", LocalDate.of(2025, 1, 1), userId, 0);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("コンストラクタ")
+    @Nested
+    class Method1 {
+
+        @DisplayName("異常終了：保存日数が負の場合")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> create(-1))
+                    .isInstanceOf(IllegalArgumentException.class)
+                    .hasMessage("summary.archive.retentionDays: -1");
+        }
+
+    }
+
+    @DisplayName("horizon")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：今日から保存日数前の日付を返す")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            LocalDate actual = create(RETENTION_DAYS).horizon();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(LocalDate.of(2025, 5, 16));
+        }
+
+        @DisplayName("正常終了：保存日数が0の場合はnullを返す")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            LocalDate actual = create(0).horizon();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isNull();
+        }
+
+    }
+
+    @DisplayName("find")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了：更新日の開始が基準日以降の場合はユーザ概要だけ検索する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            UserSummaryCondition condition = condition(LocalDate.of(2025, 5, 16), 101, 0);
+            List<UserSummary> entityList = List.of(entity("20250101120055111_01"));
+            doReturn(entityList)
+                    .when(userSummaryMapper)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actual = create(RETENTION_DAYS).find(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(entityList);
+            verify(userSummaryMapper, times(1)).find(eq(condition));
+            verify(userSummaryArchiveMapper, never()).findWithSummary(any());
+        }
+
+        @DisplayName("正常終了：アーカイブしない場合は更新日の開始を指定しなくてもユーザ概要だけ検索する")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            UserSummaryCondition condition = condition(null, 101, 0);
+            doReturn(List.of())
+                    .when(userSummaryMapper)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            create(0).find(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSummaryMapper, times(1)).find(eq(condition));
+            verify(userSummaryArchiveMapper, never()).findWithSummary(any());
+        }
+
+        @DisplayName("正常終了：更新日の範囲がアーカイブにかかる場合はユーザ概要とアーカイブを合わせて検索する")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            UserSummaryCondition condition = condition(LocalDate.of(2025, 5, 15), 2, 1);
+            List<UserSummary> entityList = List.of(entity("20250101120055111_02"), entity("20250101120055111_03"));
+            doReturn(entityList)
+                    .when(userSummaryArchiveMapper)
+                    .findWithSummary(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actual = create(RETENTION_DAYS).find(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: ページの切り出しはSQLで行うため、検索条件をそのまま渡すこと
+            assertThat(actual).isEqualTo(entityList);
+            verify(userSummaryArchiveMapper, times(1)).findWithSummary(eq(condition));
+            verify(userSummaryMapper, never()).find(any());
+        }
+
+    }
+
+    @DisplayName("restore")
+    @Nested
+    class Method4 {
+
+        @DisplayName("正常終了：アーカイブにある場合はユーザ概要へ戻してアーカイブから削除する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(USER_ID_LIST)
+                    .when(userSummaryArchiveMapper)
+                    .findUserIdListNotInSummary(any());
+            doReturn(1)
+                    .when(userSummaryArchiveMapper)
+                    .copyListToSummary(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = create(RETENTION_DAYS).restore(USER_ID_LIST);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+            verify(userSummaryArchiveMapper, times(1)).copyListToSummary(eq(USER_ID_LIST));
+            verify(userSummaryArchiveMapper, times(1)).deleteList(eq(USER_ID_LIST));
+        }
+
+        @DisplayName("正常終了：アーカイブにない場合は戻さず削除もしない")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of())
+                    .when(userSummaryArchiveMapper)
+                    .findUserIdListNotInSummary(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = create(0).restore(USER_ID_LIST);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+            verify(userSummaryArchiveMapper, never()).copyListToSummary(any());
+            verify(userSummaryArchiveMapper, never()).deleteList(any());
+        }
+
+        @DisplayName("正常終了：ユーザ概要にもあるユーザは戻さず、アーカイブから削除しない")
+        @Test
+        void testOK3() {
+            // NOTE: 2件目はパーティションをアーカイブへコピーしてから削除するまでの間のユーザ
+            List<String> idList = List.of("20250101120055111_01", "20250201120055111_01");
+            List<String> archivedIdList = List.of("20250101120055111_01");
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(archivedIdList)
+                    .when(userSummaryArchiveMapper)
+                    .findUserIdListNotInSummary(any());
+            doReturn(1)
+                    .when(userSummaryArchiveMapper)
+                    .copyListToSummary(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = create(RETENTION_DAYS).restore(idList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+            verify(userSummaryArchiveMapper, times(1)).findUserIdListNotInSummary(eq(idList));
+            verify(userSummaryArchiveMapper, times(1)).copyListToSummary(eq(archivedIdList));
+            verify(userSummaryArchiveMapper, times(1)).deleteList(eq(archivedIdList));
+        }
+
+    }
+
+}
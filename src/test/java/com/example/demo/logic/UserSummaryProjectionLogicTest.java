@@ -0,0 +1,272 @@
+package com.example.demo.logic;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.mapper.UserSummaryFacetMapper;
+import com.example.demo.mapper.UserSummaryMapper;
+import com.example.demo.mapper.UserSummaryOutboxMapper;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryProjectionLogicTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    private static final String USER_ID = "20250101120055111_01";
+    private static final List<String> USER_ID_LIST = List.of("20250101120055111_01", "20250101120055111_02");
+    private static final int CHUNK_SIZE = 1000;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryMapper userSummaryMapper;
+
+    @Mock
+    private UserSummaryFacetMapper userSummaryFacetMapper;
+
+    @Mock
+    private UserSummaryOutboxMapper userSummaryOutboxMapper;
+
+    @Mock
+    private UserSearchCacheLogic userSearchCacheLogic;
+
+    @Mock
+    private UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    // NOTE: 設定値をテストごとに切り替えるため@InjectMocksは使わずにテスト対象を作成する
+
+    /**
+     * テスト対象を作成する。
+     * 
+     * @param async 非同期で反映するか
+     * @return ユーザ概要反映ロジック
+     */
+    private UserSummaryProjectionLogic create(boolean async) {
+        return create(async, CHUNK_SIZE);
+    }
+
+    /**
+     * テスト対象を作成する。
+     * 
+     * @param async 非同期で反映するか
+     * @param chunkSize 1回のSQLで反映する最大件数
+     * @return ユーザ概要反映ロジック
+     */
+    private UserSummaryProjectionLogic create(boolean async, int chunkSize) {
+        return new UserSummaryProjectionLogic(userSummaryMapper, userSummaryFacetMapper, userSummaryOutboxMapper,
+                userSearchCacheLogic, userSummaryArchiveLogic, async, chunkSize);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("copyFromUser")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：同期")
+        @Test
+        void testOK1() {
+            doReturn(1)
+                    .when(userSummaryMapper)
+                    .copyFromUser(anyString());
+
+            int count = create(false).copyFromUser(USER_ID);
+
+            assertThat(count).isEqualTo(1);
+            verify(userSummaryMapper, times(1)).copyFromUser(eq(USER_ID));
+            verify(userSummaryOutboxMapper, never()).insertFromUser(anyString());
+            verify(userSearchCacheLogic, times(1)).invalidateByUserIdList(eq(List.of(USER_ID)));
+            verify(userSummaryFacetMapper, times(1)).addListFromSummary(eq(List.of(USER_ID)));
+        }
+
+        @DisplayName("正常終了：非同期")
+        @Test
+        void testOK2() {
+            doReturn(1)
+                    .when(userSummaryOutboxMapper)
+                    .insertFromUser(anyString());
+
+            int count = create(true).copyFromUser(USER_ID);
+
+            assertThat(count).isEqualTo(1);
+            verify(userSummaryOutboxMapper, times(1)).insertFromUser(eq(USER_ID));
+            verify(userSummaryMapper, never()).copyFromUser(anyString());
+            verify(userSearchCacheLogic, never()).invalidateByUserIdList(anyList());
+            verify(userSummaryFacetMapper, never()).addListFromSummary(anyList());
+        }
+
+    }
+
+    @DisplayName("copyListFromUser")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：同期")
+        @Test
+        void testOK1() {
+            doReturn(2)
+                    .when(userSummaryMapper)
+                    .copyListFromUser(anyList());
+
+            int count = create(false).copyListFromUser(USER_ID_LIST);
+
+            assertThat(count).isEqualTo(2);
+            verify(userSummaryMapper, times(1)).copyListFromUser(eq(USER_ID_LIST));
+            verify(userSummaryOutboxMapper, never()).insertListFromUser(anyList());
+            verify(userSearchCacheLogic, times(1)).invalidateByUserIdList(eq(USER_ID_LIST));
+            verify(userSummaryFacetMapper, times(1)).addListFromSummary(eq(USER_ID_LIST));
+        }
+
+        @DisplayName("正常終了：非同期")
+        @Test
+        void testOK2() {
+            doReturn(2)
+                    .when(userSummaryOutboxMapper)
+                    .insertListFromUser(anyList());
+
+            int count = create(true).copyListFromUser(USER_ID_LIST);
+
+            assertThat(count).isEqualTo(2);
+            verify(userSummaryOutboxMapper, times(1)).insertListFromUser(eq(USER_ID_LIST));
+            verify(userSummaryMapper, never()).copyListFromUser(anyList());
+            verify(userSearchCacheLogic, never()).invalidateByUserIdList(anyList());
+            verify(userSummaryFacetMapper, never()).addListFromSummary(anyList());
+        }
+
+    }
+
+    @DisplayName("modifyFromUser")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了：同期")
+        @Test
+        void testOK1() {
+            doReturn(1)
+                    .when(userSummaryMapper)
+                    .modifyFromUser(anyString());
+
+            int count = create(false).modifyFromUser(USER_ID);
+
+            assertThat(count).isEqualTo(1);
+            verify(userSummaryMapper, times(1)).modifyFromUser(eq(USER_ID));
+            verify(userSummaryOutboxMapper, never()).insertFromUser(anyString());
+            verify(userSummaryArchiveLogic, times(1)).restore(eq(List.of(USER_ID)));
+            verify(userSearchCacheLogic, times(1)).invalidateByUserIdList(eq(List.of(USER_ID)));
+
+            // NOTE: 変更する前の件数を引いてから、変更した後の件数を足すこと
+            InOrder inOrder = inOrder(userSummaryFacetMapper, userSummaryMapper);
+            inOrder.verify(userSummaryFacetMapper).subtractListFromSummary(eq(List.of(USER_ID)));
+            inOrder.verify(userSummaryMapper).modifyFromUser(eq(USER_ID));
+            inOrder.verify(userSummaryFacetMapper).addListFromSummary(eq(List.of(USER_ID)));
+        }
+
+        @DisplayName("正常終了：非同期")
+        @Test
+        void testOK2() {
+            doReturn(1)
+                    .when(userSummaryOutboxMapper)
+                    .insertFromUser(anyString());
+
+            int count = create(true).modifyFromUser(USER_ID);
+
+            assertThat(count).isEqualTo(1);
+            verify(userSummaryOutboxMapper, times(1)).insertFromUser(eq(USER_ID));
+            verify(userSummaryMapper, never()).modifyFromUser(anyString());
+            verify(userSummaryArchiveLogic, never()).restore(anyList());
+            verify(userSearchCacheLogic, never()).invalidateByUserIdList(anyList());
+            verify(userSummaryFacetMapper, never()).subtractListFromSummary(anyList());
+        }
+
+    }
+
+    @DisplayName("modifyListFromUser")
+    @Nested
+    class Method4 {
+
+        @DisplayName("正常終了：同期")
+        @Test
+        void testOK1() {
+            doReturn(2)
+                    .when(userSummaryMapper)
+                    .modifyListFromUser(anyList());
+
+            int count = create(false).modifyListFromUser(USER_ID_LIST);
+
+            assertThat(count).isEqualTo(2);
+            verify(userSummaryMapper, times(1)).modifyListFromUser(eq(USER_ID_LIST));
+            verify(userSummaryOutboxMapper, never()).insertListFromUser(anyList());
+            verify(userSummaryArchiveLogic, times(1)).restore(eq(USER_ID_LIST));
+            verify(userSearchCacheLogic, times(1)).invalidateByUserIdList(eq(USER_ID_LIST));
+
+            // NOTE: 変更する前の件数を引いてから、変更した後の件数を足すこと
+            InOrder inOrder = inOrder(userSummaryFacetMapper, userSummaryMapper);
+            inOrder.verify(userSummaryFacetMapper).subtractListFromSummary(eq(USER_ID_LIST));
+            inOrder.verify(userSummaryMapper).modifyListFromUser(eq(USER_ID_LIST));
+            inOrder.verify(userSummaryFacetMapper).addListFromSummary(eq(USER_ID_LIST));
+        }
+
+        @DisplayName("正常終了：非同期")
+        @Test
+        void testOK2() {
+            doReturn(2)
+                    .when(userSummaryOutboxMapper)
+                    .insertListFromUser(anyList());
+
+            int count = create(true).modifyListFromUser(USER_ID_LIST);
+
+            assertThat(count).isEqualTo(2);
+            verify(userSummaryOutboxMapper, times(1)).insertListFromUser(eq(USER_ID_LIST));
+            verify(userSummaryMapper, never()).modifyListFromUser(anyList());
+            verify(userSummaryArchiveLogic, never()).restore(anyList());
+            verify(userSearchCacheLogic, never()).invalidateByUserIdList(anyList());
+            verify(userSummaryFacetMapper, never()).subtractListFromSummary(anyList());
+        }
+
+        @DisplayName("正常終了：最大件数ごとに分割する")
+        @Test
+        void testOK3() {
+            List<String> userIdList = List.of(
+                    "20250101120055111_01", "20250101120055111_02", "20250101120055111_03");
+
+            doReturn(2, 1)
+                    .when(userSummaryMapper)
+                    .modifyListFromUser(anyList());
+
+            int count = create(false, 2).modifyListFromUser(userIdList);
+
+            assertThat(count).isEqualTo(3);
+            verify(userSummaryMapper, times(1))
+                    .modifyListFromUser(eq(List.of("20250101120055111_01", "20250101120055111_02")));
+            verify(userSummaryMapper, times(1)).modifyListFromUser(eq(List.of("20250101120055111_03")));
+            verify(userSummaryArchiveLogic, times(2)).restore(anyList());
+            verify(userSearchCacheLogic, times(2)).invalidateByUserIdList(anyList());
+            verify(userSummaryFacetMapper, times(2)).addListFromSummary(anyList());
+        }
+
+        @DisplayName("正常終了：空のリストの場合は実行しない")
+        @Test
+        void testOK4() {
+            int count = create(false).modifyListFromUser(List.of());
+
+            assertThat(count).isEqualTo(0);
+            verify(userSummaryMapper, never()).modifyListFromUser(anyList());
+        }
+
+    }
+
+}
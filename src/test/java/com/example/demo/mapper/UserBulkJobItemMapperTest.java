@@ -0,0 +1,112 @@
+package com.example.demo.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.jdbc.Sql;
+
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるのでテスト後に変更したデータが元に戻る
+// NOTE: @AutoConfigureTestDatabaseのreplaceで実際のDBを使ってテストする
+
+@Sql(scripts = "/test-data/UserBulkJobItemMapper.sql")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserBulkJobItemMapperTest {
+
+    private static final String BASE_ID = "20250101120055111";
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@Autowired
+    @Autowired
+    private UserBulkJobItemMapper userBulkJobItemMapper;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("findByJobId")
+    @Nested
+    class Method1 {
+
+        @DisplayName("処理済みの明細を読み飛ばして取得件数まで取得する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserBulkJobItem> actualList = userBulkJobItemMapper.findByJobId(1L, 1, 10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(
+                    new UserBulkJobItem(1L, 2, BASE_ID + "_02", "苗字", "名前2", "01", 0),
+                    new UserBulkJobItem(1L, 3, BASE_ID + "_03", "苗字", "名前3", "02", 0));
+        }
+
+        @DisplayName("取得件数まで取得する")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserBulkJobItem> actualList = userBulkJobItemMapper.findByJobId(1L, 0, 2);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).extracting(UserBulkJobItem::getItemNo).containsExactly(1, 2);
+        }
+
+        @DisplayName("すべて処理済みの場合")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(userBulkJobItemMapper.findByJobId(1L, 3, 10)).isEmpty();
+        }
+
+    }
+
+    @DisplayName("insertList")
+    @Nested
+    class Method2 {
+
+        @DisplayName("登録が成功する場合")
+        @Test
+        void testOK1() {
+            List<UserBulkJobItem> entityList = List.of(
+                    new UserBulkJobItem(3L, 1, BASE_ID + "_01", "苗字", "名前1", "01", 0),
+                    new UserBulkJobItem(3L, 2, BASE_ID + "_02", "苗字", "名前2", "01", 0));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobItemMapper.insertList(entityList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(2);
+            assertThat(userBulkJobItemMapper.findByJobId(3L, 0, 10)).isEqualTo(entityList);
+        }
+
+    }
+
+}
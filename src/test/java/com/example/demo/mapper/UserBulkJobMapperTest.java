@@ -0,0 +1,321 @@
+package com.example.demo.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.test.context.jdbc.Sql;
+
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるのでテスト後に変更したデータが元に戻る
+// NOTE: @AutoConfigureTestDatabaseのreplaceで実際のDBを使ってテストする
+
+@Sql(scripts = "/test-data/UserBulkJobMapper.sql")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserBulkJobMapperTest {
+
+    private static final long QUEUED_ID = 1L;
+    private static final long RUNNING_ID = 2L;
+    private static final long STALE_ID = 3L;
+    private static final long COMPLETED_ID = 4L;
+    private static final long NOT_FOUND_ID = 99L;
+    private static final int STALE_SECONDS = 300;
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@Autowired
+    @Autowired
+    private UserBulkJobMapper userBulkJobMapper;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("findById")
+    @Nested
+    class Method1 {
+
+        @DisplayName("取得できる場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkJob actual = userBulkJobMapper.findById(5L);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual.getId()).isEqualTo(5L);
+            assertThat(actual.getJobType()).isEqualTo("update");
+            assertThat(actual.getStatus()).isEqualTo("failed");
+            assertThat(actual.getOperator()).isEqualTo("OPERATOR");
+            assertThat(actual.getTotalCount()).isEqualTo(3);
+            assertThat(actual.getProcessedCount()).isEqualTo(0);
+            assertThat(actual.getErrorId()).isEqualTo("102");
+            assertThat(actual.getErrorMessage()).isEqualTo("更新対象のデータが登録されていません：20250101120055111_01");
+            assertThat(actual.getHeartbeatAt()).isNotNull();
+            assertThat(actual.getCreatedAt()).isNotNull();
+            assertThat(actual.getUpdatedAt()).isNotNull();
+        }
+
+        @DisplayName("取得できない場合")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(userBulkJobMapper.findById(NOT_FOUND_ID)).isNull();
+        }
+
+    }
+
+    @DisplayName("findResumableIdList")
+    @Nested
+    class Method2 {
+
+        @DisplayName("実行待ちと実行が途絶えたジョブを古い順に取得する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<Long> idList = userBulkJobMapper.findResumableIdList(STALE_SECONDS, 10);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(idList).containsExactly(QUEUED_ID, STALE_ID);
+        }
+
+        @DisplayName("取得件数まで取得する")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<Long> idList = userBulkJobMapper.findResumableIdList(STALE_SECONDS, 1);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(idList).containsExactly(QUEUED_ID);
+        }
+
+    }
+
+    @DisplayName("insert")
+    @Nested
+    class Method3 {
+
+        @DisplayName("登録が成功し、採番したジョブIDが設定される場合")
+        @Test
+        void testOK1() {
+            UserBulkJob entity = new UserBulkJob(
+                    null, "create", "queued", "OPERATOR", 10, 0, null, null, null, null, null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobMapper.insert(entity);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+            assertThat(entity.getId()).isNotNull();
+
+            UserBulkJob actual = userBulkJobMapper.findById(entity.getId());
+            assertThat(actual.getStatus()).isEqualTo("queued");
+            assertThat(actual.getTotalCount()).isEqualTo(10);
+            assertThat(actual.getProcessedCount()).isEqualTo(0);
+        }
+
+    }
+
+    @DisplayName("claim")
+    @Nested
+    class Method4 {
+
+        @DisplayName("実行待ちのジョブの実行権を取得できる場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobMapper.claim(QUEUED_ID, STALE_SECONDS);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+
+            UserBulkJob actual = userBulkJobMapper.findById(QUEUED_ID);
+            assertThat(actual.getStatus()).isEqualTo("running");
+            assertThat(actual.getHeartbeatAt()).isNotNull();
+        }
+
+        @DisplayName("実行が途絶えたジョブの実行権を取得できる場合")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(userBulkJobMapper.claim(STALE_ID, STALE_SECONDS)).isEqualTo(1);
+        }
+
+        @DisplayName("実行中、終了済みのジョブの実行権を取得できない場合")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(userBulkJobMapper.claim(RUNNING_ID, STALE_SECONDS)).isEqualTo(0);
+            assertThat(userBulkJobMapper.claim(COMPLETED_ID, STALE_SECONDS)).isEqualTo(0);
+        }
+
+    }
+
+    @DisplayName("updateProcessedCount")
+    @Nested
+    class Method5 {
+
+        @DisplayName("更新前の処理済み件数が一致する場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobMapper.updateProcessedCount(RUNNING_ID, 1, 3);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+            assertThat(userBulkJobMapper.findById(RUNNING_ID).getProcessedCount()).isEqualTo(3);
+        }
+
+        @DisplayName("更新前の処理済み件数が一致しない場合")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobMapper.updateProcessedCount(RUNNING_ID, 0, 2);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+            assertThat(userBulkJobMapper.findById(RUNNING_ID).getProcessedCount()).isEqualTo(1);
+        }
+
+    }
+
+    @DisplayName("release")
+    @Nested
+    class Method6 {
+
+        @DisplayName("実行中のジョブを実行待ちに戻す場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobMapper.release(RUNNING_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+            assertThat(userBulkJobMapper.findById(RUNNING_ID).getStatus()).isEqualTo("queued");
+        }
+
+    }
+
+    @DisplayName("complete")
+    @Nested
+    class Method7 {
+
+        @DisplayName("実行中のジョブを正常終了にする場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobMapper.complete(RUNNING_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+            assertThat(userBulkJobMapper.findById(RUNNING_ID).getStatus()).isEqualTo("completed");
+        }
+
+        @DisplayName("実行中でないジョブは更新しない場合")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(userBulkJobMapper.complete(QUEUED_ID)).isEqualTo(0);
+        }
+
+    }
+
+    @DisplayName("fail")
+    @Nested
+    class Method8 {
+
+        @DisplayName("実行中のジョブを異常終了にする場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userBulkJobMapper.fail(RUNNING_ID, "101", "登録対象のデータが既に登録されています：x");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+
+            UserBulkJob actual = userBulkJobMapper.findById(RUNNING_ID);
+            assertThat(actual.getStatus()).isEqualTo("failed");
+            assertThat(actual.getErrorId()).isEqualTo("101");
+            assertThat(actual.getErrorMessage()).isEqualTo("登録対象のデータが既に登録されています：x");
+        }
+
+    }
+
+}
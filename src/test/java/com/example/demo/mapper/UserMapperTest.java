@@ -398,185 +398,47 @@ class UserMapperTest {
 
     }
 
-    @DisplayName("updateList")
+    @DisplayName("findExistingIdList")
     @Nested
     class Method6 {
 
-        @DisplayName("すべての更新が成功する場合")
+        @DisplayName("登録済みのIDだけが返却される場合")
         @Test
         void testOK1() {
-            User entity1 = new User(
+            List<String> idList = List.of(
                     EXIST_BASE_ID + "_01",
-                    BASE_FAMILY_NAME + "101",
-                    BASE_FIRST_NAME + "101",
-                    DEPT_ID,
-                    VERSION);
-            User entity2 = new User(
-                    EXIST_BASE_ID + "_02",
-                    BASE_FAMILY_NAME + "102",
-                    BASE_FIRST_NAME + "102",
-                    DEPT_ID,
-                    VERSION);
-            User entity3 = new User(
-                    EXIST_BASE_ID + "_03",
-                    BASE_FAMILY_NAME + "103",
-                    BASE_FIRST_NAME + "103",
-                    DEPT_ID,
-                    VERSION);
-
-            List<User> entityList = List.of(entity1, entity2, entity3);
-
-            // -----------------------------------------------------------------
-            // テスト実行
-            // -----------------------------------------------------------------
-
-            int count = userMapper.updateList(entityList);
-
-            // -----------------------------------------------------------------
-            // 実行結果確認
-            // -----------------------------------------------------------------
-
-            assertThat(count).isEqualTo(3);
-
-            List<User> actualList = selectUserList(EXIST_BASE_ID + "_01", EXIST_BASE_ID + "_02",
-                    EXIST_BASE_ID + "_03");
-            assertThat(actualList).hasSize(3);
-            User actual1 = actualList.get(0);
-            assertThat(actual1.getId()).isEqualTo(EXIST_BASE_ID + "_01");
-            assertThat(actual1.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "101");
-            assertThat(actual1.getFirstName()).isEqualTo(BASE_FIRST_NAME + "101");
-            assertThat(actual1.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual1.getVersion()).isEqualTo(VERSION + 1);
-            User actual2 = actualList.get(1);
-            assertThat(actual2.getId()).isEqualTo(EXIST_BASE_ID + "_02");
-            assertThat(actual2.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "102");
-            assertThat(actual2.getFirstName()).isEqualTo(BASE_FIRST_NAME + "102");
-            assertThat(actual2.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual2.getVersion()).isEqualTo(VERSION + 1);
-            User actual3 = actualList.get(2);
-            assertThat(actual3.getId()).isEqualTo(EXIST_BASE_ID + "_03");
-            assertThat(actual3.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "103");
-            assertThat(actual3.getFirstName()).isEqualTo(BASE_FIRST_NAME + "103");
-            assertThat(actual3.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual3.getVersion()).isEqualTo(VERSION + 1);
-        }
-
-        @DisplayName("すべての更新が失敗する場合")
-        @Test
-        void testOK2() {
-            User entity1 = new User(
                     NOT_EXIST_BASE_ID + "_01",
-                    BASE_FAMILY_NAME + "101",
-                    BASE_FIRST_NAME + "101",
-                    DEPT_ID,
-                    VERSION);
-            User entity2 = new User(
-                    NOT_EXIST_BASE_ID + "_02",
-                    BASE_FAMILY_NAME + "102",
-                    BASE_FIRST_NAME + "102",
-                    DEPT_ID,
-                    VERSION);
-            User entity3 = new User(
-                    NOT_EXIST_BASE_ID + "_03",
-                    BASE_FAMILY_NAME + "103",
-                    BASE_FIRST_NAME + "103",
-                    DEPT_ID,
-                    VERSION);
-
-            List<User> entityList = List.of(entity1, entity2, entity3);
+                    EXIST_BASE_ID + "_03");
 
             // -----------------------------------------------------------------
             // テスト実行
             // -----------------------------------------------------------------
 
-            int count = userMapper.updateList(entityList);
+            List<String> actualList = userMapper.findExistingIdList(idList);
 
             // -----------------------------------------------------------------
             // 実行結果確認
             // -----------------------------------------------------------------
 
-            assertThat(count).isEqualTo(0);
-
-            List<User> actualList = selectUserList(EXIST_BASE_ID + "_01", EXIST_BASE_ID + "_02",
-                    EXIST_BASE_ID + "_03");
-            assertThat(actualList).hasSize(3);
-            User actual1 = actualList.get(0);
-            assertThat(actual1.getId()).isEqualTo(EXIST_BASE_ID + "_01");
-            assertThat(actual1.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "1");
-            assertThat(actual1.getFirstName()).isEqualTo(BASE_FIRST_NAME + "1");
-            assertThat(actual1.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual1.getVersion()).isEqualTo(VERSION);
-            User actual2 = actualList.get(1);
-            assertThat(actual2.getId()).isEqualTo(EXIST_BASE_ID + "_02");
-            assertThat(actual2.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "2");
-            assertThat(actual2.getFirstName()).isEqualTo(BASE_FIRST_NAME + "2");
-            assertThat(actual2.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual2.getVersion()).isEqualTo(VERSION);
-            User actual3 = actualList.get(2);
-            assertThat(actual3.getId()).isEqualTo(EXIST_BASE_ID + "_03");
-            assertThat(actual3.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "3");
-            assertThat(actual3.getFirstName()).isEqualTo(BASE_FIRST_NAME + "3");
-            assertThat(actual3.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual3.getVersion()).isEqualTo(VERSION);
+            assertThat(actualList).containsExactlyInAnyOrder(EXIST_BASE_ID + "_01", EXIST_BASE_ID + "_03");
         }
 
-        @DisplayName("1つでも更新が失敗する場合")
+        @DisplayName("登録済みのIDがない場合")
         @Test
-        void testOK3() {
-            User entity1 = new User(
-                    EXIST_BASE_ID + "_01",
-                    BASE_FAMILY_NAME + "101",
-                    BASE_FIRST_NAME + "101",
-                    DEPT_ID,
-                    VERSION);
-            User entity2 = new User(
-                    EXIST_BASE_ID + "_02",
-                    BASE_FAMILY_NAME + "102",
-                    BASE_FIRST_NAME + "102",
-                    DEPT_ID,
-                    VERSION);
-            User entity3 = new User(
-                    NOT_EXIST_BASE_ID + "_03",
-                    BASE_FAMILY_NAME + "103",
-                    BASE_FIRST_NAME + "103",
-                    DEPT_ID,
-                    VERSION);
-
-            List<User> entityList = List.of(entity1, entity2, entity3);
+        void testOK2() {
+            List<String> idList = List.of(NOT_EXIST_BASE_ID + "_01", NOT_EXIST_BASE_ID + "_02");
 
             // -----------------------------------------------------------------
             // テスト実行
             // -----------------------------------------------------------------
 
-            int count = userMapper.updateList(entityList);
+            List<String> actualList = userMapper.findExistingIdList(idList);
 
             // -----------------------------------------------------------------
             // 実行結果確認
             // -----------------------------------------------------------------
 
-            assertThat(count).isEqualTo(2);
-
-            List<User> actualList = selectUserList(EXIST_BASE_ID + "_01", EXIST_BASE_ID + "_02",
-                    EXIST_BASE_ID + "_03");
-            assertThat(actualList).hasSize(3);
-            User actual1 = actualList.get(0);
-            assertThat(actual1.getId()).isEqualTo(EXIST_BASE_ID + "_01");
-            assertThat(actual1.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "101");
-            assertThat(actual1.getFirstName()).isEqualTo(BASE_FIRST_NAME + "101");
-            assertThat(actual1.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual1.getVersion()).isEqualTo(VERSION + 1);
-            User actual2 = actualList.get(1);
-            assertThat(actual2.getId()).isEqualTo(EXIST_BASE_ID + "_02");
-            assertThat(actual2.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "102");
-            assertThat(actual2.getFirstName()).isEqualTo(BASE_FIRST_NAME + "102");
-            assertThat(actual2.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual2.getVersion()).isEqualTo(VERSION + 1);
-            User actual3 = actualList.get(2);
-            assertThat(actual3.getId()).isEqualTo(EXIST_BASE_ID + "_03");
-            assertThat(actual3.getFamilyName()).isEqualTo(BASE_FAMILY_NAME + "3");
-            assertThat(actual3.getFirstName()).isEqualTo(BASE_FIRST_NAME + "3");
-            assertThat(actual3.getDeptId()).isEqualTo(DEPT_ID);
-            assertThat(actual3.getVersion()).isEqualTo(VERSION);
+            assertThat(actualList).isEmpty();
         }
 
     }
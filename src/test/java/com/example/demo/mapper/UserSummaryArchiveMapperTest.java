@@ -0,0 +1,331 @@
+package com.example.demo.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるのでテスト後に変更したデータが元に戻る
+// NOTE: @AutoConfigureTestDatabaseのreplaceで実際のDBを使ってテストする
+
+@Sql(scripts = "/test-data/UserSummaryArchiveMapper.sql")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserSummaryArchiveMapperTest {
+
+    private static final String ARCHIVABLE_ID1 = "20250101120055111_01";
+    private static final String ARCHIVABLE_ID2 = "20250201120055111_01";
+    private static final String ARCHIVED_ID = "20240101120055111_01";
+    private static final String RECENT_ID = "20250701192423499_01";
+    private static final LocalDate HORIZON = LocalDate.of(2025, 6, 1);
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@Autowired
+    @Autowired
+    private UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    // NOTE: テーブルの内容を確認するために使う
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private int count(String table, String userId) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table + " WHERE user_id = ?", Integer.class,
+                userId);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("findWithSummary")
+    @Nested
+    class Method1 {
+
+        @DisplayName("ユーザ概要とアーカイブを合わせてユーザIDの順に検索する場合")
+        @Test
+        void testOK1() {
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    null, "01", null, LocalDate.of(2025, 6, 30), 100, 0, null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actualList = userSummaryArchiveMapper.findWithSummary(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(
+                    new UserSummary("苗字名前0", "01", "部署1", LocalDate.of(2024, 1, 1), ARCHIVED_ID, 2),
+                    new UserSummary("苗字名前1", "01", "部署1", LocalDate.of(2025, 1, 1), ARCHIVABLE_ID1, 0),
+                    new UserSummary("苗字名前2", "01", "部署1", LocalDate.of(2025, 2, 1), ARCHIVABLE_ID2, 0));
+        }
+
+        @DisplayName("両方のテーブルを合わせた順でオフセットとリミットを適用する場合")
+        @Test
+        void testOK2() {
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    null, "01", null, null, 2, 1, null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actualList = userSummaryArchiveMapper.findWithSummary(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).extracting(UserSummary::getUserId)
+                    .containsExactly(ARCHIVABLE_ID1, ARCHIVABLE_ID2);
+        }
+
+        @DisplayName("ユーザ概要とアーカイブの両方にあるユーザはユーザ概要の行を1件だけ返す場合")
+        @Test
+        void testOK3() {
+            // NOTE: パーティションをアーカイブへコピーしてから削除するまでの間に書き込まれた状態にする
+            jdbcTemplate.update("""
+                    INSERT INTO user_summary_archive (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+                    VALUES
+                        ('苗字名前1旧', '01', '部署1', '2024-12-01', ?, 0)
+                    """, ARCHIVABLE_ID1);
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    null, "01", null, null, 3, 0, null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actualList = userSummaryArchiveMapper.findWithSummary(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 重複した分だけページが短くならないこと
+            assertThat(actualList).containsExactly(
+                    new UserSummary("苗字名前0", "01", "部署1", LocalDate.of(2024, 1, 1), ARCHIVED_ID, 2),
+                    new UserSummary("苗字名前1", "01", "部署1", LocalDate.of(2025, 1, 1), ARCHIVABLE_ID1, 0),
+                    new UserSummary("苗字名前2", "01", "部署1", LocalDate.of(2025, 2, 1), ARCHIVABLE_ID2, 0));
+        }
+
+    }
+
+    @DisplayName("findUserIdListForArchive")
+    @Nested
+    class Method2 {
+
+        @DisplayName("更新日が基準日より前のユーザIDを古い順に取得する場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = userSummaryArchiveMapper.findUserIdListForArchive(HORIZON, 100);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(ARCHIVABLE_ID1, ARCHIVABLE_ID2);
+        }
+
+        @DisplayName("最大件数までに絞り込む場合")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = userSummaryArchiveMapper.findUserIdListForArchive(HORIZON, 1);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(ARCHIVABLE_ID1);
+        }
+
+    }
+
+    @DisplayName("copyListFromSummary, deleteSummaryList")
+    @Nested
+    class Method3 {
+
+        @DisplayName("ユーザ概要からアーカイブへ移動する場合")
+        @Test
+        void testOK1() {
+            List<String> idList = List.of(ARCHIVABLE_ID1, ARCHIVABLE_ID2);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int copied = userSummaryArchiveMapper.copyListFromSummary(idList);
+            int deleted = userSummaryArchiveMapper.deleteSummaryList(idList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(copied).isEqualTo(2);
+            assertThat(deleted).isEqualTo(2);
+            assertThat(count("user_summary_archive", ARCHIVABLE_ID1)).isEqualTo(1);
+            assertThat(count("user_summary", ARCHIVABLE_ID1)).isEqualTo(0);
+        }
+
+    }
+
+    @DisplayName("findUserIdListNotInSummary, copyListToSummary, deleteList")
+    @Nested
+    class Method4 {
+
+        @DisplayName("アーカイブからユーザ概要へ戻す場合")
+        @Test
+        void testOK1() {
+            List<String> idList = List.of(ARCHIVED_ID);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int copied = userSummaryArchiveMapper.copyListToSummary(idList);
+            int deleted = userSummaryArchiveMapper.deleteList(idList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(copied).isEqualTo(1);
+            assertThat(deleted).isEqualTo(1);
+            assertThat(count("user_summary", ARCHIVED_ID)).isEqualTo(1);
+            assertThat(count("user_summary_archive", ARCHIVED_ID)).isEqualTo(0);
+        }
+
+        @DisplayName("アーカイブにない場合")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int copied = userSummaryArchiveMapper.copyListToSummary(List.of(ARCHIVABLE_ID1));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(copied).isEqualTo(0);
+        }
+
+        @DisplayName("ユーザ概要とアーカイブの両方にあるユーザは戻さない場合")
+        @Test
+        void testOK3() {
+            // NOTE: パーティションをアーカイブへコピーしてから削除するまでの間の状態にする
+            jdbcTemplate.update("""
+                    INSERT INTO user_summary_archive (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+                    VALUES
+                        ('苗字名前1', '01', '部署1', '2025-01-01', ?, 0)
+                    """, ARCHIVABLE_ID1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> archivedIdList = userSummaryArchiveMapper.findUserIdListNotInSummary(
+                    List.of(ARCHIVED_ID, ARCHIVABLE_ID1));
+            int copied = userSummaryArchiveMapper.copyListToSummary(List.of(ARCHIVED_ID, ARCHIVABLE_ID1));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 両方にあるユーザは重複キーで失敗せず、アーカイブにだけあるユーザだけを戻すこと
+            assertThat(archivedIdList).containsExactly(ARCHIVED_ID);
+            assertThat(copied).isEqualTo(1);
+            assertThat(count("user_summary", ARCHIVED_ID)).isEqualTo(1);
+            assertThat(count("user_summary", ARCHIVABLE_ID1)).isEqualTo(1);
+            assertThat(count("user_summary_archive", ARCHIVABLE_ID1)).isEqualTo(1);
+        }
+
+    }
+
+    @DisplayName("deleteListInSummary")
+    @Nested
+    class Method5 {
+
+        @DisplayName("ユーザ概要にもあるユーザをアーカイブから削除する場合")
+        @Test
+        void testOK1() {
+            // NOTE: パーティションをアーカイブへコピーした後に書き込まれた状態にする
+            jdbcTemplate.update("""
+                    INSERT INTO user_summary_archive (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+                    VALUES
+                        ('苗字名前1', '01', '部署1', '2025-01-01', ?, 0),
+                        ('苗字名前3', '01', '部署1', '2025-03-01', ?, 0)
+                    """, ARCHIVABLE_ID1, RECENT_ID);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int deleted = userSummaryArchiveMapper.deleteListInSummary(HORIZON);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: ユーザ概要の更新日が指定日以降のユーザだけを削除すること
+            assertThat(deleted).isEqualTo(1);
+            assertThat(count("user_summary_archive", RECENT_ID)).isEqualTo(0);
+            assertThat(count("user_summary_archive", ARCHIVABLE_ID1)).isEqualTo(1);
+            assertThat(count("user_summary_archive", ARCHIVED_ID)).isEqualTo(1);
+            assertThat(count("user_summary", RECENT_ID)).isEqualTo(1);
+        }
+
+        @DisplayName("指定日がない場合はユーザ概要にもあるすべてのユーザを削除する場合")
+        @Test
+        void testOK2() {
+            // NOTE: パーティションをアーカイブへコピーした後に削除に失敗した状態にする
+            jdbcTemplate.update("""
+                    INSERT INTO user_summary_archive (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+                    VALUES
+                        ('苗字名前1', '01', '部署1', '2025-01-01', ?, 0),
+                        ('苗字名前3', '01', '部署1', '2025-03-01', ?, 0)
+                    """, ARCHIVABLE_ID1, RECENT_ID);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int deleted = userSummaryArchiveMapper.deleteListInSummary(null);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: ユーザ概要にないユーザは削除しないこと
+            assertThat(deleted).isEqualTo(2);
+            assertThat(count("user_summary_archive", RECENT_ID)).isEqualTo(0);
+            assertThat(count("user_summary_archive", ARCHIVABLE_ID1)).isEqualTo(0);
+            assertThat(count("user_summary_archive", ARCHIVED_ID)).isEqualTo(1);
+            assertThat(count("user_summary", ARCHIVABLE_ID1)).isEqualTo(1);
+        }
+
+    }
+
+}
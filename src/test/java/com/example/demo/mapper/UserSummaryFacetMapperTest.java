@@ -0,0 +1,189 @@
+package com.example.demo.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるのでテスト後に変更したデータが元に戻る
+// NOTE: @AutoConfigureTestDatabaseのreplaceで実際のDBを使ってテストする
+
+@Sql(scripts = "/test-data/UserSummaryFacetMapper.sql")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserSummaryFacetMapperTest {
+
+    private static final String USER_ID1 = "20250101120055111_01";
+    private static final String USER_ID3 = "20250103120055111_01";
+    private static final LocalDate DAY0 = LocalDate.of(2024, 12, 31);
+    private static final LocalDate DAY1 = LocalDate.of(2025, 1, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 1, 2);
+    private static final LocalDate DAY3 = LocalDate.of(2025, 1, 3);
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@Autowired
+    @Autowired
+    private UserSummaryFacetMapper userSummaryFacetMapper;
+
+    // NOTE: テーブルの内容を確認するために使う
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Integer count(String deptId, LocalDate lastUpdatedAt) {
+        List<Integer> countList = jdbcTemplate.queryForList(
+                "SELECT user_count FROM user_summary_facet WHERE dept_id = ? AND last_updated_at = ?",
+                Integer.class, deptId, lastUpdatedAt);
+        return countList.isEmpty() ? null : countList.get(0);
+    }
+
+    private UserSummaryCondition condition(String name, String deptId, LocalDate beginUpdatedAt) {
+        return new UserSummaryCondition(name, deptId, beginUpdatedAt, null, null, null, null);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("find")
+    @Nested
+    class Method1 {
+
+        @DisplayName("検索条件なし")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummaryFacet> actualList = userSummaryFacetMapper.find(condition(null, null, null));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 件数が0の行は読み飛ばすこと
+            assertThat(actualList).containsExactly(
+                    new UserSummaryFacet("01", DAY0, 1),
+                    new UserSummaryFacet("01", DAY1, 5),
+                    new UserSummaryFacet("02", DAY2, 2));
+        }
+
+        @DisplayName("部署と更新日（開始）")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummaryFacet> actualList = userSummaryFacetMapper.find(condition(null, "01", DAY1));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(new UserSummaryFacet("01", DAY1, 5));
+        }
+
+    }
+
+    @DisplayName("findFromSummary")
+    @Nested
+    class Method2 {
+
+        @DisplayName("フルネーム：ユーザ概要とアーカイブを数える")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummaryFacet> actualList = userSummaryFacetMapper.findFromSummary(
+                    condition("苗字名前1", null, null));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).containsExactly(
+                    new UserSummaryFacet("01", DAY0, 1),
+                    new UserSummaryFacet("01", DAY1, 1),
+                    new UserSummaryFacet("02", DAY2, 1));
+        }
+
+    }
+
+    @DisplayName("subtractListFromSummary")
+    @Nested
+    class Method3 {
+
+        @DisplayName("ユーザ概要の部署と更新日の件数を引く")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSummaryFacetMapper.subtractListFromSummary(List.of(USER_ID1));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count("01", DAY1)).isEqualTo(4);
+            assertThat(count("02", DAY2)).isEqualTo(2);
+        }
+
+    }
+
+    @DisplayName("addListFromSummary")
+    @Nested
+    class Method4 {
+
+        @DisplayName("ユーザ概要の部署と更新日の件数を足す")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSummaryFacetMapper.addListFromSummary(List.of(USER_ID1, USER_ID3));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count("01", DAY1)).isEqualTo(6);
+
+            // NOTE: 集計表にない部署と更新日は登録すること
+            assertThat(count("03", DAY3)).isEqualTo(1);
+        }
+
+        @DisplayName("ユーザ概要にない場合は何もしない")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryFacetMapper.addListFromSummary(List.of("99999999999999999_01"));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+        }
+
+    }
+
+}
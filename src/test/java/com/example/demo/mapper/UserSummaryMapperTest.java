@@ -3,8 +3,10 @@ package com.example.demo.mapper;
 import static org.assertj.core.api.Assertions.*;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
+import org.apache.ibatis.cursor.Cursor;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
@@ -77,7 +79,8 @@ class UserSummaryMapperTest {
                     null,
                     null,
                     limit,
-                    offset);
+                    offset,
+                    null);
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -122,7 +125,8 @@ class UserSummaryMapperTest {
                     LAST_UPDATED_AT3,
                     null,
                     limit,
-                    offset);
+                    offset,
+                    null);
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -153,7 +157,8 @@ class UserSummaryMapperTest {
                     null,
                     LAST_UPDATED_AT1,
                     limit,
-                    offset);
+                    offset,
+                    null);
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -184,7 +189,8 @@ class UserSummaryMapperTest {
                     LAST_UPDATED_AT2,
                     LAST_UPDATED_AT2,
                     limit,
-                    offset);
+                    offset,
+                    null);
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -206,6 +212,87 @@ class UserSummaryMapperTest {
             assertThat(actual1.getUserVersion()).isEqualTo(VERSION);
         }
 
+        @DisplayName("afterUserId")
+        @Test
+        void testOK5() {
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    BASE_NAME + "0",
+                    null,
+                    null,
+                    null,
+                    limit,
+                    offset,
+                    SEARCHABLE_ID1);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actualList = userSummaryMapper.find(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).hasSize(2);
+            UserSummary actual1 = actualList.get(0);
+            assertThat(actual1.getUserId()).isEqualTo(SEARCHABLE_ID2);
+            UserSummary actual2 = actualList.get(1);
+            assertThat(actual2.getUserId()).isEqualTo(SEARCHABLE_ID3);
+        }
+
+        @DisplayName("deptId")
+        @Test
+        void testOK6() {
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    null,
+                    "01",
+                    null,
+                    null,
+                    limit,
+                    offset,
+                    null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actualList = userSummaryMapper.find(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).hasSize(3);
+            assertThat(actualList).allMatch(actual -> "01".equals(actual.getDeptId()));
+        }
+
+        @DisplayName("deptId：文字列として比較する")
+        @Test
+        void testOK7() {
+            // NOTE: 数値として比較すると、1と01が一致してしまう
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    null,
+                    "1",
+                    null,
+                    null,
+                    limit,
+                    offset,
+                    null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actualList = userSummaryMapper.find(condition);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).isEmpty();
+        }
+
     }
 
     @DisplayName("copyFromUser")
@@ -451,6 +538,30 @@ class UserSummaryMapperTest {
             assertThat(actual).isNull();
         }
 
+        @DisplayName("バージョンが同じため更新しない場合")
+        @Test
+        void testOK3() {
+            jdbcTemplate.update("UPDATE user_summary SET user_version = 1 WHERE user_id = ?", UPDATABLE_BASE_ID + "_01");
+            String userId = UPDATABLE_BASE_ID + "_01";
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryMapper.modifyFromUser(userId);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+
+            UserSummary actual = selectUserSummary(UPDATABLE_BASE_ID + "_01");
+
+            assertThat(actual.getName()).isEqualTo(BASE_NAME + "1");
+            assertThat(actual.getLastUpdatedAt()).isEqualTo(LAST_UPDATED_AT2);
+        }
+
     }
 
     @DisplayName("modifyListFromUser")
@@ -589,4 +700,241 @@ class UserSummaryMapperTest {
         return userSummaryList;
     }
 
+    @DisplayName("findCursor")
+    @Nested
+    class Method6 {
+
+        @DisplayName("all")
+        @Test
+        void testOK1() throws Exception {
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    BASE_NAME + "0",
+                    null,
+                    null,
+                    null,
+                    null,
+                    null,
+                    null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummary> actualList = new ArrayList<>();
+            try (Cursor<UserSummary> cursor = userSummaryMapper.findCursor(condition)) {
+                cursor.forEach(actualList::add);
+            }
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).hasSize(3);
+            assertThat(actualList.get(0).getUserId()).isEqualTo(SEARCHABLE_ID1);
+            assertThat(actualList.get(1).getUserId()).isEqualTo(SEARCHABLE_ID2);
+            assertThat(actualList.get(2).getUserId()).isEqualTo(SEARCHABLE_ID3);
+        }
+
+    }
+
+    @DisplayName("upsertListFromUser")
+    @Nested
+    class Method7 {
+
+        private LocalDate now = null;
+
+        @BeforeEach
+        void setUp() {
+            now = LocalDate.now();
+        }
+
+        @DisplayName("登録と変更が成功する場合")
+        @Test
+        void testOK1() {
+            List<String> userIdList = List.of(INSERTABLE_BASE_ID + "_01", UPDATABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSummaryMapper.upsertListFromUser(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            UserSummary actual1 = selectUserSummary(INSERTABLE_BASE_ID + "_01");
+            assertThat(actual1).isNotNull();
+            assertThat(actual1.getName()).isEqualTo(BASE_NAME + "1");
+            assertThat(actual1.getDeptId()).isEqualTo("02");
+            assertThat(actual1.getLastUpdatedAt()).isEqualTo(now);
+            assertThat(actual1.getUserVersion()).isEqualTo(VERSION);
+
+            UserSummary actual2 = selectUserSummary(UPDATABLE_BASE_ID + "_01");
+            assertThat(actual2.getName()).isEqualTo(BASE_NAME + "101");
+            assertThat(actual2.getDeptId()).isEqualTo("03");
+            assertThat(actual2.getLastUpdatedAt()).isEqualTo(now);
+            assertThat(actual2.getUserVersion()).isEqualTo(VERSION + 1);
+        }
+
+        @DisplayName("同じ変更を2回反映しても結果が変わらない場合")
+        @Test
+        void testOK2() {
+            List<String> userIdList = List.of(UPDATABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSummaryMapper.upsertListFromUser(userIdList);
+            userSummaryMapper.upsertListFromUser(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            UserSummary actual = selectUserSummary(UPDATABLE_BASE_ID + "_01");
+            assertThat(actual.getName()).isEqualTo(BASE_NAME + "101");
+            assertThat(actual.getUserVersion()).isEqualTo(VERSION + 1);
+        }
+
+        @DisplayName("ユーザ概要の方が新しいバージョンの場合は変更しない")
+        @Test
+        void testOK3() {
+            jdbcTemplate.update("UPDATE user_summary SET user_version = 5 WHERE user_id = ?", UPDATABLE_BASE_ID + "_01");
+            List<String> userIdList = List.of(UPDATABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSummaryMapper.upsertListFromUser(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            UserSummary actual = selectUserSummary(UPDATABLE_BASE_ID + "_01");
+            assertThat(actual.getName()).isEqualTo(BASE_NAME + "1");
+            assertThat(actual.getLastUpdatedAt()).isEqualTo(LAST_UPDATED_AT2);
+            assertThat(actual.getUserVersion()).isEqualTo(5);
+        }
+
+    }
+
+    @DisplayName("findDeptIdListByUserIdList")
+    @Nested
+    class Method8 {
+
+        @DisplayName("ユーザ概要とユーザの部署IDを重複なく取得する場合")
+        @Test
+        void testOK1() {
+            // NOTE: ユーザの部署を変更し、ユーザ概要へ反映する前の状態にする
+            jdbcTemplate.update("UPDATE user SET dept_id = '01' WHERE id = ?", UPDATABLE_BASE_ID + "_01");
+            List<String> userIdList = List.of(
+                    INSERTABLE_BASE_ID + "_01",
+                    INSERTABLE_BASE_ID + "_02",
+                    UPDATABLE_BASE_ID + "_01",
+                    UPDATABLE_BASE_ID + "_02");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = userSummaryMapper.findDeptIdListByUserIdList(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 変更前（ユーザ概要）と変更後（ユーザ）の部署をどちらも含むこと
+            assertThat(actualList).containsExactlyInAnyOrder("01", "02", "03");
+        }
+
+        @DisplayName("対象のユーザが存在しない場合")
+        @Test
+        void testOK2() {
+            List<String> userIdList = List.of(NON_INSERTABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = userSummaryMapper.findDeptIdListByUserIdList(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).isEmpty();
+        }
+
+    }
+
+    @DisplayName("deleteStaleListFromUser")
+    @Nested
+    class Method9 {
+
+        @DisplayName("ユーザより古いバージョンの行を削除する場合")
+        @Test
+        void testOK1() {
+            List<String> userIdList = List.of(UPDATABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryMapper.deleteStaleListFromUser(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+            assertThat(selectUserSummary(UPDATABLE_BASE_ID + "_01")).isNull();
+        }
+
+        @DisplayName("ユーザ概要の方が新しいバージョンの場合は削除しない")
+        @Test
+        void testOK2() {
+            jdbcTemplate.update("UPDATE user_summary SET user_version = 5 WHERE user_id = ?", UPDATABLE_BASE_ID + "_01");
+            List<String> userIdList = List.of(UPDATABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryMapper.deleteStaleListFromUser(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+            assertThat(selectUserSummary(UPDATABLE_BASE_ID + "_01")).isNotNull();
+        }
+
+        @DisplayName("更新日が今日の場合は削除しない")
+        @Test
+        void testOK3() {
+            jdbcTemplate.update("UPDATE user_summary SET last_updated_at = CURDATE() WHERE user_id = ?",
+                    UPDATABLE_BASE_ID + "_01");
+            List<String> userIdList = List.of(UPDATABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryMapper.deleteStaleListFromUser(userIdList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+            assertThat(selectUserSummary(UPDATABLE_BASE_ID + "_01")).isNotNull();
+        }
+
+    }
+
 }
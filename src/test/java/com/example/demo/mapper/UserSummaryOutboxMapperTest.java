@@ -0,0 +1,245 @@
+package com.example.demo.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.jdbc.Sql;
+
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるのでテスト後に変更したデータが元に戻る
+// NOTE: @AutoConfigureTestDatabaseのreplaceで実際のDBを使ってテストする
+
+@Sql(scripts = "/test-data/UserSummaryOutboxMapper.sql")
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserSummaryOutboxMapperTest {
+
+    private static final String INSERTABLE_BASE_ID = "20250701094512000";
+    private static final String NON_INSERTABLE_BASE_ID = "99999999999999999";
+    private static final String OUTBOX_BASE_ID = "20250101120055111";
+    private static final LocalDateTime OLDEST_CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@Autowired
+    @Autowired
+    private UserSummaryOutboxMapper userSummaryOutboxMapper;
+
+    // NOTE: テーブルの内容を確認するために使う
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("insertFromUser")
+    @Nested
+    class Method1 {
+
+        @DisplayName("登録が成功する場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryOutboxMapper.insertFromUser(INSERTABLE_BASE_ID + "_02");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+
+            Integer userVersion = jdbcTemplate.queryForObject(
+                    "SELECT user_version FROM user_summary_outbox WHERE user_id = ?",
+                    Integer.class,
+                    INSERTABLE_BASE_ID + "_02");
+            assertThat(userVersion).isEqualTo(3);
+        }
+
+        @DisplayName("登録が失敗する場合")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryOutboxMapper.insertFromUser(NON_INSERTABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+        }
+
+    }
+
+    @DisplayName("insertListFromUser")
+    @Nested
+    class Method2 {
+
+        @DisplayName("登録が成功する場合")
+        @Test
+        void testOK1() {
+            List<String> idList = List.of(INSERTABLE_BASE_ID + "_01", INSERTABLE_BASE_ID + "_02");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryOutboxMapper.insertListFromUser(idList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(2);
+        }
+
+        @DisplayName("一部の登録が失敗する場合")
+        @Test
+        void testOK2() {
+            List<String> idList = List.of(INSERTABLE_BASE_ID + "_01", NON_INSERTABLE_BASE_ID + "_01");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryOutboxMapper.insertListFromUser(idList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+        }
+
+    }
+
+    @DisplayName("findOldestForUpdate")
+    @Nested
+    class Method3 {
+
+        @DisplayName("古い順に取得件数まで取得する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserSummaryOutbox> actualList = userSummaryOutboxMapper.findOldestForUpdate(2);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).hasSize(2);
+            UserSummaryOutbox actual1 = actualList.get(0);
+            assertThat(actual1.getId()).isEqualTo(1L);
+            assertThat(actual1.getUserId()).isEqualTo(OUTBOX_BASE_ID + "_01");
+            assertThat(actual1.getUserVersion()).isEqualTo(0);
+            assertThat(actual1.getCreatedAt()).isEqualTo(OLDEST_CREATED_AT);
+            UserSummaryOutbox actual2 = actualList.get(1);
+            assertThat(actual2.getId()).isEqualTo(2L);
+            assertThat(actual2.getUserId()).isEqualTo(OUTBOX_BASE_ID + "_02");
+        }
+
+    }
+
+    @DisplayName("deleteByIdList")
+    @Nested
+    class Method4 {
+
+        @DisplayName("削除が成功する場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = userSummaryOutboxMapper.deleteByIdList(List.of(1L, 2L));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(2);
+            assertThat(userSummaryOutboxMapper.count()).isEqualTo(1L);
+        }
+
+    }
+
+    @DisplayName("count")
+    @Nested
+    class Method5 {
+
+        @DisplayName("未反映件数を取得する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            long count = userSummaryOutboxMapper.count();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(3L);
+        }
+
+    }
+
+    @DisplayName("findOldestCreatedAt")
+    @Nested
+    class Method6 {
+
+        @DisplayName("未反映のものがある場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            LocalDateTime actual = userSummaryOutboxMapper.findOldestCreatedAt();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(OLDEST_CREATED_AT);
+        }
+
+        @DisplayName("未反映のものがない場合")
+        @Test
+        void testOK2() {
+            jdbcTemplate.update("DELETE FROM user_summary_outbox");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            LocalDateTime actual = userSummaryOutboxMapper.findOldestCreatedAt();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isNull();
+        }
+
+    }
+
+}
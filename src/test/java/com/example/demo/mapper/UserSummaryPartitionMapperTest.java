@@ -0,0 +1,108 @@
+package com.example.demo.mapper;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.boot.test.autoconfigure.MybatisTest;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+// NOTE: @MybatisTestで自動的に@Transactionalを設定してくれるのでテスト後に変更したデータが元に戻る
+// NOTE: @AutoConfigureTestDatabaseのreplaceで実際のDBを使ってテストする
+// NOTE: DDLはロールバックできないため、パーティションの作成と削除はテストしない
+// NOTE: テストのDBは分割していないため、パーティションを指定する検索、コピーもテストしない
+
+@MybatisTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class UserSummaryPartitionMapperTest {
+
+    // NOTE: テスト対象のクラスを@Autowired
+    @Autowired
+    private UserSummaryPartitionMapper userSummaryPartitionMapper;
+
+    // NOTE: テーブルの内容を確認するために使う
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("findPartitionNameList")
+    @Nested
+    class Method1 {
+
+        @DisplayName("分割していない場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<String> actualList = userSummaryPartitionMapper.findPartitionNameList();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actualList).isEmpty();
+        }
+
+    }
+
+    @DisplayName("setLockWaitTimeout")
+    @Nested
+    class Method2 {
+
+        @DisplayName("設定が成功する場合")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSummaryPartitionMapper.setLockWaitTimeout(7);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: @Transactionalにより同じコネクションで確認できる
+            Integer actual = jdbcTemplate.queryForObject("SELECT @@SESSION.lock_wait_timeout", Integer.class);
+            userSummaryPartitionMapper.resetLockWaitTimeout();
+            assertThat(actual).isEqualTo(7);
+        }
+
+    }
+
+    @DisplayName("resetLockWaitTimeout")
+    @Nested
+    class Method3 {
+
+        @DisplayName("サーバの設定に戻る場合")
+        @Test
+        void testOK1() {
+            userSummaryPartitionMapper.setLockWaitTimeout(7);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            userSummaryPartitionMapper.resetLockWaitTimeout();
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            Integer actual = jdbcTemplate.queryForObject("SELECT @@SESSION.lock_wait_timeout", Integer.class);
+            Integer expected = jdbcTemplate.queryForObject("SELECT @@GLOBAL.lock_wait_timeout", Integer.class);
+            assertThat(actual).isEqualTo(expected);
+        }
+
+    }
+
+}
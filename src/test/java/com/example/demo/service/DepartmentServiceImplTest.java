@@ -15,9 +15,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.LoggingLogic;
 import com.example.demo.mapper.Department;
-import com.example.demo.mapper.DepartmentMapper;
 
 // NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
 // NOTE: 業務処理が想定した順番で行われるかということ
@@ -39,7 +39,7 @@ class DepartmentServiceImplTest {
     private DepartmentServiceImplConverter converter;
 
     @Mock
-    private DepartmentMapper departmentMapper;
+    private DepartmentCacheLogic departmentCacheLogic;
 
     @Mock
     private LoggingLogic externalApiLogic;
@@ -47,7 +47,7 @@ class DepartmentServiceImplTest {
     // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
     // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
 
-    @DisplayName("fetchAll")
+    @DisplayName("fetchVersion")
     @Nested
     class Method1 {
 
@@ -56,6 +56,76 @@ class DepartmentServiceImplTest {
 
         private static final String OPERATOR = "OPERATOR";
 
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(3L)
+                    .when(departmentCacheLogic)
+                    .getVersion();
+
+            doNothing()
+                    .when(externalApiLogic)
+                    .logOperation(anyString(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            long actual = service.fetchVersion(OPERATOR);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(3L);
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(departmentCacheLogic, times(1)).getVersion();
+            verify(departmentCacheLogic, never()).findAll();
+            verify(externalApiLogic, times(1)).logOperation(eq("部署全件取得"), eq(OPERATOR));
+        }
+
+        @DisplayName("異常終了：DataAccessException")
+        @Test
+        void testNG1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(departmentCacheLogic)
+                    .getVersion();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service.fetchVersion(OPERATOR)).isInstanceOf(DataAccessException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(departmentCacheLogic, times(1)).getVersion();
+            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
+        }
+
+    }
+
+    @DisplayName("fetchAll")
+    @Nested
+    class Method2 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
         private List<Department> entityList = null;
         private DepartmentResult result = null;
 
@@ -100,22 +170,18 @@ class DepartmentServiceImplTest {
             // -----------------------------------------------------------------
 
             doReturn(entityList)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .findAll();
 
             doReturn(result)
                     .when(converter)
                     .convertToResult(any());
 
-            doNothing()
-                    .when(externalApiLogic)
-                    .logOperation(anyString(), anyString());
-
             // -----------------------------------------------------------------
             // テスト実行
             // -----------------------------------------------------------------
 
-            DepartmentResult actual = service.fetchAll(OPERATOR);
+            DepartmentResult actual = service.fetchAll();
 
             // -----------------------------------------------------------------
             // 実行結果確認
@@ -137,9 +203,11 @@ class DepartmentServiceImplTest {
             assertThat(actual3.getIsDeleted()).isFalse();
 
             // NOTE: 呼び出されるメソッドが想定通りであること
-            verify(departmentMapper, times(1)).findAll();
+            verify(departmentCacheLogic, times(1)).findAll();
             verify(converter, times(1)).convertToResult(eq(entityList));
-            verify(externalApiLogic, times(1)).logOperation(eq("部署全件取得"), eq(OPERATOR));
+
+            // NOTE: 操作ログはfetchVersionで保存するため、ここでは保存しないこと
+            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
         }
 
         @DisplayName("異常終了：DataAccessException")
@@ -151,7 +219,7 @@ class DepartmentServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .findAll();
 
             // -----------------------------------------------------------------
@@ -159,16 +227,15 @@ class DepartmentServiceImplTest {
             // -----------------------------------------------------------------
 
             // 例外が発生すること
-            assertThatThrownBy(() -> service.fetchAll(OPERATOR)).isInstanceOf(DataAccessException.class);
+            assertThatThrownBy(() -> service.fetchAll()).isInstanceOf(DataAccessException.class);
 
             // -----------------------------------------------------------------
             // 実行結果確認
             // -----------------------------------------------------------------
 
             // NOTE: 呼び出されるメソッドが想定通りであること
-            verify(departmentMapper, times(1)).findAll();
+            verify(departmentCacheLogic, times(1)).findAll();
             verify(converter, never()).convertToResult(anyList());
-            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
         }
 
     }
@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.stream.IntStream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -14,6 +15,7 @@ import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.example.demo.constant.BulkItemStatusConstants;
 import com.example.demo.logic.GenerateIdLogic;
 import com.example.demo.mapper.User;
 
@@ -77,9 +79,9 @@ class UserBulkCreateServiceImplConverterTest {
             // モックの振る舞い設定
             // -----------------------------------------------------------------
 
-            doReturn(BASE_ID)
+            doReturn(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03"))
                     .when(generateIdLogic)
-                    .generateId();
+                    .generateIdList(anyInt());
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -112,7 +114,80 @@ class UserBulkCreateServiceImplConverterTest {
             assertThat(entity3.getVersion()).isEqualTo(0);
 
             // NOTE: 呼び出されるメソッドが想定通りであること
-            verify(generateIdLogic, times(1)).generateId();
+            verify(generateIdLogic, times(1)).generateIdList(eq(3));
+        }
+
+        @DisplayName("正常終了：日時の枝番をまたぐ場合")
+        @Test
+        void testOK2() {
+            String baseId2 = "20250101120055121";
+            UserBulkCreateParam largeParam = new UserBulkCreateParam(IntStream.rangeClosed(1, 100)
+                    .mapToObj(i -> new UserCreateParam(BASE_FAMILY_NAME, BASE_FIRST_NAME + i, DEPT_ID))
+                    .toList());
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            List<String> idList = IntStream.range(0, 100)
+                    .mapToObj(i -> i < 99 ? String.format("%s_%02d", BASE_ID, i + 1) : baseId2 + "_01")
+                    .toList();
+            doReturn(idList)
+                    .when(generateIdLogic)
+                    .generateIdList(anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<User> entityList = converter.convertToEntity(largeParam);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 採番したIDが順番に使われること
+            assertThat(entityList).hasSize(100);
+            assertThat(entityList.get(98).getId()).isEqualTo(BASE_ID + "_99");
+            assertThat(entityList.get(99).getId()).isEqualTo(baseId2 + "_01");
+            verify(generateIdLogic, times(1)).generateIdList(eq(100));
+        }
+
+    }
+
+    @DisplayName("convertToResult")
+    @Nested
+    class Method2 {
+
+        private static final String BASE_ID = "20250101120055111";
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            List<User> entityList = List.of(
+                    new User(BASE_ID + "_01", "苗字1", "名前1", "01", 0),
+                    new User(BASE_ID + "_02", "苗字2", "名前2", "99", 0),
+                    new User(BASE_ID + "_03", "苗字3", "名前3", "01", 0));
+            List<String> statusList = List.of(
+                    BulkItemStatusConstants.OK,
+                    BulkItemStatusConstants.MISSING_DEPT,
+                    BulkItemStatusConstants.DUPLICATE);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkResult result = converter.convertToResult(entityList, statusList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 明細番号は1から始まり、ok以外の明細が失敗件数になること
+            assertThat(result).isEqualTo(new UserBulkResult(3, 1, 2, List.of(
+                    new UserBulkResultItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResultItemData(2, BASE_ID + "_02", "missing_dept"),
+                    new UserBulkResultItemData(3, BASE_ID + "_03", "duplicate"))));
         }
 
     }
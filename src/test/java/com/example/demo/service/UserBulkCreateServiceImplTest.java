@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +17,14 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 
 import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.BulkItemStatusConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.ExceptionCreator;
 import com.example.demo.logic.LoggingLogic;
-import com.example.demo.mapper.DepartmentMapper;
+import com.example.demo.logic.UserBatchWriteLogic;
+import com.example.demo.logic.UserSummaryProjectionLogic;
 import com.example.demo.mapper.User;
 import com.example.demo.mapper.UserMapper;
-import com.example.demo.mapper.UserSummaryMapper;
 
 // NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
 // NOTE: 業務処理が想定した順番で行われるかということ
@@ -43,13 +46,16 @@ class UserBulkCreateServiceImplTest {
     private UserBulkCreateServiceImplConverter converter;
 
     @Mock
-    private DepartmentMapper departmentMapper;
+    private DepartmentCacheLogic departmentCacheLogic;
 
     @Mock
     private UserMapper userMapper;
 
     @Mock
-    private UserSummaryMapper sharedMapper;
+    private UserSummaryProjectionLogic userSummaryProjectionLogic;
+
+    @Mock
+    private UserBatchWriteLogic userBatchWriteLogic;
 
     @Mock
     private ExceptionCreator exceptionCreator;
@@ -128,7 +134,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(false)
@@ -140,7 +146,7 @@ class UserBulkCreateServiceImplTest {
                     .insertList(anyList());
 
             doReturn(3)
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .copyListFromUser(anyList());
 
             doNothing()
@@ -160,10 +166,10 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
             verify(userMapper, times(1)).insertList(entityList);
-            verify(sharedMapper, times(1)).copyListFromUser(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03"));
+            verify(userSummaryProjectionLogic, times(1)).copyListFromUser(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03"));
             verify(externalApiLogic, times(1)).logOperation(eq("ユーザ登録（複数）"), eq(OPERATOR));
         }
 
@@ -180,7 +186,7 @@ class UserBulkCreateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             // -----------------------------------------------------------------
@@ -196,7 +202,7 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
         }
 
         @DisplayName("異常終了：existsList：ApplicationException")
@@ -211,7 +217,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(false)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(new ApplicationException("", ""))
@@ -231,7 +237,7 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(exceptionCreator, times(1)).create(eq("401"), eq(deptIds()));
         }
 
@@ -247,7 +253,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doThrow(new DataAccessException("") {
@@ -268,7 +274,7 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(List.of(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsByIdList(List.of(DEPT_ID));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
         }
 
@@ -284,7 +290,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(true)
@@ -308,7 +314,7 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(List.of(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsByIdList(List.of(DEPT_ID));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
             verify(exceptionCreator, times(1)).create(eq("101"), eq(userIds()));
         }
@@ -325,7 +331,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(false)
@@ -350,7 +356,7 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(List.of(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsByIdList(List.of(DEPT_ID));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
             verify(userMapper, times(1)).insertList(eq(entityList));
         }
@@ -367,7 +373,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(false)
@@ -395,7 +401,7 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
             verify(userMapper, times(1)).insertList(eq(entityList));
             verify(exceptionCreator, times(1)).create(eq("201"), eq(userIds()));
@@ -413,7 +419,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(false)
@@ -426,7 +432,7 @@ class UserBulkCreateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .copyListFromUser(anyList());
 
             // -----------------------------------------------------------------
@@ -442,10 +448,10 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
             verify(userMapper, times(1)).insertList(eq(entityList));
-            verify(sharedMapper, times(1))
+            verify(userSummaryProjectionLogic, times(1))
                     .copyListFromUser(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
         }
 
@@ -461,7 +467,7 @@ class UserBulkCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(false)
@@ -473,7 +479,7 @@ class UserBulkCreateServiceImplTest {
                     .insertList(anyList());
 
             doReturn(0)
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .copyListFromUser(anyList());
 
             doReturn(new ApplicationException("", ""))
@@ -493,10 +499,10 @@ class UserBulkCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
             verify(userMapper, times(1)).insertList(eq(entityList));
-            verify(sharedMapper, times(1)).copyListFromUser(anyList());
+            verify(userSummaryProjectionLogic, times(1)).copyListFromUser(anyList());
             verify(exceptionCreator, times(1)).create(eq("301"), eq(userIds()));
         }
 
@@ -510,4 +516,173 @@ class UserBulkCreateServiceImplTest {
 
     }
 
+    @DisplayName("bulkCreatePartial")
+    @Nested
+    class Method2 {
+
+        private static final String BASE_ID = "20250101120055111";
+        private static final String OPERATOR = "OPERATOR";
+
+        private UserBulkCreateParam bulkParam = null;
+        private List<User> entityList = null;
+        private Set<String> deptIdSet = null;
+
+        @BeforeEach
+        void setUp() {
+            bulkParam = new UserBulkCreateParam(List.of(
+                    new UserCreateParam("苗字1", "名前1", "01"),
+                    new UserCreateParam("苗字2", "名前2", "99"),
+                    new UserCreateParam("苗字3", "名前3", "01")));
+
+            entityList = List.of(
+                    new User(BASE_ID + "_01", "苗字1", "名前1", "01", 0),
+                    new User(BASE_ID + "_02", "苗字2", "名前2", "99", 0),
+                    new User(BASE_ID + "_03", "苗字3", "名前3", "01", 0));
+
+            deptIdSet = Set.of("01", "02");
+        }
+
+        @DisplayName("正常終了：部署が存在しない明細と登録済みの明細がある場合")
+        @Test
+        void testOK1() throws Exception {
+            UserBulkResult result = new UserBulkResult(3, 1, 2, List.of());
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(converter)
+                    .convertToEntity(any());
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(List.of(BASE_ID + "_03"))
+                    .when(userMapper)
+                    .findExistingIdList(anyList());
+
+            doReturn(1)
+                    .when(userBatchWriteLogic)
+                    .insertChunk(anyList());
+
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(anyList(), anyList());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkResult actual = service.bulkCreatePartial(OPERATOR, bulkParam);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(result);
+
+            // NOTE: 登録できる明細だけが登録されること
+            verify(converter, times(1)).convertToEntity(eq(bulkParam));
+            verify(departmentCacheLogic, times(1)).findIdSet();
+            verify(userMapper, times(1))
+                    .findExistingIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
+            verify(userBatchWriteLogic, times(1)).insertChunk(eq(List.of(entityList.get(0))));
+            verify(externalApiLogic, times(1)).logOperation(eq("ユーザ作成（複数）"), eq(OPERATOR));
+            verify(converter, times(1)).convertToResult(eq(entityList), eq(List.of(
+                    BulkItemStatusConstants.OK,
+                    BulkItemStatusConstants.MISSING_DEPT,
+                    BulkItemStatusConstants.DUPLICATE)));
+        }
+
+        @DisplayName("正常終了：登録できる明細がない場合")
+        @Test
+        void testOK2() throws Exception {
+            UserBulkResult result = new UserBulkResult(3, 0, 3, List.of());
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(converter)
+                    .convertToEntity(any());
+
+            doReturn(Set.of())
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(List.of())
+                    .when(userMapper)
+                    .findExistingIdList(anyList());
+
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(anyList(), anyList());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkResult actual = service.bulkCreatePartial(OPERATOR, bulkParam);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(result);
+
+            // NOTE: 登録も操作ログの保存も行われないこと
+            verify(userBatchWriteLogic, never()).insertChunk(anyList());
+            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
+            verify(converter, times(1)).convertToResult(eq(entityList), eq(List.of(
+                    BulkItemStatusConstants.MISSING_DEPT,
+                    BulkItemStatusConstants.MISSING_DEPT,
+                    BulkItemStatusConstants.MISSING_DEPT)));
+        }
+
+        @DisplayName("異常終了：insertChunk：ApplicationException")
+        @Test
+        void testNG1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(converter)
+                    .convertToEntity(any());
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(List.of())
+                    .when(userMapper)
+                    .findExistingIdList(anyList());
+
+            doThrow(new ApplicationException("", ""))
+                    .when(userBatchWriteLogic)
+                    .insertChunk(anyList());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service.bulkCreatePartial(OPERATOR, bulkParam))
+                    .isInstanceOf(ApplicationException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBatchWriteLogic, times(1))
+                    .insertChunk(eq(List.of(entityList.get(0), entityList.get(2))));
+            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
+            verify(converter, never()).convertToResult(anyList(), anyList());
+        }
+
+    }
+
 }
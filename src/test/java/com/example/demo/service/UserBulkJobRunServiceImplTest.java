@@ -0,0 +1,315 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserBulkJobChunkLogic;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobMapper;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkJobRunServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: チャンクサイズなどはintのため@InjectMocksでは設定できないので、@BeforeEachで生成する
+    private UserBulkJobRunServiceImpl service;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserBulkJobMapper userBulkJobMapper;
+
+    @Mock
+    private UserBulkJobChunkLogic userBulkJobChunkLogic;
+
+    @Mock
+    private ExceptionCreator exceptionCreator;
+
+    @Mock
+    private LoggingLogic loggingLogic;
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final int STALE_SECONDS = 300;
+
+    private static final long JOB_ID = 1L;
+
+    private static final String OPERATOR = "OPERATOR";
+
+    @BeforeEach
+    void beforeEach() {
+        service = new UserBulkJobRunServiceImpl(
+                userBulkJobMapper,
+                userBulkJobChunkLogic,
+                exceptionCreator,
+                loggingLogic,
+                CHUNK_SIZE,
+                STALE_SECONDS);
+    }
+
+    // NOTE: 割り込みのテストで設定したフラグが他のテストに影響しないようにクリアする
+    @AfterEach
+    void afterEach() {
+        Thread.interrupted();
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("run")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private UserBulkJob job = null;
+
+        @BeforeEach
+        void setUp() {
+            // NOTE: 前回の実行で2件まで処理済みのジョブを再開する
+            job = new UserBulkJob(JOB_ID, "create", "running", OPERATOR, 5, 2, null, null, null, null, null);
+        }
+
+        // NOTE: 正常系
+
+        @DisplayName("正常終了：チェックポイントから残りのチャンクを処理して正常終了にする")
+        @Test
+        void testOK1() throws Exception {
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .claim(JOB_ID, STALE_SECONDS);
+
+            doReturn(job)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doReturn(2, 1, 0)
+                    .when(userBulkJobChunkLogic)
+                    .processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.run(JOB_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(job.getProcessedCount()).isEqualTo(5);
+
+            verify(userBulkJobChunkLogic, times(3)).processChunk(job, CHUNK_SIZE);
+            verify(userBulkJobMapper, times(1)).complete(JOB_ID);
+            verify(loggingLogic, times(1)).logOperation(OperationConstants.USER_BULK_CREATE, OPERATOR);
+        }
+
+        @DisplayName("正常終了：更新のジョブ")
+        @Test
+        void testOK2() throws Exception {
+            job.setJobType("update");
+
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .claim(JOB_ID, STALE_SECONDS);
+
+            doReturn(job)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doReturn(0)
+                    .when(userBulkJobChunkLogic)
+                    .processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.run(JOB_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobMapper, times(1)).complete(JOB_ID);
+            verify(loggingLogic, times(1)).logOperation(OperationConstants.USER_BULK_UPDATE, OPERATOR);
+        }
+
+        @DisplayName("正常終了：他で実行中のため実行しない")
+        @Test
+        void testOK3() throws Exception {
+            doReturn(0)
+                    .when(userBulkJobMapper)
+                    .claim(JOB_ID, STALE_SECONDS);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.run(JOB_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobMapper, never()).findById(anyLong());
+            verify(userBulkJobChunkLogic, never()).processChunk(any(), anyInt());
+            verify(userBulkJobMapper, never()).complete(anyLong());
+        }
+
+        @DisplayName("正常終了：割り込まれた場合は実行待ちに戻す")
+        @Test
+        void testOK4() throws Exception {
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .claim(JOB_ID, STALE_SECONDS);
+
+            doReturn(job)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doAnswer(invocation -> {
+                Thread.currentThread().interrupt();
+                return 2;
+            })
+                    .when(userBulkJobChunkLogic)
+                    .processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.run(JOB_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(job.getProcessedCount()).isEqualTo(4);
+
+            verify(userBulkJobChunkLogic, times(1)).processChunk(job, CHUNK_SIZE);
+            verify(userBulkJobMapper, times(1)).release(JOB_ID);
+            verify(userBulkJobMapper, never()).complete(anyLong());
+            verify(loggingLogic, never()).logOperation(anyString(), anyString());
+        }
+
+        @DisplayName("正常終了：一時的なDBエラーの場合は実行中のまま終了する")
+        @Test
+        void testOK5() throws Exception {
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .claim(JOB_ID, STALE_SECONDS);
+
+            doReturn(job)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doThrow(new QueryTimeoutException("タイムアウト"))
+                    .when(userBulkJobChunkLogic)
+                    .processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.run(JOB_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobMapper, never()).fail(anyLong(), anyString(), anyString());
+            verify(userBulkJobMapper, never()).complete(anyLong());
+            verify(userBulkJobMapper, never()).release(anyLong());
+        }
+
+        // NOTE: 異常系
+
+        @DisplayName("異常終了：業務エラーの場合は異常終了にする")
+        @Test
+        void testNG1() throws Exception {
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .claim(JOB_ID, STALE_SECONDS);
+
+            doReturn(job)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doThrow(new ApplicationException("101", "登録対象のデータが既に登録されています：x"))
+                    .when(userBulkJobChunkLogic)
+                    .processChunk(job, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.run(JOB_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobMapper, times(1)).fail(JOB_ID, "101", "登録対象のデータが既に登録されています：x");
+            verify(userBulkJobMapper, never()).complete(anyLong());
+            verify(loggingLogic, never()).logOperation(anyString(), anyString());
+        }
+
+        @DisplayName("異常終了：一時的でないDBエラーの場合は異常終了にする")
+        @Test
+        void testNG2() throws Exception {
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .claim(JOB_ID, STALE_SECONDS);
+
+            doReturn(job)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doThrow(new DataIntegrityViolationException("制約違反"))
+                    .when(userBulkJobChunkLogic)
+                    .processChunk(job, CHUNK_SIZE);
+
+            doReturn(new ApplicationException("902", "DBエラーが発生しました"))
+                    .when(exceptionCreator)
+                    .create(anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.run(JOB_ID);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobMapper, times(1)).fail(JOB_ID, "902", "DBエラーが発生しました");
+            verify(userBulkJobMapper, never()).complete(anyLong());
+        }
+
+    }
+
+}
@@ -0,0 +1,159 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.logic.GenerateIdLogic;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobItem;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkJobServiceImplConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserBulkJobServiceImplConverter converter;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private GenerateIdLogic generateIdLogic;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("convertToEntity")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserBulkJob entity = converter.convertToEntity("OPERATOR", "create", 3);
+
+            assertThat(entity).isEqualTo(new UserBulkJob(
+                    null, "create", "queued", "OPERATOR", 3, 0, null, null, null, null, null));
+        }
+
+    }
+
+    @DisplayName("convertToItemList：作成")
+    @Nested
+    class Method2 {
+
+        private static final String ID1 = "20250101120055111";
+        private static final String ID2 = "20250101120055112";
+
+        @DisplayName("正常終了：件数分のIDをまとめて採番する")
+        @Test
+        void testOK1() {
+            UserBulkCreateParam bulkParam = new UserBulkCreateParam(IntStream.rangeClosed(1, 100)
+                    .mapToObj(i -> new UserCreateParam("苗字", "名前" + i, "01"))
+                    .toList());
+
+            List<String> idList = IntStream.range(0, 100)
+                    .mapToObj(i -> i < 99 ? String.format("%s_%02d", ID1, i + 1) : ID2 + "_01")
+                    .toList();
+
+            // NOTE: 件数分のIDが1回でまとめて採番されること
+            doReturn(idList)
+                    .when(generateIdLogic)
+                    .generateIdList(anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserBulkJobItem> itemList = converter.convertToItemList(1L, bulkParam);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(itemList).hasSize(100);
+            assertThat(itemList.get(0))
+                    .isEqualTo(new UserBulkJobItem(1L, 1, ID1 + "_01", "苗字", "名前1", "01", 0));
+            assertThat(itemList.get(98))
+                    .isEqualTo(new UserBulkJobItem(1L, 99, ID1 + "_99", "苗字", "名前99", "01", 0));
+            assertThat(itemList.get(99))
+                    .isEqualTo(new UserBulkJobItem(1L, 100, ID2 + "_01", "苗字", "名前100", "01", 0));
+            verify(generateIdLogic, times(1)).generateIdList(eq(100));
+        }
+
+    }
+
+    @DisplayName("convertToItemList：更新")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserBulkUpdateParam bulkParam = new UserBulkUpdateParam(List.of(
+                    new UserUpdateParam("20250101120055111_01", "苗字1", "名前1", "01", 0),
+                    new UserUpdateParam("20250101120055111_02", "苗字2", "名前2", "02", 5)));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<UserBulkJobItem> itemList = converter.convertToItemList(2L, bulkParam);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(itemList).containsExactly(
+                    new UserBulkJobItem(2L, 1, "20250101120055111_01", "苗字1", "名前1", "01", 0),
+                    new UserBulkJobItem(2L, 2, "20250101120055111_02", "苗字2", "名前2", "02", 5));
+            verify(generateIdLogic, never()).generateIdList(anyInt());
+        }
+
+    }
+
+    @DisplayName("convertToResult")
+    @Nested
+    class Method4 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            LocalDateTime createdAt = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+            LocalDateTime updatedAt = LocalDateTime.of(2025, 1, 1, 12, 5, 0);
+            UserBulkJob entity = new UserBulkJob(
+                    1L, "create", "running", "OPERATOR", 3, 2, null, null, updatedAt, createdAt, updatedAt);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkJobResult result = converter.convertToResult(entity);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(result).isEqualTo(new UserBulkJobResult(
+                    1L, "create", "running", 3, 2, null, null, createdAt, updatedAt));
+        }
+
+    }
+
+}
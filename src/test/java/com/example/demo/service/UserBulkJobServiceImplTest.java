@@ -0,0 +1,377 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.job.UserBulkJobWorker;
+import com.example.demo.logic.DepartmentCacheLogic;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.mapper.UserBulkJob;
+import com.example.demo.mapper.UserBulkJobItem;
+import com.example.demo.mapper.UserBulkJobItemMapper;
+import com.example.demo.mapper.UserBulkJobMapper;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserBulkJobServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: チャンクサイズはintのため@InjectMocksでは設定できないので、@BeforeEachで生成する
+    private UserBulkJobServiceImpl service;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserBulkJobServiceImplConverter converter;
+
+    @Mock
+    private DepartmentCacheLogic departmentCacheLogic;
+
+    @Mock
+    private UserBulkJobMapper userBulkJobMapper;
+
+    @Mock
+    private UserBulkJobItemMapper userBulkJobItemMapper;
+
+    @Mock
+    private UserBulkJobWorker userBulkJobWorker;
+
+    @Mock
+    private ExceptionCreator exceptionCreator;
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final String OPERATOR = "OPERATOR";
+
+    private static final long JOB_ID = 1L;
+
+    private static final LocalDateTime NOW = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+
+    @BeforeEach
+    void beforeEach() {
+        service = new UserBulkJobServiceImpl(
+                converter,
+                departmentCacheLogic,
+                userBulkJobMapper,
+                userBulkJobItemMapper,
+                userBulkJobWorker,
+                exceptionCreator,
+                CHUNK_SIZE);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("submitCreate")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private UserBulkCreateParam bulkParam = new UserBulkCreateParam(List.of(
+                new UserCreateParam("苗字", "名前1", "01"),
+                new UserCreateParam("苗字", "名前2", "02"),
+                new UserCreateParam("苗字", "名前3", "01")));
+
+        private List<UserBulkJobItem> itemList = List.of(
+                new UserBulkJobItem(JOB_ID, 1, "20250101120055111_01", "苗字", "名前1", "01", 0),
+                new UserBulkJobItem(JOB_ID, 2, "20250101120055111_02", "苗字", "名前2", "02", 0),
+                new UserBulkJobItem(JOB_ID, 3, "20250101120055111_03", "苗字", "名前3", "01", 0));
+
+        private UserBulkJob queuedJob = new UserBulkJob(
+                JOB_ID, "create", "queued", OPERATOR, 3, 0, null, null, null, NOW, NOW);
+
+        private UserBulkJobResult result = new UserBulkJobResult(
+                JOB_ID, "create", "queued", 3, 0, null, null, NOW, NOW);
+
+        @DisplayName("正常終了：明細をチャンクごとに登録し、コミット後にワーカーで実行する")
+        @Test
+        void testOK1() throws Exception {
+            UserBulkJob entity = new UserBulkJob(
+                    null, "create", "queued", OPERATOR, 3, 0, null, null, null, null, null);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(entity)
+                    .when(converter)
+                    .convertToEntity(OPERATOR, "create", 3);
+
+            // NOTE: 採番したジョブIDがエンティティに設定されること
+            doAnswer(invocation -> {
+                invocation.<UserBulkJob> getArgument(0).setId(JOB_ID);
+                return 1;
+            })
+                    .when(userBulkJobMapper)
+                    .insert(entity);
+
+            doReturn(itemList)
+                    .when(converter)
+                    .convertToItemList(JOB_ID, bulkParam);
+
+            doReturn(2)
+                    .when(userBulkJobItemMapper)
+                    .insertList(itemList.subList(0, 2));
+
+            doReturn(1)
+                    .when(userBulkJobItemMapper)
+                    .insertList(itemList.subList(2, 3));
+
+            doReturn(queuedJob)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(queuedJob);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkJobResult actual = service.submitCreate(OPERATOR, bulkParam);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(result);
+
+            verify(userBulkJobItemMapper, times(2)).insertList(anyList());
+            verify(userBulkJobWorker, times(1)).submitAfterCommit(JOB_ID);
+        }
+
+        @DisplayName("異常終了：部署が存在しない")
+        @Test
+        void testNG1() {
+            doReturn(false)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(new ApplicationException("401", "登録に使用する部署が存在しません：01,02"))
+                    .when(exceptionCreator)
+                    .create(anyString(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> service.submitCreate(OPERATOR, bulkParam))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "401");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobMapper, never()).insert(any());
+            verify(userBulkJobWorker, never()).submitAfterCommit(anyLong());
+        }
+
+        @DisplayName("異常終了：明細の登録に失敗")
+        @Test
+        void testNG2() {
+            UserBulkJob entity = new UserBulkJob(
+                    JOB_ID, "create", "queued", OPERATOR, 3, 0, null, null, null, null, null);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01", "02"));
+
+            doReturn(entity)
+                    .when(converter)
+                    .convertToEntity(OPERATOR, "create", 3);
+
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .insert(entity);
+
+            doReturn(itemList)
+                    .when(converter)
+                    .convertToItemList(JOB_ID, bulkParam);
+
+            doReturn(1)
+                    .when(userBulkJobItemMapper)
+                    .insertList(itemList.subList(0, 2));
+
+            doReturn(new ApplicationException("201", "登録に失敗しました：1"))
+                    .when(exceptionCreator)
+                    .create(anyString(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> service.submitCreate(OPERATOR, bulkParam))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "201");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobWorker, never()).submitAfterCommit(anyLong());
+        }
+
+    }
+
+    @DisplayName("submitUpdate")
+    @Nested
+    class Method2 {
+
+        private UserBulkUpdateParam bulkParam = new UserBulkUpdateParam(List.of(
+                new UserUpdateParam("20250101120055111_01", "苗字", "名前1", "01", 0)));
+
+        private List<UserBulkJobItem> itemList = List.of(
+                new UserBulkJobItem(JOB_ID, 1, "20250101120055111_01", "苗字", "名前1", "01", 0));
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            UserBulkJob entity = new UserBulkJob(
+                    JOB_ID, "update", "queued", OPERATOR, 1, 0, null, null, null, null, null);
+            UserBulkJob queuedJob = new UserBulkJob(
+                    JOB_ID, "update", "queued", OPERATOR, 1, 0, null, null, null, NOW, NOW);
+            UserBulkJobResult result = new UserBulkJobResult(
+                    JOB_ID, "update", "queued", 1, 0, null, null, NOW, NOW);
+
+            doReturn(true)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01"));
+
+            doReturn(entity)
+                    .when(converter)
+                    .convertToEntity(OPERATOR, "update", 1);
+
+            doReturn(1)
+                    .when(userBulkJobMapper)
+                    .insert(entity);
+
+            doReturn(itemList)
+                    .when(converter)
+                    .convertToItemList(JOB_ID, bulkParam);
+
+            doReturn(1)
+                    .when(userBulkJobItemMapper)
+                    .insertList(itemList);
+
+            doReturn(queuedJob)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(queuedJob);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkJobResult actual = service.submitUpdate(OPERATOR, bulkParam);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(result);
+
+            verify(userBulkJobWorker, times(1)).submitAfterCommit(JOB_ID);
+        }
+
+        @DisplayName("異常終了：部署が存在しない")
+        @Test
+        void testNG1() {
+            doReturn(false)
+                    .when(departmentCacheLogic)
+                    .existsByIdList(List.of("01"));
+
+            doReturn(new ApplicationException("402", "更新に使用する部署が存在しません：01"))
+                    .when(exceptionCreator)
+                    .create(anyString(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> service.submitUpdate(OPERATOR, bulkParam))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "402");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBulkJobMapper, never()).insert(any());
+        }
+
+    }
+
+    @DisplayName("find")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            UserBulkJob entity = new UserBulkJob(
+                    JOB_ID, "create", "completed", OPERATOR, 3, 3, null, null, NOW, NOW, NOW);
+            UserBulkJobResult result = new UserBulkJobResult(
+                    JOB_ID, "create", "completed", 3, 3, null, null, NOW, NOW);
+
+            doReturn(entity)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(entity);
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(service.find(JOB_ID)).isEqualTo(result);
+        }
+
+        @DisplayName("異常終了：ジョブが存在しない")
+        @Test
+        void testNG1() {
+            doReturn(null)
+                    .when(userBulkJobMapper)
+                    .findById(JOB_ID);
+
+            doReturn(new ApplicationException("103", "対象のジョブが登録されていません：1"))
+                    .when(exceptionCreator)
+                    .create(anyString(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行・実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> service.find(JOB_ID))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "103");
+        }
+
+    }
+
+}
@@ -12,6 +12,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import com.example.demo.constant.BulkItemStatusConstants;
 import com.example.demo.mapper.User;
 
 // NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
@@ -105,4 +106,41 @@ class UserBulkUpdateServiceImplConverterTest {
 
     }
 
+    @DisplayName("convertToResult")
+    @Nested
+    class Method2 {
+
+        private static final String BASE_ID = "20250101120055111";
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            List<User> entityList = List.of(
+                    new User(BASE_ID + "_01", "苗字1", "名前1", "01", 0),
+                    new User(BASE_ID + "_02", "苗字2", "名前2", "99", 0),
+                    new User(BASE_ID + "_03", "苗字3", "名前3", "01", 0));
+            List<String> statusList = List.of(
+                    BulkItemStatusConstants.OK,
+                    BulkItemStatusConstants.MISSING_DEPT,
+                    BulkItemStatusConstants.CONFLICT);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserBulkResult result = converter.convertToResult(entityList, statusList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 明細番号は1から始まり、ok以外の明細が失敗件数になること
+            assertThat(result).isEqualTo(new UserBulkResult(3, 1, 2, List.of(
+                    new UserBulkResultItemData(1, BASE_ID + "_01", "ok"),
+                    new UserBulkResultItemData(2, BASE_ID + "_02", "missing_dept"),
+                    new UserBulkResultItemData(3, BASE_ID + "_03", "conflict"))));
+        }
+
+    }
+
 }
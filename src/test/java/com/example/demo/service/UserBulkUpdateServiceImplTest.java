@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.*;
 import static org.mockito.Mockito.*;
 
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -16,12 +17,13 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 
 import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.BulkItemStatusConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.ExceptionCreator;
 import com.example.demo.logic.LoggingLogic;
-import com.example.demo.mapper.DepartmentMapper;
+import com.example.demo.logic.UserBatchWriteLogic;
 import com.example.demo.mapper.User;
 import com.example.demo.mapper.UserMapper;
-import com.example.demo.mapper.UserSummaryMapper;
 
 // NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
 // NOTE: 業務処理が想定した順番で行われるかということ
@@ -43,13 +45,13 @@ class UserBulkUpdateServiceImplTest {
     private UserBulkUpdateServiceImplConverter converter;
 
     @Mock
-    private DepartmentMapper departmentMapper;
+    private DepartmentCacheLogic departmentCacheLogic;
 
     @Mock
     private UserMapper userMapper;
 
     @Mock
-    private UserSummaryMapper sharedMapper;
+    private UserBatchWriteLogic userBatchWriteLogic;
 
     @Mock
     private ExceptionCreator exceptionCreator;
@@ -134,20 +136,16 @@ class UserBulkUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(true)
                     .when(userMapper)
                     .existsByIdList(anyList());
 
-            doReturn(3)
-                    .when(userMapper)
-                    .updateList(anyList());
-
-            doReturn(3)
-                    .when(sharedMapper)
-                    .modifyListFromUser(anyList());
+            doReturn(new int[] { 1, 1, 1 })
+                    .when(userBatchWriteLogic)
+                    .updateChunk(anyList());
 
             doNothing()
                     .when(externalApiLogic)
@@ -166,11 +164,9 @@ class UserBulkUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
-            verify(userMapper, times(1)).updateList(entityList);
-            verify(sharedMapper, times(1))
-                    .modifyListFromUser(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03"));
+            verify(userBatchWriteLogic, times(1)).updateChunk(entityList);
             verify(externalApiLogic, times(1)).logOperation(eq("ユーザ更新（複数）"), eq(OPERATOR));
         }
 
@@ -187,7 +183,7 @@ class UserBulkUpdateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             // -----------------------------------------------------------------
@@ -203,7 +199,7 @@ class UserBulkUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
         }
 
         @DisplayName("異常終了：existsList：ApplicationException")
@@ -218,7 +214,7 @@ class UserBulkUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(false)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(new ApplicationException("", ""))
@@ -238,7 +234,7 @@ class UserBulkUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(exceptionCreator, times(1)).create(eq("402"), eq(deptIds()));
         }
 
@@ -254,7 +250,7 @@ class UserBulkUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doThrow(new DataAccessException("") {
@@ -275,7 +271,7 @@ class UserBulkUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(List.of(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsByIdList(List.of(DEPT_ID));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
         }
 
@@ -291,7 +287,7 @@ class UserBulkUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(false)
@@ -315,12 +311,12 @@ class UserBulkUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(List.of(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsByIdList(List.of(DEPT_ID));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
             verify(exceptionCreator, times(1)).create(eq("102"), eq(userIds()));
         }
 
-        @DisplayName("異常終了：updateList：DataAccessException")
+        @DisplayName("異常終了：updateChunk：DataAccessException")
         @Test
         void testNG5() throws Exception {
             // -----------------------------------------------------------------
@@ -332,7 +328,7 @@ class UserBulkUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(true)
@@ -341,8 +337,8 @@ class UserBulkUpdateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(userMapper)
-                    .updateList(anyList());
+                    .when(userBatchWriteLogic)
+                    .updateChunk(anyList());
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -357,12 +353,12 @@ class UserBulkUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(List.of(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsByIdList(List.of(DEPT_ID));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
-            verify(userMapper, times(1)).updateList(eq(entityList));
+            verify(userBatchWriteLogic, times(1)).updateChunk(eq(entityList));
         }
 
-        @DisplayName("異常終了：updateList：ApplicationException")
+        @DisplayName("異常終了：updateChunk：ApplicationException")
         @Test
         void testNG6() throws Exception {
             // -----------------------------------------------------------------
@@ -374,20 +370,16 @@ class UserBulkUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsByIdList(anyList());
 
             doReturn(true)
                     .when(userMapper)
                     .existsByIdList(anyList());
 
-            doReturn(0)
-                    .when(userMapper)
-                    .updateList(anyList());
-
-            doReturn(new ApplicationException("", ""))
-                    .when(exceptionCreator)
-                    .create(anyString(), anyString());
+            doThrow(new ApplicationException("", ""))
+                    .when(userBatchWriteLogic)
+                    .updateChunk(anyList());
 
             // -----------------------------------------------------------------
             // テスト実行
@@ -402,15 +394,53 @@ class UserBulkUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
+            verify(departmentCacheLogic, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
             verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
-            verify(userMapper, times(1)).updateList(eq(entityList));
-            verify(exceptionCreator, times(1)).create(eq("202"), eq(userIds()));
+            verify(userBatchWriteLogic, times(1)).updateChunk(eq(entityList));
+            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
+        }
+
+        private String userIds() {
+            return BASE_ID + "_01," + BASE_ID + "_02," + BASE_ID + "_03";
+        }
+
+        private String deptIds() {
+            return DEPT_ID + "," + DEPT_ID + "," + DEPT_ID;
+        }
+
+    }
+
+    @DisplayName("bulkUpdatePartial")
+    @Nested
+    class Method2 {
+
+        private static final String BASE_ID = "20250101120055111";
+        private static final String OPERATOR = "OPERATOR";
+
+        private UserBulkUpdateParam bulkParam = null;
+        private List<User> entityList = null;
+        private Set<String> deptIdSet = null;
+
+        @BeforeEach
+        void setUp() {
+            bulkParam = new UserBulkUpdateParam(List.of(
+                    new UserUpdateParam(BASE_ID + "_01", "苗字1", "名前1", "01", 0),
+                    new UserUpdateParam(BASE_ID + "_02", "苗字2", "名前2", "99", 0),
+                    new UserUpdateParam(BASE_ID + "_03", "苗字3", "名前3", "01", 0)));
+
+            entityList = List.of(
+                    new User(BASE_ID + "_01", "苗字1", "名前1", "01", 0),
+                    new User(BASE_ID + "_02", "苗字2", "名前2", "99", 0),
+                    new User(BASE_ID + "_03", "苗字3", "名前3", "01", 0));
+
+            deptIdSet = Set.of("01", "02");
         }
 
-        @DisplayName("異常終了：modifyListUserToUserSummary：DataAccessException")
+        @DisplayName("正常終了：部署が存在しない明細とバージョンが一致しない明細がある場合")
         @Test
-        void testNG7() throws Exception {
+        void testOK1() throws Exception {
+            UserBulkResult result = new UserBulkResult(3, 1, 2, List.of());
+
             // -----------------------------------------------------------------
             // モックの振る舞い設定
             // -----------------------------------------------------------------
@@ -419,46 +449,47 @@ class UserBulkUpdateServiceImplTest {
                     .when(converter)
                     .convertToEntity(any());
 
-            doReturn(true)
-                    .when(departmentMapper)
-                    .existsByIdList(anyList());
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
 
-            doReturn(true)
-                    .when(userMapper)
-                    .existsByIdList(anyList());
+            doReturn(new int[] { 1, 0 })
+                    .when(userBatchWriteLogic)
+                    .updatePartialChunk(anyList());
 
-            doReturn(3)
-                    .when(userMapper)
-                    .updateList(anyList());
-
-            doThrow(new DataAccessException("") {
-            })
-                    .when(sharedMapper)
-                    .modifyListFromUser(anyList());
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(anyList(), anyList());
 
             // -----------------------------------------------------------------
             // テスト実行
             // -----------------------------------------------------------------
 
-            // 例外が発生すること
-            assertThatThrownBy(() -> service.bulkUpdate(OPERATOR, bulkParam)).isInstanceOf(DataAccessException.class);
+            UserBulkResult actual = service.bulkUpdatePartial(OPERATOR, bulkParam);
 
             // -----------------------------------------------------------------
             // 実行結果確認
             // -----------------------------------------------------------------
 
-            // NOTE: 呼び出されるメソッドが想定通りであること
+            assertThat(actual).isEqualTo(result);
+
+            // NOTE: 部署が存在する明細だけが更新対象になり、更新件数で結果が決まること
             verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
-            verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
-            verify(userMapper, times(1)).updateList(eq(entityList));
-            verify(sharedMapper, times(1))
-                    .modifyListFromUser(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
+            verify(departmentCacheLogic, times(1)).findIdSet();
+            verify(userBatchWriteLogic, times(1))
+                    .updatePartialChunk(eq(List.of(entityList.get(0), entityList.get(2))));
+            verify(externalApiLogic, times(1)).logOperation(eq("ユーザ更新（複数）"), eq(OPERATOR));
+            verify(converter, times(1)).convertToResult(eq(entityList), eq(List.of(
+                    BulkItemStatusConstants.OK,
+                    BulkItemStatusConstants.MISSING_DEPT,
+                    BulkItemStatusConstants.CONFLICT)));
         }
 
-        @DisplayName("異常終了：modifyListUserToUserSummary：ApplicationException")
+        @DisplayName("正常終了：更新できた明細がない場合")
         @Test
-        void testNG8() throws Exception {
+        void testOK2() throws Exception {
+            UserBulkResult result = new UserBulkResult(3, 0, 3, List.of());
+
             // -----------------------------------------------------------------
             // モックの振る舞い設定
             // -----------------------------------------------------------------
@@ -467,52 +498,72 @@ class UserBulkUpdateServiceImplTest {
                     .when(converter)
                     .convertToEntity(any());
 
-            doReturn(true)
-                    .when(departmentMapper)
-                    .existsByIdList(anyList());
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
 
-            doReturn(true)
-                    .when(userMapper)
-                    .existsByIdList(anyList());
-
-            doReturn(3)
-                    .when(userMapper)
-                    .updateList(anyList());
+            doReturn(new int[] { 0, 0 })
+                    .when(userBatchWriteLogic)
+                    .updatePartialChunk(anyList());
 
-            doReturn(0)
-                    .when(sharedMapper)
-                    .modifyListFromUser(anyList());
-
-            doReturn(new ApplicationException("", ""))
-                    .when(exceptionCreator)
-                    .create(anyString(), anyString());
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(anyList(), anyList());
 
             // -----------------------------------------------------------------
             // テスト実行
             // -----------------------------------------------------------------
 
-            // 例外が発生すること
-            assertThatThrownBy(() -> service.bulkUpdate(OPERATOR, bulkParam)).isInstanceOf(ApplicationException.class);
+            UserBulkResult actual = service.bulkUpdatePartial(OPERATOR, bulkParam);
 
             // -----------------------------------------------------------------
             // 実行結果確認
             // -----------------------------------------------------------------
 
-            // NOTE: 呼び出されるメソッドが想定通りであること
-            verify(converter, times(1)).convertToEntity(eq(bulkParam));
-            verify(departmentMapper, times(1)).existsByIdList(eq(List.of(DEPT_ID)));
-            verify(userMapper, times(1)).existsByIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02", BASE_ID + "_03")));
-            verify(userMapper, times(1)).updateList(eq(entityList));
-            verify(sharedMapper, times(1)).modifyListFromUser(anyList());
-            verify(exceptionCreator, times(1)).create(eq("302"), eq(userIds()));
-        }
+            assertThat(actual).isEqualTo(result);
 
-        private String userIds() {
-            return BASE_ID + "_01," + BASE_ID + "_02," + BASE_ID + "_03";
+            // NOTE: 操作ログの保存が行われないこと
+            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
+            verify(converter, times(1)).convertToResult(eq(entityList), eq(List.of(
+                    BulkItemStatusConstants.CONFLICT,
+                    BulkItemStatusConstants.MISSING_DEPT,
+                    BulkItemStatusConstants.CONFLICT)));
         }
 
-        private String deptIds() {
-            return DEPT_ID + "," + DEPT_ID + "," + DEPT_ID;
+        @DisplayName("異常終了：updatePartialChunk：DataAccessException")
+        @Test
+        void testNG1() throws Exception {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(entityList)
+                    .when(converter)
+                    .convertToEntity(any());
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(userBatchWriteLogic)
+                    .updatePartialChunk(anyList());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service.bulkUpdatePartial(OPERATOR, bulkParam))
+                    .isInstanceOf(DataAccessException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(externalApiLogic, never()).logOperation(anyString(), anyString());
+            verify(converter, never()).convertToResult(anyList(), anyList());
         }
 
     }
@@ -67,7 +67,7 @@ class UserCreateServiceImplConverterTest {
             // モックの振る舞い設定
             // -----------------------------------------------------------------
 
-            doReturn(BASE_ID)
+            doReturn(BASE_ID + "_01")
                     .when(generateIdLogic)
                     .generateId();
 
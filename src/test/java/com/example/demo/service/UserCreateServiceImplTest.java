@@ -14,12 +14,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 
 import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.ExceptionCreator;
 import com.example.demo.logic.LoggingLogic;
-import com.example.demo.mapper.DepartmentMapper;
+import com.example.demo.logic.UserSummaryProjectionLogic;
 import com.example.demo.mapper.User;
 import com.example.demo.mapper.UserMapper;
-import com.example.demo.mapper.UserSummaryMapper;
 
 // NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
 // NOTE: 業務処理が想定した順番で行われるかということ
@@ -41,13 +41,13 @@ class UserCreateServiceImplTest {
     private UserCreateServiceImplConverter converter;
 
     @Mock
-    private DepartmentMapper departmentMapper;
+    private DepartmentCacheLogic departmentCacheLogic;
 
     @Mock
     private UserMapper userMapper;
 
     @Mock
-    private UserSummaryMapper sharedMapper;
+    private UserSummaryProjectionLogic userSummaryProjectionLogic;
 
     @Mock
     private ExceptionCreator exceptionCreator;
@@ -104,7 +104,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(false)
@@ -116,7 +116,7 @@ class UserCreateServiceImplTest {
                     .insert(any());
 
             doReturn(1)
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .copyFromUser(anyString());
 
             doNothing()
@@ -136,10 +136,10 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).insert(eq(entity));
-            verify(sharedMapper, times(1)).copyFromUser(eq(BASE_ID + "_01"));
+            verify(userSummaryProjectionLogic, times(1)).copyFromUser(eq(BASE_ID + "_01"));
             verify(externalApiLogic, times(1)).logOperation(eq("ユーザ登録"), eq(OPERATOR));
         }
 
@@ -156,7 +156,7 @@ class UserCreateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             // -----------------------------------------------------------------
@@ -172,7 +172,7 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
 
         }
 
@@ -188,7 +188,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(false)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(new ApplicationException("", ""))
@@ -204,7 +204,7 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(exceptionCreator, times(1)).create(eq("401"), eq(deptId()));
         }
 
@@ -220,7 +220,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doThrow(new DataAccessException("") {
@@ -241,7 +241,7 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
 
         }
@@ -258,7 +258,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(true)
@@ -278,7 +278,7 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(exceptionCreator, times(1)).create(eq("101"), eq(userId()));
         }
@@ -295,7 +295,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(false)
@@ -320,7 +320,7 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).insert(eq(entity));
         }
@@ -337,7 +337,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(false)
@@ -365,7 +365,7 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).insert(eq(entity));
             verify(exceptionCreator, times(1)).create(eq("201"), eq(userId()));
@@ -383,7 +383,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(false)
@@ -396,7 +396,7 @@ class UserCreateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .copyFromUser(anyString());
 
             // -----------------------------------------------------------------
@@ -412,10 +412,10 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).insert(eq(entity));
-            verify(sharedMapper, times(1)).copyFromUser(eq(BASE_ID + "_01"));
+            verify(userSummaryProjectionLogic, times(1)).copyFromUser(eq(BASE_ID + "_01"));
         }
 
         @DisplayName("異常終了：copyUserToUserSummary：ApplicationException")
@@ -430,7 +430,7 @@ class UserCreateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(false)
@@ -442,7 +442,7 @@ class UserCreateServiceImplTest {
                     .insert(any());
 
             doReturn(0)
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .copyFromUser(anyString());
 
             doReturn(new ApplicationException("", ""))
@@ -462,10 +462,10 @@ class UserCreateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).insert(eq(entity));
-            verify(sharedMapper, times(1)).copyFromUser(eq(BASE_ID + "_01"));
+            verify(userSummaryProjectionLogic, times(1)).copyFromUser(eq(BASE_ID + "_01"));
             verify(exceptionCreator, times(1)).create(eq("301"), eq(userId()));
         }
 
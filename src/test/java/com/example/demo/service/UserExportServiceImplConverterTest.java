@@ -0,0 +1,166 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.PropertyNamingStrategies;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.fasterxml.jackson.datatype.jsr310.ser.LocalDateSerializer;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceImplConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserExportServiceImplConverter converter;
+
+    // NOTE: 実際の変換結果を確認したいので@Spy
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper()
+            .setPropertyNamingStrategy(PropertyNamingStrategies.SNAKE_CASE)
+            .registerModule(new JavaTimeModule()
+                    .addSerializer(LocalDate.class, new LocalDateSerializer(DateTimeFormatter.ISO_LOCAL_DATE)));
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("convertToCondition")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            UserExportParam param = new UserExportParam(
+                    "苗字名前",
+                    "01",
+                    LocalDate.of(2025, 1, 1),
+                    LocalDate.of(2025, 12, 31),
+                    "ndjson");
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserSummaryCondition condition = converter.convertToCondition(param);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(condition.getName()).isEqualTo("苗字名前");
+            assertThat(condition.getDeptId()).isEqualTo("01");
+            assertThat(condition.getBeginUpdatedAt()).isEqualTo(LocalDate.of(2025, 1, 1));
+            assertThat(condition.getEndUpdatedAt()).isEqualTo(LocalDate.of(2025, 12, 31));
+            assertThat(condition.getLimit()).isNull();
+            assertThat(condition.getOffset()).isNull();
+            assertThat(condition.getAfterUserId()).isNull();
+        }
+
+    }
+
+    @DisplayName("convertToHeader")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了：ndjson")
+        @Test
+        void testOK1() {
+            assertThat(converter.convertToHeader("ndjson")).isEmpty();
+        }
+
+        @DisplayName("正常終了：csv")
+        @Test
+        void testOK2() {
+            assertThat(converter.convertToHeader("csv"))
+                    .isEqualTo("name,dept_id,dept_name,last_updated_at,user_id,user_version\n");
+        }
+
+    }
+
+    @DisplayName("convertToLine")
+    @Nested
+    class Method3 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final LocalDate LAST_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final String USER_ID = "20250101120055111_01";
+
+        @DisplayName("正常終了：ndjson")
+        @Test
+        void testOK1() throws Exception {
+            UserSummary entity = new UserSummary("苗字名前", "01", "部署1", LAST_UPDATED_AT, USER_ID, 0);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            String line = converter.convertToLine(entity, "ndjson");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(line).isEqualTo("{\"name\":\"苗字名前\",\"dept_id\":\"01\",\"dept_name\":\"部署1\","
+                    + "\"last_updated_at\":\"2025-01-01\",\"user_id\":\"20250101120055111_01\",\"user_version\":0}\n");
+        }
+
+        @DisplayName("正常終了：csv")
+        @Test
+        void testOK2() throws Exception {
+            UserSummary entity = new UserSummary("苗字名前", "01", "部署1", LAST_UPDATED_AT, USER_ID, 0);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            String line = converter.convertToLine(entity, "csv");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(line).isEqualTo("苗字名前,01,部署1,2025-01-01,20250101120055111_01,0\n");
+        }
+
+        @DisplayName("正常終了：csvのエスケープ")
+        @Test
+        void testOK3() throws Exception {
+            UserSummary entity = new UserSummary("苗字,\"名前\"", "01", "部署1", LAST_UPDATED_AT, USER_ID, 0);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            String line = converter.convertToLine(entity, "csv");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(line).isEqualTo("\"苗字,\"\"名前\"\"\",01,部署1,2025-01-01,20250101120055111_01,0\n");
+        }
+
+    }
+
+}
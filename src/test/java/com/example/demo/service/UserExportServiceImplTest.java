@@ -0,0 +1,277 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.List;
+
+import org.apache.ibatis.cursor.Cursor;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserSummaryArchiveLogic;
+import com.example.demo.mapper.UserSummary;
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryMapper;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserExportServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserExportServiceImpl service;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserExportServiceImplConverter converter;
+
+    @Mock
+    private UserSummaryMapper userSummaryMapper;
+
+    @Mock
+    private UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    @Mock
+    private UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    @Mock
+    private LoggingLogic loggingLogic;
+
+    @Mock
+    private Cursor<UserSummary> cursor;
+
+    @Mock
+    private Cursor<UserSummary> archiveCursor;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("export")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String NAME = "苗字名前";
+        private static final String DEPT_ID = "01";
+        private static final String DEPT_NAME = "部署名";
+        private static final LocalDate BEGIN_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final LocalDate END_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final String OPERATOR = "OPERATOR";
+        private static final LocalDate LAST_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final String BASE_USER_ID = "20250101120055111";
+        private static final Integer USER_VERSION = 0;
+        private static final String FORMAT = "csv";
+        private static final String HEADER = "header\n";
+
+        private UserExportParam param = null;
+        private UserSummaryCondition condition = null;
+        private List<UserSummary> entityList = null;
+
+        @BeforeEach
+        void setUp() {
+            // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+
+            param = new UserExportParam(
+                    NAME,
+                    DEPT_ID,
+                    BEGIN_UPDATED_AT,
+                    END_UPDATED_AT,
+                    FORMAT);
+
+            condition = new UserSummaryCondition(
+                    NAME,
+                    DEPT_ID,
+                    BEGIN_UPDATED_AT,
+                    END_UPDATED_AT,
+                    null,
+                    null,
+                    null);
+
+            entityList = List.of(
+                    new UserSummary(NAME, DEPT_ID, DEPT_NAME, LAST_UPDATED_AT, BASE_USER_ID + "_01", USER_VERSION),
+                    new UserSummary(NAME, DEPT_ID, DEPT_NAME, LAST_UPDATED_AT, BASE_USER_ID + "_02", USER_VERSION));
+        }
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() throws Exception {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(condition)
+                    .when(converter)
+                    .convertToCondition(any());
+
+            doReturn(HEADER)
+                    .when(converter)
+                    .convertToHeader(anyString());
+
+            doReturn(cursor)
+                    .when(userSummaryMapper)
+                    .findCursor(any());
+
+            doReturn(entityList.iterator())
+                    .when(cursor)
+                    .iterator();
+
+            doReturn("line1\n", "line2\n")
+                    .when(converter)
+                    .convertToLine(any(), anyString());
+
+            doNothing()
+                    .when(loggingLogic)
+                    .logOperation(anyString(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.export(OPERATOR, param, outputStream);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(HEADER + "line1\n" + "line2\n");
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToCondition(eq(param));
+            verify(converter, times(1)).convertToHeader(eq(FORMAT));
+            verify(userSummaryMapper, times(1)).findCursor(eq(condition));
+            verify(converter, times(1)).convertToLine(eq(entityList.get(0)), eq(FORMAT));
+            verify(converter, times(1)).convertToLine(eq(entityList.get(1)), eq(FORMAT));
+            verify(cursor, times(1)).close();
+            verify(userSummaryArchiveMapper, never()).findCursor(any());
+            verify(loggingLogic, times(1)).logOperation(eq("ユーザエクスポート"), eq(OPERATOR));
+        }
+
+        @DisplayName("正常終了：更新日の範囲がアーカイブにかかる場合はアーカイブも書き込む")
+        @Test
+        void testOK2() throws Exception {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(condition)
+                    .when(converter)
+                    .convertToCondition(any());
+
+            doReturn(HEADER)
+                    .when(converter)
+                    .convertToHeader(anyString());
+
+            doReturn(cursor)
+                    .when(userSummaryMapper)
+                    .findCursor(any());
+
+            doReturn(List.of(entityList.get(0)).iterator())
+                    .when(cursor)
+                    .iterator();
+
+            doReturn(true)
+                    .when(userSummaryArchiveLogic)
+                    .includesArchive(any());
+
+            doReturn(archiveCursor)
+                    .when(userSummaryArchiveMapper)
+                    .findCursor(any());
+
+            doReturn(List.of(entityList.get(1)).iterator())
+                    .when(archiveCursor)
+                    .iterator();
+
+            doReturn("line1\n", "line2\n")
+                    .when(converter)
+                    .convertToLine(any(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            service.export(OPERATOR, param, outputStream);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(outputStream.toString(StandardCharsets.UTF_8)).isEqualTo(HEADER + "line1\n" + "line2\n");
+
+            // NOTE: ユーザ概要を書き込んでからアーカイブを書き込むこと
+            verify(userSummaryArchiveLogic, times(1)).includesArchive(eq(condition));
+            verify(userSummaryArchiveMapper, times(1)).findCursor(eq(condition));
+            verify(converter, times(1)).convertToLine(eq(entityList.get(0)), eq(FORMAT));
+            verify(converter, times(1)).convertToLine(eq(entityList.get(1)), eq(FORMAT));
+            verify(cursor, times(1)).close();
+            verify(archiveCursor, times(1)).close();
+        }
+
+        @DisplayName("異常終了：DataAccessException")
+        @Test
+        void testNG1() throws Exception {
+            ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(condition)
+                    .when(converter)
+                    .convertToCondition(any());
+
+            doReturn(HEADER)
+                    .when(converter)
+                    .convertToHeader(anyString());
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(userSummaryMapper)
+                    .findCursor(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service.export(OPERATOR, param, outputStream))
+                    .isInstanceOf(DataAccessException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToCondition(eq(param));
+            verify(userSummaryMapper, times(1)).findCursor(eq(condition));
+            verify(loggingLogic, never()).logOperation(anyString(), anyString());
+        }
+
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryFacet;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserFacetServiceImplConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    @InjectMocks
+    private UserFacetServiceImplConverter converter;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("convertToCondition")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String NAME = "苗字1名前1";
+        private static final String DEPT_ID = "01";
+        private static final LocalDate BEGIN_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final LocalDate END_UPDATED_AT = LocalDate.of(2025, 1, 31);
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserSummaryCondition condition = converter.convertToCondition(
+                    new UserFacetParam(NAME, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT));
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(condition.getName()).isEqualTo(NAME);
+            assertThat(condition.getDeptId()).isEqualTo(DEPT_ID);
+            assertThat(condition.getBeginUpdatedAt()).isEqualTo(BEGIN_UPDATED_AT);
+            assertThat(condition.getEndUpdatedAt()).isEqualTo(END_UPDATED_AT);
+
+            // NOTE: すべての行を数えるため、リミット、オフセット、カーソルは指定しないこと
+            assertThat(condition.getLimit()).isNull();
+            assertThat(condition.getOffset()).isNull();
+            assertThat(condition.getAfterUserId()).isNull();
+        }
+
+    }
+
+    @DisplayName("convertToResult")
+    @Nested
+    class Method2 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final LocalDate DAY1 = LocalDate.of(2025, 1, 1);
+        private static final LocalDate DAY2 = LocalDate.of(2025, 1, 2);
+
+        @DisplayName("正常終了：部署ごと、更新日ごとに足し合わせて昇順に並べる")
+        @Test
+        void testOK1() {
+            List<UserSummaryFacet> entityList = List.of(
+                    new UserSummaryFacet("01", DAY2, 1),
+                    new UserSummaryFacet("02", DAY1, 2),
+                    new UserSummaryFacet("01", DAY1, 3));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserFacetResult result = converter.convertToResult(entityList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(result.getTotalCount()).isEqualTo(6);
+            assertThat(result.getDeptList()).containsExactly(
+                    new UserFacetResultDeptData("01", 4),
+                    new UserFacetResultDeptData("02", 2));
+            assertThat(result.getDayList()).containsExactly(
+                    new UserFacetResultDayData(DAY1, 5),
+                    new UserFacetResultDayData(DAY2, 1));
+        }
+
+        @DisplayName("正常終了：該当なし")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserFacetResult result = converter.convertToResult(List.of());
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(result.getTotalCount()).isEqualTo(0);
+            assertThat(result.getDeptList()).isEmpty();
+            assertThat(result.getDayList()).isEmpty();
+        }
+
+    }
+
+}
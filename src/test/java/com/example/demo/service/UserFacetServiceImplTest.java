@@ -0,0 +1,207 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.mapper.UserSummaryCondition;
+import com.example.demo.mapper.UserSummaryFacet;
+import com.example.demo.mapper.UserSummaryFacetMapper;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserFacetServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserFacetServiceImpl service;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserFacetServiceImplConverter converter;
+
+    @Mock
+    private UserSummaryFacetMapper userSummaryFacetMapper;
+
+    @Mock
+    private LoggingLogic loggingLogic;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("facet")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String NAME = "苗字1名前1";
+        private static final String DEPT_ID = "01";
+        private static final LocalDate BEGIN_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final LocalDate END_UPDATED_AT = LocalDate.of(2025, 1, 31);
+        private static final LocalDate LAST_UPDATED_AT = LocalDate.of(2025, 1, 1);
+        private static final String OPERATOR = "OPERATOR";
+
+        private List<UserSummaryFacet> entityList = null;
+        private UserFacetResult result = null;
+
+        @BeforeEach
+        void setUp() {
+            // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+
+            entityList = List.of(new UserSummaryFacet(DEPT_ID, LAST_UPDATED_AT, 3));
+
+            result = new UserFacetResult(
+                    3,
+                    List.of(new UserFacetResultDeptData(DEPT_ID, 3)),
+                    List.of(new UserFacetResultDayData(LAST_UPDATED_AT, 3)));
+        }
+
+        @DisplayName("正常終了：フルネームを指定しない場合は集計表から取得する")
+        @Test
+        void testOK1() throws Exception {
+            UserFacetParam param = new UserFacetParam(null, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT);
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    null, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT, null, null, null);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(condition)
+                    .when(converter)
+                    .convertToCondition(any());
+
+            doReturn(entityList)
+                    .when(userSummaryFacetMapper)
+                    .find(any());
+
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(any());
+
+            doNothing()
+                    .when(loggingLogic)
+                    .logOperation(anyString(), anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserFacetResult actual = service.facet(OPERATOR, param);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(result);
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, times(1)).convertToCondition(eq(param));
+            verify(userSummaryFacetMapper, times(1)).find(eq(condition));
+            verify(userSummaryFacetMapper, never()).findFromSummary(any());
+            verify(converter, times(1)).convertToResult(eq(entityList));
+            verify(loggingLogic, times(1)).logOperation(eq("ユーザ件数集計"), eq(OPERATOR));
+        }
+
+        @DisplayName("正常終了：フルネームを指定した場合はユーザ概要を数える")
+        @Test
+        void testOK2() throws Exception {
+            UserFacetParam param = new UserFacetParam(NAME, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT);
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    NAME, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT, null, null, null);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(condition)
+                    .when(converter)
+                    .convertToCondition(any());
+
+            doReturn(entityList)
+                    .when(userSummaryFacetMapper)
+                    .findFromSummary(any());
+
+            doReturn(result)
+                    .when(converter)
+                    .convertToResult(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserFacetResult actual = service.facet(OPERATOR, param);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(actual).isEqualTo(result);
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(userSummaryFacetMapper, times(1)).findFromSummary(eq(condition));
+            verify(userSummaryFacetMapper, never()).find(any());
+            verify(loggingLogic, times(1)).logOperation(eq("ユーザ件数集計"), eq(OPERATOR));
+        }
+
+        @DisplayName("異常終了：DataAccessException")
+        @Test
+        void testNG1() throws Exception {
+            UserFacetParam param = new UserFacetParam(null, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT);
+            UserSummaryCondition condition = new UserSummaryCondition(
+                    null, DEPT_ID, BEGIN_UPDATED_AT, END_UPDATED_AT, null, null, null);
+
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(condition)
+                    .when(converter)
+                    .convertToCondition(any());
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(userSummaryFacetMapper)
+                    .find(any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service.facet(OPERATOR, param)).isInstanceOf(DataAccessException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(converter, never()).convertToResult(any());
+            verify(loggingLogic, never()).logOperation(anyString(), anyString());
+        }
+
+    }
+
+}
@@ -0,0 +1,209 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.logic.GenerateIdLogic;
+import com.example.demo.mapper.User;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+// NOTE: Componentのテストは処理の内容が正しく行われるかだけに観点を置く
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceImplConverterTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserImportServiceImplConverter converter;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private GenerateIdLogic generateIdLogic;
+
+    @Mock
+    private ExceptionCreator exceptionCreator;
+
+    // NOTE: 実際に読み込んだ結果を確認したいので@Spy
+    @Spy
+    private ObjectMapper objectMapper = new ObjectMapper();
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("hasHeader")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            assertThat(converter.hasHeader("csv")).isTrue();
+            assertThat(converter.hasHeader("ndjson")).isFalse();
+        }
+
+    }
+
+    @DisplayName("isValidHeader")
+    @Nested
+    class Method2 {
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            assertThat(converter.isValidHeader("family_name,first_name,dept_id")).isTrue();
+            assertThat(converter.isValidHeader("family_name,first_name,dept_id\r")).isTrue();
+            assertThat(converter.isValidHeader("first_name,family_name,dept_id")).isFalse();
+            assertThat(converter.isValidHeader(null)).isFalse();
+        }
+
+    }
+
+    @DisplayName("convertToRecord")
+    @Nested
+    class Method3 {
+
+        @DisplayName("正常終了：ndjson")
+        @Test
+        void testOK1() throws Exception {
+            UserImportRecord record = converter.convertToRecord(
+                    1,
+                    "{\"family_name\":\"苗字\",\"first_name\":\"名前\",\"dept_id\":\"01\",\"extra\":{\"a\":1}}",
+                    "ndjson");
+
+            assertThat(record).isEqualTo(new UserImportRecord(1, "苗字", "名前", "01"));
+        }
+
+        @DisplayName("正常終了：ndjson：項目なし、null、数値")
+        @Test
+        void testOK2() throws Exception {
+            UserImportRecord record = converter.convertToRecord(
+                    2,
+                    "{\"first_name\":null,\"dept_id\":1}",
+                    "ndjson");
+
+            assertThat(record).isEqualTo(new UserImportRecord(2, null, null, "1"));
+        }
+
+        @DisplayName("正常終了：csv")
+        @Test
+        void testOK3() throws Exception {
+            UserImportRecord record = converter.convertToRecord(3, "苗字,名前,01", "csv");
+
+            assertThat(record).isEqualTo(new UserImportRecord(3, "苗字", "名前", "01"));
+        }
+
+        @DisplayName("正常終了：csv：囲み文字")
+        @Test
+        void testOK4() throws Exception {
+            UserImportRecord record = converter.convertToRecord(4, "\"苗,字\",\"名\"\"前\",01", "csv");
+
+            assertThat(record).isEqualTo(new UserImportRecord(4, "苗,字", "名\"前", "01"));
+        }
+
+        @DisplayName("異常終了：ndjson：JSONでない")
+        @Test
+        void testNG1() {
+            doReturn(new ApplicationException("903", "リクエスト構造エラーが発生しました"))
+                    .when(exceptionCreator)
+                    .create(anyString());
+
+            assertThatThrownBy(() -> converter.convertToRecord(1, "{\"family_name\":", "ndjson"))
+                    .isInstanceOf(ApplicationException.class);
+        }
+
+        @DisplayName("異常終了：ndjson：オブジェクトでない")
+        @Test
+        void testNG2() {
+            doReturn(new ApplicationException("903", "リクエスト構造エラーが発生しました"))
+                    .when(exceptionCreator)
+                    .create(anyString());
+
+            assertThatThrownBy(() -> converter.convertToRecord(1, "[1,2]", "ndjson"))
+                    .isInstanceOf(ApplicationException.class);
+        }
+
+        @DisplayName("異常終了：csv：列数が異なる")
+        @Test
+        void testNG3() {
+            doReturn(new ApplicationException("903", "リクエスト構造エラーが発生しました"))
+                    .when(exceptionCreator)
+                    .create(anyString());
+
+            assertThatThrownBy(() -> converter.convertToRecord(1, "苗字,名前", "csv"))
+                    .isInstanceOf(ApplicationException.class);
+        }
+
+        @DisplayName("異常終了：csv：囲み文字が閉じていない")
+        @Test
+        void testNG4() {
+            doReturn(new ApplicationException("903", "リクエスト構造エラーが発生しました"))
+                    .when(exceptionCreator)
+                    .create(anyString());
+
+            assertThatThrownBy(() -> converter.convertToRecord(1, "\"苗字,名前,01", "csv"))
+                    .isInstanceOf(ApplicationException.class);
+        }
+
+    }
+
+    @DisplayName("convertToEntityList")
+    @Nested
+    class Method4 {
+
+        private static final String ID1 = "20250101120055111";
+        private static final String ID2 = "20250101120055112";
+
+        @DisplayName("正常終了：件数分のIDをまとめて採番する")
+        @Test
+        void testOK1() {
+            List<UserImportRecord> recordList = IntStream.rangeClosed(1, 100)
+                    .mapToObj(i -> new UserImportRecord(i, "苗字", "名前" + i, "01"))
+                    .toList();
+
+            List<String> idList = IntStream.range(0, 100)
+                    .mapToObj(i -> i < 99 ? String.format("%s_%02d", ID1, i + 1) : ID2 + "_01")
+                    .toList();
+
+            // NOTE: 件数分のIDが1回でまとめて採番されること
+            doReturn(idList)
+                    .when(generateIdLogic)
+                    .generateIdList(anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            List<User> entityList = converter.convertToEntityList(recordList);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(entityList).hasSize(100);
+            assertThat(entityList.get(0)).isEqualTo(new User(ID1 + "_01", "苗字", "名前1", "01", 0));
+            assertThat(entityList.get(98)).isEqualTo(new User(ID1 + "_99", "苗字", "名前99", "01", 0));
+            assertThat(entityList.get(99)).isEqualTo(new User(ID2 + "_01", "苗字", "名前100", "01", 0));
+            verify(generateIdLogic, times(1)).generateIdList(eq(100));
+        }
+
+    }
+
+}
@@ -0,0 +1,431 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Set;
+
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.MessageSource;
+import org.springframework.dao.QueryTimeoutException;
+
+import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.constant.OperationConstants;
+import com.example.demo.logic.DepartmentCacheLogic;
+import com.example.demo.logic.ExceptionCreator;
+import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserBatchWriteLogic;
+import com.example.demo.mapper.User;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserImportServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: チャンクサイズはintのため@InjectMocksでは設定できないので、@BeforeEachで生成する
+    private UserImportServiceImpl service;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserImportServiceImplConverter converter;
+
+    @Mock
+    private DepartmentCacheLogic departmentCacheLogic;
+
+    @Mock
+    private UserBatchWriteLogic userBatchWriteLogic;
+
+    @Mock
+    private MessageSource messageSource;
+
+    @Mock
+    private ExceptionCreator exceptionCreator;
+
+    @Mock
+    private LoggingLogic loggingLogic;
+
+    // NOTE: バリデーションの結果を確認したいので実物を使う
+    private Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private static final int CHUNK_SIZE = 2;
+
+    @BeforeEach
+    void beforeEach() {
+        service = new UserImportServiceImpl(
+                converter,
+                departmentCacheLogic,
+                userBatchWriteLogic,
+                validator,
+                messageSource,
+                exceptionCreator,
+                loggingLogic,
+                CHUNK_SIZE);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("importUsers")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String OPERATOR = "OPERATOR";
+        private static final String NDJSON = "ndjson";
+        private static final String CSV = "csv";
+
+        private Set<String> deptIdSet = Set.of("01", "02");
+
+        private InputStream toInputStream(String text) {
+            return new ByteArrayInputStream(text.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // NOTE: 正常系
+
+        @DisplayName("正常終了：チャンクごとに登録する")
+        @Test
+        void testOK1() throws Exception {
+            UserImportParam param = new UserImportParam(NDJSON);
+            InputStream inputStream = toInputStream("line1\nline2\n\nline4\n");
+
+            UserImportRecord record1 = new UserImportRecord(1, "苗字", "名前1", "01");
+            UserImportRecord record2 = new UserImportRecord(2, "苗字", "名前2", "02");
+            UserImportRecord record4 = new UserImportRecord(4, "苗字", "名前4", "01");
+            List<User> entityList1 = List.of(
+                    new User("20250101120055111_01", "苗字", "名前1", "01", 0),
+                    new User("20250101120055111_02", "苗字", "名前2", "02", 0));
+            List<User> entityList2 = List.of(
+                    new User("20250101120055112_01", "苗字", "名前4", "01", 0));
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(false)
+                    .when(converter)
+                    .hasHeader(NDJSON);
+
+            doReturn(record1)
+                    .when(converter)
+                    .convertToRecord(1, "line1", NDJSON);
+
+            doReturn(record2)
+                    .when(converter)
+                    .convertToRecord(2, "line2", NDJSON);
+
+            doReturn(record4)
+                    .when(converter)
+                    .convertToRecord(4, "line4", NDJSON);
+
+            doReturn(entityList1)
+                    .when(converter)
+                    .convertToEntityList(List.of(record1, record2));
+
+            doReturn(entityList2)
+                    .when(converter)
+                    .convertToEntityList(List.of(record4));
+
+            doReturn(2)
+                    .when(userBatchWriteLogic)
+                    .insertChunk(entityList1);
+
+            doReturn(1)
+                    .when(userBatchWriteLogic)
+                    .insertChunk(entityList2);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserImportResult result = service.importUsers(OPERATOR, param, inputStream);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(result).isEqualTo(new UserImportResult(
+                    3,
+                    3,
+                    0,
+                    List.of(
+                            new UserImportResultChunkData(1, 2, 0),
+                            new UserImportResultChunkData(2, 1, 0)),
+                    List.of()));
+
+            verify(userBatchWriteLogic, times(2)).insertChunk(anyList());
+            verify(loggingLogic, times(1)).logOperation(OperationConstants.USER_IMPORT, OPERATOR);
+        }
+
+        @DisplayName("正常終了：形式エラー、チェックエラー、部署なしのレコードはエラーにして他のレコードは登録する")
+        @Test
+        void testOK2() throws Exception {
+            UserImportParam param = new UserImportParam(NDJSON);
+            InputStream inputStream = toInputStream("line1\nline2\nline3\nline4\n");
+
+            UserImportRecord record2 = new UserImportRecord(2, "", "名前2", "1");
+            UserImportRecord record3 = new UserImportRecord(3, "苗字", "名前3", "99");
+            UserImportRecord record4 = new UserImportRecord(4, "苗字", "名前4", "01");
+            List<User> entityList = List.of(
+                    new User("20250101120055111_01", "苗字", "名前4", "01", 0));
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(false)
+                    .when(converter)
+                    .hasHeader(NDJSON);
+
+            doThrow(new ApplicationException("903", "リクエスト構造エラーが発生しました"))
+                    .when(converter)
+                    .convertToRecord(1, "line1", NDJSON);
+
+            doReturn(record2)
+                    .when(converter)
+                    .convertToRecord(2, "line2", NDJSON);
+
+            doReturn(record3)
+                    .when(converter)
+                    .convertToRecord(3, "line3", NDJSON);
+
+            doReturn(record4)
+                    .when(converter)
+                    .convertToRecord(4, "line4", NDJSON);
+
+            doReturn("登録に使用する部署が存在しません：99")
+                    .when(messageSource)
+                    .getMessage(eq("401"), any(), any());
+
+            doReturn(entityList)
+                    .when(converter)
+                    .convertToEntityList(List.of(record4));
+
+            doReturn(1)
+                    .when(userBatchWriteLogic)
+                    .insertChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserImportResult result = service.importUsers(OPERATOR, param, inputStream);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(result).isEqualTo(new UserImportResult(
+                    4,
+                    1,
+                    3,
+                    List.of(
+                            new UserImportResultChunkData(1, 0, 2),
+                            new UserImportResultChunkData(2, 1, 1)),
+                    List.of(
+                            new UserImportResultRejectData(1, List.of("903:リクエスト構造エラーが発生しました")),
+                            new UserImportResultRejectData(2, List.of(
+                                    "deptId:部署IDは「2桁の数字」形式です。",
+                                    "familyName:1以上、50以下の桁数です。")),
+                            new UserImportResultRejectData(3, List.of("401:登録に使用する部署が存在しません：99")))));
+
+            verify(userBatchWriteLogic, times(1)).insertChunk(anyList());
+            verify(loggingLogic, times(1)).logOperation(OperationConstants.USER_IMPORT, OPERATOR);
+        }
+
+        @DisplayName("正常終了：登録に失敗したチャンクのレコードはすべてエラーにする")
+        @Test
+        void testOK3() throws Exception {
+            UserImportParam param = new UserImportParam(NDJSON);
+            InputStream inputStream = toInputStream("line1\nline2\nline3\n");
+
+            UserImportRecord record1 = new UserImportRecord(1, "苗字", "名前1", "01");
+            UserImportRecord record2 = new UserImportRecord(2, "苗字", "名前2", "01");
+            UserImportRecord record3 = new UserImportRecord(3, "苗字", "名前3", "01");
+            List<User> entityList1 = List.of(
+                    new User("20250101120055111_01", "苗字", "名前1", "01", 0),
+                    new User("20250101120055111_02", "苗字", "名前2", "01", 0));
+            List<User> entityList2 = List.of(
+                    new User("20250101120055112_01", "苗字", "名前3", "01", 0));
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(false)
+                    .when(converter)
+                    .hasHeader(NDJSON);
+
+            doReturn(record1)
+                    .when(converter)
+                    .convertToRecord(1, "line1", NDJSON);
+
+            doReturn(record2)
+                    .when(converter)
+                    .convertToRecord(2, "line2", NDJSON);
+
+            doReturn(record3)
+                    .when(converter)
+                    .convertToRecord(3, "line3", NDJSON);
+
+            doReturn(entityList1)
+                    .when(converter)
+                    .convertToEntityList(List.of(record1, record2));
+
+            doReturn(entityList2)
+                    .when(converter)
+                    .convertToEntityList(List.of(record3));
+
+            doThrow(new QueryTimeoutException("タイムアウト"))
+                    .when(userBatchWriteLogic)
+                    .insertChunk(entityList1);
+
+            doThrow(new ApplicationException("301", "コピーに失敗しました：20250101120055112_01"))
+                    .when(userBatchWriteLogic)
+                    .insertChunk(entityList2);
+
+            doReturn("DBエラーが発生しました")
+                    .when(messageSource)
+                    .getMessage(eq("902"), any(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserImportResult result = service.importUsers(OPERATOR, param, inputStream);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(result).isEqualTo(new UserImportResult(
+                    3,
+                    0,
+                    3,
+                    List.of(
+                            new UserImportResultChunkData(1, 0, 2),
+                            new UserImportResultChunkData(2, 0, 1)),
+                    List.of(
+                            new UserImportResultRejectData(1, List.of("902:DBエラーが発生しました")),
+                            new UserImportResultRejectData(2, List.of("902:DBエラーが発生しました")),
+                            new UserImportResultRejectData(3, List.of("301:コピーに失敗しました：20250101120055112_01")))));
+
+            verify(loggingLogic, times(1)).logOperation(OperationConstants.USER_IMPORT, OPERATOR);
+        }
+
+        @DisplayName("正常終了：csv：ヘッダ行は登録しない")
+        @Test
+        void testOK4() throws Exception {
+            UserImportParam param = new UserImportParam(CSV);
+            InputStream inputStream = toInputStream("header\nline2\n");
+
+            UserImportRecord record2 = new UserImportRecord(2, "苗字", "名前2", "01");
+            List<User> entityList = List.of(
+                    new User("20250101120055111_01", "苗字", "名前2", "01", 0));
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(true)
+                    .when(converter)
+                    .hasHeader(CSV);
+
+            doReturn(true)
+                    .when(converter)
+                    .isValidHeader("header");
+
+            doReturn(record2)
+                    .when(converter)
+                    .convertToRecord(2, "line2", CSV);
+
+            doReturn(entityList)
+                    .when(converter)
+                    .convertToEntityList(List.of(record2));
+
+            doReturn(1)
+                    .when(userBatchWriteLogic)
+                    .insertChunk(entityList);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserImportResult result = service.importUsers(OPERATOR, param, inputStream);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(result).isEqualTo(new UserImportResult(
+                    1,
+                    1,
+                    0,
+                    List.of(new UserImportResultChunkData(1, 1, 0)),
+                    List.of()));
+        }
+
+        // NOTE: 異常系
+
+        @DisplayName("異常終了：csv：ヘッダが正しくない")
+        @Test
+        void testNG1() throws Exception {
+            UserImportParam param = new UserImportParam(CSV);
+            InputStream inputStream = toInputStream("header\nline2\n");
+
+            doReturn(deptIdSet)
+                    .when(departmentCacheLogic)
+                    .findIdSet();
+
+            doReturn(true)
+                    .when(converter)
+                    .hasHeader(CSV);
+
+            doReturn(false)
+                    .when(converter)
+                    .isValidHeader("header");
+
+            doReturn(new ApplicationException("903", "リクエスト構造エラーが発生しました"))
+                    .when(exceptionCreator)
+                    .create(anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            assertThatThrownBy(() -> service.importUsers(OPERATOR, param, inputStream))
+                    .isInstanceOf(ApplicationException.class)
+                    .hasFieldOrPropertyWithValue("errorId", "903");
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userBatchWriteLogic, never()).insertChunk(anyList());
+            verify(loggingLogic, never()).logOperation(anyString(), anyString());
+        }
+
+    }
+
+}
@@ -46,6 +46,8 @@ class UserSearchServiceImplConverterTest {
 
         private static final Integer PAGE_NO = 1;
         private static final Integer PAGE_SIZE = 100;
+        private static final String CURSOR = "MjAyNTAxMDExMjAwNTUxMTFfMDE";
+        private static final String AFTER_USER_ID = "20250101120055111_01";
 
         private UserSearchParam param = null;
 
@@ -59,7 +61,8 @@ class UserSearchServiceImplConverterTest {
                     BEGIN_UPDATED_AT,
                     END_UPDATED_AT,
                     PAGE_NO,
-                    PAGE_SIZE);
+                    PAGE_SIZE,
+                    null);
         }
 
         @DisplayName("正常終了")
@@ -79,6 +82,67 @@ class UserSearchServiceImplConverterTest {
             assertThat(condition.getDeptId()).isEqualTo(DEPT_ID);
             assertThat(condition.getBeginUpdatedAt()).isEqualTo(BEGIN_UPDATED_AT);
             assertThat(condition.getEndUpdatedAt()).isEqualTo(END_UPDATED_AT);
+            assertThat(condition.getLimit()).isEqualTo(PAGE_SIZE + 1);
+            assertThat(condition.getOffset()).isEqualTo(0);
+            assertThat(condition.getAfterUserId()).isNull();
+        }
+
+        @DisplayName("正常終了：ページ番号指定")
+        @Test
+        void testOK2() {
+            param = new UserSearchParam(
+                    BASE_FAMILY_NAME + "1" + BASE_FIRST_NAME + "1",
+                    DEPT_ID,
+                    BEGIN_UPDATED_AT,
+                    END_UPDATED_AT,
+                    3,
+                    PAGE_SIZE,
+                    null);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserSummaryCondition condition = converter.convertToCondition(param);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(condition.getLimit()).isEqualTo(PAGE_SIZE + 1);
+            assertThat(condition.getOffset()).isEqualTo(PAGE_SIZE * 2);
+            assertThat(condition.getAfterUserId()).isNull();
+        }
+
+        @DisplayName("正常終了：カーソル指定")
+        @Test
+        void testOK3() {
+            param = new UserSearchParam(
+                    BASE_FAMILY_NAME + "1" + BASE_FIRST_NAME + "1",
+                    DEPT_ID,
+                    BEGIN_UPDATED_AT,
+                    END_UPDATED_AT,
+                    3,
+                    PAGE_SIZE,
+                    CURSOR);
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            UserSummaryCondition condition = converter.convertToCondition(param);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(condition.getName()).isEqualTo(BASE_FAMILY_NAME + "1" + BASE_FIRST_NAME + "1");
+            assertThat(condition.getDeptId()).isEqualTo(DEPT_ID);
+            assertThat(condition.getBeginUpdatedAt()).isEqualTo(BEGIN_UPDATED_AT);
+            assertThat(condition.getEndUpdatedAt()).isEqualTo(END_UPDATED_AT);
+            assertThat(condition.getLimit()).isEqualTo(PAGE_SIZE + 1);
+            assertThat(condition.getOffset()).isEqualTo(0);
+            assertThat(condition.getAfterUserId()).isEqualTo(AFTER_USER_ID);
         }
 
     }
@@ -97,6 +161,7 @@ class UserSearchServiceImplConverterTest {
         private static final LocalDate LAST_UPDATED_AT = LocalDate.of(2025, 1, 1);
         private static final String BASE_USER_ID = "20250101120055111";
         private static final Integer USER_VERSION = 0;
+        private static final String NEXT_CURSOR = "MjAyNTAxMDExMjAwNTUxMTFfMDI";
 
         private List<UserSummary> entityList = null;
 
@@ -144,6 +209,7 @@ class UserSearchServiceImplConverterTest {
             assertThat(result.getPrevPageNo()).isNull();
             assertThat(result.getNextPageNo()).isNull();
             assertThat(result.getPageSize()).isEqualTo(3);
+            assertThat(result.getNextCursor()).isNull();
 
             List<UserSearchResultData> resultList = result.getList();
             assertThat(resultList).hasSize(3);
@@ -186,6 +252,7 @@ class UserSearchServiceImplConverterTest {
             assertThat(result.getPrevPageNo()).isNull();
             assertThat(result.getNextPageNo()).isEqualTo(2);
             assertThat(result.getPageSize()).isEqualTo(2);
+            assertThat(result.getNextCursor()).isEqualTo(NEXT_CURSOR);
 
             List<UserSearchResultData> resultList = result.getList();
             assertThat(resultList).hasSize(2);
@@ -221,6 +288,7 @@ class UserSearchServiceImplConverterTest {
             assertThat(result.getPrevPageNo()).isEqualTo(1);
             assertThat(result.getNextPageNo()).isEqualTo(3);
             assertThat(result.getPageSize()).isEqualTo(2);
+            assertThat(result.getNextCursor()).isEqualTo(NEXT_CURSOR);
 
             List<UserSearchResultData> resultList = result.getList();
             assertThat(resultList).hasSize(2);
@@ -256,6 +324,7 @@ class UserSearchServiceImplConverterTest {
             assertThat(result.getPrevPageNo()).isEqualTo(1);
             assertThat(result.getNextPageNo()).isNull();
             assertThat(result.getPageSize()).isEqualTo(3);
+            assertThat(result.getNextCursor()).isNull();
 
             List<UserSearchResultData> resultList = result.getList();
             assertThat(resultList).hasSize(3);
@@ -17,9 +17,9 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 
 import com.example.demo.logic.LoggingLogic;
+import com.example.demo.logic.UserSearchCacheLogic;
 import com.example.demo.mapper.UserSummary;
 import com.example.demo.mapper.UserSummaryCondition;
-import com.example.demo.mapper.UserSummaryMapper;
 
 // NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
 // NOTE: 業務処理が想定した順番で行われるかということ
@@ -41,7 +41,7 @@ class UserSearchServiceImplTest {
     private UserSearchServiceImplConverter converter;
 
     @Mock
-    private UserSummaryMapper userSummaryMapper;
+    private UserSearchCacheLogic userSearchCacheLogic;
 
     @Mock
     private LoggingLogic externalApiLogic;
@@ -87,7 +87,8 @@ class UserSearchServiceImplTest {
                     BEGIN_UPDATED_AT,
                     END_UPDATED_AT,
                     PAGE_NO,
-                    PAGE_SIZE);
+                    PAGE_SIZE,
+                    null);
 
             condition = new UserSummaryCondition(
                     BASE_FAMILY_NAME + "1" + BASE_FIRST_NAME + "1",
@@ -95,7 +96,8 @@ class UserSearchServiceImplTest {
                     BEGIN_UPDATED_AT,
                     END_UPDATED_AT,
                     PAGE_NO,
-                    PAGE_SIZE);
+                    PAGE_SIZE,
+                    null);
 
             entityList = List.of(
                     new UserSummary(
@@ -144,7 +146,8 @@ class UserSearchServiceImplTest {
                             USER_VERSION)),
                     PREV_PAGE_NO,
                     NEXT_PAGE_NO,
-                    PAGE_SIZE);
+                    PAGE_SIZE,
+                    null);
         }
 
         @DisplayName("正常終了")
@@ -159,7 +162,7 @@ class UserSearchServiceImplTest {
                     .convertToCondition(any());
 
             doReturn(entityList)
-                    .when(userSummaryMapper)
+                    .when(userSearchCacheLogic)
                     .find(any());
 
             doReturn(result)
@@ -210,7 +213,7 @@ class UserSearchServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToCondition(eq(param));
-            verify(userSummaryMapper, times(1)).find(eq(condition));
+            verify(userSearchCacheLogic, times(1)).find(eq(condition));
             verify(converter, times(1)).convertToResult(eq(entityList), eq(PAGE_NO), eq(PAGE_SIZE));
             verify(externalApiLogic, times(1)).logOperation(eq("ユーザ検索"), eq(OPERATOR));
         }
@@ -228,7 +231,7 @@ class UserSearchServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(userSummaryMapper)
+                    .when(userSearchCacheLogic)
                     .find(any());
 
             // -----------------------------------------------------------------
@@ -244,7 +247,7 @@ class UserSearchServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToCondition(eq(param));
-            verify(userSummaryMapper, times(1)).find(eq(condition));
+            verify(userSearchCacheLogic, times(1)).find(eq(condition));
         }
 
     }
@@ -0,0 +1,108 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryArchiveServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserSummaryArchiveServiceImpl service;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    private static final LocalDate HORIZON = LocalDate.of(2025, 5, 16);
+
+    private static final int CHUNK_SIZE = 1000;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("archive")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：アーカイブへ登録してからユーザ概要から削除する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            List<String> idList = List.of("20250101120055111_01", "20250101120055111_02");
+            doReturn(idList)
+                    .when(userSummaryArchiveMapper)
+                    .findUserIdListForArchive(any(), anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service.archive(HORIZON, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(2);
+
+            InOrder inOrder = inOrder(userSummaryArchiveMapper);
+            inOrder.verify(userSummaryArchiveMapper).findUserIdListForArchive(eq(HORIZON), eq(CHUNK_SIZE));
+            inOrder.verify(userSummaryArchiveMapper).copyListFromSummary(eq(idList));
+            inOrder.verify(userSummaryArchiveMapper).deleteSummaryList(eq(idList));
+        }
+
+        @DisplayName("正常終了：移動対象がない場合は何もしない")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of())
+                    .when(userSummaryArchiveMapper)
+                    .findUserIdListForArchive(any(), anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service.archive(HORIZON, CHUNK_SIZE);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+            verify(userSummaryArchiveMapper, never()).copyListFromSummary(any());
+            verify(userSummaryArchiveMapper, never()).deleteSummaryList(any());
+        }
+
+    }
+
+}
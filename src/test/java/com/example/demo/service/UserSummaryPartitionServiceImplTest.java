@@ -0,0 +1,384 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.PessimisticLockingFailureException;
+
+import com.example.demo.mapper.UserSummaryArchiveMapper;
+import com.example.demo.mapper.UserSummaryPartitionMapper;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryPartitionServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryPartitionMapper userSummaryPartitionMapper;
+
+    @Mock
+    private UserSummaryArchiveMapper userSummaryArchiveMapper;
+
+    private static final int FUTURE_MONTHS = 2;
+
+    private static final int LOCK_WAIT_TIMEOUT = 5;
+
+    private static final int ARCHIVE_RETENTION_DAYS = 30;
+
+    private static final int CHUNK_SIZE = 2;
+
+    private static final long PAUSE_MILLIS = 0;
+
+    private static final String USER_ID1 = "20250301120055111_01";
+
+    private static final String USER_ID2 = "20250302120055111_01";
+
+    private static final String USER_ID3 = "20250303120055111_01";
+
+    private static final LocalDate TODAY = LocalDate.of(2025, 6, 15);
+
+    // NOTE: 先の月数などはintのため@InjectMocksでは設定できないので、保存期間ごとに生成する
+    private UserSummaryPartitionServiceImpl service(int retentionMonths) {
+        return service(retentionMonths, ARCHIVE_RETENTION_DAYS);
+    }
+
+    private UserSummaryPartitionServiceImpl service(int retentionMonths, int archiveRetentionDays) {
+        return new UserSummaryPartitionServiceImpl(
+                userSummaryPartitionMapper,
+                userSummaryArchiveMapper,
+                FUTURE_MONTHS,
+                retentionMonths,
+                archiveRetentionDays,
+                LOCK_WAIT_TIMEOUT,
+                CHUNK_SIZE,
+                PAUSE_MILLIS);
+    }
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("maintain")
+    @Nested
+    class Method1 {
+
+        @DisplayName("正常終了：今月から先の月までの足りないパーティションを作成する")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of("p202503", "p202504", "p202505", "pmax"))
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service(0).maintain(TODAY);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(3);
+
+            // NOTE: 待ち時間を設定してから、上限のパーティションが空であることを確認し、古い月から順に作成すること
+            InOrder inOrder = inOrder(userSummaryPartitionMapper);
+            inOrder.verify(userSummaryPartitionMapper).setLockWaitTimeout(eq(LOCK_WAIT_TIMEOUT));
+            inOrder.verify(userSummaryPartitionMapper).existsRowInPartition(eq("pmax"));
+            inOrder.verify(userSummaryPartitionMapper).addPartition(eq("p202506"), eq(LocalDate.of(2025, 7, 1)));
+            inOrder.verify(userSummaryPartitionMapper).addPartition(eq("p202507"), eq(LocalDate.of(2025, 8, 1)));
+            inOrder.verify(userSummaryPartitionMapper).addPartition(eq("p202508"), eq(LocalDate.of(2025, 9, 1)));
+            inOrder.verify(userSummaryPartitionMapper).resetLockWaitTimeout();
+            verify(userSummaryPartitionMapper, never()).dropPartition(anyString());
+        }
+
+        @DisplayName("正常終了：先の月まで作成済みの場合は何もしない")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of("p202506", "p202507", "p202508", "pmax"))
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service(0).maintain(TODAY);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+            verify(userSummaryPartitionMapper, never()).addPartition(anyString(), any());
+            verify(userSummaryPartitionMapper, never()).dropPartition(anyString());
+        }
+
+        @DisplayName("正常終了：保存期間より前のパーティションを削除する")
+        @Test
+        void testOK3() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of("p202503", "p202504", "p202505", "p202506", "p202507", "p202508", "pmax"))
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            doReturn(List.of(USER_ID1, USER_ID2))
+                    .when(userSummaryPartitionMapper)
+                    .findUserIdListInPartition(eq("p202503"), isNull(), eq(CHUNK_SIZE));
+
+            doReturn(List.of(USER_ID3))
+                    .when(userSummaryPartitionMapper)
+                    .findUserIdListInPartition(eq("p202503"), eq(USER_ID2), eq(CHUNK_SIZE));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service(2).maintain(TODAY);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+
+            // NOTE: 2か月前（4月）のパーティションは残すこと
+            verify(userSummaryPartitionMapper, times(1)).dropPartition(anyString());
+            verify(userSummaryPartitionMapper, times(1)).dropPartition(eq("p202503"));
+
+            // NOTE: チャンクの最後のユーザIDより後を順にアーカイブへコピーしてから削除し、その間に書き込まれたユーザをアーカイブから削除すること
+            InOrder inOrder = inOrder(userSummaryPartitionMapper, userSummaryArchiveMapper);
+            inOrder.verify(userSummaryPartitionMapper)
+                    .copyPartitionToArchive(eq("p202503"), eq(List.of(USER_ID1, USER_ID2)));
+            inOrder.verify(userSummaryPartitionMapper).copyPartitionToArchive(eq("p202503"), eq(List.of(USER_ID3)));
+            inOrder.verify(userSummaryPartitionMapper).dropPartition(eq("p202503"));
+            inOrder.verify(userSummaryArchiveMapper).deleteListInSummary(eq(TODAY.minusDays(1)));
+        }
+
+        @DisplayName("正常終了：分割していない場合は何もしない")
+        @Test
+        void testOK4() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of())
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service(2).maintain(TODAY);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+            verify(userSummaryPartitionMapper, never()).setLockWaitTimeout(anyInt());
+            verify(userSummaryPartitionMapper, never()).addPartition(anyString(), any());
+            verify(userSummaryPartitionMapper, never()).dropPartition(anyString());
+            verify(userSummaryPartitionMapper, never()).copyPartitionToArchive(anyString(), anyList());
+        }
+
+        @DisplayName("正常終了：上限のパーティションに行がある場合は作成せずに削除だけ行う")
+        @Test
+        void testOK5() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of("p202503", "p202504", "p202505", "pmax"))
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            doReturn(true)
+                    .when(userSummaryPartitionMapper)
+                    .existsRowInPartition(eq("pmax"));
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service(2).maintain(TODAY);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(1);
+
+            // NOTE: 分割し直す間に書き込みが止まるため、行がある上限のパーティションは分割しないこと
+            verify(userSummaryPartitionMapper, never()).addPartition(anyString(), any());
+            verify(userSummaryPartitionMapper, times(1)).dropPartition(eq("p202503"));
+        }
+
+        @DisplayName("異常終了：addPartition：メタデータロックの待ち時間切れ")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of("p202505", "pmax"))
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            doThrow(new PessimisticLockingFailureException(""))
+                    .when(userSummaryPartitionMapper)
+                    .addPartition(anyString(), any());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service(2).maintain(TODAY))
+                    .isInstanceOf(PessimisticLockingFailureException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            verify(userSummaryPartitionMapper, times(1)).addPartition(anyString(), any());
+            verify(userSummaryPartitionMapper, never()).dropPartition(anyString());
+
+            // NOTE: 失敗した場合も待ち時間を戻すこと
+            verify(userSummaryPartitionMapper, times(1)).resetLockWaitTimeout();
+        }
+
+        @DisplayName("異常終了：アーカイブの保存日数が保存期間に合わない")
+        @Test
+        void testNG2() {
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // NOTE: 削除した行を検索できなくなるため、アーカイブしない場合と、保存日数が保存期間より長い場合は起動しないこと
+            assertThatThrownBy(() -> service(2, 0))
+                    .isInstanceOf(IllegalArgumentException.class);
+            assertThatThrownBy(() -> service(2, 57))
+                    .isInstanceOf(IllegalArgumentException.class);
+
+            // NOTE: パーティションを削除しない場合は、アーカイブの保存日数に関わらず起動すること
+            assertThatCode(() -> service(0, 0)).doesNotThrowAnyException();
+            assertThatCode(() -> service(2, 56)).doesNotThrowAnyException();
+        }
+
+        @DisplayName("異常終了：dropPartition：メタデータロックの待ち時間切れ")
+        @Test
+        void testNG3() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of("p202503", "p202504", "p202505", "p202506", "p202507", "p202508", "pmax"))
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            doReturn(List.of(USER_ID1))
+                    .when(userSummaryPartitionMapper)
+                    .findUserIdListInPartition(eq("p202503"), isNull(), eq(CHUNK_SIZE));
+
+            doThrow(new PessimisticLockingFailureException(""))
+                    .when(userSummaryPartitionMapper)
+                    .dropPartition(anyString());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service(2).maintain(TODAY))
+                    .isInstanceOf(PessimisticLockingFailureException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: コピーしたユーザがユーザ概要とアーカイブの両方に残らないように、すべてのユーザを対象にアーカイブから削除すること
+            InOrder inOrder = inOrder(userSummaryPartitionMapper, userSummaryArchiveMapper);
+            inOrder.verify(userSummaryPartitionMapper).copyPartitionToArchive(eq("p202503"), eq(List.of(USER_ID1)));
+            inOrder.verify(userSummaryPartitionMapper).dropPartition(eq("p202503"));
+            inOrder.verify(userSummaryArchiveMapper).deleteListInSummary(isNull());
+            verify(userSummaryArchiveMapper, never()).deleteListInSummary(eq(TODAY.minusDays(1)));
+
+            // NOTE: 失敗した場合も待ち時間を戻すこと
+            verify(userSummaryPartitionMapper, times(1)).resetLockWaitTimeout();
+        }
+
+        @DisplayName("異常終了：copyPartitionToArchive：途中のチャンクでデッドロック")
+        @Test
+        void testNG4() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of("p202503", "p202504", "p202505", "p202506", "p202507", "p202508", "pmax"))
+                    .when(userSummaryPartitionMapper)
+                    .findPartitionNameList();
+
+            doReturn(List.of(USER_ID1, USER_ID2))
+                    .when(userSummaryPartitionMapper)
+                    .findUserIdListInPartition(eq("p202503"), isNull(), eq(CHUNK_SIZE));
+
+            doReturn(List.of(USER_ID3))
+                    .when(userSummaryPartitionMapper)
+                    .findUserIdListInPartition(eq("p202503"), eq(USER_ID2), eq(CHUNK_SIZE));
+
+            doReturn(2)
+                    .doThrow(new PessimisticLockingFailureException(""))
+                    .when(userSummaryPartitionMapper)
+                    .copyPartitionToArchive(eq("p202503"), anyList());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service(2).maintain(TODAY))
+                    .isInstanceOf(PessimisticLockingFailureException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: コピー済みのチャンクのユーザが両方に残らないように、すべてのユーザを対象にアーカイブから削除し、パーティションは削除しないこと
+            verify(userSummaryPartitionMapper, never()).dropPartition(anyString());
+            verify(userSummaryArchiveMapper, times(1)).deleteListInSummary(isNull());
+            verify(userSummaryArchiveMapper, never()).deleteListInSummary(eq(TODAY.minusDays(1)));
+            verify(userSummaryPartitionMapper, times(1)).resetLockWaitTimeout();
+        }
+
+    }
+
+}
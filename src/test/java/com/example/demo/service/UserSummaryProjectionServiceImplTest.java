@@ -0,0 +1,205 @@
+package com.example.demo.service;
+
+import static org.assertj.core.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessException;
+
+import com.example.demo.logic.UserSearchCacheLogic;
+import com.example.demo.logic.UserSummaryArchiveLogic;
+import com.example.demo.mapper.UserSummaryFacetMapper;
+import com.example.demo.mapper.UserSummaryMapper;
+import com.example.demo.mapper.UserSummaryOutbox;
+import com.example.demo.mapper.UserSummaryOutboxMapper;
+
+// NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
+// NOTE: 業務処理が想定した順番で行われるかということ
+// NOTE: パラメータの変換が正しく行われるかどうかは各メソッドのテストに切り出すことでテスト観点を明確化する
+
+@ExtendWith(MockitoExtension.class)
+class UserSummaryProjectionServiceImplTest {
+
+    // NOTE: テスト対象とモックを定義する
+    // NOTE: テストに使用するパラメータとは関係ない定義を外だしすることで見やすくする
+
+    // NOTE: テスト対象のクラスを@InjectMocks
+    @InjectMocks
+    private UserSummaryProjectionServiceImpl service;
+
+    // NOTE: 呼び出されるクラスは@Mock
+    // NOTE: Springの設定を読み込んでしまうため@MockitBeanは使わない
+    @Mock
+    private UserSummaryMapper userSummaryMapper;
+
+    @Mock
+    private UserSummaryFacetMapper userSummaryFacetMapper;
+
+    @Mock
+    private UserSummaryOutboxMapper userSummaryOutboxMapper;
+
+    @Mock
+    private UserSearchCacheLogic userSearchCacheLogic;
+
+    @Mock
+    private UserSummaryArchiveLogic userSummaryArchiveLogic;
+
+    // NOTE: テストにおいて定義しているクラス名（Method1）やメソッド名（testOK1）は意味を持たないので考える時間をかけないように簡単なものにする
+    // NOTE: @DisplayNameでテスト対象のメソッドやテスト内容を書く
+
+    @DisplayName("project")
+    @Nested
+    class Method1 {
+
+        // NOTE: 対象のメソッドをテストする際に使用するパラメータを定義する
+        // NOTE: メソッドごとに必要なパラメータが異なるので、このメソッドに必要なパラメータが明確化される
+
+        private static final String BASE_ID = "20250101120055111";
+        private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 1, 1, 12, 0, 0);
+        private static final int BATCH_SIZE = 100;
+
+        private List<UserSummaryOutbox> outboxList = null;
+
+        @BeforeEach
+        void setUp() {
+            // NOTE: 何をテストしたいのか明確化するため、テストしたい処理以外は共通処理に切り出す
+
+            // NOTE: 同じユーザの変更が複数ある場合も1回だけ反映すること
+            outboxList = List.of(
+                    new UserSummaryOutbox(1L, BASE_ID + "_01", 0, CREATED_AT),
+                    new UserSummaryOutbox(2L, BASE_ID + "_02", 0, CREATED_AT),
+                    new UserSummaryOutbox(3L, BASE_ID + "_01", 1, CREATED_AT));
+        }
+
+        @DisplayName("正常終了")
+        @Test
+        void testOK1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(outboxList)
+                    .when(userSummaryOutboxMapper)
+                    .findOldestForUpdate(anyInt());
+
+            doReturn(2)
+                    .when(userSummaryMapper)
+                    .upsertListFromUser(anyList());
+
+            doReturn(3)
+                    .when(userSummaryOutboxMapper)
+                    .deleteByIdList(anyList());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service.project(BATCH_SIZE);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(3);
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(userSummaryOutboxMapper, times(1)).findOldestForUpdate(eq(BATCH_SIZE));
+            verify(userSummaryArchiveLogic, times(1)).restore(eq(List.of(BASE_ID + "_01", BASE_ID + "_02")));
+            verify(userSearchCacheLogic, times(1))
+                    .invalidateByUserIdList(eq(List.of(BASE_ID + "_01", BASE_ID + "_02")));
+            verify(userSummaryMapper, times(1))
+                    .deleteStaleListFromUser(eq(List.of(BASE_ID + "_01", BASE_ID + "_02")));
+            verify(userSummaryMapper, times(1)).upsertListFromUser(eq(List.of(BASE_ID + "_01", BASE_ID + "_02")));
+            verify(userSummaryOutboxMapper, times(1)).deleteByIdList(eq(List.of(1L, 2L, 3L)));
+
+            // NOTE: 反映する前の件数を引いてから、反映した後の件数を足すこと
+            InOrder inOrder = inOrder(userSummaryFacetMapper, userSummaryMapper);
+            inOrder.verify(userSummaryFacetMapper)
+                    .subtractListFromSummary(eq(List.of(BASE_ID + "_01", BASE_ID + "_02")));
+            inOrder.verify(userSummaryMapper).deleteStaleListFromUser(anyList());
+            inOrder.verify(userSummaryMapper).upsertListFromUser(anyList());
+            inOrder.verify(userSummaryFacetMapper).addListFromSummary(eq(List.of(BASE_ID + "_01", BASE_ID + "_02")));
+        }
+
+        @DisplayName("正常終了：反映対象なし")
+        @Test
+        void testOK2() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(List.of())
+                    .when(userSummaryOutboxMapper)
+                    .findOldestForUpdate(anyInt());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            int count = service.project(BATCH_SIZE);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            assertThat(count).isEqualTo(0);
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(userSummaryOutboxMapper, times(1)).findOldestForUpdate(eq(BATCH_SIZE));
+            verify(userSummaryArchiveLogic, never()).restore(anyList());
+            verify(userSearchCacheLogic, never()).invalidateByUserIdList(anyList());
+            verify(userSummaryMapper, never()).deleteStaleListFromUser(anyList());
+            verify(userSummaryMapper, never()).upsertListFromUser(anyList());
+            verify(userSummaryOutboxMapper, never()).deleteByIdList(anyList());
+            verify(userSummaryFacetMapper, never()).subtractListFromSummary(anyList());
+            verify(userSummaryFacetMapper, never()).addListFromSummary(anyList());
+        }
+
+        @DisplayName("異常終了：upsertListFromUser：DataAccessException")
+        @Test
+        void testNG1() {
+            // -----------------------------------------------------------------
+            // モックの振る舞い設定
+            // -----------------------------------------------------------------
+
+            doReturn(outboxList)
+                    .when(userSummaryOutboxMapper)
+                    .findOldestForUpdate(anyInt());
+
+            doThrow(new DataAccessException("") {
+            })
+                    .when(userSummaryMapper)
+                    .upsertListFromUser(anyList());
+
+            // -----------------------------------------------------------------
+            // テスト実行
+            // -----------------------------------------------------------------
+
+            // 例外が発生すること
+            assertThatThrownBy(() -> service.project(BATCH_SIZE)).isInstanceOf(DataAccessException.class);
+
+            // -----------------------------------------------------------------
+            // 実行結果確認
+            // -----------------------------------------------------------------
+
+            // NOTE: 呼び出されるメソッドが想定通りであること
+            verify(userSummaryOutboxMapper, times(1)).findOldestForUpdate(eq(BATCH_SIZE));
+            verify(userSummaryMapper, times(1)).upsertListFromUser(anyList());
+            verify(userSummaryOutboxMapper, never()).deleteByIdList(anyList());
+            verify(userSummaryFacetMapper, never()).addListFromSummary(anyList());
+        }
+
+    }
+
+}
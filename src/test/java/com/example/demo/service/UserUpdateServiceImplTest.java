@@ -14,12 +14,12 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.dao.DataAccessException;
 
 import com.example.demo.common.exception.ApplicationException;
+import com.example.demo.logic.DepartmentCacheLogic;
 import com.example.demo.logic.ExceptionCreator;
 import com.example.demo.logic.LoggingLogic;
-import com.example.demo.mapper.DepartmentMapper;
+import com.example.demo.logic.UserSummaryProjectionLogic;
 import com.example.demo.mapper.User;
 import com.example.demo.mapper.UserMapper;
-import com.example.demo.mapper.UserSummaryMapper;
 
 // NOTE: Serviceのテストは処理の呼び出しが正しく行われるかだけに観点を置く
 // NOTE: 業務処理が想定した順番で行われるかということ
@@ -41,13 +41,13 @@ class UserUpdateServiceImplTest {
     private UserUpdateServiceImplConverter converter;
 
     @Mock
-    private DepartmentMapper departmentMapper;
+    private DepartmentCacheLogic departmentCacheLogic;
 
     @Mock
     private UserMapper userMapper;
 
     @Mock
-    private UserSummaryMapper sharedMapper;
+    private UserSummaryProjectionLogic userSummaryProjectionLogic;
 
     @Mock
     private ExceptionCreator exceptionCreator;
@@ -106,7 +106,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(true)
@@ -118,7 +118,7 @@ class UserUpdateServiceImplTest {
                     .update(any());
 
             doReturn(1)
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .modifyFromUser(anyString());
 
             doNothing()
@@ -138,10 +138,10 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).update(eq(entity));
-            verify(sharedMapper, times(1)).modifyFromUser(eq(BASE_ID + "_01"));
+            verify(userSummaryProjectionLogic, times(1)).modifyFromUser(eq(BASE_ID + "_01"));
             verify(externalApiLogic, times(1)).logOperation(eq("ユーザ更新"), eq(OPERATOR));
         }
 
@@ -158,7 +158,7 @@ class UserUpdateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             // -----------------------------------------------------------------
@@ -174,7 +174,7 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
         }
 
         @DisplayName("異常終了：existsById：ApplicationException")
@@ -189,7 +189,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(false)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(new ApplicationException("", ""))
@@ -209,7 +209,7 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(exceptionCreator, times(1)).create(eq("402"), eq(deptId()));
         }
 
@@ -225,7 +225,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doThrow(new DataAccessException("") {
@@ -246,7 +246,7 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
         }
 
@@ -262,7 +262,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(false)
@@ -286,7 +286,7 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(exceptionCreator, times(1)).create(eq("102"), eq(userId()));
         }
@@ -303,7 +303,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(true)
@@ -328,7 +328,7 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).update(eq(entity));
         }
@@ -345,7 +345,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(true)
@@ -373,7 +373,7 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).update(eq(entity));
             verify(exceptionCreator, times(1)).create(eq("202"), eq(userId()));
@@ -391,7 +391,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(true)
@@ -404,7 +404,7 @@ class UserUpdateServiceImplTest {
 
             doThrow(new DataAccessException("") {
             })
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .modifyFromUser(anyString());
 
             // -----------------------------------------------------------------
@@ -420,10 +420,10 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).update(eq(entity));
-            verify(sharedMapper, times(1)).modifyFromUser(eq(BASE_ID + "_01"));
+            verify(userSummaryProjectionLogic, times(1)).modifyFromUser(eq(BASE_ID + "_01"));
         }
 
         @DisplayName("異常終了：modifyUserToUserSummary：ApplicationException")
@@ -438,7 +438,7 @@ class UserUpdateServiceImplTest {
                     .convertToEntity(any());
 
             doReturn(true)
-                    .when(departmentMapper)
+                    .when(departmentCacheLogic)
                     .existsById(anyString());
 
             doReturn(true)
@@ -450,7 +450,7 @@ class UserUpdateServiceImplTest {
                     .update(any());
 
             doReturn(0)
-                    .when(sharedMapper)
+                    .when(userSummaryProjectionLogic)
                     .modifyFromUser(anyString());
 
             doReturn(new ApplicationException("", ""))
@@ -470,10 +470,10 @@ class UserUpdateServiceImplTest {
 
             // NOTE: 呼び出されるメソッドが想定通りであること
             verify(converter, times(1)).convertToEntity(eq(param));
-            verify(departmentMapper, times(1)).existsById(eq(DEPT_ID));
+            verify(departmentCacheLogic, times(1)).existsById(eq(DEPT_ID));
             verify(userMapper, times(1)).existsById(eq(BASE_ID + "_01"));
             verify(userMapper, times(1)).update(eq(entity));
-            verify(sharedMapper, times(1)).modifyFromUser(eq(BASE_ID + "_01"));
+            verify(userSummaryProjectionLogic, times(1)).modifyFromUser(eq(BASE_ID + "_01"));
             verify(exceptionCreator, times(1)).create(eq("302"), eq(userId()));
         }
 
@@ -0,0 +1,7 @@
+DELETE FROM user_summary_facet;
+
+INSERT INTO user_summary_facet (dept_id, last_updated_at, user_count)
+VALUES
+    ('01', '2025-01-01', 3),
+    ('01', '2025-01-02', 1),
+    ('02', '2025-01-02', 2);
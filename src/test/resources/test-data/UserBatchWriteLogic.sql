@@ -0,0 +1,29 @@
+DELETE FROM user;
+DELETE FROM user_summary;
+DELETE FROM user_summary_archive;
+DELETE FROM user_summary_facet;
+DELETE FROM user_summary_outbox;
+
+INSERT INTO user (id, family_name, first_name, dept_id, version)
+VALUES
+    -- 登録済みのデータ
+    ('20250101120055111_01', '苗字', '名前1', '01', 0),
+    ('20250101120055111_02', '苗字', '名前2', '01', 0),
+    ('20250101120055111_03', '苗字', '名前3', '01', 1),
+    -- アーカイブ済みのデータ
+    ('20241231120055111_01', '苗字', '名前4', '01', 0);
+
+INSERT INTO user_summary (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+VALUES
+    ('苗字名前1', '01', '部署1', '2025-01-01', '20250101120055111_01', 0),
+    ('苗字名前2', '01', '部署1', '2025-01-01', '20250101120055111_02', 0),
+    ('苗字名前3', '01', '部署1', '2025-01-01', '20250101120055111_03', 1);
+
+INSERT INTO user_summary_archive (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+VALUES
+    ('苗字名前4', '01', '部署1', '2024-12-31', '20241231120055111_01', 0);
+
+INSERT INTO user_summary_facet (dept_id, last_updated_at, user_count)
+VALUES
+    ('01', '2024-12-31', 1),
+    ('01', '2025-01-01', 3);
@@ -0,0 +1,10 @@
+DELETE FROM user_bulk_job_item;
+
+INSERT INTO user_bulk_job_item (job_id, item_no, user_id, family_name, first_name, dept_id, version)
+VALUES
+    -- 取得可能なデータ
+    (1, 1, '20250101120055111_01', '苗字', '名前1', '01', 0),
+    (1, 2, '20250101120055111_02', '苗字', '名前2', '01', 0),
+    (1, 3, '20250101120055111_03', '苗字', '名前3', '02', 0),
+    -- 別のジョブのデータ
+    (2, 1, '20250101120055111_01', '苗字', '名前1', '01', 1);
@@ -0,0 +1,13 @@
+DELETE FROM user_bulk_job;
+
+INSERT INTO user_bulk_job (id, job_type, status, operator, total_count, processed_count, error_id, error_message, heartbeat_at)
+VALUES
+    -- 実行待ちのデータ
+    (1, 'create', 'queued', 'OPERATOR', 3, 0, NULL, NULL, NULL),
+    -- 実行中のデータ
+    (2, 'create', 'running', 'OPERATOR', 3, 1, NULL, NULL, NOW(3)),
+    -- 実行が途絶えたデータ
+    (3, 'update', 'running', 'OPERATOR', 3, 2, NULL, NULL, NOW(3) - INTERVAL 1 HOUR),
+    -- 終了済みのデータ
+    (4, 'create', 'completed', 'OPERATOR', 3, 3, NULL, NULL, NOW(3)),
+    (5, 'update', 'failed', 'OPERATOR', 3, 0, '102', '更新対象のデータが登録されていません：20250101120055111_01', NOW(3));
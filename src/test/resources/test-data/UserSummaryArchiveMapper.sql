@@ -0,0 +1,15 @@
+DELETE FROM user_summary;
+DELETE FROM user_summary_archive;
+
+INSERT INTO user_summary (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+VALUES
+    -- アーカイブ可能なデータ
+    ('苗字名前1', '01', '部署1', '2025-01-01', '20250101120055111_01', 0),
+    ('苗字名前2', '01', '部署1', '2025-02-01', '20250201120055111_01', 0),
+    -- アーカイブしないデータ
+    ('苗字名前3', '01', '部署1', '2025-07-01', '20250701192423499_01', 0);
+
+INSERT INTO user_summary_archive (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+VALUES
+    -- 戻すことができるデータ
+    ('苗字名前0', '01', '部署1', '2024-01-01', '20240101120055111_01', 2);
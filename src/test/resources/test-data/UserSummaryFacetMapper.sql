@@ -0,0 +1,22 @@
+DELETE FROM user_summary;
+DELETE FROM user_summary_archive;
+DELETE FROM user_summary_facet;
+
+INSERT INTO user_summary (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+VALUES
+    -- 集計表に件数があるデータ
+    ('苗字名前1', '01', '部署1', '2025-01-01', '20250101120055111_01', 0),
+    ('苗字名前1', '02', '部署2', '2025-01-02', '20250102120055111_01', 0),
+    -- 集計表に件数がないデータ
+    ('苗字名前2', '03', '部署3', '2025-01-03', '20250103120055111_01', 0);
+
+INSERT INTO user_summary_archive (name, dept_id, dept_name, last_updated_at, user_id, user_version)
+VALUES
+    ('苗字名前1', '01', '部署1', '2024-12-31', '20241231120055111_01', 0);
+
+INSERT INTO user_summary_facet (dept_id, last_updated_at, user_count)
+VALUES
+    ('01', '2024-12-31', 1),
+    ('01', '2025-01-01', 5),
+    ('01', '2025-01-02', 0),
+    ('02', '2025-01-02', 2);
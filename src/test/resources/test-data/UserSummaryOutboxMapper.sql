@@ -0,0 +1,15 @@
+DELETE FROM user;
+DELETE FROM user_summary_outbox;
+
+INSERT INTO user (id, family_name, first_name, dept_id, version)
+VALUES
+    -- 登録可能なデータ
+    ('20250701094512000_01', '苗字', '名前1', '02', 0),
+    ('20250701094512000_02', '苗字', '名前2', '02', 3);
+
+INSERT INTO user_summary_outbox (id, user_id, user_version, created_at)
+VALUES
+    -- 反映対象のデータ
+    (1, '20250101120055111_01', 0, '2025-01-01 12:00:00.000'),
+    (2, '20250101120055111_02', 0, '2025-01-01 12:00:01.000'),
+    (3, '20250101120055111_01', 1, '2025-01-01 12:00:02.000');